@@ -7,18 +7,33 @@
 
 package com.brightsparklabs.asanti;
 
+import static com.google.common.base.Preconditions.*;
+
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
 import com.brightsparklabs.asanti.model.data.AsantiAsnDataImpl;
 import com.brightsparklabs.asanti.model.data.RawAsnData;
 import com.brightsparklabs.asanti.model.schema.AsnSchema;
 import com.brightsparklabs.asanti.reader.AsnBerDataReader;
 import com.brightsparklabs.asanti.reader.AsnSchemaReader;
+import com.google.common.base.Throwables;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
 import com.google.common.io.ByteSource;
 import com.google.common.io.CharSource;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Stream;
 
 /**
  * The entry point to the API. This contains the logic for decoding tagged/application ASN.1 data
@@ -34,6 +49,9 @@ public class Asanti {
      * Decodes the supplied ASN.1 binary data against the specified schema as objects of the
      * specified top level type
      *
+     * <p>The parsed schema is cached (see {@link AsnSchemaReader#readCached(CharSource)}), so
+     * repeated calls with the same schema only parse it once.
+     *
      * @param source ASN.1 BER binary data to decode
      * @param schema ASN.1 schema to decode data against
      * @param topLevelType top level type in the schema to decode objects as
@@ -43,8 +61,7 @@ public class Asanti {
     public static ImmutableList<AsantiAsnData> decodeAsnData(
             final ByteSource source, final CharSource schema, final String topLevelType)
             throws IOException {
-        // TODO: ASN-78 - cache schema
-        final AsnSchema asnSchema = AsnSchemaReader.read(schema);
+        final AsnSchema asnSchema = AsnSchemaReader.readCached(schema);
         return decodeAsnData(source, asnSchema, topLevelType);
     }
 
@@ -61,13 +78,230 @@ public class Asanti {
     public static ImmutableList<AsantiAsnData> decodeAsnData(
             final ByteSource source, final AsnSchema asnSchema, final String topLevelType)
             throws IOException {
-        final ImmutableList<RawAsnData> allRawAsnData = readAsnBerData(source);
-        final List<AsantiAsnData> allAsnData = Lists.newArrayList();
-        for (final RawAsnData rawAsnData : allRawAsnData) {
-            final AsantiAsnData asnData = decodeAsnData(rawAsnData, asnSchema, topLevelType);
-            allAsnData.add(asnData);
+        // stream the raw data so that each raw PDU can be discarded as soon as it is decoded
+        try (Stream<AsantiAsnData> asnData = streamAsnData(source, asnSchema, topLevelType)) {
+            return asnData.collect(ImmutableList.toImmutableList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Lazily decodes the supplied ASN.1 binary data against the specified schema as objects of the
+     * specified top level type. PDUs are read and decoded one at a time as the stream is consumed,
+     * so memory use is bounded by the largest PDU rather than the size of the data.
+     *
+     * <p>The returned stream should be closed once consumed (e.g. via try-with-resources) to
+     * release the underlying input stream.
+     *
+     * @param source ASN.1 BER binary data to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @return stream of the decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur opening the data
+     * @throws UncheckedIOException if any errors occur reading the data while the stream is being
+     *     consumed
+     */
+    public static Stream<AsantiAsnData> streamAsnData(
+            final ByteSource source, final AsnSchema asnSchema, final String topLevelType)
+            throws IOException {
+        return streamAsnBerData(source)
+                .map(rawAsnData -> new AsantiAsnDataImpl(rawAsnData, asnSchema, topLevelType));
+    }
+
+    /**
+     * Lazily decodes the supplied ASN.1 binary data against the specified schema as objects of the
+     * specified top level type. As per {@link #streamAsnData(ByteSource, AsnSchema, String)},
+     * except that the tags of each PDU are only mapped to the schema as they are accessed (see
+     * {@link AsantiAsnDataImpl#createLazyInstance(RawAsnData, AsnSchema, String)}). This is
+     * considerably cheaper when only a few tags are read from each PDU.
+     *
+     * <p>The returned stream should be closed once consumed (e.g. via try-with-resources) to
+     * release the underlying input stream.
+     *
+     * @param source ASN.1 BER binary data to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @return stream of the decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur opening the data
+     * @throws UncheckedIOException if any errors occur reading the data while the stream is being
+     *     consumed
+     */
+    public static Stream<AsantiAsnData> streamAsnDataLazily(
+            final ByteSource source, final AsnSchema asnSchema, final String topLevelType)
+            throws IOException {
+        return streamAsnBerData(source)
+                .map(
+                        rawAsnData ->
+                                AsantiAsnDataImpl.createLazyInstance(
+                                        rawAsnData, asnSchema, topLevelType));
+    }
+
+    /**
+     * Decodes the ASN.1 binary file at the supplied path against the specified schema as objects of
+     * the specified top level type. The file is memory-mapped rather than read into memory.
+     *
+     * @param path ASN.1 BER binary file to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @return all decoded ASN.1 data as per the schema
+     * @throws IOException if any errors occur reading the file
+     */
+    public static ImmutableList<AsantiAsnData> decodeAsnData(
+            final Path path, final AsnSchema asnSchema, final String topLevelType)
+            throws IOException {
+        try (Stream<AsantiAsnData> asnData = streamAsnData(path, asnSchema, topLevelType)) {
+            return asnData.collect(ImmutableList.toImmutableList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Lazily decodes the ASN.1 binary file at the supplied path against the specified schema as
+     * objects of the specified top level type. The file is memory-mapped and PDUs are read and
+     * decoded one at a time as the stream is consumed.
+     *
+     * <p>The returned stream should be closed once consumed (e.g. via try-with-resources) to
+     * release the underlying file.
+     *
+     * @param path ASN.1 BER binary file to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @return stream of the decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur opening the file
+     * @throws UncheckedIOException if any errors occur reading the file while the stream is being
+     *     consumed
+     */
+    public static Stream<AsantiAsnData> streamAsnData(
+            final Path path, final AsnSchema asnSchema, final String topLevelType)
+            throws IOException {
+        return streamAsnBerData(path)
+                .map(rawAsnData -> new AsantiAsnDataImpl(rawAsnData, asnSchema, topLevelType));
+    }
+
+    /**
+     * Decodes the supplied ASN.1 binary data against the specified schema as objects of the
+     * specified top level type using multiple threads. PDUs are read on the calling thread and
+     * decoded on a pool of the specified number of threads which is shut down once decoding
+     * completes.
+     *
+     * @param source ASN.1 BER binary data to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @param parallelism number of threads to decode PDUs on
+     * @return all decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur reading the data
+     * @throws IllegalArgumentException if parallelism is less than one
+     */
+    public static ImmutableList<AsantiAsnData> decodeAsnData(
+            final ByteSource source,
+            final AsnSchema asnSchema,
+            final String topLevelType,
+            final int parallelism)
+            throws IOException {
+        checkArgument(parallelism > 0, "parallelism must be at least 1");
+        final ExecutorService executor = createDecodeExecutor(parallelism);
+        try {
+            return decodeAsnData(source, asnSchema, topLevelType, executor, parallelism);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Decodes the supplied ASN.1 binary data against the specified schema as objects of the
+     * specified top level type using the supplied executor. PDUs are read on the calling thread
+     * and decoded on the executor.
+     *
+     * @param source ASN.1 BER binary data to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @param executor executor to decode PDUs on
+     * @param parallelism number of PDUs to decode concurrently
+     * @return all decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur reading the data
+     * @throws IllegalArgumentException if parallelism is less than one
+     */
+    public static ImmutableList<AsantiAsnData> decodeAsnData(
+            final ByteSource source,
+            final AsnSchema asnSchema,
+            final String topLevelType,
+            final Executor executor,
+            final int parallelism)
+            throws IOException {
+        try (Stream<AsantiAsnData> asnData =
+                streamAsnData(source, asnSchema, topLevelType, executor, parallelism)) {
+            return asnData.collect(ImmutableList.toImmutableList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Lazily decodes the supplied ASN.1 binary data against the specified schema as objects of the
+     * specified top level type using the supplied executor. PDUs are read on the consuming thread
+     * and decoded on the executor, ahead of the consumer. At most {@code 2 * parallelism} PDUs are
+     * read ahead, so memory use remains bounded regardless of the size of the data.
+     *
+     * <p>The returned stream should be closed once consumed (e.g. via try-with-resources) to
+     * release the underlying input stream and cancel any outstanding decodes.
+     *
+     * @param source ASN.1 BER binary data to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @param executor executor to decode PDUs on
+     * @param parallelism number of PDUs to decode concurrently
+     * @return stream of the decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur opening the data
+     * @throws UncheckedIOException if any errors occur reading the data while the stream is being
+     *     consumed
+     * @throws IllegalArgumentException if parallelism is less than one
+     */
+    public static Stream<AsantiAsnData> streamAsnData(
+            final ByteSource source,
+            final AsnSchema asnSchema,
+            final String topLevelType,
+            final Executor executor,
+            final int parallelism)
+            throws IOException {
+        checkNotNull(executor);
+        checkArgument(parallelism > 0, "parallelism must be at least 1");
+        return decodeInParallel(
+                streamAsnBerData(source), asnSchema, topLevelType, executor, parallelism);
+    }
+
+    /**
+     * Decodes the ASN.1 binary file at the supplied path against the specified schema as objects of
+     * the specified top level type using multiple threads. The file is memory-mapped and PDUs are
+     * read on the calling thread and decoded on a pool of the specified number of threads which is
+     * shut down once decoding completes.
+     *
+     * @param path ASN.1 BER binary file to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @param parallelism number of threads to decode PDUs on
+     * @return all decoded ASN.1 data as per the schema (in input order)
+     * @throws IOException if any errors occur reading the file
+     * @throws IllegalArgumentException if parallelism is less than one
+     */
+    public static ImmutableList<AsantiAsnData> decodeAsnData(
+            final Path path,
+            final AsnSchema asnSchema,
+            final String topLevelType,
+            final int parallelism)
+            throws IOException {
+        checkArgument(parallelism > 0, "parallelism must be at least 1");
+        final ExecutorService executor = createDecodeExecutor(parallelism);
+        try (Stream<AsantiAsnData> asnData =
+                decodeInParallel(
+                        streamAsnBerData(path), asnSchema, topLevelType, executor, parallelism)) {
+            return asnData.collect(ImmutableList.toImmutableList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            executor.shutdownNow();
         }
-        return ImmutableList.copyOf(allAsnData);
     }
 
     /**
@@ -112,4 +346,174 @@ public class Asanti {
             throws IOException {
         return AsnBerDataReader.read(source, maxPDUs);
     }
+
+    /**
+     * Lazily reads the supplied ASN.1 BER/DER binary data one PDU at a time. The returned stream
+     * should be closed once consumed (e.g. via try-with-resources) to release the underlying input
+     * stream.
+     *
+     * @param source data to read
+     * @return stream of the {@link RawAsnData} objects found in the data (in input order)
+     * @throws IOException if any errors occur opening the data
+     * @throws UncheckedIOException if any errors occur reading the data while the stream is being
+     *     consumed
+     */
+    public static Stream<RawAsnData> streamAsnBerData(final ByteSource source)
+            throws IOException {
+        return AsnBerDataReader.stream(source);
+    }
+
+    /**
+     * Reads the ASN.1 BER/DER binary file at the supplied path. The file is memory-mapped rather
+     * than read into memory.
+     *
+     * @param path file to read
+     * @return list of {@link RawAsnData} objects found in the file
+     * @throws IOException if any errors occur reading from the file
+     */
+    public static ImmutableList<RawAsnData> readAsnBerData(final Path path) throws IOException {
+        return AsnBerDataReader.read(path);
+    }
+
+    /**
+     * Lazily reads the ASN.1 BER/DER binary file at the supplied path one PDU at a time. The file
+     * is memory-mapped rather than read into memory. The returned stream should be closed once
+     * consumed (e.g. via try-with-resources) to release the underlying file.
+     *
+     * @param path file to read
+     * @return stream of the {@link RawAsnData} objects found in the file (in input order)
+     * @throws IOException if any errors occur opening the file
+     * @throws UncheckedIOException if any errors occur reading the file while the stream is being
+     *     consumed
+     */
+    public static Stream<RawAsnData> streamAsnBerData(final Path path) throws IOException {
+        return AsnBerDataReader.stream(path);
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a pool of daemon threads for decoding PDUs
+     *
+     * @param parallelism number of threads in the pool
+     * @return the thread pool
+     */
+    private static ExecutorService createDecodeExecutor(final int parallelism) {
+        final ThreadFactory threadFactory =
+                new ThreadFactoryBuilder()
+                        .setNameFormat("asanti-decode-%d")
+                        .setDaemon(true)
+                        .build();
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    /**
+     * Decodes the supplied raw PDUs on the supplied executor
+     *
+     * @param rawAsnData raw PDUs to decode
+     * @param asnSchema schema to decode data against
+     * @param topLevelType top level type in the schema to decode objects as
+     * @param executor executor to decode PDUs on
+     * @param parallelism number of PDUs to decode concurrently
+     * @return stream of the decoded ASN.1 data (in input order)
+     */
+    private static Stream<AsantiAsnData> decodeInParallel(
+            final Stream<RawAsnData> rawAsnData,
+            final AsnSchema asnSchema,
+            final String topLevelType,
+            final Executor executor,
+            final int parallelism) {
+        final OrderedDecodeIterator iterator =
+                new OrderedDecodeIterator(
+                        rawAsnData.iterator(), asnSchema, topLevelType, executor, 2 * parallelism);
+        return Streams.stream(iterator)
+                .onClose(
+                        () -> {
+                            iterator.cancel();
+                            rawAsnData.close();
+                        });
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: OrderedDecodeIterator
+    // -------------------------------------------------------------------------
+
+    /**
+     * Iterator which reads raw PDUs ahead of the consumer and decodes them on an executor, while
+     * still returning the decoded PDUs in input order
+     */
+    private static class OrderedDecodeIterator extends AbstractIterator<AsantiAsnData> {
+        /** raw PDUs to decode */
+        private final Iterator<RawAsnData> rawAsnData;
+
+        /** schema to decode data against */
+        private final AsnSchema asnSchema;
+
+        /** top level type in the schema to decode objects as */
+        private final String topLevelType;
+
+        /** executor to decode PDUs on */
+        private final Executor executor;
+
+        /** maximum number of PDUs to read ahead of the consumer */
+        private final int windowSize;
+
+        /** PDUs which have been read but not yet returned (in input order) */
+        private final ArrayDeque<CompletableFuture<AsantiAsnData>> pending = new ArrayDeque<>();
+
+        /**
+         * Default constructor
+         *
+         * @param rawAsnData raw PDUs to decode
+         * @param asnSchema schema to decode data against
+         * @param topLevelType top level type in the schema to decode objects as
+         * @param executor executor to decode PDUs on
+         * @param windowSize maximum number of PDUs to read ahead of the consumer
+         */
+        private OrderedDecodeIterator(
+                Iterator<RawAsnData> rawAsnData,
+                AsnSchema asnSchema,
+                String topLevelType,
+                Executor executor,
+                int windowSize) {
+            this.rawAsnData = rawAsnData;
+            this.asnSchema = asnSchema;
+            this.topLevelType = topLevelType;
+            this.executor = executor;
+            this.windowSize = windowSize;
+        }
+
+        @Override
+        protected AsantiAsnData computeNext() {
+            while (pending.size() < windowSize && rawAsnData.hasNext()) {
+                final RawAsnData pdu = rawAsnData.next();
+                pending.add(
+                        CompletableFuture.supplyAsync(
+                                () -> new AsantiAsnDataImpl(pdu, asnSchema, topLevelType),
+                                executor));
+            }
+
+            final CompletableFuture<AsantiAsnData> next = pending.poll();
+            if (next == null) {
+                return endOfData();
+            }
+
+            try {
+                return next.join();
+            } catch (CompletionException ex) {
+                // rethrow the failure as though the PDU had been decoded on this thread
+                final Throwable cause = ex.getCause();
+                Throwables.throwIfUnchecked(cause);
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        /** Cancels the decoding of all PDUs which have not yet been returned */
+        private void cancel() {
+            pending.forEach(future -> future.cancel(false));
+            pending.clear();
+        }
+    }
 }
@@ -45,6 +45,12 @@ public class AsantiCli {
     /** constant to use to add new lines to output */
     private static final String NEW_LINE = System.lineSeparator();
 
+    /** extension of ASN.1 schema files */
+    private static final String SCHEMA_EXTENSION = ".asn";
+
+    /** extension of compiled ASN.1 schema files */
+    private static final String COMPILED_SCHEMA_EXTENSION = ".asnc";
+
     // -------------------------------------------------------------------------
     // CLASS VARIABLES
     // -------------------------------------------------------------------------
@@ -68,12 +74,18 @@ public class AsantiCli {
             final CommandLine cmdLine = parser.parse(options, args);
             validateCommandLine(cmdLine);
 
+            if (cmdLine.hasOption("c")) {
+                final File asnFile = new File(cmdLine.getArgs()[0]);
+                compileSchema(asnFile, new File(cmdLine.getOptionValue("c")));
+                return;
+            }
+
             switch (cmdLine.getArgs().length) {
                 case 1:
                     final String filename = cmdLine.getArgs()[0];
                     final File file = new File(filename);
 
-                    if (filename.endsWith(".asn")) {
+                    if (isSchemaFile(filename)) {
                         testReadingAsnFile(file);
                     } else {
                         testReadingBerFile(file);
@@ -86,19 +98,18 @@ public class AsantiCli {
                 case 3:
                     {
                         final String asnFilename =
-                                cmdLine.getArgs()[0].endsWith(".asn")
+                                isSchemaFile(cmdLine.getArgs()[0])
                                         ? cmdLine.getArgs()[0]
                                         : cmdLine.getArgs()[1];
                         final String berFilename =
-                                cmdLine.getArgs()[0].endsWith(".asn")
+                                isSchemaFile(cmdLine.getArgs()[0])
                                         ? cmdLine.getArgs()[1]
                                         : cmdLine.getArgs()[0];
                         final String topLevelType = cmdLine.getArgs()[2];
                         final File asnFile = new File(asnFilename);
                         final File berFile = new File(berFilename);
                         // Load the schema once, and use it for all data files.
-                        final CharSource schemaSource = Files.asCharSource(asnFile, Charsets.UTF_8);
-                        final AsnSchema asnSchema = AsnSchemaReader.read(schemaSource);
+                        final AsnSchema asnSchema = readSchema(asnFile);
                         handleDataFile(berFile, asnSchema, topLevelType);
                     }
                     break;
@@ -215,8 +226,7 @@ public class AsantiCli {
      * @throws IOException if any errors occur while parsing
      */
     private static void testReadingAsnFile(final File asnFile) throws IOException {
-        final CharSource schemaSource = Files.asCharSource(asnFile, Charsets.UTF_8);
-        final AsnSchema asnSchema = AsnSchemaReader.read(schemaSource);
+        final AsnSchema asnSchema = readSchema(asnFile);
 
         logger.info("User testing:");
         final BufferedReader reader =
@@ -236,6 +246,46 @@ public class AsantiCli {
         }
     }
 
+    /**
+     * Compiles an ASN.1 schema file so that it can be loaded without being parsed again
+     *
+     * @param asnFile file to compile
+     * @param compiledFile file to write the compiled schema to
+     * @throws IOException if any errors occur while parsing or writing the schema
+     */
+    private static void compileSchema(final File asnFile, final File compiledFile)
+            throws IOException {
+        final CharSource schemaSource = Files.asCharSource(asnFile, Charsets.UTF_8);
+        AsnSchemaReader.compile(schemaSource, Files.asByteSink(compiledFile));
+        logger.info("Compiled {} to {}", asnFile, compiledFile);
+    }
+
+    /**
+     * Reads an ASN.1 schema file, which may have been compiled
+     *
+     * @param asnFile file to read
+     * @return the schema in the file
+     * @throws IOException if any errors occur while reading the schema
+     */
+    private static AsnSchema readSchema(final File asnFile) throws IOException {
+        if (asnFile.getName().endsWith(COMPILED_SCHEMA_EXTENSION)) {
+            return AsnSchemaReader.readCompiled(Files.asByteSource(asnFile));
+        }
+        final CharSource schemaSource = Files.asCharSource(asnFile, Charsets.UTF_8);
+        return AsnSchemaReader.read(schemaSource);
+    }
+
+    /**
+     * Returns whether the supplied file name is that of an ASN.1 schema file or a compiled ASN.1
+     * schema file
+     *
+     * @param filename file name to check
+     * @return {@code true} if the file is a schema file
+     */
+    private static boolean isSchemaFile(final String filename) {
+        return filename.endsWith(SCHEMA_EXTENSION) || filename.endsWith(COMPILED_SCHEMA_EXTENSION);
+    }
+
     /**
      * Test parsing a BER file
      *
@@ -263,7 +313,15 @@ public class AsantiCli {
      * @return the Command Line Options for this application
      */
     private static Options getOptions() {
-        return new Options().addOption("h", "help", false, "Print out help");
+        return new Options()
+                .addOption("h", "help", false, "Print out help")
+                .addOption(
+                        Option.builder("c")
+                                .longOpt("compile")
+                                .hasArg()
+                                .argName("compiled_schema_file")
+                                .desc("Compile the ASN.1 schema file to the specified file")
+                                .build());
     }
 
     /**
@@ -282,6 +340,12 @@ public class AsantiCli {
             throw new MissingArgumentException("Must specify 1 or 3 arguments");
         }
 
+        if (cmdLine.hasOption("c")
+                && (cmdLine.getArgs().length != 1
+                        || !cmdLine.getArgs()[0].endsWith(SCHEMA_EXTENSION))) {
+            throw new ParseException("Only an ASN Schema (.asn) file can be compiled");
+        }
+
         // All good!
     }
 
@@ -294,6 +358,8 @@ public class AsantiCli {
     private static void printUsage(final String footerMessage) {
         final String callPattern =
                 "USAGE: asanti [options] <asn_schema_file>"
+                        + NEW_LINE
+                        + "    asanti -c <compiled_schema_file> <asn_schema_file>"
                         + NEW_LINE
                         + "    asanti [options] <asn_ber_file>"
                         + NEW_LINE
@@ -304,6 +370,8 @@ public class AsantiCli {
                         + NEW_LINE
                         + "    asn_schema_file        the ASN.1 schema file to parse (must end in '.asn')"
                         + NEW_LINE
+                        + "                           or compiled schema file (must end in '.asnc')"
+                        + NEW_LINE
                         + "    asn_ber_file           the ASN.1 BER file to parse (must end in '.ber')"
                         + NEW_LINE
                         + "    top_level_type         the name of the top level type in the schema file";
@@ -214,6 +214,30 @@ public class AsnByteDecoder {
         return IntegerDecoder.getInstance().decode(bytes);
     }
 
+    /**
+     * Decodes the supplied bytes as an {@link AsnBuiltinType#Integer} which fits in a {@code long}
+     *
+     * @param bytes bytes to decode
+     * @return the decoded bytes
+     * @throws DecodeException if any errors occur while decoding the supplied data, or if the
+     *     value does not fit in a {@code long}
+     */
+    public static long decodeAsLong(final byte[] bytes) throws DecodeException {
+        return IntegerDecoder.getInstance().decodeAsLong(bytes);
+    }
+
+    /**
+     * Decodes the supplied bytes as an {@link AsnBuiltinType#Integer} which fits in an {@code int}
+     *
+     * @param bytes bytes to decode
+     * @return the decoded bytes
+     * @throws DecodeException if any errors occur while decoding the supplied data, or if the
+     *     value does not fit in an {@code int}
+     */
+    public static int decodeAsInt(final byte[] bytes) throws DecodeException {
+        return IntegerDecoder.getInstance().decodeAsInt(bytes);
+    }
+
     /**
      * Decodes the supplied bytes as an {@link AsnBuiltinType#Iri}
      *
@@ -25,6 +25,11 @@ import java.util.Optional;
  * Sub-classes should override these if the decoding will produce a different result if the schema
  * is known.
  *
+ * <p>The unchecked overrides taking the tag and decodedAsnData likewise return the bytes overload
+ * of same, and {@link #decodeAsStringUnchecked(byte[])} returns {@code
+ * decodeUnchecked(data).toString()}. Sub-classes which override {@link #decodeAsString} should
+ * also override {@link #decodeAsStringUnchecked(byte[])}.
+ *
  * @author brightSPARK Labs
  */
 public abstract class AbstractBuiltinTypeDecoder<T> implements BuiltinTypeDecoder<T> {
@@ -55,4 +60,32 @@ public abstract class AbstractBuiltinTypeDecoder<T> implements BuiltinTypeDecode
 
         return decodeAsString(bytes.orElse(null));
     }
+
+    @Override
+    public T decodeUnchecked(final String tag, final AsantiAsnData asnData)
+            throws DecodeException {
+        checkNotNull(tag);
+        checkNotNull(asnData);
+        final Optional<byte[]> bytes = asnData.getBytes(tag);
+
+        // missing bytes are never valid, so let the checked decode report them
+        return bytes.isPresent() ? decodeUnchecked(bytes.get()) : decode((byte[]) null);
+    }
+
+    @Override
+    public String decodeAsStringUnchecked(final byte[] bytes) throws DecodeException {
+        return decodeUnchecked(bytes).toString();
+    }
+
+    @Override
+    public String decodeAsStringUnchecked(final String tag, final AsantiAsnData asnData)
+            throws DecodeException {
+        checkNotNull(tag);
+        checkNotNull(asnData);
+        final Optional<byte[]> bytes = asnData.getBytes(tag);
+
+        return bytes.isPresent()
+                ? decodeAsStringUnchecked(bytes.get())
+                : decodeAsString((byte[]) null);
+    }
 }
@@ -25,7 +25,7 @@ public class BitStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static BitStringDecoder instance;
+    private static final BitStringDecoder instance = new BitStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class BitStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static BitStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new BitStringDecoder();
-        }
         return instance;
     }
 
@@ -59,7 +56,11 @@ public class BitStringDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsBitString(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
 
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         // first byte is always the length of unused bits
         final int unusedBitLength = bytes[0];
 
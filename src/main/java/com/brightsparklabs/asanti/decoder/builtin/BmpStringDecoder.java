@@ -25,7 +25,7 @@ public class BmpStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static BmpStringDecoder instance;
+    private static final BmpStringDecoder instance = new BmpStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class BmpStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static BmpStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new BmpStringDecoder();
-        }
         return instance;
     }
 
@@ -25,7 +25,7 @@ public class BooleanDecoder extends AbstractBuiltinTypeDecoder<Boolean> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static BooleanDecoder instance;
+    private static final BooleanDecoder instance = new BooleanDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class BooleanDecoder extends AbstractBuiltinTypeDecoder<Boolean> {
      * @return a singleton instance of this class
      */
     public static BooleanDecoder getInstance() {
-        if (instance == null) {
-            instance = new BooleanDecoder();
-        }
         return instance;
     }
 
@@ -59,6 +56,11 @@ public class BooleanDecoder extends AbstractBuiltinTypeDecoder<Boolean> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsBoolean(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public Boolean decodeUnchecked(final byte[] bytes) {
         return bytes[0] != 0;
     }
 }
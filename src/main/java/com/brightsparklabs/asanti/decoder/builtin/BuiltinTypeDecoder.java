@@ -11,7 +11,10 @@ import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
 
 /**
- * Used to decode bytes based on the kind of ASN.1 Built-in Type they came from
+ * Used to decode bytes based on the kind of ASN.1 Built-in Type they came from.
+ *
+ * <p>The built-in implementations are stateless singletons which are created eagerly, so a single
+ * instance can safely be shared between threads.
  *
  * @param <T> type of object returned by this decoder
  * @author brightSPARK Labs
@@ -65,6 +68,73 @@ public interface BuiltinTypeDecoder<T> {
      */
     public String decodeAsString(String tag, AsantiAsnData asnData) throws DecodeException;
 
+    /**
+     * Decodes the supplied bytes without first validating them. This should only be used for bytes
+     * which have already been validated (e.g. via {@link
+     * com.brightsparklabs.asanti.validator.Validator#validate}), the result of decoding invalid
+     * bytes is undefined.
+     *
+     * <p>The default implementation simply delegates to {@link #decode(byte[])}.
+     *
+     * @param bytes validated bytes to decode
+     * @return the results from decoding the bytes
+     * @throws DecodeException if any errors occur while decoding the supplied bytes
+     */
+    public default T decodeUnchecked(byte[] bytes) throws DecodeException {
+        return decode(bytes);
+    }
+
+    /**
+     * Decodes the bytes from the supplied tag and AsnData without first validating them. This
+     * should only be used for data which has already been validated, the result of decoding
+     * invalid bytes is undefined.
+     *
+     * <p>The default implementation simply delegates to {@link #decode(String, AsantiAsnData)}.
+     *
+     * @param tag the tag to use to get the bytes from the data
+     * @param asnData the validated data to use
+     * @return the results from decoding
+     * @throws DecodeException if any errors occur while decoding the supplied tag/data
+     * @throws NullPointerException if either tag or asnData are null
+     */
+    public default T decodeUnchecked(String tag, AsantiAsnData asnData) throws DecodeException {
+        return decode(tag, asnData);
+    }
+
+    /**
+     * Decodes the supplied bytes as a string without first validating them. This should only be
+     * used for bytes which have already been validated, the result of decoding invalid bytes is
+     * undefined.
+     *
+     * <p>The default implementation simply delegates to {@link #decodeAsString(byte[])}.
+     *
+     * @param bytes validated bytes to decode
+     * @return the results from decoding the bytes
+     * @throws DecodeException if any errors occur while decoding the supplied bytes
+     */
+    public default String decodeAsStringUnchecked(byte[] bytes) throws DecodeException {
+        return decodeAsString(bytes);
+    }
+
+    /**
+     * Decodes the bytes from the supplied tag and AsnData as a string without first validating
+     * them. This should only be used for data which has already been validated, the result of
+     * decoding invalid bytes is undefined.
+     *
+     * <p>The default implementation simply delegates to {@link #decodeAsString(String,
+     * AsantiAsnData)}.
+     *
+     * @param tag the tag to use to get the bytes from the data
+     * @param asnData the validated data to use
+     * @return the results from decoding the bytes
+     * @throws DecodeException if any errors occur while decoding the supplied bytes
+     * @throws NullPointerException if either tag or asnData are null
+     */
+    public default String decodeAsStringUnchecked(String tag, AsantiAsnData asnData)
+            throws DecodeException {
+        return decodeAsString(tag, asnData);
+    }
+
     // -------------------------------------------------------------------------
     // INTERNAL CLASS: NULL
     // -------------------------------------------------------------------------
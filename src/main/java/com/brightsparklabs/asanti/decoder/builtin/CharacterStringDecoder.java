@@ -25,7 +25,7 @@ public class CharacterStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static CharacterStringDecoder instance;
+    private static final CharacterStringDecoder instance = new CharacterStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class CharacterStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static CharacterStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new CharacterStringDecoder();
-        }
         return instance;
     }
 
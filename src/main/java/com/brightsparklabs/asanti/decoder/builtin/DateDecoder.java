@@ -26,7 +26,7 @@ public class DateDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static DateDecoder instance;
+    private static final DateDecoder instance = new DateDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class DateDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
      * @return a singleton instance of this class
      */
     public static DateDecoder getInstance() {
-        if (instance == null) {
-            instance = new DateDecoder();
-        }
         return instance;
     }
 
@@ -26,7 +26,7 @@ public class DateTimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime>
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static DateTimeDecoder instance;
+    private static final DateTimeDecoder instance = new DateTimeDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class DateTimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime>
      * @return a singleton instance of this class
      */
     public static DateTimeDecoder getInstance() {
-        if (instance == null) {
-            instance = new DateTimeDecoder();
-        }
         return instance;
     }
 
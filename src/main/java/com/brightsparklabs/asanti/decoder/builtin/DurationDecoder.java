@@ -25,7 +25,7 @@ public class DurationDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static DurationDecoder instance;
+    private static final DurationDecoder instance = new DurationDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class DurationDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static DurationDecoder getInstance() {
-        if (instance == null) {
-            instance = new DurationDecoder();
-        }
         return instance;
     }
 
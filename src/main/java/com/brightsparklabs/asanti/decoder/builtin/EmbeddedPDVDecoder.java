@@ -25,7 +25,7 @@ public class EmbeddedPDVDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static EmbeddedPDVDecoder instance;
+    private static final EmbeddedPDVDecoder instance = new EmbeddedPDVDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class EmbeddedPDVDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static EmbeddedPDVDecoder getInstance() {
-        if (instance == null) {
-            instance = new EmbeddedPDVDecoder();
-        }
         return instance;
     }
 
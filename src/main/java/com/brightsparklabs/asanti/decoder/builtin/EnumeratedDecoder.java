@@ -11,7 +11,6 @@ import static com.google.common.base.Preconditions.*;
 
 import com.brightsparklabs.asanti.common.DecodeExceptions;
 import com.brightsparklabs.asanti.common.OperationResult;
-import com.brightsparklabs.asanti.decoder.AsnByteDecoder;
 import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
@@ -20,6 +19,7 @@ import com.brightsparklabs.asanti.validator.builtin.EnumeratedValidator;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.brightsparklabs.asanti.validator.failure.DecodedTagValidationFailure;
 import com.google.common.collect.ImmutableSet;
+import java.math.BigInteger;
 
 /**
  * Decoder for data of type {@link AsnBuiltinType#Enumerated}
@@ -32,7 +32,7 @@ public class EnumeratedDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static EnumeratedDecoder instance;
+    private static final EnumeratedDecoder instance = new EnumeratedDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -51,9 +51,6 @@ public class EnumeratedDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static EnumeratedDecoder getInstance() {
-        if (instance == null) {
-            instance = new EnumeratedDecoder();
-        }
         return instance;
     }
 
@@ -66,8 +63,12 @@ public class EnumeratedDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsEnumerated(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
 
-        return AsnByteDecoder.decodeAsInteger(bytes).toString();
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
+        return new BigInteger(bytes).toString();
     }
 
     @Override
@@ -89,4 +90,17 @@ public class EnumeratedDecoder extends AbstractBuiltinTypeDecoder<String> {
             throws DecodeException {
         return decode(tag, asnData);
     }
+
+    @Override
+    public String decodeUnchecked(final String tag, final AsantiAsnData asnData)
+            throws DecodeException {
+        // the enumerated value can only be mapped to its name via the schema
+        return decode(tag, asnData);
+    }
+
+    @Override
+    public String decodeAsStringUnchecked(final String tag, final AsantiAsnData asnData)
+            throws DecodeException {
+        return decode(tag, asnData);
+    }
 }
@@ -25,7 +25,7 @@ public class ExternalDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static ExternalDecoder instance;
+    private static final ExternalDecoder instance = new ExternalDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class ExternalDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static ExternalDecoder getInstance() {
-        if (instance == null) {
-            instance = new ExternalDecoder();
-        }
         return instance;
     }
 
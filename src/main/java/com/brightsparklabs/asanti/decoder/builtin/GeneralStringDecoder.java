@@ -25,7 +25,7 @@ public class GeneralStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static GeneralStringDecoder instance;
+    private static final GeneralStringDecoder instance = new GeneralStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class GeneralStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static GeneralStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new GeneralStringDecoder();
-        }
         return instance;
     }
 
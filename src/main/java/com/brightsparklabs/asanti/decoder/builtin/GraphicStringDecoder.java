@@ -25,7 +25,7 @@ public class GraphicStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static GraphicStringDecoder instance;
+    private static final GraphicStringDecoder instance = new GraphicStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class GraphicStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static GraphicStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new GraphicStringDecoder();
-        }
         return instance;
     }
 
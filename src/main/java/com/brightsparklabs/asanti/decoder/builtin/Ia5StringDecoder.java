@@ -26,7 +26,7 @@ public class Ia5StringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static Ia5StringDecoder instance;
+    private static final Ia5StringDecoder instance = new Ia5StringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class Ia5StringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static Ia5StringDecoder getInstance() {
-        if (instance == null) {
-            instance = new Ia5StringDecoder();
-        }
         return instance;
     }
 
@@ -60,6 +57,11 @@ public class Ia5StringDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsIa5String(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         return new String(bytes, Charsets.UTF_8);
     }
 }
@@ -25,7 +25,7 @@ public class InstanceOfDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static InstanceOfDecoder instance;
+    private static final InstanceOfDecoder instance = new InstanceOfDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class InstanceOfDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static InstanceOfDecoder getInstance() {
-        if (instance == null) {
-            instance = new InstanceOfDecoder();
-        }
         return instance;
     }
 
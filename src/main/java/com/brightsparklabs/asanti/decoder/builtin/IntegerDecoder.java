@@ -21,12 +21,19 @@ import java.math.BigInteger;
  * @author brightSPARK Labs
  */
 public class IntegerDecoder extends AbstractBuiltinTypeDecoder<BigInteger> {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** error message used when a value is too large for the requested Java type */
+    private static final String OVERFLOW_ERROR = "INTEGER value %s does not fit in a Java %s";
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static IntegerDecoder instance;
+    private static final IntegerDecoder instance = new IntegerDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +52,6 @@ public class IntegerDecoder extends AbstractBuiltinTypeDecoder<BigInteger> {
      * @return a singleton instance of this class
      */
     public static IntegerDecoder getInstance() {
-        if (instance == null) {
-            instance = new IntegerDecoder();
-        }
         return instance;
     }
 
@@ -60,8 +64,82 @@ public class IntegerDecoder extends AbstractBuiltinTypeDecoder<BigInteger> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsInteger(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public BigInteger decodeUnchecked(final byte[] bytes) {
         // The Java BigInteger aligns with the ASN.1 concept of Integer, in that
         // it can be arbitrarily many bytes, and is by default signed.
         return new BigInteger(bytes);
     }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Decodes the supplied bytes as a {@code long} without allocating a {@link BigInteger}
+     *
+     * @param bytes bytes to decode
+     * @return the decoded value
+     * @throws DecodeException if any errors occur while decoding the supplied bytes, or if the
+     *     value does not fit in a {@code long}
+     */
+    public long decodeAsLong(final byte[] bytes) throws DecodeException {
+        final ImmutableSet<ByteValidationFailure> failures =
+                AsnByteValidator.validateAsInteger(bytes);
+        DecodeExceptions.throwIfHasFailures(failures);
+        return toLong(bytes, Long.BYTES, "long");
+    }
+
+    /**
+     * Decodes the supplied bytes as an {@code int} without allocating a {@link BigInteger}
+     *
+     * @param bytes bytes to decode
+     * @return the decoded value
+     * @throws DecodeException if any errors occur while decoding the supplied bytes, or if the
+     *     value does not fit in an {@code int}
+     */
+    public int decodeAsInt(final byte[] bytes) throws DecodeException {
+        final ImmutableSet<ByteValidationFailure> failures =
+                AsnByteValidator.validateAsInteger(bytes);
+        DecodeExceptions.throwIfHasFailures(failures);
+        return (int) toLong(bytes, Integer.BYTES, "int");
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Converts the supplied two's complement bytes to a {@code long}
+     *
+     * @param bytes non-empty bytes to convert
+     * @param maxBytes maximum number of significant bytes the value may have
+     * @param javaType name of the Java type being decoded to (used in error messages)
+     * @return the converted value, sign extended from the significant bytes
+     * @throws DecodeException if the value has more than {@code maxBytes} significant bytes
+     */
+    private static long toLong(final byte[] bytes, final int maxBytes, final String javaType)
+            throws DecodeException {
+        // skip redundant leading sign bytes (BER should not contain these, but BigInteger would
+        // accept them)
+        int start = 0;
+        while (bytes.length - start > maxBytes
+                && ((bytes[start] == 0 && bytes[start + 1] >= 0)
+                        || (bytes[start] == -1 && bytes[start + 1] < 0))) {
+            start++;
+        }
+        if (bytes.length - start > maxBytes) {
+            throw new DecodeException(
+                    String.format(OVERFLOW_ERROR, new BigInteger(bytes), javaType));
+        }
+
+        long value = bytes[start];
+        for (int i = start + 1; i < bytes.length; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
 }
@@ -25,7 +25,7 @@ public class IriDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static IriDecoder instance;
+    private static final IriDecoder instance = new IriDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class IriDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static IriDecoder getInstance() {
-        if (instance == null) {
-            instance = new IriDecoder();
-        }
         return instance;
     }
 
@@ -25,7 +25,7 @@ public class Iso646StringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static Iso646StringDecoder instance;
+    private static final Iso646StringDecoder instance = new Iso646StringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class Iso646StringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static Iso646StringDecoder getInstance() {
-        if (instance == null) {
-            instance = new Iso646StringDecoder();
-        }
         return instance;
     }
 
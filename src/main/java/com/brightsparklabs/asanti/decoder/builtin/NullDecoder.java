@@ -25,7 +25,7 @@ public class NullDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static NullDecoder instance;
+    private static final NullDecoder instance = new NullDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class NullDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static NullDecoder getInstance() {
-        if (instance == null) {
-            instance = new NullDecoder();
-        }
         return instance;
     }
 
@@ -58,6 +55,11 @@ public class NullDecoder extends AbstractBuiltinTypeDecoder<String> {
     public String decode(final byte[] bytes) throws DecodeException {
         final ImmutableSet<ByteValidationFailure> failures = AsnByteValidator.validateAsNull(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         return "";
     }
 }
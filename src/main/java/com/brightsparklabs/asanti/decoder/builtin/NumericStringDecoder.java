@@ -26,7 +26,7 @@ public class NumericStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static NumericStringDecoder instance;
+    private static final NumericStringDecoder instance = new NumericStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class NumericStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static NumericStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new NumericStringDecoder();
-        }
         return instance;
     }
 
@@ -60,6 +57,11 @@ public class NumericStringDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsNumericString(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         return new String(bytes, Charsets.UTF_8);
     }
 }
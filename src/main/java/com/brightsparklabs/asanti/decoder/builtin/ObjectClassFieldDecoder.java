@@ -25,7 +25,7 @@ public class ObjectClassFieldDecoder extends AbstractBuiltinTypeDecoder<String>
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static ObjectClassFieldDecoder instance;
+    private static final ObjectClassFieldDecoder instance = new ObjectClassFieldDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class ObjectClassFieldDecoder extends AbstractBuiltinTypeDecoder<String>
      * @return a singleton instance of this class
      */
     public static ObjectClassFieldDecoder getInstance() {
-        if (instance == null) {
-            instance = new ObjectClassFieldDecoder();
-        }
         return instance;
     }
 
@@ -26,7 +26,7 @@ public class OctetStringDecoder extends AbstractBuiltinTypeDecoder<byte[]> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static OctetStringDecoder instance;
+    private static final OctetStringDecoder instance = new OctetStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class OctetStringDecoder extends AbstractBuiltinTypeDecoder<byte[]> {
      * @return a singleton instance of this class
      */
     public static OctetStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new OctetStringDecoder();
-        }
         return instance;
     }
 
@@ -69,9 +66,21 @@ public class OctetStringDecoder extends AbstractBuiltinTypeDecoder<byte[]> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsOctetString(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public byte[] decodeUnchecked(final byte[] bytes) {
         return bytes;
     }
 
+    @Override
+    public String decodeAsStringUnchecked(final byte[] bytes) {
+        return isAsciiPresentable(bytes)
+                ? ByteArrays.toString(bytes)
+                : ByteArrays.toHexString(bytes);
+    }
+
     // -------------------------------------------------------------------------
     // PRIVATE METHODS
     // -------------------------------------------------------------------------
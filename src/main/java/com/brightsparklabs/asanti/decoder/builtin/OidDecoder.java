@@ -25,7 +25,7 @@ public class OidDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static OidDecoder instance;
+    private static final OidDecoder instance = new OidDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class OidDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static OidDecoder getInstance() {
-        if (instance == null) {
-            instance = new OidDecoder();
-        }
         return instance;
     }
 
@@ -58,7 +55,11 @@ public class OidDecoder extends AbstractBuiltinTypeDecoder<String> {
     public String decode(final byte[] bytes) throws DecodeException {
         final ImmutableSet<ByteValidationFailure> failures = AsnByteValidator.validateAsOid(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
 
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         long currentSID = 0;
         StringBuilder oidBuilder = new StringBuilder();
 
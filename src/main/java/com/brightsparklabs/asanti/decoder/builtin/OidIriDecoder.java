@@ -25,7 +25,7 @@ public class OidIriDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static OidIriDecoder instance;
+    private static final OidIriDecoder instance = new OidIriDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class OidIriDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static OidIriDecoder getInstance() {
-        if (instance == null) {
-            instance = new OidIriDecoder();
-        }
         return instance;
     }
 
@@ -25,7 +25,7 @@ public class PrefixedDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static PrefixedDecoder instance;
+    private static final PrefixedDecoder instance = new PrefixedDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class PrefixedDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static PrefixedDecoder getInstance() {
-        if (instance == null) {
-            instance = new PrefixedDecoder();
-        }
         return instance;
     }
 
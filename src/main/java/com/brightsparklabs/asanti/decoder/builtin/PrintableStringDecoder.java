@@ -26,7 +26,7 @@ public class PrintableStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static PrintableStringDecoder instance;
+    private static final PrintableStringDecoder instance = new PrintableStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class PrintableStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static PrintableStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new PrintableStringDecoder();
-        }
         return instance;
     }
 
@@ -60,6 +57,11 @@ public class PrintableStringDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsPrintableString(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         return new String(bytes, Charsets.UTF_8);
     }
 }
@@ -25,7 +25,7 @@ public class RealDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static RealDecoder instance;
+    private static final RealDecoder instance = new RealDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class RealDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static RealDecoder getInstance() {
-        if (instance == null) {
-            instance = new RealDecoder();
-        }
         return instance;
     }
 
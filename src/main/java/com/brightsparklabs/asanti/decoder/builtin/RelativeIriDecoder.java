@@ -25,7 +25,7 @@ public class RelativeIriDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static RelativeIriDecoder instance;
+    private static final RelativeIriDecoder instance = new RelativeIriDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class RelativeIriDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static RelativeIriDecoder getInstance() {
-        if (instance == null) {
-            instance = new RelativeIriDecoder();
-        }
         return instance;
     }
 
@@ -25,7 +25,7 @@ public class RelativeOidDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static RelativeOidDecoder instance;
+    private static final RelativeOidDecoder instance = new RelativeOidDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class RelativeOidDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static RelativeOidDecoder getInstance() {
-        if (instance == null) {
-            instance = new RelativeOidDecoder();
-        }
         return instance;
     }
 
@@ -25,7 +25,7 @@ public class RelativeOidIriDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static RelativeOidIriDecoder instance;
+    private static final RelativeOidIriDecoder instance = new RelativeOidIriDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class RelativeOidIriDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static RelativeOidIriDecoder getInstance() {
-        if (instance == null) {
-            instance = new RelativeOidIriDecoder();
-        }
         return instance;
     }
 
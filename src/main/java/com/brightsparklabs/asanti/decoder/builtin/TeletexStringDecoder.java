@@ -25,7 +25,7 @@ public class TeletexStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static TeletexStringDecoder instance;
+    private static final TeletexStringDecoder instance = new TeletexStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class TeletexStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static TeletexStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new TeletexStringDecoder();
-        }
         return instance;
     }
 
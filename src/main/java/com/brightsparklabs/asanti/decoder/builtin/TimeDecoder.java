@@ -26,7 +26,7 @@ public class TimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static TimeDecoder instance;
+    private static final TimeDecoder instance = new TimeDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class TimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
      * @return a singleton instance of this class
      */
     public static TimeDecoder getInstance() {
-        if (instance == null) {
-            instance = new TimeDecoder();
-        }
         return instance;
     }
 
@@ -26,7 +26,7 @@ public class TimeOfDayDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime>
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static TimeOfDayDecoder instance;
+    private static final TimeOfDayDecoder instance = new TimeOfDayDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class TimeOfDayDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime>
      * @return a singleton instance of this class
      */
     public static TimeOfDayDecoder getInstance() {
-        if (instance == null) {
-            instance = new TimeOfDayDecoder();
-        }
         return instance;
     }
 
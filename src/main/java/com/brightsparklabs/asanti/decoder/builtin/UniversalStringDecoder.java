@@ -25,7 +25,7 @@ public class UniversalStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static UniversalStringDecoder instance;
+    private static final UniversalStringDecoder instance = new UniversalStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class UniversalStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static UniversalStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new UniversalStringDecoder();
-        }
         return instance;
     }
 
@@ -0,0 +1,762 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.decoder.builtin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Single pass parser for the ASN.1 "useful" time types GeneralizedTime and UTCTime.
+ *
+ * <p>The bytes are parsed directly to an epoch second and nanosecond, without creating any
+ * intermediate strings. The accepted formats, the resulting values and the error messages match
+ * the Joda-Time based parsers which were previously used, including their leniency (e.g. fields
+ * with fewer digits than expected are accepted if followed by a non-digit, and offsets may contain
+ * separators).
+ *
+ * @author brightSPARK Labs
+ */
+final class UsefulTimeParser {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** number of milliseconds in a second */
+    private static final int MILLIS_PER_SECOND = 1000;
+
+    /** number of milliseconds in a minute */
+    private static final int MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+
+    /** number of milliseconds in an hour */
+    private static final int MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    /** number of milliseconds in a day */
+    private static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+
+    /** maximum number of decimal places parsed from a fraction */
+    private static final int MAX_FRACTION_DIGITS = 18;
+
+    /** number of digits before the decimal places when a GeneralizedTime specifies seconds */
+    private static final int SECONDS_DIGITS = 14;
+
+    /** number of decimal places a GeneralizedTime is parsed to before nanoseconds are extracted */
+    private static final int MILLIS_DIGITS = 3;
+
+    /** number of decimal places of a GeneralizedTime retained as nanoseconds */
+    private static final int NANOS_DIGITS = 9;
+
+    /** the precisions a GeneralizedTime may be specified to, in the order they are tried */
+    private static final int[] GENERALIZED_TIME_PRECISIONS = {
+        MILLIS_PER_SECOND, MILLIS_PER_MINUTE, MILLIS_PER_HOUR
+    };
+
+    /** the precisions a UTCTime may be specified to, in the order they are tried */
+    private static final int[] UTC_TIME_PRECISIONS = {MILLIS_PER_SECOND, MILLIS_PER_MINUTE};
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /** Private constructor. This class only contains static methods. */
+    private UsefulTimeParser() {}
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Parses the supplied GeneralizedTime.
+     *
+     * <p>Decimal places beyond nanosecond precision (for seconds), or beyond 18 decimal places
+     * (for hours and minutes) are discarded, and a warning is supplied to {@code warnings}.
+     *
+     * @param bytes the GeneralizedTime (as a VisibleString) to parse
+     * @param warnings receives a message each time precision is lost
+     * @return the parsed time, in the system default time zone
+     * @throws IllegalArgumentException if the bytes are not a valid GeneralizedTime
+     */
+    static OffsetDateTime parseGeneralizedTime(byte[] bytes, Consumer<String> warnings) {
+        // locate the decimal places (if any) to see whether precision handling is required
+        int digits = 0;
+        while (digits < bytes.length && isDigit(bytes[digits])) {
+            digits++;
+        }
+        int fractionDigits = 0;
+        if (digits < bytes.length && isDecimalSeparator(bytes[digits])) {
+            while (digits + 1 + fractionDigits < bytes.length
+                    && isDigit(bytes[digits + 1 + fractionDigits])) {
+                fractionDigits++;
+            }
+        }
+        final boolean hasSimpleSuffix =
+                fractionDigits > 0 && isSimpleOffset(bytes, digits + 1 + fractionDigits);
+
+        int skipStart = 0;
+        int skipLength = 0;
+        int nanos = -1;
+        if (hasSimpleSuffix && digits == SECONDS_DIGITS && fractionDigits > MILLIS_DIGITS) {
+            // only milliseconds are parsed, the nanoseconds are extracted directly
+            final int fractionStart = digits + 1;
+            skipStart = fractionStart + MILLIS_DIGITS;
+            skipLength = fractionDigits - MILLIS_DIGITS;
+            final int nanosDigits = Math.min(fractionDigits, NANOS_DIGITS);
+            nanos = 0;
+            for (int i = 0; i < NANOS_DIGITS; i++) {
+                final int digit = (i < nanosDigits) ? bytes[fractionStart + i] - '0' : 0;
+                nanos = (nanos * 10) + digit;
+            }
+
+            if (fractionDigits > NANOS_DIGITS) {
+                final String subMilliSeconds = ascii(bytes, skipStart, skipLength);
+                warnings.accept(
+                        "Loss of precision - discarding decimal places. For the GeneralizedTime "
+                                + ascii(bytes, 0, bytes.length)
+                                + ", the sub-millisecond component "
+                                + subMilliSeconds
+                                + " is now "
+                                + subMilliSeconds.substring(0, NANOS_DIGITS - MILLIS_DIGITS));
+            }
+        } else if (hasSimpleSuffix
+                && digits >= 10
+                && digits <= 12
+                && fractionDigits > MAX_FRACTION_DIGITS) {
+            // the decimal places represent hours or minutes, only 18 of them can be parsed
+            skipStart = digits + 1 + MAX_FRACTION_DIGITS;
+            skipLength = fractionDigits - MAX_FRACTION_DIGITS;
+        }
+
+        final Parse parse = new Parse(bytes, skipStart, skipLength);
+        if (skipLength > 0 && nanos < 0) {
+            warnings.accept(
+                    "Discarding decimal places.  "
+                            + ascii(bytes, 0, bytes.length)
+                            + " is now "
+                            + parse.getText());
+        }
+
+        final long epochMillis = parse.parse(GENERALIZED_TIME_PRECISIONS, false);
+        final Instant instant =
+                (nanos < 0)
+                        ? Instant.ofEpochMilli(epochMillis)
+                        : Instant.ofEpochSecond(Math.floorDiv(epochMillis, 1000L), nanos);
+        return OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    /**
+     * Parses the supplied UTCTime. Two digit years are mapped to the range 1950 to 2049.
+     *
+     * @param bytes the UTCTime (as a VisibleString) to parse
+     * @return the parsed time, in the system default time zone
+     * @throws IllegalArgumentException if the bytes are not a valid UTCTime
+     */
+    static OffsetDateTime parseUtcTime(byte[] bytes) {
+        final long epochMillis = new Parse(bytes, 0, 0).parse(UTC_TIME_PRECISIONS, true);
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns whether the supplied byte is an ASCII digit
+     *
+     * @param b byte to check
+     * @return {@code true} if the byte is a digit
+     */
+    private static boolean isDigit(int b) {
+        return b >= '0' && b <= '9';
+    }
+
+    /**
+     * Returns whether the supplied byte separates decimal places
+     *
+     * @param b byte to check
+     * @return {@code true} if the byte is a dot or comma
+     */
+    private static boolean isDecimalSeparator(int b) {
+        return b == '.' || b == ',';
+    }
+
+    /**
+     * Returns whether the bytes from the specified index are either empty, a {@code Z}, or a sign
+     * followed only by digits
+     *
+     * @param bytes bytes to check
+     * @param start index to check from
+     * @return {@code true} if the bytes form a simple offset
+     */
+    private static boolean isSimpleOffset(byte[] bytes, int start) {
+        if (start == bytes.length) {
+            return true;
+        }
+        if (bytes[start] == 'Z') {
+            return start + 1 == bytes.length;
+        }
+        if ((bytes[start] != '+' && bytes[start] != '-') || start + 1 == bytes.length) {
+            return false;
+        }
+        for (int i = start + 1; i < bytes.length; i++) {
+            if (!isDigit(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the specified range of the supplied ASCII bytes as a string
+     *
+     * @param bytes bytes to convert
+     * @param start index of the first byte to convert
+     * @param length number of bytes to convert
+     * @return the converted bytes
+     */
+    private static String ascii(byte[] bytes, int start, int length) {
+        return new String(bytes, start, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the number of days in the specified month
+     *
+     * @param year the year
+     * @param month the month (1-12)
+     * @return the number of days in the month
+     */
+    private static int getDaysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Returns the number of days since the epoch of the specified date in the proleptic Gregorian
+     * calendar
+     *
+     * @param year the year
+     * @param month the month (1-12)
+     * @param day the day of month
+     * @return the number of days since 1970-01-01
+     */
+    private static long getEpochDay(int year, int month, int day) {
+        // count years from March so that leap days fall at the end of a year
+        final long y = (month <= 2) ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - (era * 400);
+        final long dayOfYear = (((153 * (month + ((month > 2) ? -3 : 9))) + 2) / 5) + day - 1;
+        final long dayOfEra =
+                (yearOfEra * 365) + (yearOfEra / 4) - (yearOfEra / 100) + dayOfYear;
+        return (era * 146097) + dayOfEra - 719468;
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Parse
+    // -------------------------------------------------------------------------
+
+    /**
+     * A single parse of a time. The text parsed is the supplied bytes with an optional range of
+     * decimal places removed.
+     *
+     * <p>Parsing methods return the index after the parsed element on success, or the bitwise
+     * complement of the index of the error on failure.
+     */
+    private static final class Parse {
+        /** the bytes to parse */
+        private final byte[] bytes;
+
+        /** index of the first byte which is not part of the text */
+        private final int skipStart;
+
+        /** number of bytes from {@link #skipStart} which are not part of the text */
+        private final int skipLength;
+
+        /** length of the text */
+        private final int length;
+
+        /** the value of the last number parsed */
+        private int number;
+
+        /** the parsed year */
+        private int year;
+
+        /** the parsed month (1-12) */
+        private int month;
+
+        /** the parsed day of month */
+        private int day;
+
+        /** the parsed hour of day */
+        private int hour;
+
+        /** the parsed minute of hour, or -1 if not specified */
+        private int minute;
+
+        /** the parsed second of minute, or -1 if not specified */
+        private int second;
+
+        /** the milliseconds parsed from the decimal places, or -1 if not specified */
+        private int fractionMillis;
+
+        /** whether an offset was parsed */
+        private boolean hasOffset;
+
+        /** the parsed offset in milliseconds */
+        private int offsetMillis;
+
+        /**
+         * Default constructor
+         *
+         * @param bytes the bytes to parse
+         * @param skipStart index of the first byte which is not part of the text
+         * @param skipLength number of bytes from {@code skipStart} which are not part of the text
+         */
+        private Parse(byte[] bytes, int skipStart, int skipLength) {
+            this.bytes = bytes;
+            this.skipStart = skipStart;
+            this.skipLength = skipLength;
+            this.length = bytes.length - skipLength;
+        }
+
+        /**
+         * Parses the text, trying each of the supplied precisions until one matches all the text
+         *
+         * @param precisions the units (in milliseconds) of the least significant field of each of
+         *     the formats to try, in order
+         * @param isTwoDigitYear whether the year has two digits (UTCTime) rather than four
+         * @return the parsed time in milliseconds since the epoch
+         * @throws IllegalArgumentException if the text could not be parsed
+         */
+        private long parse(int[] precisions, boolean isTwoDigitYear) {
+            int bestValid = 0;
+            int bestInvalid = 0;
+            for (int precision : precisions) {
+                final int end = parse(precision, isTwoDigitYear);
+                if (end >= length) {
+                    return toEpochMillis();
+                } else if (end > bestValid) {
+                    bestValid = end;
+                } else if (end < 0 && ~end > bestInvalid) {
+                    bestInvalid = ~end;
+                }
+            }
+            throw new IllegalArgumentException(
+                    createErrorMessage((bestValid > 0) ? bestValid : bestInvalid));
+        }
+
+        /**
+         * Parses the text to the specified precision
+         *
+         * @param precision unit (in milliseconds) of the least significant field in the text
+         * @param isTwoDigitYear whether the year has two digits (UTCTime) rather than four
+         * @return the index after the parsed text, or the complement of the index of the error
+         */
+        private int parse(int precision, boolean isTwoDigitYear) {
+            minute = -1;
+            second = -1;
+            fractionMillis = -1;
+            hasOffset = false;
+
+            int position = isTwoDigitYear ? parseTwoDigitYear(0) : parseNumber(0, 4, true);
+            if (position < 0) {
+                return position;
+            }
+            year = isTwoDigitYear ? year : number;
+
+            position = parseNumber(position, 2, false);
+            if (position < 0) {
+                return position;
+            }
+            month = number;
+
+            position = parseNumber(position, 2, false);
+            if (position < 0) {
+                return position;
+            }
+            day = number;
+
+            position = parseNumber(position, 2, false);
+            if (position < 0) {
+                return position;
+            }
+            hour = number;
+
+            if (precision <= MILLIS_PER_MINUTE) {
+                position = parseNumber(position, 2, false);
+                if (position < 0) {
+                    return position;
+                }
+                minute = number;
+            }
+
+            if (precision <= MILLIS_PER_SECOND) {
+                position = parseNumber(position, 2, false);
+                if (position < 0) {
+                    return position;
+                }
+                second = number;
+            }
+
+            // UTCTime does not allow decimal places
+            if (!isTwoDigitYear
+                    && position < length
+                    && isDecimalSeparator(charAt(position))) {
+                final int end = parseFraction(position + 1, precision);
+                position = (end < 0) ? position : end;
+            }
+
+            final int end = parseOffset(position);
+            return (end < 0) ? position : end;
+        }
+
+        /**
+         * Parses a two digit year. Years before 50 are in the 21st century.
+         *
+         * @param position index to parse from
+         * @return the index after the year, or the complement of the index of the error
+         */
+        private int parseTwoDigitYear(int position) {
+            if (length - position < 2
+                    || !isDigit(charAt(position))
+                    || !isDigit(charAt(position + 1))) {
+                return ~position;
+            }
+            final int twoDigitYear = ((charAt(position) - '0') * 10) + (charAt(position + 1) - '0');
+            year = ((twoDigitYear < 50) ? 2000 : 1900) + twoDigitYear;
+            return position + 2;
+        }
+
+        /**
+         * Parses a number of up to the specified number of digits into {@link #number}
+         *
+         * @param position index to parse from
+         * @param maxDigits maximum number of digits in the number (excluding any sign)
+         * @param isSigned whether the number may be preceded by a sign
+         * @return the index after the number, or the complement of the index of the error
+         */
+        private int parseNumber(int position, int maxDigits, boolean isSigned) {
+            int limit = Math.min(maxDigits, length - position);
+            int start = position;
+            boolean isNegative = false;
+            if (isSigned
+                    && limit > 1
+                    && (charAt(position) == '-' || charAt(position) == '+')
+                    && isDigit(charAt(position + 1))) {
+                isNegative = charAt(position) == '-';
+                start++;
+                limit = Math.min(limit + 1, length - position);
+            }
+
+            int end = start;
+            while (end - position < limit && isDigit(charAt(end))) {
+                end++;
+            }
+            if (end == position) {
+                return ~position;
+            }
+
+            int value = 0;
+            for (int i = start; i < end; i++) {
+                value = (value * 10) + (charAt(i) - '0');
+            }
+            number = isNegative ? -value : value;
+            return end;
+        }
+
+        /**
+         * Parses decimal places into {@link #fractionMillis}
+         *
+         * @param position index of the first decimal place
+         * @param unitMillis number of milliseconds in the unit the decimal places are a fraction
+         *     of
+         * @return the index after the decimal places, or the complement of the index of the error
+         */
+        private int parseFraction(int position, int unitMillis) {
+            final int limit = Math.min(MAX_FRACTION_DIGITS, length - position);
+            // each digit is worth a tenth of the previous, truncated to whole milliseconds
+            long value = 0;
+            long scale = unitMillis * 10L;
+            int digits = 0;
+            while (digits < limit && isDigit(charAt(position + digits))) {
+                scale /= 10;
+                value += (charAt(position + digits) - '0') * scale;
+                digits++;
+            }
+            if (digits == 0) {
+                return ~position;
+            }
+            fractionMillis = (int) (value / 10);
+            return position + digits;
+        }
+
+        /**
+         * Parses an offset from UTC into {@link #offsetMillis}. The offset is either {@code Z} or a
+         * sign followed by hours, and optionally minutes, seconds and milliseconds (either all
+         * separated by colons or none).
+         *
+         * @param position index to parse from
+         * @return the index after the offset, or the complement of the index of the error
+         */
+        private int parseOffset(int position) {
+            if (position < length && (charAt(position) == 'Z' || charAt(position) == 'z')) {
+                hasOffset = true;
+                offsetMillis = 0;
+                return position + 1;
+            }
+            if (length - position <= 1) {
+                return ~position;
+            }
+            final int sign = charAt(position);
+            if (sign != '+' && sign != '-') {
+                return ~position;
+            }
+            position++;
+
+            if (countDigits(position, 2) < 2) {
+                return ~position;
+            }
+            final int hours = twoDigits(position);
+            if (hours > 23) {
+                return ~position;
+            }
+            int offset = hours * MILLIS_PER_HOUR;
+            position += 2;
+
+            parse:
+            {
+                if (position >= length) {
+                    break parse;
+                }
+                final boolean hasSeparators = charAt(position) == ':';
+                if (hasSeparators) {
+                    position++;
+                } else if (!isDigit(charAt(position))) {
+                    break parse;
+                }
+
+                // minutes
+                if (countDigits(position, 2) < 2) {
+                    return ~position;
+                }
+                final int minutes = twoDigits(position);
+                if (minutes > 59) {
+                    return ~position;
+                }
+                offset += minutes * MILLIS_PER_MINUTE;
+                position += 2;
+
+                // seconds
+                if (position >= length) {
+                    break parse;
+                }
+                if (hasSeparators) {
+                    if (charAt(position) != ':') {
+                        break parse;
+                    }
+                    position++;
+                }
+                int count = countDigits(position, 2);
+                if (count == 0 && !hasSeparators) {
+                    break parse;
+                } else if (count < 2) {
+                    return ~position;
+                }
+                final int seconds = twoDigits(position);
+                if (seconds > 59) {
+                    return ~position;
+                }
+                offset += seconds * MILLIS_PER_SECOND;
+                position += 2;
+
+                // milliseconds
+                if (position >= length) {
+                    break parse;
+                }
+                if (hasSeparators) {
+                    if (!isDecimalSeparator(charAt(position))) {
+                        break parse;
+                    }
+                    position++;
+                }
+                count = countDigits(position, 3);
+                if (count == 0 && !hasSeparators) {
+                    break parse;
+                } else if (count < 1) {
+                    return ~position;
+                }
+                int scale = 100;
+                for (int i = 0; i < count; i++) {
+                    offset += (charAt(position++) - '0') * scale;
+                    scale /= 10;
+                }
+            }
+
+            hasOffset = true;
+            offsetMillis = (sign == '-') ? -offset : offset;
+            return position;
+        }
+
+        /**
+         * Converts the parsed fields to milliseconds since the epoch
+         *
+         * @return the parsed time in milliseconds since the epoch
+         * @throws IllegalArgumentException if a field is out of range, or the time does not exist
+         *     in the system default time zone
+         */
+        private long toEpochMillis() {
+            checkRange("monthOfYear", month, 1, 12);
+            final int daysInMonth = getDaysInMonth(year, month);
+            checkRange("dayOfMonth", day, 1, daysInMonth);
+            checkRange("hourOfDay", hour, 0, 23);
+            if (minute >= 0) {
+                checkRange("minuteOfHour", minute, 0, 59);
+            }
+            if (second >= 0) {
+                checkRange("secondOfMinute", second, 0, 59);
+            }
+
+            long millis = getEpochDay(year, month, day) * MILLIS_PER_DAY;
+            millis += hour * MILLIS_PER_HOUR;
+            millis += Math.max(minute, 0) * MILLIS_PER_MINUTE;
+            millis += Math.max(second, 0) * MILLIS_PER_SECOND;
+            millis += Math.max(fractionMillis, 0);
+
+            if (hasOffset) {
+                return millis - offsetMillis;
+            }
+
+            // local time, so use the system default time zone
+            final ZoneId zone = ZoneId.systemDefault();
+            final ZoneRules rules = zone.getRules();
+            if (rules.isFixedOffset()) {
+                return millis - (rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L);
+            }
+            final LocalDateTime localDateTime =
+                    LocalDateTime.ofEpochSecond(
+                            Math.floorDiv(millis, 1000L),
+                            (int) Math.floorMod(millis, 1000L) * 1_000_000,
+                            ZoneOffset.UTC);
+            final List<ZoneOffset> offsets = rules.getValidOffsets(localDateTime);
+            if (offsets.isEmpty()) {
+                throw new IllegalArgumentException(
+                        "Cannot parse \""
+                                + getText()
+                                + "\": Illegal instant due to time zone offset transition ("
+                                + zone.getId()
+                                + ")");
+            }
+            // use the earlier offset if the time is ambiguous
+            return millis - (offsets.get(0).getTotalSeconds() * 1000L);
+        }
+
+        /**
+         * Checks that the value of a field is within range
+         *
+         * @param fieldName name of the field (used in error messages)
+         * @param value value of the field
+         * @param min minimum allowed value (inclusive)
+         * @param max maximum allowed value (inclusive)
+         * @throws IllegalArgumentException if the value is out of range
+         */
+        private void checkRange(String fieldName, int value, int min, int max) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Cannot parse \"%s\": Value %d for %s must be in the range [%d,%d]",
+                                getText(), value, fieldName, min, max));
+            }
+        }
+
+        /**
+         * Returns the character at the specified index of the text
+         *
+         * @param index index of the character
+         * @return the character at the index
+         */
+        private int charAt(int index) {
+            return bytes[(index < skipStart) ? index : index + skipLength];
+        }
+
+        /**
+         * Returns the number of consecutive digits at the specified index, up to a maximum
+         *
+         * @param position index to count from
+         * @param max maximum number of digits to count
+         * @return the number of digits
+         */
+        private int countDigits(int position, int max) {
+            int count = 0;
+            while (count < max && position + count < length && isDigit(charAt(position + count))) {
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the value of the two digits at the specified index
+         *
+         * @param position index of the first digit
+         * @return the value of the digits
+         */
+        private int twoDigits(int position) {
+            return ((charAt(position) - '0') * 10) + (charAt(position + 1) - '0');
+        }
+
+        /**
+         * Returns the text being parsed
+         *
+         * @return the text
+         */
+        private String getText() {
+            if (skipLength == 0) {
+                return ascii(bytes, 0, bytes.length);
+            }
+            return ascii(bytes, 0, skipStart)
+                    + ascii(bytes, skipStart + skipLength, length - skipStart);
+        }
+
+        /**
+         * Creates the message describing an error in the format of the text
+         *
+         * @param errorPosition index of the error
+         * @return the error message
+         */
+        private String createErrorMessage(int errorPosition) {
+            String text = getText();
+            if (text.length() > errorPosition + 35) {
+                text = text.substring(0, errorPosition + 32) + "...";
+            }
+            if (errorPosition <= 0) {
+                return "Invalid format: \"" + text + '"';
+            }
+            if (errorPosition >= length) {
+                return "Invalid format: \"" + text + "\" is too short";
+            }
+            return "Invalid format: \""
+                    + text
+                    + "\" is malformed at \""
+                    + text.substring(errorPosition)
+                    + '"';
+        }
+    }
+}
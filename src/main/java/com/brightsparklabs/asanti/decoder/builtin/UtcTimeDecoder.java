@@ -17,14 +17,9 @@ import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.builtin.TimeValidator;
 import com.brightsparklabs.asanti.validator.builtin.UtcTimeValidator;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
+import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableSet;
-import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import org.joda.time.DateTime;
-import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.DateTimeFormatterBuilder;
-import org.joda.time.format.DateTimeParser;
 
 /**
  * Decoder for data of type {@link AsnBuiltinType#UtcTime}
@@ -37,50 +32,7 @@ public class UtcTimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static UtcTimeDecoder instance;
-
-    /**
-     * parser for the "core" of what an ASN.1 UTCTime MUST consist of. Pivot year 2000 gives a
-     * supported range of 1950 to 2049.
-     */
-    private static final DateTimeFormatter core =
-            new DateTimeFormatterBuilder()
-                    .appendTwoDigitYear(2000)
-                    .appendMonthOfYear(2)
-                    .appendDayOfMonth(2)
-                    .appendHourOfDay(2)
-                    .appendMinuteOfHour(2)
-                    .toFormatter();
-
-    /** a time zone offset parser, specifying "Z" as no timezone, ie UTC */
-    private static final DateTimeParser offset =
-            new DateTimeFormatterBuilder().appendTimeZoneOffset("", "Z", false, 1, 2).toParser();
-
-    /**
-     * parser option for when only up to the Minutes are defined, so optional decimals and offset
-     */
-    private static final DateTimeFormatter uptoMinutes =
-            new DateTimeFormatterBuilder().append(core).appendOptional(offset).toFormatter();
-
-    /** parser option for when full hours, minutes and seconds are defined, optional offset */
-    private static final DateTimeFormatter uptoSeconds =
-            new DateTimeFormatterBuilder()
-                    .append(core)
-                    .appendSecondOfMinute(2)
-                    .appendOptional(offset)
-                    .toFormatter();
-
-    /** the collection of parsers to try - this is essentially how you do an "OR" with Joda */
-    private static final DateTimeParser[] options = {
-        uptoSeconds.getParser(), uptoMinutes.getParser()
-    };
-
-    /**
-     * The parser to use, it is an OR of the three precisions, each of which has its optional
-     * components
-     */
-    private static final DateTimeFormatter parser =
-            new DateTimeFormatterBuilder().append(null, options).toFormatter();
+    private static final UtcTimeDecoder instance = new UtcTimeDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -99,9 +51,6 @@ public class UtcTimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
      * @return a singleton instance of this class
      */
     public static UtcTimeDecoder getInstance() {
-        if (instance == null) {
-            instance = new UtcTimeDecoder();
-        }
         return instance;
     }
 
@@ -138,6 +87,12 @@ public class UtcTimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
         return AsnByteDecoder.decodeAsVisibleString(bytes);
     }
 
+    @Override
+    public String decodeAsStringUnchecked(final byte[] bytes) {
+        // the bytes are known to be a valid UTCTime, so there is no need to parse them
+        return new String(bytes, Charsets.UTF_8);
+    }
+
     // -------------------------------------------------------------------------
     // PUBLIC METHODS
     // -------------------------------------------------------------------------
@@ -162,39 +117,23 @@ public class UtcTimeDecoder extends AbstractBuiltinTypeDecoder<OffsetDateTime> {
             return OperationResult.createUnsuccessfulInstance(null, byteValidationFailures);
         }
 
+        // ASN.1 explicitly requires an upper case "Z" (the parser is case insensitive)
+        if (bytes.length > 0 && bytes[bytes.length - 1] == 'z') {
+            final String error =
+                    UtcTimeValidator.UTCTIME_VALIDATION_ERROR
+                            + "Invalid format: \""
+                            + new String(bytes, Charsets.UTF_8)
+                            + "\" is malformed at \"z\"";
+            return OperationResult.createUnsuccessfulInstance(
+                    null,
+                    ImmutableSet.of(
+                            new ByteValidationFailure(
+                                    bytes.length, FailureType.DataIncorrectlyFormatted, error)));
+        }
+
         try {
-            final String rawDateTime = AsnByteDecoder.decodeAsVisibleString(bytes);
-
-            // There are a few things that Joda-Time is not handling that we need to.
-
-            // Joda doesn't seem to understand that "Z" is not "z" (it seems to be case insensitive)
-            if (rawDateTime.endsWith("z")) {
-                final String error =
-                        UtcTimeValidator.UTCTIME_VALIDATION_ERROR
-                                + "Invalid format: \""
-                                + rawDateTime
-                                + "\" is malformed at \"z\"";
-                return OperationResult.createUnsuccessfulInstance(
-                        null,
-                        ImmutableSet.of(
-                                new ByteValidationFailure(
-                                        bytes.length,
-                                        FailureType.DataIncorrectlyFormatted,
-                                        error)));
-            }
-
-            // use the Joda-Time parser
-            final DateTime dateTime = parser.withOffsetParsed().parseDateTime(rawDateTime);
-
-            final Instant instant = Instant.ofEpochMilli(dateTime.getMillis());
-
-            final OffsetDateTime offsetDateTime =
-                    OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
-
-            return OperationResult.createSuccessfulInstance(offsetDateTime);
-        } catch (final IllegalArgumentException | DecodeException e) {
-            // In theory we should not get DecodeException because we explicitly validated the
-            // VisibleString above.
+            return OperationResult.createSuccessfulInstance(UsefulTimeParser.parseUtcTime(bytes));
+        } catch (final IllegalArgumentException e) {
             final String error = TimeValidator.UTCTIME_VALIDATION_ERROR + e.getMessage();
             return OperationResult.createUnsuccessfulInstance(
                     null,
@@ -26,7 +26,7 @@ public class Utf8StringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static Utf8StringDecoder instance;
+    private static final Utf8StringDecoder instance = new Utf8StringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class Utf8StringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static Utf8StringDecoder getInstance() {
-        if (instance == null) {
-            instance = new Utf8StringDecoder();
-        }
         return instance;
     }
 
@@ -60,6 +57,11 @@ public class Utf8StringDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsUtf8String(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         return new String(bytes, Charsets.UTF_8);
     }
 }
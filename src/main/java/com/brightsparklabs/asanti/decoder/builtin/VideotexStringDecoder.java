@@ -25,7 +25,7 @@ public class VideotexStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static VideotexStringDecoder instance;
+    private static final VideotexStringDecoder instance = new VideotexStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class VideotexStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static VideotexStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new VideotexStringDecoder();
-        }
         return instance;
     }
 
@@ -26,7 +26,7 @@ public class VisibleStringDecoder extends AbstractBuiltinTypeDecoder<String> {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static VisibleStringDecoder instance;
+    private static final VisibleStringDecoder instance = new VisibleStringDecoder();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +45,6 @@ public class VisibleStringDecoder extends AbstractBuiltinTypeDecoder<String> {
      * @return a singleton instance of this class
      */
     public static VisibleStringDecoder getInstance() {
-        if (instance == null) {
-            instance = new VisibleStringDecoder();
-        }
         return instance;
     }
 
@@ -60,6 +57,11 @@ public class VisibleStringDecoder extends AbstractBuiltinTypeDecoder<String> {
         final ImmutableSet<ByteValidationFailure> failures =
                 AsnByteValidator.validateAsVisibleString(bytes);
         DecodeExceptions.throwIfHasFailures(failures);
+        return decodeUnchecked(bytes);
+    }
+
+    @Override
+    public String decodeUnchecked(final byte[] bytes) {
         return new String(bytes, Charsets.UTF_8);
     }
 }
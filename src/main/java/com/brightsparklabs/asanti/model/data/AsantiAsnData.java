@@ -7,9 +7,15 @@
 
 package com.brightsparklabs.asanti.model.data;
 
+import com.brightsparklabs.asanti.decoder.AsnByteDecoder;
+import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.schema.primitive.AsnPrimitiveTypes;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
+import com.brightsparklabs.asanti.schema.AsnBuiltinType;
+import java.math.BigInteger;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * Interface for modeling ASN.1 data which has been mapped against a schema
@@ -31,4 +37,121 @@ public interface AsantiAsnData extends com.brightsparklabs.asanti.data.AsnData {
      *     getType(tag).or(AsnPrimitiveTypes.INVALID)}
      */
     Optional<AsnSchemaType> getType(String tag);
+
+    /**
+     * Gets the data associated with the specified INTEGER or ENUMERATED tag as a {@code long}.
+     * Unlike {@link #getDecodedObject(String, Class)} this does not create a {@link
+     * java.math.BigInteger}. ENUMERATED tags return their numeric value rather than their name.
+     *
+     * <p>The default implementation decodes the value as a {@link BigInteger}, implementations
+     * should override it to decode the value directly.
+     *
+     * @param tag tag to retrieve the value of
+     * @return the value of the tag, or {@link OptionalLong#empty()} if the tag is not a decoded tag
+     *     in this data
+     * @throws DecodeException if the tag is not an INTEGER or ENUMERATED, if any errors occur
+     *     decoding its data, or if the value does not fit in a {@code long}
+     */
+    default OptionalLong getDecodedLong(String tag) throws DecodeException {
+        final Optional<BigInteger> value = getDecodedBigInteger(tag);
+        if (value.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(value.get().longValueExact());
+        } catch (ArithmeticException ex) {
+            throw new DecodeException("Value of tag " + tag + " does not fit in a long", ex);
+        }
+    }
+
+    /**
+     * Gets the data associated with the specified INTEGER or ENUMERATED tag as an {@code int}.
+     * Unlike {@link #getDecodedObject(String, Class)} this does not create a {@link
+     * java.math.BigInteger}. ENUMERATED tags return their numeric value rather than their name.
+     *
+     * <p>The default implementation decodes the value as a {@link BigInteger}, implementations
+     * should override it to decode the value directly.
+     *
+     * @param tag tag to retrieve the value of
+     * @return the value of the tag, or {@link OptionalInt#empty()} if the tag is not a decoded tag
+     *     in this data
+     * @throws DecodeException if the tag is not an INTEGER or ENUMERATED, if any errors occur
+     *     decoding its data, or if the value does not fit in an {@code int}
+     */
+    default OptionalInt getDecodedInt(String tag) throws DecodeException {
+        final Optional<BigInteger> value = getDecodedBigInteger(tag);
+        if (value.isEmpty()) {
+            return OptionalInt.empty();
+        }
+        try {
+            return OptionalInt.of(value.get().intValueExact());
+        } catch (ArithmeticException ex) {
+            throw new DecodeException("Value of tag " + tag + " does not fit in an int", ex);
+        }
+    }
+
+    /**
+     * Returns the root of the tree of tags in this data, i.e. the node representing the top level
+     * type (e.g. {@code /Document}). The tree allows the data to be walked (parent, children,
+     * type, value) without manipulating tag strings.
+     *
+     * <p>The default implementation builds the tree from {@link #getTags()} and {@link
+     * #getUnmappedTags()} on each call, with the top level type taken from the first tag.
+     * Implementations should override it to build the tree once and retain it, and implement
+     * {@link RetainedTagTree} to indicate that they do.
+     *
+     * @return the node representing the top level type
+     */
+    default AsnDataNode getRootNode() {
+        return AsnDataNode.buildTree(this).values().iterator().next();
+    }
+
+    /**
+     * Returns the node in the tree of tags which represents the specified decoded tag
+     *
+     * <p>The default implementation builds the tree on each call, as per {@link #getRootNode()}.
+     *
+     * @param tag decoded tag to retrieve the node of (e.g. {@code /Document/body/content})
+     * @return the node representing the tag, or {@link Optional#empty()} if the tag is not present
+     *     in the data (either as a tag itself or as the prefix of a tag)
+     */
+    default Optional<AsnDataNode> getNode(String tag) {
+        return Optional.ofNullable(AsnDataNode.buildTree(this).get(tag));
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Gets the value of the specified INTEGER or ENUMERATED tag. Used by the default
+     * implementations of {@link #getDecodedLong(String)} and {@link #getDecodedInt(String)}, which
+     * implementations should override to avoid creating a {@link BigInteger}.
+     *
+     * @param tag tag to retrieve the value of
+     * @return the value of the tag, or {@link Optional#empty()} if the tag is not a decoded tag in
+     *     this data
+     * @throws DecodeException if the tag is not an INTEGER or ENUMERATED, or if any errors occur
+     *     decoding its data
+     */
+    private Optional<BigInteger> getDecodedBigInteger(String tag) throws DecodeException {
+        if (!getTags().contains(tag)) {
+            return Optional.empty();
+        }
+
+        final AsnBuiltinType type =
+                getType(tag).map(AsnSchemaType::getBuiltinType).orElse(AsnBuiltinType.Null);
+        if (type == AsnBuiltinType.Integer) {
+            return getDecodedObject(tag, BigInteger.class);
+        }
+        if (type == AsnBuiltinType.Enumerated) {
+            // the decoded object is the name of the value, so decode the number directly
+            final Optional<byte[]> bytes = getBytes(tag);
+            return bytes.isPresent()
+                    ? Optional.of(AsnByteDecoder.decodeAsInteger(bytes.get()))
+                    : Optional.empty();
+        }
+        throw new DecodeException(
+                "Tag " + tag + " is of type " + type + ", not INTEGER or ENUMERATED");
+    }
 }
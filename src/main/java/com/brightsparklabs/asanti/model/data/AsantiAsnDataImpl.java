@@ -10,22 +10,34 @@ package com.brightsparklabs.asanti.model.data;
 import static com.google.common.base.Preconditions.*;
 
 import com.brightsparklabs.asanti.common.OperationResult;
+import com.brightsparklabs.asanti.decoder.AsnByteDecoder;
 import com.brightsparklabs.asanti.decoder.DecoderVisitor;
 import com.brightsparklabs.asanti.decoder.builtin.BuiltinTypeDecoder;
 import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.schema.*;
+import com.brightsparklabs.asanti.model.schema.Decoder.IncrementalDecoder;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaTypePrimitiveAliased;
 import com.brightsparklabs.asanti.reader.AsnBerDataReader;
+import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteSource;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,9 +45,27 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of {@link AsantiAsnData}
  *
+ * <p>By default all raw tags are mapped to the schema when the instance is created. Instances
+ * created via {@link #createLazyInstance(RawAsnData, AsnSchema, String)} instead only map the raw
+ * tags of a top level component of the data (e.g. {@code /Document/body}) the first time a tag
+ * within it is accessed. Methods which need every tag (e.g. {@link #getTags()}) map all remaining
+ * components. Mapped tags are retained, so each raw tag is only ever mapped once.
+ *
+ * <p>For lazy instances, {@link #getNode(String)} only maps the top level component containing the
+ * tag, and {@link TagQuery} resolves the leading literal components of a query the same way (e.g.
+ * {@code /Document/body/**}). The methods which take a {@link Pattern} (e.g. {@link
+ * #getTagsMatching(Pattern)}) only map a single component if the pattern begins with the literal
+ * path of one (e.g. {@code /Document/body/.*}). Otherwise they, {@link #getRootNode()} and queries
+ * which begin with a wildcard map every component, i.e. they cost as much as a non-lazy instance.
+ *
+ * <p>Instances created via {@link #builder(RawAsnData, AsnSchema, String)} can also retain the
+ * values returned by {@link #getDecodedObject(String, Class)} and {@link
+ * #getPrintableString(String)}, so that validation, selectors and user code which read the same
+ * tag repeatedly only decode it once.
+ *
  * @author brightSPARK Labs
  */
-public class AsantiAsnDataImpl implements AsantiAsnData {
+public class AsantiAsnDataImpl implements AsantiAsnData, RetainedTagTree {
 
     // -------------------------------------------------------------------------
     // CLASS VARIABLES
@@ -44,6 +74,9 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
     /** class logger */
     private static final Logger logger = LoggerFactory.getLogger(AsantiAsnDataImpl.class);
 
+    /** characters which have a special meaning in a regular expression */
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -51,17 +84,32 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
     /** ASN data to decode */
     private final RawAsnData rawAsnData;
 
-    /** all tags which could be decoded. Map is of form: { decodedTagString => decodedTag } */
-    private final ImmutableMap<String, DecodedTag> decodedTags;
+    /** all tags found in the data. Created on first use if the instance is lazy. */
+    private volatile MappedTags mappedTags;
+
+    /** the top level components of the data, or {@code null} if the instance is not lazy */
+    private final ImmutableList<Component> components;
 
-    /** all tags which could not be decoded. Map is of form: { decodedTagString => decodedTag } */
-    private final ImmutableMap<String, DecodedTag> unmappedTags;
+    /**
+     * the top level components of the data by the first component of their decoded tags (e.g.
+     * {@code body}), or {@code null} if the instance is not lazy
+     */
+    private final ImmutableListMultimap<String, Component> componentsByName;
+
+    /**
+     * the values decoded from tags, or {@code null} if decoded values are not retained. Map is of
+     * form: { decodedTagString => decodedObject }
+     */
+    private final Map<String, Object> decodedObjects;
 
     /**
-     * all tags (decoded and unmapped) found in the data. Map is of form: { decodedTagString =>
-     * decodedTag }
+     * the printable strings decoded from tags, or {@code null} if decoded values are not retained.
+     * Map is of form: { decodedTagString => printableString }
      */
-    private final ImmutableMap<String, DecodedTag> allTags;
+    private final Map<String, String> printableStrings;
+
+    /** whether the data has already been validated, so values can be decoded without checks */
+    private final boolean isTrusted;
 
     /** visitor used to determine which decoder to use for decoding data */
     private final DecoderVisitor decoderVisitor = new DecoderVisitor();
@@ -69,6 +117,22 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
     /** the schema used to decode */
     private final AsnSchema asnSchema;
 
+    /** the tag of the top level type (e.g. {@code /Document}) */
+    private final String rootTag;
+
+    /**
+     * tree of all tags (decoded and unmapped) found in the data. Map is of form: { tag => node }.
+     * Created on first use.
+     */
+    private volatile ImmutableMap<String, AsnDataNode> nodes;
+
+    /**
+     * the trees of the top level components of the data which have been accessed before the tree
+     * of all tags was created, or {@code null} if the instance is not lazy. Map is of form: {
+     * componentName => { tag => node } }
+     */
+    private final Map<String, ImmutableMap<String, AsnDataNode>> componentNodes;
+
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
@@ -85,53 +149,99 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
      */
     public AsantiAsnDataImpl(
             final RawAsnData rawAsnData, final AsnSchema asnSchema, final String topLevelTypeName) {
+        this(rawAsnData, asnSchema, topLevelTypeName, false, false, false);
+    }
+
+    /**
+     * Returns a builder for creating instances of this class
+     *
+     * @param rawAsnData data to decode
+     * @param asnSchema schema to use to decode data
+     * @param topLevelTypeName the name of the top level type in this module from which to begin
+     *     decoding the raw tag
+     * @return a builder for creating instances of this class
+     */
+    public static Builder builder(
+            final RawAsnData rawAsnData, final AsnSchema asnSchema, final String topLevelTypeName) {
+        return new Builder(rawAsnData, asnSchema, topLevelTypeName);
+    }
+
+    /**
+     * Creates an instance which maps the raw tags of each top level component of the data to the
+     * schema on first access
+     *
+     * @param rawAsnData data to decode
+     * @param asnSchema schema to use to decode data
+     * @param topLevelTypeName the name of the top level type in this module from which to begin
+     *     decoding the raw tag
+     * @return the lazily mapped data
+     * @throws NullPointerException if any of the parameters are {@code null}
+     * @throws IllegalArgumentException if topLevelTypeName is blank
+     */
+    public static AsantiAsnDataImpl createLazyInstance(
+            final RawAsnData rawAsnData, final AsnSchema asnSchema, final String topLevelTypeName) {
+        return builder(rawAsnData, asnSchema, topLevelTypeName).setLazy(true).build();
+    }
+
+    /**
+     * Private constructor
+     *
+     * @param rawAsnData data to decode
+     * @param asnSchema schema to use to decode data
+     * @param topLevelTypeName the name of the top level type in this module from which to begin
+     *     decoding the raw tag
+     * @param isLazy whether to map the raw tags on first access rather than immediately
+     * @param isCachingDecodedValues whether to retain the values decoded from tags
+     * @param isTrusted whether the data has already been validated
+     * @throws NullPointerException if any of the parameters are {@code null}
+     * @throws IllegalArgumentException if topLevelTypeName is blank
+     */
+    private AsantiAsnDataImpl(
+            final RawAsnData rawAsnData,
+            final AsnSchema asnSchema,
+            final String topLevelTypeName,
+            final boolean isLazy,
+            final boolean isCachingDecodedValues,
+            final boolean isTrusted) {
+        checkNotNull(rawAsnData);
         checkNotNull(asnSchema);
         checkNotNull(topLevelTypeName);
         checkArgument(!topLevelTypeName.trim().isEmpty(), "Top level type name must be specified");
 
-        // The RawAsnData is where we get the data (byte array) associated with a raw tag.
-        // Since INS-434 we are supporting "CONTAINS" constraints, that appear in the schema as
-        // an octet string, but we should treat as an aliased type.
-        // Our current mechanism for handling this is to extract the bytes of the octet string
-        // and parse it with our BER/DER parser.  This then produces a new RawAsnData that we
-        // slot in to the appropriate spot in the "tree".  We then perform the normal mapping
-        // of raw tags to the schema to produce decoded tags.
-        final Map<String, byte[]> rawAsnDataBuilder = Maps.newLinkedHashMap();
-        rawAsnDataBuilder.putAll(rawAsnData.getBytes());
-
         final Optional<AsnSchemaType> rootType = asnSchema.getType(topLevelTypeName);
         if (rootType.isEmpty()) {
             throw new RuntimeException("type [" + topLevelTypeName + "] does not exist in schema");
         }
 
-        final String decodedTagRootPrefix = "/" + topLevelTypeName;
-        final String rawTagRootPrefix = "";
-
-        // decode the tags in the data, use LinkedHashMap to preserve insertion order
-        final Map<String, DecodedTag> decodedToRawTags = Maps.newLinkedHashMap();
-        final Map<String, DecodedTag> unmappedTags = Maps.newLinkedHashMap();
-
-        // Decode (match up raw tags to schema), in a way that may need to recurse if we encounter
-        // "aliased" types, eg OCTET STRING (CONTAINS otherType)
-        recursiveDecode(
-                rawAsnData,
-                rootType.get(),
-                decodedTagRootPrefix,
-                rawTagRootPrefix,
-                rawAsnDataBuilder,
-                decodedToRawTags,
-                unmappedTags);
-
-        this.rawAsnData = new RawAsnDataImpl(rawAsnDataBuilder);
-
+        this.rawAsnData = rawAsnData;
         this.asnSchema = asnSchema;
-        this.decodedTags = ImmutableMap.copyOf(decodedToRawTags);
-        this.unmappedTags = ImmutableMap.copyOf(unmappedTags);
-        this.allTags =
-                ImmutableMap.<String, DecodedTag>builder()
-                        .putAll(decodedToRawTags)
-                        .putAll(unmappedTags)
-                        .build();
+        this.rootTag = "/" + topLevelTypeName;
+        this.decodedObjects = isCachingDecodedValues ? new ConcurrentHashMap<>() : null;
+        this.printableStrings = isCachingDecodedValues ? new ConcurrentHashMap<>() : null;
+        this.isTrusted = isTrusted;
+
+        if (isLazy) {
+            this.components = getComponents(rawAsnData.getRawTags(), rootType.get());
+            final ImmutableListMultimap.Builder<String, Component> byName =
+                    ImmutableListMultimap.builder();
+            for (Component component : components) {
+                for (String name : component.names) {
+                    byName.put(name, component);
+                }
+            }
+            this.componentsByName = byName.build();
+            this.componentNodes = new ConcurrentHashMap<>();
+        } else {
+            this.components = null;
+            this.componentsByName = null;
+            this.componentNodes = null;
+            // Decode (match up raw tags to schema), in a way that may need to recurse if we
+            // encounter "aliased" types, eg OCTET STRING (CONTAINS otherType)
+            this.mappedTags =
+                    mapTags(
+                            rawAsnData,
+                            Decoder.getDecodedTags(rawAsnData.getRawTags(), rootType.get()));
+        }
     }
 
     // -------------------------------------------------------------------------
@@ -145,7 +255,7 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
 
     @Override
     public ImmutableSet<String> getTags() {
-        return ImmutableSet.copyOf(decodedTags.keySet());
+        return ImmutableSet.copyOf(getMappedTags().decodedTags.keySet());
     }
 
     @Override
@@ -154,19 +264,19 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
             return ImmutableSet.of();
         }
 
-        return allTags.keySet().stream()
+        return getMappedTags(regex).allTags.keySet().stream()
                 .filter(tag -> regex.matcher(tag).matches())
                 .collect(ImmutableSet.toImmutableSet());
     }
 
     @Override
     public ImmutableSet<String> getUnmappedTags() {
-        return ImmutableSet.copyOf(unmappedTags.keySet());
+        return ImmutableSet.copyOf(getMappedTags().unmappedTags.keySet());
     }
 
     @Override
     public boolean contains(final String tag) {
-        return allTags.containsKey(tag);
+        return getMappedTags(tag).allTags.containsKey(tag);
     }
 
     @Override
@@ -175,7 +285,7 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
             return false;
         }
 
-        for (final String tag : allTags.keySet()) {
+        for (final String tag : getMappedTags(regex).allTags.keySet()) {
             if (regex.matcher(tag).matches()) {
                 return true;
             }
@@ -185,10 +295,11 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
 
     @Override
     public Optional<byte[]> getBytes(final String tag) {
-        final DecodedTag decodedTag = allTags.get(tag);
+        final MappedTags tags = getMappedTags(tag);
+        final DecodedTag decodedTag = tags.allTags.get(tag);
         // if no decoded tag, assume supplied tag is is already raw tag
         final String rawTag = (decodedTag == null) ? tag : decodedTag.getRawTag();
-        return rawAsnData.getBytes(rawTag);
+        return tags.rawAsnData.getBytes(rawTag);
     }
 
     @Override
@@ -199,7 +310,7 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
         }
 
         // check against the raw tags too
-        result.putAll(rawAsnData.getBytesMatching(regex));
+        result.putAll(getMappedTags(regex).rawAsnData.getBytesMatching(regex));
 
         return ImmutableMap.copyOf(result);
     }
@@ -217,7 +328,7 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
         }
 
         // Add any matched to raw tags
-        final Map<String, byte[]> raw = rawAsnData.getBytesMatching(regex);
+        final Map<String, byte[]> raw = getMappedTags(regex).rawAsnData.getBytesMatching(regex);
         for (Map.Entry<String, byte[]> entry : raw.entrySet()) {
             final String hexString = BaseEncoding.base16().encode(entry.getValue());
             result.put(entry.getKey(), hexString);
@@ -228,7 +339,14 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
 
     @Override
     public Optional<String> getPrintableString(final String tag) throws DecodeException {
-        final DecodedTag decodedTag = decodedTags.get(tag);
+        if (printableStrings != null && tag != null) {
+            final String cached = printableStrings.get(tag);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        final DecodedTag decodedTag = getMappedTags(tag).decodedTags.get(tag);
         if (decodedTag == null) {
             return Optional.empty();
         }
@@ -236,7 +354,14 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
         final AsnSchemaType schemaType = decodedTag.getType();
         final AsnPrimitiveType type = schemaType.getPrimitiveType();
         final BuiltinTypeDecoder<?> decoder = (BuiltinTypeDecoder<?>) type.accept(decoderVisitor);
-        final String result = decoder.decodeAsString(tag, this);
+        final String result =
+                isTrusted
+                        ? decoder.decodeAsStringUnchecked(tag, this)
+                        : decoder.decodeAsString(tag, this);
+        if (printableStrings != null && result != null) {
+            // benign race, decoding the same tag always produces an equal value
+            printableStrings.put(tag, result);
+        }
         return Optional.of(result);
     }
 
@@ -254,7 +379,14 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
     @Override
     public <T> Optional<T> getDecodedObject(final String tag, final Class<T> classOfT)
             throws DecodeException, ClassCastException {
-        final DecodedTag decodedTag = decodedTags.get(tag);
+        if (decodedObjects != null && tag != null) {
+            final Object cached = decodedObjects.get(tag);
+            if (cached != null) {
+                return Optional.of(classOfT.cast(cached));
+            }
+        }
+
+        final DecodedTag decodedTag = getMappedTags(tag).decodedTags.get(tag);
         if (decodedTag == null) {
             return Optional.empty();
         }
@@ -262,8 +394,14 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
         final AsnSchemaType schemaType = decodedTag.getType();
         final AsnPrimitiveType type = schemaType.getPrimitiveType();
         final BuiltinTypeDecoder<?> decoder = (BuiltinTypeDecoder<?>) type.accept(decoderVisitor);
+        final Object decoded =
+                isTrusted ? decoder.decodeUnchecked(tag, this) : decoder.decode(tag, this);
+        if (decodedObjects != null && decoded != null) {
+            // benign race, decoding the same tag always produces an equal value
+            decodedObjects.put(tag, decoded);
+        }
         // this should throw a ClassCastException if it the types don't match.
-        final T result = classOfT.cast(decoder.decode(tag, this));
+        final T result = classOfT.cast(decoded);
         return Optional.of(result);
     }
 
@@ -283,10 +421,325 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
         return asnSchema.getType(tag);
     }
 
+    @Override
+    public OptionalLong getDecodedLong(final String tag) throws DecodeException {
+        final byte[] bytes = getIntegerBytes(tag);
+        return (bytes == null)
+                ? OptionalLong.empty()
+                : OptionalLong.of(AsnByteDecoder.decodeAsLong(bytes));
+    }
+
+    @Override
+    public OptionalInt getDecodedInt(final String tag) throws DecodeException {
+        final byte[] bytes = getIntegerBytes(tag);
+        return (bytes == null)
+                ? OptionalInt.empty()
+                : OptionalInt.of(AsnByteDecoder.decodeAsInt(bytes));
+    }
+
+    @Override
+    public AsnDataNode getRootNode() {
+        return getNodes().get(rootTag);
+    }
+
+    @Override
+    public Optional<AsnDataNode> getNode(final String tag) {
+        if (nodes == null) {
+            final String name = getComponentName(tag);
+            final Component component = getComponent(name);
+            if (component != null) {
+                // only build the tree of the top level component containing the tag
+                final ImmutableMap<String, AsnDataNode> componentTree =
+                        componentNodes.computeIfAbsent(
+                                name,
+                                n ->
+                                        AsnDataNode.buildTree(
+                                                this,
+                                                rootTag + "/" + n,
+                                                component.getMappedTags(this).allTags.keySet()));
+                return Optional.ofNullable(componentTree.get(tag));
+            }
+        }
+        return Optional.ofNullable(getNodes().get(tag));
+    }
+
     // -------------------------------------------------------------------------
     // PRIVATE
     // -------------------------------------------------------------------------
 
+    /**
+     * Returns the tree of all tags found in the data. The tree is built on first use and then
+     * retained, so that navigating between tags never requires scanning the tags again.
+     *
+     * @return all nodes in the tree. Map is of form: { tag => node }
+     */
+    private ImmutableMap<String, AsnDataNode> getNodes() {
+        ImmutableMap<String, AsnDataNode> result = nodes;
+        if (result == null) {
+            // benign race, the tree is immutable so at worst it is built more than once
+            result = AsnDataNode.buildTree(this, rootTag, getMappedTags().allTags.keySet());
+            nodes = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bytes of the specified INTEGER or ENUMERATED tag
+     *
+     * @param tag tag to retrieve the bytes of
+     * @return the bytes of the tag, or {@code null} if the tag is not a decoded tag in this data
+     * @throws DecodeException if the tag is not an INTEGER or ENUMERATED
+     */
+    private byte[] getIntegerBytes(final String tag) throws DecodeException {
+        final DecodedTag decodedTag = getMappedTags(tag).decodedTags.get(tag);
+        if (decodedTag == null) {
+            return null;
+        }
+
+        final AsnBuiltinType type = decodedTag.getType().getBuiltinType();
+        if (type != AsnBuiltinType.Integer && type != AsnBuiltinType.Enumerated) {
+            throw new DecodeException(
+                    "Tag " + tag + " is of type " + type + ", not INTEGER or ENUMERATED");
+        }
+        return getBytes(tag).orElse(null);
+    }
+
+    /**
+     * Returns all tags found in the data, mapping any top level components which have not been
+     * mapped yet
+     *
+     * @return all tags found in the data
+     */
+    private MappedTags getMappedTags() {
+        MappedTags result = mappedTags;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (this) {
+            if (mappedTags == null) {
+                final Map<String, byte[]> rawAsnDataBuilder = Maps.newLinkedHashMap();
+                final Map<String, DecodedTag> decodedToRawTags = Maps.newLinkedHashMap();
+                final Map<String, DecodedTag> unmappedTags = Maps.newLinkedHashMap();
+                for (Component component : components) {
+                    final MappedTags tags = component.getMappedTags(this);
+                    decodedToRawTags.putAll(tags.decodedTags);
+                    unmappedTags.putAll(tags.unmappedTags);
+                    rawAsnDataBuilder.putAll(tags.aliasedBytes);
+                }
+                mappedTags =
+                        new MappedTags(
+                                rawAsnData, rawAsnDataBuilder, decodedToRawTags, unmappedTags);
+            }
+            return mappedTags;
+        }
+    }
+
+    /**
+     * Returns the tags found in the data which include the specified tag (if it exists). If the
+     * instance is lazy, only the top level component of the data containing the tag is mapped.
+     *
+     * @param tag decoded tag to find
+     * @return tags found in the data which include the specified tag (if it exists)
+     */
+    private MappedTags getMappedTags(final String tag) {
+        final MappedTags result = mappedTags;
+        if (result != null) {
+            return result;
+        }
+
+        final Component component = getComponent(getComponentName(tag));
+        // tag may be a raw tag, or a tag within several components
+        return (component == null) ? getMappedTags() : component.getMappedTags(this);
+    }
+
+    /**
+     * Returns the tags found in the data which include all tags matching the specified regular
+     * expression. If the instance is lazy and the expression begins with the literal path of a
+     * top level component of the data (e.g. {@code /Document/body/.*}), only that component is
+     * mapped.
+     *
+     * @param regex regular expression to match tags against
+     * @return tags found in the data which include all tags matching the regular expression
+     */
+    private MappedTags getMappedTags(final Pattern regex) {
+        final MappedTags result = mappedTags;
+        if (result != null) {
+            return result;
+        }
+
+        // the name of the component is only known once it is followed by a '/'
+        final String prefix = getLiteralPrefix(regex);
+        final int end = prefix.indexOf('/', rootTag.length() + 1);
+        return (end < 0) ? getMappedTags() : getMappedTags(prefix.substring(0, end));
+    }
+
+    /**
+     * Returns the name of the top level component of the data the specified tag belongs to
+     *
+     * @param tag decoded tag, e.g. {@code /Document/body/content}
+     * @return the name of the top level component, e.g. {@code body}, or {@code null} if the tag
+     *     is not below the root tag
+     */
+    private String getComponentName(final String tag) {
+        final int start = rootTag.length() + 1;
+        if (tag == null
+                || tag.length() <= start
+                || !tag.startsWith(rootTag)
+                || tag.charAt(start - 1) != '/') {
+            return null;
+        }
+        final int end = tag.indexOf('/', start);
+        return tag.substring(start, (end < 0) ? tag.length() : end);
+    }
+
+    /**
+     * Returns the top level component of the data with the specified name, if it can be mapped on
+     * its own
+     *
+     * @param name name of the top level component, e.g. {@code body}
+     * @return the component, or {@code null} if the instance is not lazy, the name is {@code null}
+     *     or the name does not belong to exactly one component
+     */
+    private Component getComponent(final String name) {
+        if (components == null || name == null) {
+            return null;
+        }
+        final ImmutableList<Component> matching = componentsByName.get(name);
+        // components sharing a name share decoding state, so must be mapped together
+        return (matching.size() == 1) ? matching.get(0) : null;
+    }
+
+    /**
+     * Maps the supplied results of decoding raw data to the schema into tags
+     *
+     * @param rawAsnData the raw data which was decoded
+     * @param results the results of decoding the raw tags in the raw data
+     * @return the mapped tags
+     */
+    private MappedTags mapTags(
+            final RawAsnData rawAsnData,
+            final Iterable<OperationResult<DecodedTag, String>> results) {
+        // The RawAsnData is where we get the data (byte array) associated with a raw tag.
+        // Since INS-434 we are supporting "CONTAINS" constraints, that appear in the schema as
+        // an octet string, but we should treat as an aliased type.
+        // Our current mechanism for handling this is to extract the bytes of the octet string
+        // and parse it with our BER/DER parser.  This then produces a new RawAsnData that we
+        // slot in to the appropriate spot in the "tree".  We then perform the normal mapping
+        // of raw tags to the schema to produce decoded tags.
+        // Only the raw data found within aliased types is stored here, the original raw data is
+        // only copied if there is some.
+        final Map<String, byte[]> rawAsnDataBuilder = Maps.newLinkedHashMap();
+
+        // decode the tags in the data, use LinkedHashMap to preserve insertion order
+        final Map<String, DecodedTag> decodedToRawTags = Maps.newLinkedHashMap();
+        final Map<String, DecodedTag> unmappedTags = Maps.newLinkedHashMap();
+
+        recursiveDecode(
+                rawAsnData,
+                results,
+                rootTag,
+                "",
+                rawAsnDataBuilder,
+                decodedToRawTags,
+                unmappedTags);
+        return new MappedTags(rawAsnData, rawAsnDataBuilder, decodedToRawTags, unmappedTags);
+    }
+
+    /**
+     * Splits the supplied raw tags into the top level components of the data. Only the first
+     * segment of each raw tag is decoded, the remaining segments are decoded when the component
+     * is mapped.
+     *
+     * <p>Decoding a segment only depends on the segments previously decoded in the same context
+     * (decoded path). As the contexts below each top level component are distinct, the components
+     * can be mapped independently, as long as components which decode to the same name are mapped
+     * together and in order.
+     *
+     * @param rawTags raw tags found in the data (in data order)
+     * @param rootType the type the data should align to
+     * @return the top level components of the data (in data order)
+     */
+    private static ImmutableList<Component> getComponents(
+            final Iterable<String> rawTags, final AsnSchemaType rootType) {
+        final IncrementalDecoder decoder =
+                new IncrementalDecoder(rootType, new DecodingSessionImpl());
+        final Map<String, DecodingSession> sessions = Maps.newHashMap();
+        final ImmutableList.Builder<Component> result = ImmutableList.builder();
+
+        Component current = null;
+        String currentSegment = null;
+        for (final String rawTag : rawTags) {
+            final String segment = getFirstSegment(rawTag);
+            if (current != null && current.decoder != null && segment.equals(currentSegment)) {
+                // the decoder has already decoded the segment for the previous raw tag
+                current.rawTags.add(rawTag);
+                continue;
+            }
+
+            final OperationResult<DecodedTag, String> decodeResult =
+                    decoder.decodeFirstSegment(rawTag);
+            final String name = getFirstSegment(decodeResult.getOutput().getTag());
+            if (decodeResult.wasSuccessful()) {
+                final DecodingSession session =
+                        sessions.computeIfAbsent(name, n -> new DecodingSessionImpl());
+                current = new Component(name, decoder.copy(session));
+                current.rawTags.add(rawTag);
+                result.add(current);
+            } else {
+                // unmapped tags are fully decoded already, so group consecutive ones together
+                if (current == null || current.decoder != null) {
+                    current = new Component(null, null);
+                    result.add(current);
+                }
+                current.names.add(name);
+                current.results.add(decodeResult);
+            }
+            currentSegment = segment;
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the literal text which every string matching the supplied regular expression begins
+     * with
+     *
+     * @param regex regular expression to examine, e.g. {@code /Document/body/.*}
+     * @return the literal text, e.g. {@code /Document/body/}, or an empty string if there is none
+     */
+    private static String getLiteralPrefix(final Pattern regex) {
+        final String pattern = regex.pattern();
+        if (regex.flags() != 0 || pattern.indexOf('|') >= 0) {
+            // flags and alternatives change what the leading text matches
+            return "";
+        }
+
+        int end = 0;
+        while (end < pattern.length() && REGEX_METACHARACTERS.indexOf(pattern.charAt(end)) < 0) {
+            end++;
+        }
+        if (end > 0 && end < pattern.length() && "?*{".indexOf(pattern.charAt(end)) >= 0) {
+            // the quantifier makes the preceding character optional
+            end--;
+        }
+        return pattern.substring(0, end);
+    }
+
+    /**
+     * Returns the first non-empty segment of the supplied tag
+     *
+     * @param tag tag to get the first segment of, e.g. {@code /0[1]/0[0]}
+     * @return the first segment, e.g. {@code 0[1]}
+     */
+    private static String getFirstSegment(final String tag) {
+        int start = 0;
+        while (start < tag.length() && tag.charAt(start) == '/') {
+            start++;
+        }
+        final int end = tag.indexOf('/', start);
+        return tag.substring(start, (end < 0) ? tag.length() : end);
+    }
+
     /**
      * The process of Decoding is matching the raw data provided with the schema provided. This may
      * need to be recursive in the case of some schema constructs, eg:
@@ -316,7 +769,40 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
         // rawAsnDataBuilder, decodedToRawTags and unmappedTags
         final ImmutableSet<OperationResult<DecodedTag, String>> results =
                 Decoder.getDecodedTags(rawAsnData.getRawTags(), rootType);
+        recursiveDecode(
+                rawAsnData,
+                results,
+                decodedPrefix,
+                rawPrefix,
+                rawAsnDataBuilder,
+                decodedToRawTags,
+                unmappedTags);
+    }
 
+    /**
+     * Matches up the results of decoding raw data against the schema, recursing into any "aliased"
+     * types found (see {@link #recursiveDecode(RawAsnData, AsnSchemaType, String, String, Map,
+     * Map, Map)}).
+     *
+     * @param rawAsnData the raw data from (BER) parsing of the binary that was decoded
+     * @param results the results of decoding the raw tags in the raw data
+     * @param decodedPrefix any prefix that should be applied to decoded tags to "fully qualify"
+     *     them
+     * @param rawPrefix any prefix that should be applied to raw tags to "fully qualify" them
+     * @param rawAsnDataBuilder [OUTPUT] the existing mapping of raw tag to bytes, that will be
+     *     appended to
+     * @param decodedToRawTags [OUTPUT] the existing mapping of decoded to raw tags, that will be
+     *     appended to
+     * @param unmappedTags [OUTPUT] the existing mapping of unmapped tags, that will be appended to
+     */
+    private void recursiveDecode(
+            final RawAsnData rawAsnData,
+            final Iterable<OperationResult<DecodedTag, String>> results,
+            final String decodedPrefix,
+            final String rawPrefix,
+            final Map<String, byte[]> rawAsnDataBuilder,
+            final Map<String, DecodedTag> decodedToRawTags,
+            final Map<String, DecodedTag> unmappedTags) {
         for (final OperationResult<DecodedTag, String> decodeResult : results) {
             final DecodedTag decodedTag = decodeResult.getOutput();
 
@@ -406,4 +892,231 @@ public class AsantiAsnDataImpl implements AsantiAsnData {
             logger.error("Exception while processing aliased type at {}", parentTag.getTag(), e);
         }
     }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Builder
+    // -------------------------------------------------------------------------
+
+    /** Builder for creating instances of {@link AsantiAsnDataImpl} */
+    public static class Builder {
+        /** data to decode */
+        private final RawAsnData rawAsnData;
+
+        /** schema to use to decode data */
+        private final AsnSchema asnSchema;
+
+        /** the name of the top level type from which to begin decoding */
+        private final String topLevelTypeName;
+
+        /** whether to map the raw tags on first access rather than immediately */
+        private boolean isLazy = false;
+
+        /** whether to retain the values decoded from tags */
+        private boolean isCachingDecodedValues = false;
+
+        /** whether the data has already been validated */
+        private boolean isTrusted = false;
+
+        /**
+         * Default constructor
+         *
+         * @param rawAsnData data to decode
+         * @param asnSchema schema to use to decode data
+         * @param topLevelTypeName the name of the top level type from which to begin decoding
+         */
+        private Builder(RawAsnData rawAsnData, AsnSchema asnSchema, String topLevelTypeName) {
+            this.rawAsnData = rawAsnData;
+            this.asnSchema = asnSchema;
+            this.topLevelTypeName = topLevelTypeName;
+        }
+
+        /**
+         * Sets whether the raw tags of each top level component of the data are only mapped to the
+         * schema the first time a tag within the component is accessed. Defaults to {@code false}.
+         *
+         * @param isLazy whether to map the raw tags on first access rather than immediately
+         * @return this builder
+         */
+        @CanIgnoreReturnValue
+        public Builder setLazy(boolean isLazy) {
+            this.isLazy = isLazy;
+            return this;
+        }
+
+        /**
+         * Sets whether the values returned by {@link AsantiAsnDataImpl#getDecodedObject(String,
+         * Class)} and {@link AsantiAsnDataImpl#getPrintableString(String)} are retained and
+         * returned by later calls for the same tag. Defaults to {@code false}.
+         *
+         * <p>Retained values are shared between callers, so any mutable values (e.g. the {@code
+         * byte[]} decoded from an OCTET STRING) must not be modified.
+         *
+         * @param isCachingDecodedValues whether to retain the values decoded from tags
+         * @return this builder
+         */
+        @CanIgnoreReturnValue
+        public Builder setCachingDecodedValues(boolean isCachingDecodedValues) {
+            this.isCachingDecodedValues = isCachingDecodedValues;
+            return this;
+        }
+
+        /**
+         * Sets whether the data has already passed validation (e.g. via {@link
+         * com.brightsparklabs.asanti.validator.Validator#validate}), in which case values are
+         * decoded without re-validating their bytes. Defaults to {@code false}.
+         *
+         * <p>This must only be set for validated data, the values decoded from invalid data are
+         * undefined.
+         *
+         * @param isTrusted whether the data has already been validated
+         * @return this builder
+         */
+        @CanIgnoreReturnValue
+        public Builder setTrusted(boolean isTrusted) {
+            this.isTrusted = isTrusted;
+            return this;
+        }
+
+        /**
+         * Creates an instance from the settings of this builder
+         *
+         * @return the decoded data
+         * @throws NullPointerException if any of the data, schema or type name are {@code null}
+         * @throws IllegalArgumentException if the type name is blank
+         */
+        public AsantiAsnDataImpl build() {
+            return new AsantiAsnDataImpl(
+                    rawAsnData,
+                    asnSchema,
+                    topLevelTypeName,
+                    isLazy,
+                    isCachingDecodedValues,
+                    isTrusted);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: MappedTags
+    // -------------------------------------------------------------------------
+
+    /** The tags found in (part of) the data, along with the raw data they refer to */
+    private static class MappedTags {
+        /** the raw data, including any raw data parsed from aliased types */
+        private final RawAsnData rawAsnData;
+
+        /** the raw data parsed from aliased types. Map is of form: { rawTag => bytes } */
+        private final ImmutableMap<String, byte[]> aliasedBytes;
+
+        /** all tags which could be decoded. Map is of form: { decodedTagString => decodedTag } */
+        private final ImmutableMap<String, DecodedTag> decodedTags;
+
+        /**
+         * all tags which could not be decoded. Map is of form: { decodedTagString => decodedTag }
+         */
+        private final ImmutableMap<String, DecodedTag> unmappedTags;
+
+        /**
+         * all tags (decoded and unmapped) found in the data. Map is of form: { decodedTagString =>
+         * decodedTag }
+         */
+        private final ImmutableMap<String, DecodedTag> allTags;
+
+        /**
+         * Default constructor
+         *
+         * @param rawAsnData the raw data which was decoded
+         * @param aliasedBytes the raw data parsed from aliased types
+         * @param decodedTags all tags which could be decoded
+         * @param unmappedTags all tags which could not be decoded
+         */
+        private MappedTags(
+                RawAsnData rawAsnData,
+                Map<String, byte[]> aliasedBytes,
+                Map<String, DecodedTag> decodedTags,
+                Map<String, DecodedTag> unmappedTags) {
+            if (aliasedBytes.isEmpty()) {
+                this.rawAsnData = rawAsnData;
+            } else {
+                final Map<String, byte[]> allRawAsnData = Maps.newLinkedHashMap();
+                allRawAsnData.putAll(rawAsnData.getBytes());
+                allRawAsnData.putAll(aliasedBytes);
+                this.rawAsnData = new RawAsnDataImpl(allRawAsnData);
+            }
+            this.aliasedBytes = ImmutableMap.copyOf(aliasedBytes);
+            this.decodedTags = ImmutableMap.copyOf(decodedTags);
+            this.unmappedTags = ImmutableMap.copyOf(unmappedTags);
+            this.allTags =
+                    ImmutableMap.<String, DecodedTag>builder()
+                            .putAll(decodedTags)
+                            .putAll(unmappedTags)
+                            .build();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Component
+    // -------------------------------------------------------------------------
+
+    /** A top level component of the data (e.g. {@code /Document/body}) which is mapped lazily */
+    private static class Component {
+        /** the first component of the decoded tags within this component (e.g. {@code body}) */
+        private final Set<String> names = Sets.newLinkedHashSet();
+
+        /**
+         * decoder primed with the first segment of the raw tags, or {@code null} if the first
+         * segment could not be decoded
+         */
+        private final IncrementalDecoder decoder;
+
+        /** the raw tags within this component which still need to be decoded */
+        private final List<String> rawTags = Lists.newArrayList();
+
+        /** the results of decoding the raw tags within this component */
+        private final List<OperationResult<DecodedTag, String>> results = Lists.newArrayList();
+
+        /** the tags within this component, or {@code null} if not yet mapped */
+        private volatile MappedTags mappedTags;
+
+        /**
+         * Default constructor
+         *
+         * @param name the first component of the decoded tags within this component, or {@code
+         *     null} if the first segment could not be decoded
+         * @param decoder decoder primed with the first segment of the raw tags, or {@code null}
+         *     if the first segment could not be decoded
+         */
+        private Component(String name, IncrementalDecoder decoder) {
+            if (name != null) {
+                names.add(name);
+            }
+            this.decoder = decoder;
+        }
+
+        /**
+         * Returns the tags within this component, mapping them on first use
+         *
+         * @param asnData the data this component belongs to
+         * @return the tags within this component
+         */
+        private MappedTags getMappedTags(AsantiAsnDataImpl asnData) {
+            MappedTags result = mappedTags;
+            if (result != null) {
+                return result;
+            }
+
+            synchronized (this) {
+                if (mappedTags == null) {
+                    if (decoder != null) {
+                        for (String rawTag : rawTags) {
+                            results.add(decoder.decode(rawTag));
+                        }
+                        rawTags.clear();
+                    }
+                    mappedTags = asnData.mapTags(asnData.rawAsnData, results);
+                    results.clear();
+                }
+                return mappedTags;
+            }
+        }
+    }
 }
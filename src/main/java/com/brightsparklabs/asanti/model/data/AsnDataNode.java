@@ -0,0 +1,312 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import com.brightsparklabs.asanti.exception.DecodeException;
+import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A node in the tree of tags found in {@link AsantiAsnData}. Each node represents a single
+ * component of a decoded tag (e.g. the tag {@code /Document/body/content} produces the nodes
+ * {@code Document}, {@code body} and {@code content}), allowing the data to be walked without
+ * manipulating tag strings.
+ *
+ * <p>Nodes which do not directly correspond to a tag in the data (e.g. constructed types) have no
+ * value of their own, but still provide their type and children.
+ *
+ * <p>Instances are immutable and can be safely shared between threads.
+ *
+ * @author brightSPARK Labs
+ */
+public final class AsnDataNode {
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** the data this node belongs to */
+    private final AsantiAsnData asnData;
+
+    /** name of this node (i.e. the last component of its tag) */
+    private final String name;
+
+    /** the decoded tag this node represents */
+    private final String tag;
+
+    /** the tag in the data containing the value of this node, or {@code null} if none */
+    private final String valueTag;
+
+    /** the parent of this node, or {@code null} if this is the root */
+    private final AsnDataNode parent;
+
+    /** the children of this node. Map is of form: { name => node } (in data order) */
+    private final ImmutableMap<String, AsnDataNode> children;
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates the node described by the supplied builder, along with all its descendants
+     *
+     * @param asnData the data the node belongs to
+     * @param builder builder describing the node
+     * @param parent the parent of the node, or {@code null} if this is the root
+     * @param nodesByTag [OUTPUT] the node and its descendants are added to this map, keyed by tag
+     */
+    private AsnDataNode(
+            AsantiAsnData asnData,
+            Builder builder,
+            AsnDataNode parent,
+            ImmutableMap.Builder<String, AsnDataNode> nodesByTag) {
+        this.asnData = asnData;
+        this.name = builder.name;
+        this.tag = builder.tag;
+        this.valueTag = builder.valueTag;
+        this.parent = parent;
+        nodesByTag.put(tag, this);
+
+        final ImmutableMap.Builder<String, AsnDataNode> childNodes =
+                ImmutableMap.builderWithExpectedSize(builder.children.size());
+        for (Builder child : builder.children.values()) {
+            childNodes.put(child.name, new AsnDataNode(asnData, child, this, nodesByTag));
+        }
+        this.children = childNodes.build();
+    }
+
+    /**
+     * Builds the tree of nodes for the supplied tags
+     *
+     * @param asnData the data the tags belong to
+     * @param rootTag the tag of the top level type (e.g. {@code /Document})
+     * @param tags the tags (decoded and unmapped) found in the data. Tags which are not below the
+     *     root tag are ignored.
+     * @return all nodes in the tree. Map is of form: { tag => node }. The first entry is the root.
+     */
+    static ImmutableMap<String, AsnDataNode> buildTree(
+            AsantiAsnData asnData, String rootTag, Iterable<String> tags) {
+        final Builder root = new Builder(rootTag.substring(rootTag.lastIndexOf('/') + 1), rootTag);
+        for (String tag : tags) {
+            if (!tag.startsWith(rootTag)
+                    || (tag.length() > rootTag.length() && tag.charAt(rootTag.length()) != '/')) {
+                continue;
+            }
+
+            Builder node = root;
+            int start = rootTag.length();
+            while (start < tag.length()) {
+                int end = tag.indexOf('/', start + 1);
+                end = (end < 0) ? tag.length() : end;
+                if (end > start + 1) {
+                    node = node.getChild(tag.substring(start + 1, end));
+                }
+                start = end;
+            }
+            if (node.valueTag == null) {
+                node.valueTag = tag;
+            }
+        }
+
+        final ImmutableMap.Builder<String, AsnDataNode> nodesByTag = ImmutableMap.builder();
+        new AsnDataNode(asnData, root, null, nodesByTag);
+        return nodesByTag.build();
+    }
+
+    /**
+     * Builds the tree of nodes for all the tags (decoded and unmapped) in the supplied data. The
+     * top level type is taken from the first tag in the data.
+     *
+     * @param asnData the data to build the tree for
+     * @return all nodes in the tree. Map is of form: { tag => node }. The first entry is the root.
+     */
+    static ImmutableMap<String, AsnDataNode> buildTree(AsantiAsnData asnData) {
+        final Iterable<String> tags =
+                Iterables.concat(asnData.getTags(), asnData.getUnmappedTags());
+        final String firstTag = Iterables.getFirst(tags, "");
+        final int end = firstTag.indexOf('/', 1);
+        final String rootTag = (end < 0) ? firstTag : firstTag.substring(0, end);
+        return buildTree(asnData, rootTag, tags);
+    }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the name of this node, i.e. the last component of its tag (including any index). E.g.
+     * {@code authors[0]} for the tag {@code /Document/footer/authors[0]}.
+     *
+     * @return the name of this node
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the decoded tag this node represents
+     *
+     * @return the tag of this node
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the parent of this node
+     *
+     * @return the parent of this node, or {@link Optional#empty()} if this is the root
+     */
+    public Optional<AsnDataNode> getParent() {
+        if (parent != null) {
+            return Optional.of(parent);
+        }
+        // the node may be the root of the tree of a single component of lazily mapped data
+        final int end = tag.lastIndexOf('/');
+        return (end > 0) ? asnData.getNode(tag.substring(0, end)) : Optional.empty();
+    }
+
+    /**
+     * Returns the children of this node
+     *
+     * @return the children of this node (in data order)
+     */
+    public ImmutableList<AsnDataNode> getChildren() {
+        return children.values().asList();
+    }
+
+    /**
+     * Returns the child of this node with the specified name
+     *
+     * @param childName name of the child (including any index, e.g. {@code authors[0]})
+     * @return the child, or {@link Optional#empty()} if this node has no such child
+     */
+    public Optional<AsnDataNode> getChild(String childName) {
+        return Optional.ofNullable(children.get(childName));
+    }
+
+    /**
+     * Returns whether this node has no children
+     *
+     * @return {@code true} if this node has no children
+     */
+    public boolean isLeaf() {
+        return children.isEmpty();
+    }
+
+    /**
+     * Returns whether a tag in the data contains the value of this node
+     *
+     * @return {@code true} if this node has a value
+     */
+    public boolean hasValue() {
+        return valueTag != null;
+    }
+
+    /**
+     * Returns the ASN.1 Type of this node
+     *
+     * @return the type of this node, or {@link Optional#empty()} if the node could not be mapped
+     *     to the schema
+     */
+    public Optional<AsnSchemaType> getType() {
+        return asnData.getType(tag);
+    }
+
+    /**
+     * Returns the bytes of the value of this node
+     *
+     * @return the bytes of the value, or {@link Optional#empty()} if this node has no value
+     */
+    public Optional<byte[]> getBytes() {
+        return hasValue() ? asnData.getBytes(valueTag) : Optional.empty();
+    }
+
+    /**
+     * Returns the value of this node as a hex string
+     *
+     * @return the value as a hex string, or {@link Optional#empty()} if this node has no value
+     */
+    public Optional<String> getHexString() {
+        return hasValue() ? asnData.getHexString(valueTag) : Optional.empty();
+    }
+
+    /**
+     * Returns the value of this node as a printable string
+     *
+     * @return the value as a printable string, or {@link Optional#empty()} if this node has no
+     *     value or could not be mapped to the schema
+     * @throws DecodeException if any errors occur decoding the value
+     */
+    public Optional<String> getPrintableString() throws DecodeException {
+        return hasValue() ? asnData.getPrintableString(valueTag) : Optional.empty();
+    }
+
+    /**
+     * Returns the value of this node decoded as per its ASN.1 Type
+     *
+     * @param classOfT the expected class of the decoded value
+     * @param <T> the expected type of the decoded value
+     * @return the decoded value, or {@link Optional#empty()} if this node has no value or could
+     *     not be mapped to the schema
+     * @throws DecodeException if any errors occur decoding the value
+     * @throws ClassCastException if the decoded value is not of the expected class
+     */
+    public <T> Optional<T> getDecodedObject(Class<T> classOfT) throws DecodeException {
+        return hasValue() ? asnData.getDecodedObject(valueTag, classOfT) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return tag;
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Builder
+    // -------------------------------------------------------------------------
+
+    /** Mutable node used while building the tree */
+    private static class Builder {
+        /** name of the node */
+        private final String name;
+
+        /** tag of the node */
+        private final String tag;
+
+        /** the tag in the data containing the value of the node, or {@code null} if none */
+        private String valueTag;
+
+        /** the children of the node. Map is of form: { name => node } (in data order) */
+        private final Map<String, Builder> children = Maps.newLinkedHashMap();
+
+        /**
+         * Default constructor
+         *
+         * @param name name of the node
+         * @param tag tag of the node
+         */
+        private Builder(String name, String tag) {
+            this.name = name;
+            this.tag = tag;
+        }
+
+        /**
+         * Returns the child with the specified name, creating it if necessary
+         *
+         * @param childName name of the child
+         * @return the child
+         */
+        private Builder getChild(String childName) {
+            return children.computeIfAbsent(childName, n -> new Builder(n, tag + "/" + n));
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import static com.google.common.base.Preconditions.*;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Memory efficient implementation of {@link RawAsnData}.
+ *
+ * <p>Rather than storing a separate byte array per tag, the bytes of the PDU are retained in a
+ * single buffer which is indexed by a primitive array of (offset, length) pairs. Byte arrays are
+ * only created when the bytes of a tag are requested.
+ *
+ * @author brightSPARK Labs
+ */
+public class CompactRawAsnDataImpl implements RawAsnData {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** number of ints used by each entry in {@link #index} */
+    private static final int ENTRY_SIZE = 2;
+
+    /** offset of the value offset within an entry in {@link #index} */
+    private static final int ENTRY_OFFSET = 0;
+
+    /** offset of the value length within an entry in {@link #index} */
+    private static final int ENTRY_LENGTH = 1;
+
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** buffer containing the bytes of the PDU */
+    private final ByteBuffer buffer;
+
+    /** the raw tags in the data (in input order). The index of a tag is its tag id. */
+    private final String[] tags;
+
+    /**
+     * (offset, length) pairs of the values, ordered by tag id. A negative offset refers to a value
+     * stored in {@link #detachedValues} rather than {@link #buffer}.
+     */
+    private final int[] index;
+
+    /** values which are not contiguous within the buffer (e.g. segmented strings) */
+    private final byte[][] detachedValues;
+
+    /**
+     * open addressing hash table of tag ids (plus one, so that zero denotes an empty slot). The
+     * length is always a power of two.
+     */
+    private final int[] hashTable;
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Private constructor. Use {@link #builder(ByteBuffer)} to create instances.
+     *
+     * @param builder builder to create instance from
+     */
+    private CompactRawAsnDataImpl(Builder builder) {
+        this.buffer = builder.buffer;
+        this.tags = Arrays.copyOf(builder.tags, builder.size);
+        this.index = Arrays.copyOf(builder.index, builder.size * ENTRY_SIZE);
+        this.detachedValues = Arrays.copyOf(builder.detachedValues, builder.detachedSize);
+        this.hashTable = builder.hashTable.clone();
+    }
+
+    /**
+     * Creates a builder for an instance backed by the supplied buffer
+     *
+     * @param buffer buffer containing the bytes of the PDU. The offsets supplied to the builder are
+     *     absolute offsets within this buffer. The buffer must not be modified once supplied.
+     * @return a builder for creating instances
+     * @throws NullPointerException if buffer is {@code null}
+     */
+    public static Builder builder(ByteBuffer buffer) {
+        return new Builder(checkNotNull(buffer));
+    }
+
+    // -------------------------------------------------------------------------
+    // IMPLEMENTATION: RawAsnData
+    // -------------------------------------------------------------------------
+
+    @Override
+    public boolean contains(final String tag) {
+        return findTagId(tag) >= 0;
+    }
+
+    @Override
+    public boolean contains(final Pattern regex) {
+        if (regex == null) {
+            return false;
+        }
+
+        for (final String tag : tags) {
+            if (regex.matcher(tag).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ImmutableSet<String> getRawTags() {
+        return ImmutableSet.copyOf(tags);
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(String rawTag) {
+        final int tagId = findTagId(rawTag);
+        return (tagId < 0) ? Optional.empty() : Optional.of(getValue(tagId));
+    }
+
+    @Override
+    public ImmutableMap<String, byte[]> getBytes() {
+        final ImmutableMap.Builder<String, byte[]> result =
+                ImmutableMap.builderWithExpectedSize(tags.length);
+        for (int tagId = 0; tagId < tags.length; tagId++) {
+            result.put(tags[tagId], getValue(tagId));
+        }
+        return result.build();
+    }
+
+    @Override
+    public ImmutableMap<String, byte[]> getBytesMatching(final Pattern regex) {
+        if (regex == null) {
+            return ImmutableMap.of();
+        }
+
+        final ImmutableMap.Builder<String, byte[]> result = ImmutableMap.builder();
+        for (int tagId = 0; tagId < tags.length; tagId++) {
+            if (regex.matcher(tags[tagId]).matches()) {
+                result.put(tags[tagId], getValue(tagId));
+            }
+        }
+        return result.build();
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a copy of the value associated with the specified tag
+     *
+     * @param tagId id of the tag
+     * @return a copy of the value
+     */
+    private byte[] getValue(int tagId) {
+        final int entry = tagId * ENTRY_SIZE;
+        final int offset = index[entry + ENTRY_OFFSET];
+        if (offset < 0) {
+            return detachedValues[-offset - 1].clone();
+        }
+        final byte[] value = new byte[index[entry + ENTRY_LENGTH]];
+        buffer.get(offset, value);
+        return value;
+    }
+
+    /**
+     * Returns the id of the specified tag
+     *
+     * @param tag tag to look up
+     * @return id of the tag, or {@code -1} if the tag is not present
+     */
+    private int findTagId(String tag) {
+        if (tag == null) {
+            return -1;
+        }
+        final int result = lookup(hashTable, tags, tag);
+        return (result < 0) ? -1 : result;
+    }
+
+    /**
+     * Looks up a tag in an open addressing hash table of tag ids
+     *
+     * @param hashTable hash table to search. Each slot contains a tag id plus one, or zero if the
+     *     slot is empty.
+     * @param tags tags referred to by the tag ids
+     * @param tag tag to look up
+     * @return the id of the tag if present, otherwise {@code -(slot + 1)} where slot is the empty
+     *     slot the tag would be stored in
+     */
+    private static int lookup(int[] hashTable, String[] tags, String tag) {
+        final int mask = hashTable.length - 1;
+        for (int slot = spread(tag.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            final int entry = hashTable[slot];
+            if (entry == 0) {
+                return -(slot + 1);
+            }
+            final String candidate = tags[entry - 1];
+            // tags are typically shared instances, so check identity before equality
+            if (candidate == tag || candidate.equals(tag)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Spreads the bits of a hash code so that the low bits used to select a hash table slot are
+     * well distributed
+     *
+     * @param hashCode hash code to spread
+     * @return the spread hash code
+     */
+    private static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Builder
+    // -------------------------------------------------------------------------
+
+    /**
+     * Builder for creating instances of {@link CompactRawAsnDataImpl}. Tags are retained in the
+     * order they are first added. Adding a tag which has already been added replaces its value.
+     */
+    public static class Builder {
+        /** buffer containing the bytes of the PDU */
+        private final ByteBuffer buffer;
+
+        /** the raw tags added (in input order) */
+        private String[] tags = new String[16];
+
+        /** (offset, length) pairs of the tags added, ordered by tag id */
+        private int[] index = new int[16 * ENTRY_SIZE];
+
+        /** values added which are not contiguous within the buffer */
+        private byte[][] detachedValues = new byte[0][];
+
+        /** number of tags added */
+        private int size = 0;
+
+        /** number of detached values added */
+        private int detachedSize = 0;
+
+        /** open addressing hash table of the ids of the tags added */
+        private int[] hashTable = new int[32];
+
+        /**
+         * Default constructor
+         *
+         * @param buffer buffer containing the bytes of the PDU
+         */
+        private Builder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Adds a tag whose value is contained within the buffer
+         *
+         * @param rawTag raw tag
+         * @param offset absolute offset of the value within the buffer
+         * @param length length of the value
+         * @return this builder
+         * @throws NullPointerException if rawTag is {@code null}
+         * @throws IndexOutOfBoundsException if the value is not within the buffer
+         */
+        @CanIgnoreReturnValue
+        public Builder put(String rawTag, int offset, int length) {
+            checkNotNull(rawTag);
+            checkPositionIndexes(offset, offset + length, buffer.capacity());
+            setEntry(rawTag, offset, length);
+            return this;
+        }
+
+        /**
+         * Adds a tag whose value is not contiguous within the buffer
+         *
+         * @param rawTag raw tag
+         * @param value value of the tag
+         * @return this builder
+         * @throws NullPointerException if either parameter is {@code null}
+         */
+        @CanIgnoreReturnValue
+        public Builder put(String rawTag, byte[] value) {
+            checkNotNull(rawTag);
+            checkNotNull(value);
+            if (detachedSize == detachedValues.length) {
+                detachedValues = Arrays.copyOf(detachedValues, Math.max(4, detachedSize * 2));
+            }
+            detachedValues[detachedSize++] = value;
+            setEntry(rawTag, -detachedSize, value.length);
+            return this;
+        }
+
+        /**
+         * Creates an instance from the tags added to this builder
+         *
+         * @return an instance containing the tags added
+         */
+        public CompactRawAsnDataImpl build() {
+            return new CompactRawAsnDataImpl(this);
+        }
+
+        /**
+         * Stores the entry for the specified tag
+         *
+         * @param rawTag raw tag
+         * @param offset offset of the value
+         * @param length length of the value
+         */
+        private void setEntry(String rawTag, int offset, int length) {
+            int tagId = lookup(hashTable, tags, rawTag);
+            if (tagId < 0) {
+                if (size == tags.length) {
+                    tags = Arrays.copyOf(tags, size * 2);
+                    index = Arrays.copyOf(index, size * 2 * ENTRY_SIZE);
+                }
+                tagId = size++;
+                tags[tagId] = rawTag;
+
+                // keep the load factor of the hash table at or below 0.5
+                if (size * 2 > hashTable.length) {
+                    rehash(hashTable.length * 2);
+                } else {
+                    hashTable[-lookup(hashTable, tags, rawTag) - 1] = tagId + 1;
+                }
+            }
+
+            final int entry = tagId * ENTRY_SIZE;
+            index[entry + ENTRY_OFFSET] = offset;
+            index[entry + ENTRY_LENGTH] = length;
+        }
+
+        /**
+         * Rebuilds the hash table with the specified capacity
+         *
+         * @param capacity new capacity of the hash table (must be a power of two)
+         */
+        private void rehash(int capacity) {
+            hashTable = new int[capacity];
+            for (int tagId = 0; tagId < size; tagId++) {
+                hashTable[-lookup(hashTable, tags, tags[tagId]) - 1] = tagId + 1;
+            }
+        }
+    }
+}
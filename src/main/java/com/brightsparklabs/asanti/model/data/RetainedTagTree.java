@@ -0,0 +1,21 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+/**
+ * Marker interface for {@link AsantiAsnData} implementations which build their tree of tags once
+ * and retain it, so that {@link AsantiAsnData#getRootNode()} and {@link
+ * AsantiAsnData#getNode(String)} are cheap to call repeatedly.
+ *
+ * <p>The default implementations of those methods build the whole tree on each call. Code which
+ * walks the data one tag at a time (e.g. validation) should only do so via the tree for data
+ * which implements this interface, and index the tags itself otherwise.
+ *
+ * @author brightSPARK Labs
+ */
+public interface RetainedTagTree {}
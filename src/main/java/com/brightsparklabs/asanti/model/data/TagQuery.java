@@ -0,0 +1,469 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import static com.google.common.base.Preconditions.*;
+
+import com.brightsparklabs.asanti.exception.DecodeException;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A compiled query which selects tags from {@link AsantiAsnData} by walking its tree of tags (see
+ * {@link AsantiAsnData#getRootNode()}) rather than matching every tag against a regular
+ * expression.
+ *
+ * <p>A query is a slash separated path of the decoded names to select, e.g. {@code
+ * /Document/footer/authors[*]/firstName}. Each component of the path is one of:
+ *
+ * <ul>
+ *   <li>a name, optionally followed by one or more indices, e.g. {@code body} or {@code
+ *       authors[0]}. The name and each index may be {@code *} to match any name or index, e.g.
+ *       {@code authors[*]}.
+ *   <li>{@code *} to match any single component (with or without indices)
+ *   <li>{@code **} to match any number (including zero) of components
+ * </ul>
+ *
+ * <p>Components without wildcards are resolved by direct lookup of the child, so the cost of a
+ * query is proportional to the number of tags it visits rather than the number of tags in the
+ * data. The leading components without wildcards are resolved via {@link
+ * AsantiAsnData#getNode(String)}, so lazily mapped data (see {@link
+ * AsantiAsnDataImpl#createLazyInstance}) only maps the top level component the query selects from.
+ * Queries which begin with a wildcard (e.g. {@code /**}) start from {@link
+ * AsantiAsnData#getRootNode()} and map all the data.
+ *
+ * <p>Instances are immutable and can be safely shared between threads, so queries should be
+ * compiled once and reused.
+ *
+ * @author brightSPARK Labs
+ */
+public final class TagQuery {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** wildcard used in a query */
+    private static final String WILDCARD = "*";
+
+    /** component which matches any number of components in a query */
+    private static final String ANY_DEPTH = "**";
+
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** the query this instance was compiled from */
+    private final String query;
+
+    /** the compiled components of the query */
+    private final Component[] components;
+
+    /** whether a node may be reached more than once for the same component while matching */
+    private final boolean mayRevisit;
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Private constructor. Use {@link #compile(String)} to create instances.
+     *
+     * @param query the query this instance was compiled from
+     * @param components the compiled components of the query
+     */
+    private TagQuery(String query, Component[] components) {
+        this.query = query;
+        this.components = components;
+
+        int anyDepthCount = 0;
+        for (Component component : components) {
+            anyDepthCount += component.isAnyDepth ? 1 : 0;
+        }
+        this.mayRevisit = anyDepthCount > 1;
+    }
+
+    /**
+     * Compiles the supplied query
+     *
+     * @param query query to compile, e.g. {@code /Document/footer/authors[*]/firstName}
+     * @return the compiled query
+     * @throws NullPointerException if query is {@code null}
+     * @throws IllegalArgumentException if query is not a valid query
+     */
+    public static TagQuery compile(String query) {
+        checkNotNull(query);
+        checkArgument(
+                query.startsWith("/") && query.length() > 1,
+                "Query must begin with '/' and contain at least one component: %s",
+                query);
+
+        final String[] parts = query.substring(1).split("/", -1);
+        final Component[] components = new Component[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            components[i] = Component.parse(parts[i], query);
+        }
+        return new TagQuery(query, components);
+    }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the nodes in the supplied data which match this query. This includes nodes which do
+     * not directly contain a value (e.g. constructed types).
+     *
+     * @param asnData data to query
+     * @return the matching nodes
+     * @throws NullPointerException if asnData is {@code null}
+     */
+    public ImmutableSet<AsnDataNode> getNodes(AsantiAsnData asnData) {
+        checkNotNull(asnData);
+        final Set<AsnDataNode> result = Sets.newLinkedHashSet();
+        final Map<AsnDataNode, BitSet> visited = mayRevisit ? Maps.newIdentityHashMap() : null;
+
+        // look up the node matching the leading components without wildcards
+        final StringBuilder tag = new StringBuilder();
+        int index = 0;
+        while (index < components.length && components[index].literal != null) {
+            tag.append('/').append(components[index].literal);
+            index++;
+        }
+
+        if (index > 0) {
+            final int next = index;
+            asnData.getNode(tag.toString()).ifPresent(node -> collect(node, next, result, visited));
+        } else {
+            final AsnDataNode root = asnData.getRootNode();
+            if (components[0].isAnyDepth) {
+                collectAnyDepth(root, 0, result, visited);
+            } else if (components[0].matches(root.getName())) {
+                collect(root, 1, result, visited);
+            }
+        }
+        return ImmutableSet.copyOf(result);
+    }
+
+    /**
+     * Returns the tags in the supplied data which match this query. Only tags which contain a
+     * value are returned (i.e. the same tags as {@link AsantiAsnData#getTagsMatching}).
+     *
+     * @param asnData data to query
+     * @return the matching tags
+     * @throws NullPointerException if asnData is {@code null}
+     */
+    public ImmutableSet<String> getTags(AsantiAsnData asnData) {
+        final ImmutableSet.Builder<String> result = ImmutableSet.builder();
+        for (AsnDataNode node : getNodes(asnData)) {
+            if (node.hasValue()) {
+                result.add(node.getTag());
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the bytes of the tags in the supplied data which match this query
+     *
+     * @param asnData data to query
+     * @return the bytes of the matching tags. Map is of form: { tag => bytes }
+     * @throws NullPointerException if asnData is {@code null}
+     */
+    public ImmutableMap<String, byte[]> getBytes(AsantiAsnData asnData) {
+        final ImmutableMap.Builder<String, byte[]> result = ImmutableMap.builder();
+        for (AsnDataNode node : getNodes(asnData)) {
+            node.getBytes().ifPresent(bytes -> result.put(node.getTag(), bytes));
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the bytes of the tags in the supplied data which match this query as hex strings
+     *
+     * @param asnData data to query
+     * @return the hex strings of the matching tags. Map is of form: { tag => hex string }
+     * @throws NullPointerException if asnData is {@code null}
+     */
+    public ImmutableMap<String, String> getHexStrings(AsantiAsnData asnData) {
+        final ImmutableMap.Builder<String, String> result = ImmutableMap.builder();
+        for (AsnDataNode node : getNodes(asnData)) {
+            node.getHexString().ifPresent(hex -> result.put(node.getTag(), hex));
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the printable strings of the tags in the supplied data which match this query
+     *
+     * @param asnData data to query
+     * @return the printable strings of the matching tags. Map is of form: { tag => string }
+     * @throws NullPointerException if asnData is {@code null}
+     * @throws DecodeException if any errors occur decoding the data associated with the tags
+     */
+    public ImmutableMap<String, String> getPrintableStrings(AsantiAsnData asnData)
+            throws DecodeException {
+        final ImmutableMap.Builder<String, String> result = ImmutableMap.builder();
+        for (AsnDataNode node : getNodes(asnData)) {
+            final Optional<String> value = node.getPrintableString();
+            if (value.isPresent()) {
+                result.put(node.getTag(), value.get());
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the decoded objects of the tags in the supplied data which match this query
+     *
+     * @param asnData data to query
+     * @return the decoded objects of the matching tags. Map is of form: { tag => object }
+     * @throws NullPointerException if asnData is {@code null}
+     * @throws DecodeException if any errors occur decoding the data associated with the tags
+     */
+    public ImmutableMap<String, Object> getDecodedObjects(AsantiAsnData asnData)
+            throws DecodeException {
+        final ImmutableMap.Builder<String, Object> result = ImmutableMap.builder();
+        for (AsnDataNode node : getNodes(asnData)) {
+            final Optional<Object> value = node.getDecodedObject(Object.class);
+            if (value.isPresent()) {
+                result.put(node.getTag(), value.get());
+            }
+        }
+        return result.build();
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Collects the nodes matching this query, given that the supplied node has matched all
+     * components before the specified component
+     *
+     * @param node node which matched the previous component
+     * @param index index of the next component to match
+     * @param result [OUTPUT] matching nodes are added to this
+     * @param visited [INPUT/OUTPUT] the components each node has been visited for, or {@code
+     *     null} if nodes cannot be revisited
+     */
+    private void collect(
+            AsnDataNode node,
+            int index,
+            Set<AsnDataNode> result,
+            Map<AsnDataNode, BitSet> visited) {
+        if (index == components.length) {
+            result.add(node);
+            return;
+        }
+
+        final Component component = components[index];
+        if (component.isAnyDepth) {
+            collectAnyDepth(node, index, result, visited);
+        } else if (component.literal != null) {
+            node.getChild(component.literal)
+                    .ifPresent(child -> collect(child, index + 1, result, visited));
+        } else {
+            for (AsnDataNode child : node.getChildren()) {
+                if (component.matches(child.getName())) {
+                    collect(child, index + 1, result, visited);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the nodes matching this query, where the specified component is {@code **} and
+     * the supplied node is the first node it may match
+     *
+     * @param node first node the component may match
+     * @param index index of the {@code **} component
+     * @param result [OUTPUT] matching nodes are added to this
+     * @param visited [INPUT/OUTPUT] the components each node has been visited for, or {@code
+     *     null} if nodes cannot be revisited
+     */
+    private void collectAnyDepth(
+            AsnDataNode node,
+            int index,
+            Set<AsnDataNode> result,
+            Map<AsnDataNode, BitSet> visited) {
+        if (visited != null) {
+            final BitSet components = visited.computeIfAbsent(node, n -> new BitSet());
+            if (components.get(index)) {
+                // already collected from this node
+                return;
+            }
+            components.set(index);
+        }
+
+        // the node is the last of the components matched by '**'
+        collect(node, index + 1, result, visited);
+        // the node is one of several components matched by '**'
+        for (AsnDataNode child : node.getChildren()) {
+            collectAnyDepth(child, index, result, visited);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Component
+    // -------------------------------------------------------------------------
+
+    /** A single compiled component of a query */
+    private static final class Component {
+        /** whether this component matches any number of components */
+        private final boolean isAnyDepth;
+
+        /** whether this component matches any single component */
+        private final boolean isAny;
+
+        /** the exact name this component matches, or {@code null} if it contains wildcards */
+        private final String literal;
+
+        /** the name this component matches (excluding indices), or {@code null} for any name */
+        private final String name;
+
+        /** the indices this component matches. A {@code null} element matches any index. */
+        private final String[] indices;
+
+        /**
+         * Default constructor
+         *
+         * @param isAnyDepth whether this component matches any number of components
+         * @param isAny whether this component matches any single component
+         * @param literal the exact name this component matches, or {@code null}
+         * @param name the name this component matches, or {@code null} for any name
+         * @param indices the indices this component matches
+         */
+        private Component(
+                boolean isAnyDepth, boolean isAny, String literal, String name, String[] indices) {
+            this.isAnyDepth = isAnyDepth;
+            this.isAny = isAny;
+            this.literal = literal;
+            this.name = name;
+            this.indices = indices;
+        }
+
+        /**
+         * Parses a component of a query
+         *
+         * @param part text of the component
+         * @param query the query being compiled (used for error messages)
+         * @return the compiled component
+         * @throws IllegalArgumentException if the component is not valid
+         */
+        private static Component parse(String part, String query) {
+            checkArgument(!part.isEmpty(), "Query contains an empty component: %s", query);
+            if (part.equals(ANY_DEPTH)) {
+                return new Component(true, false, null, null, new String[0]);
+            }
+            if (part.equals(WILDCARD)) {
+                return new Component(false, true, null, null, new String[0]);
+            }
+
+            final int bracket = part.indexOf('[');
+            final String name = (bracket < 0) ? part : part.substring(0, bracket);
+            checkArgument(
+                    !name.isEmpty() && (name.equals(WILDCARD) || !name.contains(WILDCARD)),
+                    "Query contains an invalid name '%s': %s",
+                    part,
+                    query);
+            checkArgument(name.indexOf(']') < 0, "Query contains unmatched ']': %s", query);
+
+            // parse the indices, e.g. "[0][*]"
+            final List<String> indices = Lists.newArrayList();
+            int position = (bracket < 0) ? part.length() : bracket;
+            while (position < part.length()) {
+                final int close = part.indexOf(']', position);
+                checkArgument(
+                        part.charAt(position) == '[' && close > position + 1,
+                        "Query contains an invalid index '%s': %s",
+                        part,
+                        query);
+                final String index = part.substring(position + 1, close);
+                checkArgument(
+                        index.equals(WILDCARD) || index.chars().allMatch(Character::isDigit),
+                        "Query contains an invalid index '%s': %s",
+                        part,
+                        query);
+                indices.add(index.equals(WILDCARD) ? null : index);
+                position = close + 1;
+            }
+
+            final boolean hasWildcard = name.equals(WILDCARD) || indices.contains(null);
+            return new Component(
+                    false,
+                    false,
+                    hasWildcard ? null : part,
+                    name.equals(WILDCARD) ? null : name,
+                    indices.toArray(new String[0]));
+        }
+
+        /**
+         * Determines whether the supplied node name matches this component
+         *
+         * @param nodeName name of the node (e.g. {@code authors[0]})
+         * @return {@code true} if the name matches this component
+         */
+        private boolean matches(String nodeName) {
+            if (isAny) {
+                return true;
+            }
+            if (literal != null) {
+                return literal.equals(nodeName);
+            }
+
+            final int bracket = nodeName.indexOf('[');
+            final int nameEnd = (bracket < 0) ? nodeName.length() : bracket;
+            if (name != null && !isRegion(nodeName, 0, nameEnd, name)) {
+                return false;
+            }
+
+            int position = nameEnd;
+            for (String index : indices) {
+                if (position >= nodeName.length() || nodeName.charAt(position) != '[') {
+                    return false;
+                }
+                final int close = nodeName.indexOf(']', position);
+                if (close < 0) {
+                    return false;
+                }
+                if (index != null && !isRegion(nodeName, position + 1, close, index)) {
+                    return false;
+                }
+                position = close + 1;
+            }
+            return position == nodeName.length();
+        }
+
+        /**
+         * Determines whether the specified region of a string is equal to another string
+         *
+         * @param string string containing the region
+         * @param start start of the region (inclusive)
+         * @param end end of the region (exclusive)
+         * @param expected string the region should equal
+         * @return {@code true} if the region is equal to the expected string
+         */
+        private static boolean isRegion(String string, int start, int end, String expected) {
+            return expected.length() == end - start
+                    && string.regionMatches(start, expected, 0, expected.length());
+        }
+    }
+}
@@ -14,7 +14,11 @@ import com.brightsparklabs.asanti.model.schema.type.AsnSchemaComponentType;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
 import com.brightsparklabs.asanti.model.schema.typedefinition.AsnSchemaTypeDefinition;
 import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.*;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.*;
 
 /**
@@ -22,11 +26,21 @@ import java.util.*;
  *
  * @author brightSPARK Labs
  */
-public class AsnSchemaImpl implements AsnSchema {
+public class AsnSchemaImpl implements AsnSchema, Serializable {
     // -------------------------------------------------------------------------
     // CLASS VARIABLES
     // -------------------------------------------------------------------------
 
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * maximum number of tags retained in the tag to type cache. Tags are cached without their
+     * indices, so this is only reached by schemas with very many distinct paths or by lookups of
+     * tags which are not in the schema.
+     */
+    public static final int TAG_CACHE_SIZE = 10000;
+
     /** splitter for separating tag strings */
     private static final Splitter tagSplitter = Splitter.on("/").omitEmptyStrings();
 
@@ -37,8 +51,13 @@ public class AsnSchemaImpl implements AsnSchema {
     /** the primary module defined in this schema (defaults to the first module) */
     private final AsnSchemaModule primaryModule;
 
-    /** a simple cache to avoid recalculating Tag to Type mapping */
-    private final Map<String, Optional<AsnSchemaType>> tagCache = Maps.newConcurrentMap();
+    /**
+     * a simple cache to avoid recalculating Tag to Type mapping, keyed by tag without indices (see
+     * {@link #stripIndexes(String)}) so that all items of a SEQUENCE OF/SET OF share an entry. The
+     * least recently used tags are evicted once more than {@link #TAG_CACHE_SIZE} are cached. Not
+     * serialized, as {@link Optional} is not serializable and the cache is rebuilt on demand.
+     */
+    private transient Map<String, Optional<AsnSchemaType>> tagCache = createTagCache();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -70,7 +89,9 @@ public class AsnSchemaImpl implements AsnSchema {
 
     @Override
     public Optional<AsnSchemaType> getType(String tag) {
-        final Optional<AsnSchemaType> cacheHit = tagCache.get(tag);
+        // the indices do not affect the type
+        final String strippedTag = stripIndexes(tag);
+        final Optional<AsnSchemaType> cacheHit = tagCache.get(strippedTag);
         // ignore the warning about Optional being compared to null.
         // Optional.empty means we've already done the lookup and have an empty result.
         // Null means we haven't already done the lookup.
@@ -78,10 +99,10 @@ public class AsnSchemaImpl implements AsnSchema {
             return cacheHit;
         }
 
-        final ArrayList<String> tags = Lists.newArrayList(tagSplitter.split(tag));
+        final ArrayList<String> tags = Lists.newArrayList(tagSplitter.split(strippedTag));
         if (tags.isEmpty()) {
             final Optional<AsnSchemaType> result = Optional.empty();
-            tagCache.put(tag, result);
+            tagCache.put(strippedTag, result);
             return result;
         }
 
@@ -91,7 +112,7 @@ public class AsnSchemaImpl implements AsnSchema {
 
         AsnSchemaType type = typeDefinition.getType();
         while (it.hasNext()) {
-            final String nextTag = DecodedTagsHelpers.stripIndex(it.next());
+            final String nextTag = it.next();
 
             Optional<AsnSchemaType> next = getNext(type, nextTag);
             if (!next.isPresent()) {
@@ -101,7 +122,7 @@ public class AsnSchemaImpl implements AsnSchema {
         }
 
         final Optional<AsnSchemaType> result = Optional.of(type);
-        tagCache.put(tag, result);
+        tagCache.put(strippedTag, result);
         return result;
     }
 
@@ -128,4 +149,80 @@ public class AsnSchemaImpl implements AsnSchema {
         }
         return Optional.empty();
     }
+
+    /**
+     * Removes the indices from each component of the supplied tag other than the first (the type
+     * definition). E.g. {@code /Document/footer/authors[1]/firstName} becomes {@code
+     * /Document/footer/authors/firstName}. This is equivalent to applying {@link
+     * DecodedTagsHelpers#stripIndex(String)} to each of those components, without the cost of
+     * matching a regular expression against each one.
+     *
+     * @param tag tag to strip
+     * @return the stripped tag, or {@code tag} if it does not contain any indices
+     */
+    private static String stripIndexes(String tag) {
+        StringBuilder result = null;
+        boolean isFirst = true;
+        int start = 0;
+        while (start <= tag.length()) {
+            int end = tag.indexOf('/', start);
+            if (end < 0) {
+                end = tag.length();
+            }
+
+            // remove any trailing indices, leaving at least one character
+            int stripped = end;
+            if (!isFirst) {
+                int pos = end - 1;
+                while (pos > start && tag.charAt(pos) == ']') {
+                    int digit = pos - 1;
+                    while (digit > start && tag.charAt(digit) >= '0' && tag.charAt(digit) <= '9') {
+                        digit--;
+                    }
+                    if (digit == pos - 1 || digit == start || tag.charAt(digit) != '[') {
+                        break;
+                    }
+                    stripped = digit;
+                    pos = digit - 1;
+                }
+            }
+            isFirst = isFirst && (end == start);
+
+            if (stripped != end && result == null) {
+                result = new StringBuilder(tag.length()).append(tag, 0, start);
+            }
+            if (result != null) {
+                result.append(tag, start, stripped);
+                if (end < tag.length()) {
+                    result.append('/');
+                }
+            }
+            start = end + 1;
+        }
+        return (result == null) ? tag : result.toString();
+    }
+
+    /**
+     * Creates an empty tag to type cache
+     *
+     * @return the cache
+     */
+    private static Map<String, Optional<AsnSchemaType>> createTagCache() {
+        return CacheBuilder.newBuilder()
+                .maximumSize(TAG_CACHE_SIZE)
+                .<String, Optional<AsnSchemaType>>build()
+                .asMap();
+    }
+
+    /**
+     * Deserializes the schema, creating an empty tag cache.
+     *
+     * @param in stream to read the schema from
+     * @throws IOException if any errors occur while reading the stream
+     * @throws ClassNotFoundException if the class of a serialized object cannot be found
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        tagCache = createTagCache();
+    }
 }
@@ -15,6 +15,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.io.Serializable;
 import java.text.ParseException;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -25,11 +26,14 @@ import org.slf4j.LoggerFactory;
  *
  * @author brightSPARK Labs
  */
-public class AsnSchemaModule {
+public class AsnSchemaModule implements Serializable {
     // -------------------------------------------------------------------------
     // CLASS VARIABLES
     // -------------------------------------------------------------------------
 
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     /** null instance */
     public static final AsnSchemaModule.Null NULL = new AsnSchemaModule.Null();
 
@@ -616,6 +620,9 @@ public class AsnSchemaModule {
      * @author brightSPARK Labs
      */
     public static class Null extends AsnSchemaModule {
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
         /**
          * Default constructor. Hidden, use {@link AsnSchemaModule#NULL} to obtain a singleton
          * instance.
@@ -623,5 +630,18 @@ public class AsnSchemaModule {
         private Null() {
             super("NULL", Maps.newHashMap(), Maps.newHashMap());
         }
+
+        // ---------------------------------------------------------------------
+        // IMPLEMENTATION: Serializable
+        // ---------------------------------------------------------------------
+
+        /**
+         * Resolves deserialized instances to the singleton instance.
+         *
+         * @return {@link AsnSchemaModule#NULL}
+         */
+        private Object readResolve() {
+            return AsnSchemaModule.NULL;
+        }
     }
 }
@@ -10,11 +10,7 @@ package com.brightsparklabs.asanti.model.schema;
 import com.brightsparklabs.asanti.common.OperationResult;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaComponentType;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
-import com.google.common.base.Joiner;
-import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,12 +30,6 @@ public class Decoder {
     /** Class logger. */
     private static final Logger logger = LoggerFactory.getLogger(Decoder.class);
 
-    /** Splitter for separating tag strings. */
-    private static final Splitter tagSplitter = Splitter.on("/").omitEmptyStrings();
-
-    /** Joiner for creating tag strings. */
-    private static final Joiner tagJoiner = Joiner.on("/");
-
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -80,6 +70,10 @@ public class Decoder {
     /**
      * Returns the decoded tags for the supplied raw tags using a new {@link DecodingSession}.
      *
+     * <p>The raw tags are decoded incrementally. The decoding state of the leading segments each
+     * raw tag shares with the previous raw tag is reused rather than being decoded again, so
+     * decoding the raw tags of a PDU in the order they were read only decodes each element once.
+     *
      * @param rawTags Raw tags to decode.
      * @param rootType The name of the top level type in this module from which to begin decoding
      *     the raw tag.
@@ -87,18 +81,16 @@ public class Decoder {
      */
     public static ImmutableSet<OperationResult<DecodedTag, String>> getDecodedTags(
             final Iterable<String> rawTags, final AsnSchemaType rootType) {
-        DecodingSession session = new DecodingSessionImpl();
+        final IncrementalDecoder decoder =
+                new IncrementalDecoder(rootType, new DecodingSessionImpl());
 
-        // use LinkedHashSet to preserve insertion order
-        final Set<OperationResult<DecodedTag, String>> results = Sets.newLinkedHashSet();
+        // ImmutableSet preserves insertion order
+        final ImmutableSet.Builder<OperationResult<DecodedTag, String>> results =
+                ImmutableSet.builder();
         for (String rawTag : rawTags) {
-            final OperationResult<DecodedTag, String> decodeResult =
-                    getDecodedTag(rawTag, rootType, session);
-
-            results.add(decodeResult);
+            results.add(decoder.decode(rawTag));
         }
-
-        return ImmutableSet.copyOf(results);
+        return results.build();
     }
 
     /**
@@ -115,94 +107,239 @@ public class Decoder {
      */
     public static OperationResult<DecodedTag, String> getDecodedTag(
             String rawTag, AsnSchemaType type, DecodingSession session) {
-        final ArrayList<String> tags = Lists.newArrayList(tagSplitter.split(rawTag));
-        final DecodedTagsAndType decodedTagsAndType = decodeTags(tags.iterator(), type, session);
-        final List<String> decodedTags = decodedTagsAndType.decodedTags;
-
-        // check if decode was successful
-        boolean decodeSuccessful = true;
-        if (tags.size() != decodedTags.size()) {
-            // could not decode
-            decodeSuccessful = false;
-
-            // copy unknown tags into result
-            for (int i = decodedTags.size(); i < tags.size(); i++) {
-                final String unknownTag = tags.get(i);
-                decodedTags.add(unknownTag);
-                logger.debug("Unable to parse " + rawTag + " : " + unknownTag);
-            }
-        }
-
-        // The raw tags create a new '/' for collection elements (eg .../foo/[0])
-        // and we would rather have .../foo[0]
-        final String decodedTagPath = tagJoiner.join(decodedTags).replaceAll("/\\[", "\\[");
-
-        logger.trace("getDecodedTag {} => {}", rawTag, decodedTagPath);
-
-        final DecodedTag decodedTag =
-                new DecodedTag(decodedTagPath, rawTag, decodedTagsAndType.type, decodeSuccessful);
-
-        return decodeSuccessful
-                ? OperationResult.createSuccessfulInstance(decodedTag)
-                : OperationResult.createUnsuccessfulInstance(
-                        decodedTag, "The supplied raw tag does not map to a type in this schema");
+        return new IncrementalDecoder(type, session).decode(rawTag);
     }
 
     // -------------------------------------------------------------------------
-    // PRIVATE METHODS
+    // INTERNAL CLASS: IncrementalDecoder
     // -------------------------------------------------------------------------
 
-    private static DecodedTagsAndType decodeTags(
-            Iterator<String> rawTags,
-            AsnSchemaType containingType,
-            DecodingSession decodingSession) {
-        /* TODO: ASN-143.  does this functionality now belong here?
-         * all the logic is about AsnSchemaType object - should it have a decodeTags function?
+    /**
+     * Decodes a series of raw tags against a type, reusing the decoding state of the segments each
+     * raw tag shares with the previous raw tag.
+     *
+     * <p>Matching a segment against a type only depends on the segment and on the state of the
+     * {@link DecodingSession} for the context (decoded path) of the segment. Decoding the
+     * remainder of the previous raw tag only changes the state of deeper contexts, and matching
+     * the same segment again in a context leaves its state unchanged. As such, the result of
+     * decoding a shared segment again is always the same as the result previously obtained, and
+     * the segment can be skipped.
+     *
+     * <p>Instances are not thread-safe.
+     *
+     * @author brightSPARK Labs
+     */
+    public static class IncrementalDecoder {
+        /** the top level type from which to begin decoding */
+        private final AsnSchemaType rootType;
+
+        /** the session state used while decoding */
+        private final DecodingSession session;
+
+        /** the segments of the previous raw tag which were successfully decoded */
+        private String[] segments = new String[16];
+
+        /**
+         * the decoded path of each successfully decoded segment of the previous raw tag. E.g. for
+         * {@code "0[1]/0[0]"} this would be {@code "header"} followed by {@code "header/published"}
          */
+        private String[] paths = new String[16];
 
-        final DecodedTagsAndType result = new DecodedTagsAndType();
-        AsnSchemaType type = containingType;
-        // It is possible to decode "/", which means return the containingType
-        result.type = type;
+        /** the type of each successfully decoded segment of the previous raw tag */
+        private AsnSchemaType[] types = new AsnSchemaType[16];
 
-        while (rawTags.hasNext()) {
-            // Get the tag that we are decoding
-            final String tag = rawTags.next();
+        /** the number of segments of the previous raw tag which were successfully decoded */
+        private int depth = 0;
 
-            final String decodedTagPath =
-                    tagJoiner.join(result.decodedTags).replaceAll("/\\[", "\\[");
-            // By definition the new tag is the child of its container.
-            decodingSession.setContext(decodedTagPath);
-
-            Optional<AsnSchemaComponentType> child = type.getMatchingChild(tag, decodingSession);
-            if (child.isEmpty()) {
-                // no type to delve into
-                break;
-            }
+        /**
+         * Default constructor
+         *
+         * @param rootType the top level type from which to begin decoding
+         * @param session the session state to use while decoding
+         */
+        public IncrementalDecoder(AsnSchemaType rootType, DecodingSession session) {
+            this.rootType = rootType;
+            this.session = session;
+        }
 
-            final String decodedTag = child.get().getName();
-            result.type = child.get().getType();
-            result.decodedTags.add(decodedTag);
-            type = result.type;
+        /**
+         * Decodes the supplied raw tag
+         *
+         * @param rawTag raw tag to decode
+         * @return the result of the decode attempt containing the decoded tag
+         */
+        public OperationResult<DecodedTag, String> decode(String rawTag) {
+            return decode(rawTag, Integer.MAX_VALUE);
         }
 
-        return result;
-    }
+        /**
+         * Decodes the first segment of the supplied raw tag. The remaining segments are only
+         * decoded if the first segment could not be decoded, in which case the result is the same
+         * as {@link #decode(String)}.
+         *
+         * <p>E.g. {@code decodeFirstSegment("/0[1]/0[0]/0[1]")} =&gt; {@code "header"} (with a raw
+         * tag of {@code "/0[1]"})
+         *
+         * @param rawTag raw tag to decode
+         * @return the result of the decode attempt containing the decoded tag
+         */
+        public OperationResult<DecodedTag, String> decodeFirstSegment(String rawTag) {
+            return decode(rawTag, 1);
+        }
 
-    // -------------------------------------------------------------------------
-    // INTERNAL CLASS: DecodedTagAndType
-    // -------------------------------------------------------------------------
+        /**
+         * Creates a copy of this decoder which retains the state of the successfully decoded
+         * segments of the previous raw tag, but uses the supplied session to decode any other
+         * segments. As such, the copy can continue decoding the raw tags which follow the
+         * previous raw tag, independently of this decoder.
+         *
+         * @param session the session state for the copy to use while decoding
+         * @return the copy of this decoder
+         */
+        public IncrementalDecoder copy(DecodingSession session) {
+            final IncrementalDecoder result = new IncrementalDecoder(rootType, session);
+            result.segments = Arrays.copyOf(segments, segments.length);
+            result.paths = Arrays.copyOf(paths, paths.length);
+            result.types = Arrays.copyOf(types, types.length);
+            result.depth = depth;
+            return result;
+        }
 
-    /**
-     * Transfer object to support returning a tuple of "Decoded Tags" and "Type"
-     *
-     * @author brightSPARK Labs
-     */
-    public static class DecodedTagsAndType {
-        /** list of decoded tags */
-        private final List<String> decodedTags = Lists.newArrayList();
+        /**
+         * Decodes the supplied raw tag
+         *
+         * @param rawTag raw tag to decode
+         * @param maxLevels maximum number of segments to decode. Once reached, the remaining
+         *     segments of the raw tag are ignored.
+         * @return the result of the decode attempt containing the decoded tag
+         */
+        private OperationResult<DecodedTag, String> decode(String rawTag, int maxLevels) {
+            int length = rawTag.length();
+            int position = 0;
+            int level = 0;
+            boolean decodeSuccessful = true;
+            StringBuilder unknownTags = null;
+
+            while (position < length) {
+                if (decodeSuccessful && level == maxLevels) {
+                    // ignore the remaining segments
+                    length = position;
+                    break;
+                }
+
+                int end = rawTag.indexOf('/', position);
+                if (end < 0) {
+                    end = length;
+                }
+                if (end == position) {
+                    // skip empty segments
+                    position++;
+                    continue;
+                }
+
+                if (!decodeSuccessful) {
+                    // copy unknown tags into result
+                    unknownTags.append('/').append(rawTag, position, end);
+                    logger.debug(
+                            "Unable to parse " + rawTag + " : " + rawTag.substring(position, end));
+                    position = end;
+                    continue;
+                }
+
+                final int segmentLength = end - position;
+                if (level < depth
+                        && segments[level].length() == segmentLength
+                        && rawTag.regionMatches(position, segments[level], 0, segmentLength)) {
+                    // segment decoded by the previous raw tag
+                    level++;
+                    position = end;
+                    continue;
+                }
+
+                // the previous raw tag diverges from here
+                depth = level;
+
+                final String segment = rawTag.substring(position, end);
+                final AsnSchemaType type = (level == 0) ? rootType : types[level - 1];
+                final String context = (level == 0) ? "" : paths[level - 1];
+
+                // By definition the new tag is the child of its container.
+                session.setContext(context);
+                final Optional<AsnSchemaComponentType> child =
+                        type.getMatchingChild(segment, session);
+                if (child.isPresent()) {
+                    final String decodedTag = child.get().getName();
+                    final String path =
+                            context
+                                    + joinCollectionElements(
+                                            (level == 0) ? decodedTag : "/" + decodedTag);
+                    push(segment, path, child.get().getType());
+                    level++;
+                } else {
+                    // no type to delve into
+                    decodeSuccessful = false;
+                    unknownTags = new StringBuilder();
+                    unknownTags.append('/').append(segment);
+                    logger.debug("Unable to parse " + rawTag + " : " + segment);
+                }
+                position = end;
+            }
+
+            final String decodedPath = (level == 0) ? "" : paths[level - 1];
+            final AsnSchemaType type = (level == 0) ? rootType : types[level - 1];
+            final String decodedTagPath =
+                    decodeSuccessful
+                            ? decodedPath
+                            : decodedPath
+                                    + joinCollectionElements(
+                                            (level == 0)
+                                                    ? unknownTags.substring(1)
+                                                    : unknownTags.toString());
+
+            logger.trace("getDecodedTag {} => {}", rawTag, decodedTagPath);
+
+            final DecodedTag decodedTag =
+                    new DecodedTag(
+                            decodedTagPath,
+                            (length == rawTag.length()) ? rawTag : rawTag.substring(0, length),
+                            type,
+                            decodeSuccessful);
+
+            return decodeSuccessful
+                    ? OperationResult.createSuccessfulInstance(decodedTag)
+                    : OperationResult.createUnsuccessfulInstance(
+                            decodedTag,
+                            "The supplied raw tag does not map to a type in this schema");
+        }
 
-        /** the type of the final tag */
-        private AsnSchemaType type = null;
+        /**
+         * Records a successfully decoded segment at the current depth
+         *
+         * @param segment the raw segment
+         * @param path the decoded path of the segment
+         * @param type the type the segment decoded to
+         */
+        private void push(String segment, String path, AsnSchemaType type) {
+            if (depth == segments.length) {
+                segments = Arrays.copyOf(segments, depth * 2);
+                paths = Arrays.copyOf(paths, depth * 2);
+                types = Arrays.copyOf(types, depth * 2);
+            }
+            segments[depth] = segment;
+            paths[depth] = path;
+            types[depth] = type;
+            depth++;
+        }
+
+        /**
+         * The raw tags create a new '/' for collection elements (eg .../foo/[0]) and we would
+         * rather have .../foo[0]
+         *
+         * @param decodedTags portion of a decoded tag path
+         * @return the portion with the '/' before collection elements removed
+         */
+        private static String joinCollectionElements(String decodedTags) {
+            return decodedTags.contains("/[") ? decodedTags.replace("/[", "[") : decodedTags;
+        }
     }
 }
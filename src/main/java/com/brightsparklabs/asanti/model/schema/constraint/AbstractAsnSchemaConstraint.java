@@ -11,6 +11,7 @@ import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.SchemaConstraintValidationFailure;
 import com.google.common.collect.ImmutableSet;
+import java.io.Serializable;
 
 /**
  * Convenience class to simplify implementing {@link AsnSchemaConstraint}. Sub-classes should
@@ -18,7 +19,14 @@ import com.google.common.collect.ImmutableSet;
  *
  * @author brightSPARK Labs
  */
-public abstract class AbstractAsnSchemaConstraint implements AsnSchemaConstraint {
+public abstract class AbstractAsnSchemaConstraint implements AsnSchemaConstraint, Serializable {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // IMPLEMENTATION: AsnSchemaConstraint
     // -------------------------------------------------------------------------
@@ -12,6 +12,7 @@ import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.brightsparklabs.asanti.validator.failure.SchemaConstraintValidationFailure;
 import com.google.common.collect.ImmutableSet;
+import java.io.Serializable;
 
 /**
  * Models a Constraint from within an {@link AsnSchemaType} or {@link AsnSchemaComponentType}
@@ -44,7 +45,10 @@ public interface AsnSchemaConstraint {
     // -------------------------------------------------------------------------
 
     /** Null instance of {@link AsnSchemaConstraint} */
-    class Null implements AsnSchemaConstraint {
+    class Null implements AsnSchemaConstraint, Serializable {
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
         /**
          * Default constructor. Private, use {@link AsnSchemaConstraint#NULL} instead to obtain a
          * singleton instance
@@ -60,5 +64,18 @@ public interface AsnSchemaConstraint {
                 final byte[] bytes, final AsnPrimitiveType type) {
             return ImmutableSet.of();
         }
+
+        // ---------------------------------------------------------------------
+        // IMPLEMENTATION: Serializable
+        // ---------------------------------------------------------------------
+
+        /**
+         * Resolves deserialized instances to the singleton instance.
+         *
+         * @return {@link AsnSchemaConstraint#NULL}
+         */
+        private Object readResolve() {
+            return AsnSchemaConstraint.NULL;
+        }
     }
 }
@@ -21,6 +21,13 @@ import java.io.IOException;
  * @author brightSPARK Labs
  */
 public class AsnSchemaContainingConstraint extends AbstractAsnSchemaConstraint {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // CONSTANTS
     // -------------------------------------------------------------------------
@@ -24,6 +24,13 @@ import java.math.BigInteger;
  * @author brightSPARK Labs
  */
 public class AsnSchemaExactNumericValueConstraint extends AbstractAsnSchemaConstraint {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
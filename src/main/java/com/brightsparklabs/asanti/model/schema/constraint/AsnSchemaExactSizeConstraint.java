@@ -23,6 +23,17 @@ import com.google.common.collect.ImmutableSet;
  * @author brightSPARK Labs
  */
 public class AsnSchemaExactSizeConstraint extends AbstractAsnSchemaConstraint {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
+    /** determines the size of the data (the visitor is stateless so is shared) */
+    private static final SizeDeterminingVisitor sizeDeterminingVisitor =
+            new SizeDeterminingVisitor();
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -30,8 +41,6 @@ public class AsnSchemaExactSizeConstraint extends AbstractAsnSchemaConstraint {
     /** the length the data must be */
     private final int exactLength;
 
-    private final SizeDeterminingVisitor sizeDeterminingVisitor = new SizeDeterminingVisitor();
-
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
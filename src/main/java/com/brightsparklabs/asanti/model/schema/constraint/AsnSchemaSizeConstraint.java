@@ -22,6 +22,17 @@ import com.google.common.collect.ImmutableSet;
  * @author brightSPARK Labs
  */
 public class AsnSchemaSizeConstraint extends AbstractAsnSchemaConstraint {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
+    /** determines the size of the data (the visitor is stateless so is shared) */
+    private static final SizeDeterminingVisitor sizeDeterminingVisitor =
+            new SizeDeterminingVisitor();
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -32,8 +43,6 @@ public class AsnSchemaSizeConstraint extends AbstractAsnSchemaConstraint {
     /** the minimum length the data can be */
     private final int maximumLength;
 
-    private final SizeDeterminingVisitor sizeDeterminingVisitor = new SizeDeterminingVisitor();
-
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
@@ -10,6 +10,7 @@ package com.brightsparklabs.asanti.model.schema.primitive;
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveTypeVisitor;
+import java.io.Serializable;
 
 /**
  * A type used to represent the primitive builtin type Bit String within ASN.1 This class is used as
@@ -17,7 +18,14 @@ import com.brightsparklabs.asanti.schema.AsnPrimitiveTypeVisitor;
  *
  * @author brightSPARK Labs
  */
-public class AsnPrimitiveTypeBitString implements AsnPrimitiveType.BitString {
+public class AsnPrimitiveTypeBitString implements AsnPrimitiveType.BitString, Serializable {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // IMPLEMENTATION: AsnPrimitiveType
     // -------------------------------------------------------------------------
@@ -31,4 +39,18 @@ public class AsnPrimitiveTypeBitString implements AsnPrimitiveType.BitString {
     public Object accept(AsnPrimitiveTypeVisitor<?> visitor) {
         return visitor.visit(this);
     }
+
+    // -------------------------------------------------------------------------
+    // IMPLEMENTATION: Serializable
+    // -------------------------------------------------------------------------
+
+    /**
+     * Resolves deserialized instances to the static instance, as primitive types are compared by
+     * identity.
+     *
+     * @return {@link AsnPrimitiveTypes#BIT_STRING}
+     */
+    private Object readResolve() {
+        return AsnPrimitiveTypes.BIT_STRING;
+    }
 }
@@ -10,6 +10,7 @@ package com.brightsparklabs.asanti.model.schema.primitive;
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveTypeVisitor;
+import java.io.Serializable;
 
 /**
  * A type used to represent the primitive builtin type UTCTime within ASN.1 This class is used as a
@@ -17,7 +18,10 @@ import com.brightsparklabs.asanti.schema.AsnPrimitiveTypeVisitor;
  *
  * @author brightSPARK Labs
  */
-public class AsnPrimitiveTypeUtcTime implements AsnPrimitiveType.UtcTime {
+public class AsnPrimitiveTypeUtcTime implements AsnPrimitiveType.UtcTime, Serializable {
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
 
     @Override
     public AsnBuiltinType getBuiltinType() {
@@ -28,4 +32,18 @@ public class AsnPrimitiveTypeUtcTime implements AsnPrimitiveType.UtcTime {
     public Object accept(AsnPrimitiveTypeVisitor<?> visitor) {
         return visitor.visit(this);
     }
+
+    // -------------------------------------------------------------------------
+    // IMPLEMENTATION: Serializable
+    // -------------------------------------------------------------------------
+
+    /**
+     * Resolves deserialized instances to the static instance, as primitive types are compared by
+     * identity.
+     *
+     * @return {@link AsnPrimitiveTypes#UTC_TIME}
+     */
+    private Object readResolve() {
+        return AsnPrimitiveTypes.UTC_TIME;
+    }
 }
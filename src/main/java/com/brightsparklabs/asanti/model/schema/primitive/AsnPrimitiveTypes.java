@@ -9,6 +9,7 @@ package com.brightsparklabs.asanti.model.schema.primitive;
 
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveTypeVisitor;
+import java.io.Serializable;
 
 /**
  * A base type used to represent the primitive builtin types within ASN.1 This class is used as a
@@ -140,7 +141,11 @@ public interface AsnPrimitiveTypes {
      * <p>NOTE: This is not named {@code AsnSchemaPrimitiveTypeNull} because that is the name used
      * to model an actual ASN.1 {@code NULL} Type.
      */
-    class Invalid implements com.brightsparklabs.asanti.schema.AsnPrimitiveType.Invalid {
+    class Invalid
+            implements com.brightsparklabs.asanti.schema.AsnPrimitiveType.Invalid, Serializable {
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
         @Override
         public AsnBuiltinType getBuiltinType() {
             return AsnBuiltinType.Null;
@@ -150,5 +155,18 @@ public interface AsnPrimitiveTypes {
         public Object accept(AsnPrimitiveTypeVisitor<?> visitor) {
             return visitor.visit(this);
         }
+
+        // ---------------------------------------------------------------------
+        // IMPLEMENTATION: Serializable
+        // ---------------------------------------------------------------------
+
+        /**
+         * Resolves deserialized instances to the singleton instance.
+         *
+         * @return {@link AsnPrimitiveTypes#INVALID}
+         */
+        private Object readResolve() {
+            return AsnPrimitiveTypes.INVALID;
+        }
     }
 }
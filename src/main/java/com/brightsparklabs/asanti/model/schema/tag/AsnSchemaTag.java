@@ -11,8 +11,6 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableMap;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Models a tag in a 'constructed' type. A tag conforms to one of the following formats:
@@ -30,9 +28,27 @@ public class AsnSchemaTag {
     /** null instance */
     private static final AsnSchemaTag NULL = new AsnSchemaTag("", "", "");
 
-    /** pattern to match a raw tag coming out of the BER decoder */
-    private static final Pattern PATTERN_TAG =
-            Pattern.compile("^([0-9]+)(\\[(([0-9]+)|(UNIVERSAL ([a-zA-Z0-9]+)))\\])$");
+    /** prefix of the universal component of a raw tag */
+    private static final String UNIVERSAL_PREFIX = "UNIVERSAL ";
+
+    /** flag set in the tag key of universal tags (see {@link #createTagKey(String)}) */
+    private static final long UNIVERSAL_TAG_KEY_FLAG = 1L << 32;
+
+    /** tag key of tag portions which are not a canonical tag number */
+    public static final long NO_TAG_KEY = -1L;
+
+    /** number of tag indexes held in {@link #FLYWEIGHTS} */
+    private static final int FLYWEIGHT_INDEXES = 64;
+
+    /** number of tag numbers (per class) held in {@link #FLYWEIGHTS} */
+    private static final int FLYWEIGHT_TAG_NUMBERS = 64;
+
+    /**
+     * shared instances of the most common tags, indexed by (index, class, number). Populated on
+     * first use. Instances are immutable, so racing to populate a slot is harmless.
+     */
+    private static final AsnSchemaTag[] FLYWEIGHTS =
+            new AsnSchemaTag[FLYWEIGHT_INDEXES * FLYWEIGHT_TAG_NUMBERS * 2];
 
     // ---------------------------------------------------------------------
     // INSTANCE VARIABLES
@@ -53,6 +69,12 @@ public class AsnSchemaTag {
     /** the tag index component of the raw tag. Blank if no index component */
     private final String tagIndex;
 
+    /** the raw tag (see {@link #getRawTag()}) */
+    private final String rawTag;
+
+    /** the tag key of the non-index component of the raw tag (see {@link #getTagKey()}) */
+    private final long tagKey;
+
     // ---------------------------------------------------------------------
     // CONSTRUCTION
     // ---------------------------------------------------------------------
@@ -70,6 +92,10 @@ public class AsnSchemaTag {
         this.tagIndex = tagIndex;
         this.tagContextSpecific = Strings.nullToEmpty(tagContextSpecific).trim();
         this.tagUniversal = Strings.nullToEmpty(tagUniversal).trim();
+        // If this is a valid tag then the index will not be empty, so if it is empty it is
+        // invalid and the raw tag is an empty string
+        this.rawTag = tagIndex.isEmpty() ? "" : tagIndex + "[" + getTagPortion() + "]";
+        this.tagKey = createTagKey(getTagPortion());
     }
 
     /**
@@ -83,12 +109,45 @@ public class AsnSchemaTag {
             return NULL;
         }
 
-        final Matcher matcher = PATTERN_TAG.matcher(rawTag);
-        if (matcher.matches()) {
-            return new AsnSchemaTag(matcher.group(1), matcher.group(4), matcher.group(5));
+        // raw tags are of the form: <index>[<number>] or <index>[UNIVERSAL <alphanumeric>]
+        final int length = rawTag.length();
+        final int indexEnd = skipDigits(rawTag, 0, length);
+        if (indexEnd == 0
+                || indexEnd > length - 3
+                || rawTag.charAt(indexEnd) != '['
+                || rawTag.charAt(length - 1) != ']') {
+            return NULL;
+        }
+
+        final int tagStart = indexEnd + 1;
+        final int tagEnd = length - 1;
+        final boolean isUniversal;
+        if (skipDigits(rawTag, tagStart, tagEnd) == tagEnd) {
+            isUniversal = false;
+        } else if (rawTag.startsWith(UNIVERSAL_PREFIX, tagStart)
+                && tagEnd > tagStart + UNIVERSAL_PREFIX.length()
+                && isAlphanumeric(rawTag, tagStart + UNIVERSAL_PREFIX.length(), tagEnd)) {
+            isUniversal = true;
         } else {
             return NULL;
         }
+
+        final int index = parseCanonicalNumber(rawTag, 0, indexEnd);
+        final int tagNumber =
+                parseCanonicalNumber(
+                        rawTag,
+                        isUniversal ? tagStart + UNIVERSAL_PREFIX.length() : tagStart,
+                        tagEnd);
+        if (index >= 0
+                && index < FLYWEIGHT_INDEXES
+                && tagNumber >= 0
+                && tagNumber < FLYWEIGHT_TAG_NUMBERS) {
+            return getFlyweight(index, tagNumber, isUniversal);
+        }
+
+        final String tag = rawTag.substring(tagStart, tagEnd);
+        return new AsnSchemaTag(
+                rawTag.substring(0, indexEnd), isUniversal ? null : tag, isUniversal ? tag : null);
     }
 
     /**
@@ -133,7 +192,7 @@ public class AsnSchemaTag {
      *     passed in to create a new tag
      */
     public static String createRawTag(int tagIndex, String tag) {
-        return String.format("%d[%s]", tagIndex, tag);
+        return tagIndex + "[" + tag + "]";
     }
 
     /**
@@ -157,7 +216,31 @@ public class AsnSchemaTag {
     public static String createUniversalPortion(AsnBuiltinType type) {
         // Some AsnBuiltinType's don't translate to a UNIVERSAL tag, eg Choice
         final String universalType = getUniversalTagForBuiltInType(type);
-        return universalType.isEmpty() ? "" : ("UNIVERSAL " + universalType);
+        return universalType.isEmpty() ? "" : (UNIVERSAL_PREFIX + universalType);
+    }
+
+    /**
+     * Creates a numeric key for the non-index component of a raw tag. Two tag portions with
+     * canonical tag numbers (i.e. no leading zeros) are equal if and only if their keys are equal.
+     * This allows tags to be compared without string comparisons.
+     *
+     * @param tagPortion non-index component of a raw tag. E.g. {@code "1"} or {@code "UNIVERSAL
+     *     16"}
+     * @return the key of the tag portion, or {@link #NO_TAG_KEY} if the tag portion does not
+     *     contain a canonical tag number
+     */
+    public static long createTagKey(String tagPortion) {
+        if (tagPortion == null) {
+            return NO_TAG_KEY;
+        }
+        if (tagPortion.startsWith(UNIVERSAL_PREFIX)) {
+            final int tagNumber =
+                    parseCanonicalNumber(
+                            tagPortion, UNIVERSAL_PREFIX.length(), tagPortion.length());
+            return (tagNumber < 0) ? NO_TAG_KEY : (UNIVERSAL_TAG_KEY_FLAG | tagNumber);
+        }
+        final int tagNumber = parseCanonicalNumber(tagPortion, 0, tagPortion.length());
+        return (tagNumber < 0) ? NO_TAG_KEY : tagNumber;
     }
 
     // ---------------------------------------------------------------------
@@ -175,13 +258,7 @@ public class AsnSchemaTag {
      * @return the raw tag (that came from the AsantiAsnData)
      */
     public String getRawTag() {
-        if (tagIndex.isEmpty()) {
-            // If this is a valid tag then the index will not be empty, so if it
-            // is empty it is invalid and we should return an empty string
-            return "";
-        }
-
-        return tagIndex + "[" + getTagPortion() + "]";
+        return rawTag;
     }
 
     /**
@@ -225,6 +302,128 @@ public class AsnSchemaTag {
         return tagUniversal.isEmpty() ? tagContextSpecific : tagUniversal;
     }
 
+    /**
+     * Returns the key of the non-index component of the raw tag (see {@link
+     * #createTagKey(String)})
+     *
+     * @return the tag key, or {@link #NO_TAG_KEY} if the tag does not contain a canonical tag
+     *     number
+     */
+    public long getTagKey() {
+        return tagKey;
+    }
+
+    /**
+     * Determines whether the non-index component of the raw tag is equal to the supplied tag
+     * portion. This is equivalent to {@code getTagPortion().equals(tagPortion)}, but compares the
+     * tag keys where possible.
+     *
+     * @param tagPortion tag portion to compare against
+     * @param tagPortionKey key of the tag portion (see {@link #createTagKey(String)})
+     * @return {@code true} if the tag portions are equal
+     */
+    public boolean matchesTagPortion(String tagPortion, long tagPortionKey) {
+        if (tagKey != NO_TAG_KEY || tagPortionKey != NO_TAG_KEY) {
+            // a canonical tag portion can only equal another canonical tag portion
+            return tagKey == tagPortionKey;
+        }
+        return getTagPortion().equals(tagPortion);
+    }
+
+    /**
+     * Returns the shared instance for the specified tag
+     *
+     * @param index tag index (less than {@link #FLYWEIGHT_INDEXES})
+     * @param tagNumber tag number (less than {@link #FLYWEIGHT_TAG_NUMBERS})
+     * @param isUniversal whether the tag is a universal tag
+     * @return the shared instance
+     */
+    private static AsnSchemaTag getFlyweight(int index, int tagNumber, boolean isUniversal) {
+        final int slot =
+                ((index * FLYWEIGHT_TAG_NUMBERS) + tagNumber) * 2 + (isUniversal ? 1 : 0);
+        AsnSchemaTag result = FLYWEIGHTS[slot];
+        if (result == null) {
+            final String tag = Integer.toString(tagNumber);
+            result =
+                    isUniversal
+                            ? new AsnSchemaTag(
+                                    Integer.toString(index), null, UNIVERSAL_PREFIX + tag)
+                            : new AsnSchemaTag(Integer.toString(index), tag, null);
+            FLYWEIGHTS[slot] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the first non-digit character in a region of a string
+     *
+     * @param text string to search
+     * @param start start of the region (inclusive)
+     * @param end end of the region (exclusive)
+     * @return the position of the first non-digit character, or {@code end} if the region only
+     *     contains digits
+     */
+    private static int skipDigits(String text, int start, int end) {
+        int position = start;
+        while (position < end && isDigit(text.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Determines whether a region of a string only contains ASCII letters and digits
+     *
+     * @param text string to check
+     * @param start start of the region (inclusive)
+     * @param end end of the region (exclusive)
+     * @return {@code true} if the region only contains ASCII letters and digits
+     */
+    private static boolean isAlphanumeric(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c) && !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether a character is an ASCII digit
+     *
+     * @param c character to check
+     * @return {@code true} if the character is an ASCII digit
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Parses a region of a string as a canonical (i.e. no leading zeros) non-negative number
+     *
+     * @param text string to parse
+     * @param start start of the region (inclusive)
+     * @param end end of the region (exclusive)
+     * @return the number, or {@code -1} if the region is not a canonical number which fits within
+     *     an {@code int}
+     */
+    private static int parseCanonicalNumber(String text, int start, int end) {
+        final int length = end - start;
+        if (length <= 0 || length > 9 || (length > 1 && text.charAt(start) == '0')) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
     /**
      * Helper to map from AsnBuiltinType to the ASN.1 value for the Universal tag of this type.
      *
@@ -8,18 +8,24 @@
 package com.brightsparklabs.asanti.model.schema.tag;
 
 import static com.google.common.base.Preconditions.*;
-import static com.google.common.collect.Collections2.*;
 
 import com.brightsparklabs.asanti.data.AsnData;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
-import com.google.common.base.Function;
+import com.brightsparklabs.asanti.model.data.AsnDataNode;
+import com.brightsparklabs.asanti.model.data.RetainedTagTree;
 import com.google.common.base.Predicate;
 import com.google.common.base.Splitter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -45,6 +51,21 @@ public class DecodedTagsHelpers {
     /** predicate used for collection filtering (remove entries that start with a digit */
     private static final DoesNotStartWithDigit filterOutDigits = new DoesNotStartWithDigit();
 
+    /** maximum number of indexes retained by {@link #getImmediateChildren(AsnData, String)} */
+    private static final int IMMEDIATE_CHILDREN_CACHE_SIZE = 64;
+
+    /**
+     * the index of immediate children of each data which does not retain a tree of its tags, so
+     * that the index is only built once per PDU. Keyed by identity, and entries are released once
+     * the data is no longer in use.
+     */
+    private static final LoadingCache<AsnData, ImmutableSetMultimap<String, String>>
+            immediateChildrenCache =
+                    CacheBuilder.newBuilder()
+                            .weakKeys()
+                            .maximumSize(IMMEDIATE_CHILDREN_CACHE_SIZE)
+                            .build(CacheLoader.from(DecodedTagsHelpers::buildImmediateChildren));
+
     // ---------------------------------------------------------------------
     // CONSTRUCTION
     // ---------------------------------------------------------------------
@@ -102,6 +123,12 @@ public class DecodedTagsHelpers {
     /**
      * get the name of the immediate children of the provided parent tag
      *
+     * <p>For {@link AsantiAsnData} which retains its tree of tags (see {@link RetainedTagTree}) the
+     * children are read from the tree. For any other data, an index of the children of every tag
+     * is built on the first call for that data and reused by later calls, so that looking up the
+     * children of every tag in a PDU (e.g. during validation) does not scan all the tags each
+     * time.
+     *
      * @param asnData the AsantiAsnData that we want to extract the tags from
      * @param parentTag the tag to get the children of
      * @return just the name of the immediate children, this is trimmed of any index (eg [1]), ie if
@@ -112,22 +139,67 @@ public class DecodedTagsHelpers {
     public static ImmutableSet<String> getImmediateChildren(AsnData asnData, String parentTag) {
         checkNotNull(asnData);
         checkNotNull(parentTag);
-        // Instead of building out out all the tags, first filter by things that have at least our
-        // tag
-        // in them.
-        final String tag = parentTag.endsWith("/") ? parentTag : parentTag + "/";
-        final ImmutableSet<String> filtered =
-                ImmutableSet.<String>builder()
-                        .addAll(Collections2.filter(asnData.getTags(), new OnlyStartsWith(tag)))
-                        .addAll(
-                                Collections2.filter(
-                                        asnData.getUnmappedTags(), new OnlyStartsWith(tag)))
-                        .build();
-
-        return ImmutableSet.copyOf(
-                Collections2.filter(
-                        transform(filtered, new TransformToJustChildName(parentTag)),
-                        filterOutDigits));
+
+        final String key =
+                parentTag.endsWith("/")
+                        ? parentTag.substring(0, parentTag.length() - 1)
+                        : parentTag;
+
+        // the tree is only used if it is retained, otherwise it would be rebuilt on every call
+        if (asnData instanceof AsantiAsnData
+                && asnData instanceof RetainedTagTree
+                && !key.isEmpty()) {
+            final Optional<AsnDataNode> node = ((AsantiAsnData) asnData).getNode(key);
+            if (node.isEmpty()) {
+                return ImmutableSet.of();
+            }
+
+            final ImmutableSet.Builder<String> result = ImmutableSet.builder();
+            for (final AsnDataNode child : node.get().getChildren()) {
+                final String childName = stripIndex(child.getName());
+                if (filterOutDigits.apply(childName)) {
+                    result.add(childName);
+                }
+            }
+            return result.build();
+        }
+
+        return immediateChildrenCache.getUnchecked(asnData).get(key);
+    }
+
+    /**
+     * Builds an index of the names of the immediate children of every tag in the data in a single
+     * pass over the tags. The names are as per {@link #getImmediateChildren(AsnData, String)}.
+     *
+     * @param asnData the AsnData that we want to extract the tags from
+     * @return map of { parent tag => names of immediate children }. Parent tags have no trailing
+     *     slash, so the children of the root (i.e. the top level type) are keyed by the empty
+     *     string.
+     * @throws NullPointerException if asnData is null
+     */
+    public static ImmutableSetMultimap<String, String> buildImmediateChildren(AsnData asnData) {
+        checkNotNull(asnData);
+        final ImmutableSetMultimap.Builder<String, String> result = ImmutableSetMultimap.builder();
+        for (final String tag : Iterables.concat(asnData.getTags(), asnData.getUnmappedTags())) {
+            // every slash in the tag separates a parent (the prefix) from one of its children
+            for (int slash = tag.indexOf('/'); slash >= 0; slash = tag.indexOf('/', slash + 1)) {
+                int start = slash + 1;
+                while (start < tag.length() && tag.charAt(start) == '/') {
+                    start++;
+                }
+                if (start == tag.length()) {
+                    break;
+                }
+
+                int end = tag.indexOf('/', start);
+                end = (end < 0) ? tag.length() : end;
+                final String childName = stripIndex(tag.substring(start, end));
+                if (filterOutDigits.apply(childName)) {
+                    result.put(tag.substring(0, slash), childName);
+                }
+            }
+        }
+        return result.build();
     }
 
     /**
@@ -170,67 +242,4 @@ public class DecodedTagsHelpers {
             return !matcher.matches();
         }
     }
-
-    /** Predicate to filter the tags so that only the tags starting with the parent are returned. */
-    private static class OnlyStartsWith implements Predicate<String> {
-        private final String parentTag;
-
-        // -------------------------------------------------------------------------
-        // CONSTRUCTION
-        // -------------------------------------------------------------------------
-
-        /**
-         * Default Constructor
-         *
-         * @param parentTag the parent tag we are finding children for
-         */
-        OnlyStartsWith(String parentTag) {
-            this.parentTag = parentTag;
-        }
-
-        // ---------------------------------------------------------------------
-        // IMPLEMENTATION: Predicate
-        // ---------------------------------------------------------------------
-        @Override
-        public boolean apply(final String input) {
-            return input != null && input.startsWith(parentTag);
-        }
-    }
-
-    /**
-     * get just the child name, and get rid of any 'indexes', ie if parentTag is "/Parent/blah" then
-     * /Parent/blah/someTag[0] turns in to someTag if parentTag is "/Parent" then
-     * /Parent/blah/someTag[0] turns in to blah.
-     *
-     * <p>Will return an empty string if the input does not start with the expected parent tag, or
-     * does not have any child
-     */
-    private static class TransformToJustChildName implements Function<String, String> {
-
-        private final String parentTag;
-
-        private final int index;
-
-        TransformToJustChildName(String parentTag) {
-            checkNotNull(parentTag);
-            this.parentTag = parentTag.endsWith("/") ? parentTag : parentTag + "/";
-            index = parentTag.length();
-        }
-
-        // ---------------------------------------------------------------------
-        // IMPLEMENTATION: Function
-        // ---------------------------------------------------------------------
-        @Override
-        public String apply(final String input) {
-            if (input == null || !input.startsWith(parentTag)) {
-                return "";
-            }
-
-            // strip off the parent tag part
-            String str = input.substring(index);
-            // get just the immediate child part
-            str = tagSplitter.splitToList(str).get(0);
-            return stripIndex(str);
-        }
-    }
 }
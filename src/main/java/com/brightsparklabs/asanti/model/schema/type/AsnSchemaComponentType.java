@@ -9,12 +9,22 @@ package com.brightsparklabs.asanti.model.schema.type;
 
 import static com.google.common.base.Preconditions.*;
 
+import com.brightsparklabs.asanti.model.schema.tag.AsnSchemaTag;
+import java.io.Serializable;
+
 /**
  * An item within a 'constructed' (SET, SEQUENCE, CHOICE) type definition
  *
  * @author brightSPARK Labs
  */
-public class AsnSchemaComponentType {
+public class AsnSchemaComponentType implements Serializable {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -26,6 +36,9 @@ public class AsnSchemaComponentType {
     // private final String tag;
     private String tag;
 
+    /** key of the tag of this component type (see {@link AsnSchemaTag#createTagKey(String)}) */
+    private long tagKey;
+
     /** whether this component type is optional */
     private final boolean isOptional;
 
@@ -54,6 +67,7 @@ public class AsnSchemaComponentType {
 
         this.name = name;
         this.tag = (tag == null) ? "" : tag;
+        this.tagKey = AsnSchemaTag.createTagKey(this.tag);
         this.isOptional = isOptional;
         this.type = type;
     }
@@ -75,6 +89,15 @@ public class AsnSchemaComponentType {
      */
     public void setTag(String tag) {
         this.tag = (tag == null) ? "" : tag;
+        this.tagKey = AsnSchemaTag.createTagKey(this.tag);
+    }
+
+    /**
+     * @return the key of the tag of this component type (see {@link
+     *     AsnSchemaTag#createTagKey(String)})
+     */
+    public long getTagKey() {
+        return tagKey;
     }
 
     /**
@@ -15,6 +15,7 @@ import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.brightsparklabs.asanti.visitor.VisitableThrowing;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import java.io.Serializable;
 import java.text.ParseException;
 import java.util.Optional;
 
@@ -87,7 +88,14 @@ public interface AsnSchemaType extends VisitableThrowing<AsnSchemaTypeVisitor<?>
      * <p>NOTE: This is not named {@code AsnSchemaTypeDefinitionNull} because that is the name used
      * to model an actual ASN.1 {@code NULL} Type Definition.
      */
-    class Null implements AsnSchemaType {
+    class Null implements AsnSchemaType, Serializable {
+        // ---------------------------------------------------------------------
+        // CLASS VARIABLES
+        // ---------------------------------------------------------------------
+
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
         // ---------------------------------------------------------------------
         // CONSTRUCTION
         // ---------------------------------------------------------------------
@@ -132,5 +140,18 @@ public interface AsnSchemaType extends VisitableThrowing<AsnSchemaTypeVisitor<?>
         public Object accept(final AsnSchemaTypeVisitor<?> visitor) throws ParseException {
             return visitor.visit(this);
         }
+
+        // ---------------------------------------------------------------------
+        // IMPLEMENTATION: Serializable
+        // ---------------------------------------------------------------------
+
+        /**
+         * Resolves deserialized instances to the singleton instance.
+         *
+         * @return {@link AsnSchemaType#NULL}
+         */
+        private Object readResolve() {
+            return AsnSchemaType.NULL;
+        }
     }
 }
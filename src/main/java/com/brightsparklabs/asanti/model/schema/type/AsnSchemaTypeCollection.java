@@ -33,6 +33,9 @@ public class AsnSchemaTypeCollection extends AbstractAsnSchemaType {
     // CLASS VARIABLES
     // -------------------------------------------------------------------------
 
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     /** built-in types which are considered 'collection'. Currently: SET OF and SEQUENCE OF */
     private static final ImmutableSet<AsnPrimitiveType> validTypes =
             ImmutableSet.of(AsnPrimitiveTypes.SET_OF, AsnPrimitiveTypes.SEQUENCE_OF);
@@ -47,6 +50,9 @@ public class AsnSchemaTypeCollection extends AbstractAsnSchemaType {
     /** the Universal tag we should expect */
     private String myUniversalTag = "";
 
+    /** the key of the Universal tag we should expect */
+    private long myUniversalTagKey = AsnSchemaTag.createTagKey(myUniversalTag);
+
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
@@ -104,6 +110,7 @@ public class AsnSchemaTypeCollection extends AbstractAsnSchemaType {
      */
     public void performTagging() {
         myUniversalTag = AsnSchemaTag.createUniversalPortion(elementType.getBuiltinType());
+        myUniversalTagKey = AsnSchemaTag.createTagKey(myUniversalTag);
     }
 
     // -------------------------------------------------------------------------
@@ -138,7 +145,7 @@ public class AsnSchemaTypeCollection extends AbstractAsnSchemaType {
             }
         }
 
-        if (tag.getTagPortion().equals(myUniversalTag)) {
+        if (tag.matchesTagPortion(myUniversalTag, myUniversalTagKey)) {
             return Optional.of(
                     new AsnSchemaComponentType(
                             "[" + tag.getTagIndex() + "]", rawTag, false, elementType));
@@ -18,9 +18,15 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Maps;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +45,9 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
     // CLASS VARIABLES
     // -------------------------------------------------------------------------
 
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     /** built-in types which are considered 'constructed'. Currently: SEQUENCE, SET and CHOICE. */
     private static final ImmutableSet<AsnPrimitiveType> validTypes =
             ImmutableSet.of(
@@ -54,6 +63,16 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
     /** the mechanism to be used for creation of Tags, during schema creation */
     private final TagCreator tagCreator;
 
+    /**
+     * the components to match during decoding, indexed by tag key (see {@link
+     * TagCreator#createComponentIndex(Iterable)}). {@code null} if no index has been built, in
+     * which case the components are matched by {@link TagCreator#getComponentType}. The index is
+     * built at most once, after the final tags are known, and is never changed afterwards. It is
+     * volatile as the types imported by a module are checked by each module that imports them,
+     * which may occur concurrently.
+     */
+    private volatile ComponentIndex componentIndex = null;
+
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
@@ -99,19 +118,31 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
     /**
      * Determines if there are any duplicate tags (meaning that decoding would be ambiguous) and
      * throws if there are. This function requires that all the components have their final tags,
-     * i.e. that {@link AsnSchemaTypeConstructed#performTagging()} has been called
+     * i.e. that {@link AsnSchemaTypeConstructed#performTagging()} has been called.
+     *
+     * <p>As the final tags are known at this point, this also builds the index used to match
+     * components during decoding.
      *
      * @throws ParseException if there are duplicate tags
      */
     public void checkForDuplicates() throws ParseException {
         tagCreator.checkForDuplicates(componentTypes);
+        if (componentIndex == null) {
+            // concurrent checks build equal indexes, so it does not matter which is kept
+            componentIndex = tagCreator.createComponentIndex(componentTypes).orElse(null);
+        }
     }
 
     /**
      * Will provide an automatic or universal tag for each component as appropriate. This requires
      * that all the types and imports have been fully resolved.
+     *
+     * @throws IllegalStateException if the tags have already been checked by {@link
+     *     #checkForDuplicates()}
      */
     public void performTagging() {
+        // the index relies on the tags being final
+        checkState(componentIndex == null, "Components have already been indexed by tag");
         tagCreator.setTagsForComponents(componentTypes);
     }
 
@@ -128,6 +159,10 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
     public Optional<AsnSchemaComponentType> getMatchingChild(
             String rawTag, DecodingSession decodingSession) {
         AsnSchemaTag tag = AsnSchemaTag.create(rawTag);
+        final ComponentIndex index = componentIndex;
+        if (index != null) {
+            return index.get(tag);
+        }
         return tagCreator.getComponentType(tag, componentTypes, decodingSession);
     }
 
@@ -142,12 +177,15 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
      *
      * @author brightSPARK Labs
      */
-    public static class TagCreator {
+    public static class TagCreator implements Serializable {
 
         // -------------------------------------------------------------------------
         // CLASS VARIABLES
         // -------------------------------------------------------------------------
 
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
         /** class logger */
         private static final Logger logger = LoggerFactory.getLogger(TagCreator.class);
 
@@ -352,6 +390,20 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
             return tagMatchingCreator.getComponent(tag, components, decodingSession);
         }
 
+        /**
+         * Creates an index which can be used to match tags to components in place of {@link
+         * #getComponentType}. This requires that all the components have their final tags, and
+         * that the indexes of any tagless CHOICE components have been created.
+         *
+         * @param componentTypes AsnSchemaComponentType contained in the Constructed type
+         * @return the matching component for each tag portion, or {@link Optional#empty()} if
+         *     matching cannot be done via an index
+         */
+        public Optional<ComponentIndex> createComponentIndex(
+                Iterable<AsnSchemaComponentType> componentTypes) {
+            return tagMatchingCreator.createComponentIndex(componentTypes);
+        }
+
         // -------------------------------------------------------------------------
         // PRIVATE METHODS
         // -------------------------------------------------------------------------
@@ -492,7 +544,7 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
             }
 
             // Is it a direct match
-            if (component.getTag().equals(tag.getTagPortion())) {
+            if (tag.matchesTagPortion(component.getTag(), component.getTagKey())) {
                 return Optional.of(component);
             }
 
@@ -500,6 +552,31 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
             return Optional.empty();
         }
 
+        // -------------------------------------------------------------------------
+        // IMPLEMENTATION: Serializable
+        // -------------------------------------------------------------------------
+
+        /**
+         * Serializes this creator as a {@link SerializedForm}, so that deserializing it returns
+         * one of the static instances rather than copies of the strategies.
+         *
+         * @return the serialized form of this creator
+         */
+        private Object writeReplace() {
+            return new SerializedForm(
+                    tagDecorator == TAG_DECORATOR_SEQUENCE, tagAutomator == TAG_AUTOMATOR_CHECK);
+        }
+
+        /**
+         * Prevents deserializing a creator other than through its {@link SerializedForm}.
+         *
+         * @param in stream to read the creator from
+         * @throws InvalidObjectException always
+         */
+        private void readObject(ObjectInputStream in) throws InvalidObjectException {
+            throw new InvalidObjectException("TagCreator must be read via its serialized form");
+        }
+
         // -------------------------------------------------------------------------
         // INTERNAL CLASSES
         // -------------------------------------------------------------------------
@@ -609,6 +686,17 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
                     AsnSchemaTag tag,
                     List<AsnSchemaComponentType> components,
                     DecodingSession decodingSession);
+
+            /**
+             * Creates an index which gives the same results as {@link #getComponent} for each tag
+             * portion
+             *
+             * @param components the input components to match from
+             * @return the matching component for each tag portion, or {@link Optional#empty()} if
+             *     the results of {@link #getComponent} cannot be indexed
+             */
+            Optional<ComponentIndex> createComponentIndex(
+                    Iterable<AsnSchemaComponentType> components);
         }
 
         /** implementation of TagMatchingCreator for Sequence types */
@@ -662,6 +750,13 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
                 //  No match found.
                 return Optional.empty();
             }
+
+            @Override
+            public Optional<ComponentIndex> createComponentIndex(
+                    Iterable<AsnSchemaComponentType> components) {
+                // matching depends on where we are up to in the Sequence
+                return Optional.empty();
+            }
         }
 
         /** implementation of TagMatchingCreator for Set and Choice types */
@@ -693,6 +788,262 @@ public class AsnSchemaTypeConstructed extends AbstractAsnSchemaType {
                 }
                 return Optional.empty();
             }
+
+            @Override
+            public Optional<ComponentIndex> createComponentIndex(
+                    Iterable<AsnSchemaComponentType> components) {
+                // Mirror getComponent, where the first component to match a tag wins. Tagless
+                // Choice components match any tag their alternatives match (via the index of the
+                // Choice), and are otherwise matched directly like any other component.
+                final ComponentIndex.Builder index = new ComponentIndex.Builder();
+                for (AsnSchemaComponentType component : components) {
+                    if (isTaglessChoice(component)) {
+                        final Optional<ComponentIndex> choiceIndex =
+                                getComponentIndex(component.getType());
+                        if (choiceIndex.isEmpty()) {
+                            return Optional.empty();
+                        }
+                        choiceIndex
+                                .get()
+                                .forEach(
+                                        (tagKey, tagPortion, choiceComponent) -> {
+                                            if (!index.contains(tagKey, tagPortion)) {
+                                                index.put(
+                                                        tagKey,
+                                                        tagPortion,
+                                                        buildFullyQualifiedComponentType(
+                                                                choiceComponent,
+                                                                component.getName()));
+                                            }
+                                        });
+                    }
+                    if (!index.contains(component.getTagKey(), component.getTag())) {
+                        index.put(component.getTagKey(), component.getTag(), component);
+                    }
+                }
+                return Optional.of(index.build());
+            }
+
+            /**
+             * Returns the index which has been built for the supplied type
+             *
+             * @param type type to get the index of. Placeholders are resolved to their underlying
+             *     type.
+             * @return the index of the type, or {@link Optional#empty()} if the type is not a
+             *     Constructed type or no index has been built for it
+             */
+            private static Optional<ComponentIndex> getComponentIndex(AsnSchemaType type) {
+                // only rely on the behaviour of getMatchingChild for these exact classes
+                AsnSchemaType resolvedType = type;
+                while (resolvedType != null
+                        && resolvedType.getClass() == AsnSchemaTypePlaceholder.class) {
+                    resolvedType = ((AsnSchemaTypePlaceholder) resolvedType).getIndirectType();
+                }
+                if (resolvedType == null
+                        || resolvedType.getClass() != AsnSchemaTypeConstructed.class) {
+                    return Optional.empty();
+                }
+                final AsnSchemaTypeConstructed constructedType =
+                        (AsnSchemaTypeConstructed) resolvedType;
+                return Optional.ofNullable(constructedType.componentIndex);
+            }
+        }
+
+        /** The serialized form of a {@link TagCreator} */
+        private static class SerializedForm implements Serializable {
+            /** version of the serialized form */
+            private static final long serialVersionUID = 1L;
+
+            /** whether the creator is for a Sequence rather than a Set/Choice */
+            private final boolean isSequence;
+
+            /** whether the creator automatically generates tags */
+            private final boolean isAutomatic;
+
+            /**
+             * Default constructor
+             *
+             * @param isSequence whether the creator is for a Sequence rather than a Set/Choice
+             * @param isAutomatic whether the creator automatically generates tags
+             */
+            private SerializedForm(boolean isSequence, boolean isAutomatic) {
+                this.isSequence = isSequence;
+                this.isAutomatic = isAutomatic;
+            }
+
+            /**
+             * Resolves the serialized form to the equivalent static instance
+             *
+             * @return the equivalent static instance of {@link TagCreator}
+             */
+            private Object readResolve() {
+                final AsnPrimitiveType type =
+                        isSequence ? AsnPrimitiveTypes.SEQUENCE : AsnPrimitiveTypes.SET;
+                final AsnModuleTaggingMode taggingMode =
+                        isAutomatic ? AsnModuleTaggingMode.AUTOMATIC : AsnModuleTaggingMode.DEFAULT;
+                return create(type, taggingMode);
+            }
+        }
+    }
+
+    /**
+     * The components of a Constructed type indexed by the tags they match. This gives the same
+     * results as matching a tag against each component via {@link
+     * AsnSchemaTag#matchesTagPortion(String, long)}: tags with a tag key are found by a binary
+     * search of the tag keys, and any other tags by their tag portion.
+     *
+     * @author brightSPARK Labs
+     */
+    public static final class ComponentIndex implements Serializable {
+        // ---------------------------------------------------------------------
+        // CLASS VARIABLES
+        // ---------------------------------------------------------------------
+
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
+        // ---------------------------------------------------------------------
+        // INSTANCE VARIABLES
+        // ---------------------------------------------------------------------
+
+        /** the tag keys of the indexed components (in ascending order) */
+        private final long[] tagKeys;
+
+        /** the component matching each of the {@link #tagKeys} */
+        private final AsnSchemaComponentType[] keyedComponents;
+
+        /** the components whose tags do not have a tag key, indexed by tag portion */
+        private final ImmutableMap<String, AsnSchemaComponentType> otherComponents;
+
+        // ---------------------------------------------------------------------
+        // CONSTRUCTION
+        // ---------------------------------------------------------------------
+
+        /**
+         * Private constructor. Use {@link Builder} to create instances.
+         *
+         * @param builder builder to create the instance from
+         */
+        private ComponentIndex(Builder builder) {
+            tagKeys = new long[builder.keyedComponents.size()];
+            keyedComponents = new AsnSchemaComponentType[tagKeys.length];
+            int i = 0;
+            for (Map.Entry<Long, AsnSchemaComponentType> entry :
+                    ImmutableSortedMap.copyOf(builder.keyedComponents).entrySet()) {
+                tagKeys[i] = entry.getKey();
+                keyedComponents[i] = entry.getValue();
+                i++;
+            }
+            otherComponents = ImmutableMap.copyOf(builder.otherComponents);
+        }
+
+        // ---------------------------------------------------------------------
+        // PUBLIC METHODS
+        // ---------------------------------------------------------------------
+
+        /**
+         * Returns the component which matches the supplied tag
+         *
+         * @param tag tag to match
+         * @return the matching component, or {@link Optional#empty()} if no component matches
+         */
+        public Optional<AsnSchemaComponentType> get(AsnSchemaTag tag) {
+            final long tagKey = tag.getTagKey();
+            if (tagKey == AsnSchemaTag.NO_TAG_KEY) {
+                return Optional.ofNullable(otherComponents.get(tag.getTagPortion()));
+            }
+            final int i = Arrays.binarySearch(tagKeys, tagKey);
+            return (i < 0) ? Optional.empty() : Optional.of(keyedComponents[i]);
+        }
+
+        // ---------------------------------------------------------------------
+        // PRIVATE METHODS
+        // ---------------------------------------------------------------------
+
+        /**
+         * Passes each of the indexed components to the supplied consumer
+         *
+         * @param consumer consumer to pass the components to
+         */
+        private void forEach(EntryConsumer consumer) {
+            for (int i = 0; i < tagKeys.length; i++) {
+                consumer.accept(tagKeys[i], null, keyedComponents[i]);
+            }
+            otherComponents.forEach(
+                    (tagPortion, component) ->
+                            consumer.accept(AsnSchemaTag.NO_TAG_KEY, tagPortion, component));
+        }
+
+        // ---------------------------------------------------------------------
+        // INTERNAL CLASS: EntryConsumer
+        // ---------------------------------------------------------------------
+
+        /** Consumer of the entries of a {@link ComponentIndex} */
+        private interface EntryConsumer {
+            /**
+             * Accepts an entry of the index
+             *
+             * @param tagKey tag key of the entry, or {@link AsnSchemaTag#NO_TAG_KEY} if it is
+             *     indexed by tag portion
+             * @param tagPortion tag portion of the entry, or {@code null} if it is indexed by tag
+             *     key
+             * @param component the component matching the entry
+             */
+            void accept(long tagKey, String tagPortion, AsnSchemaComponentType component);
+        }
+
+        // ---------------------------------------------------------------------
+        // INTERNAL CLASS: Builder
+        // ---------------------------------------------------------------------
+
+        /** Builder for creating instances of {@link ComponentIndex} */
+        private static class Builder {
+            /** the components which have been added with a tag key */
+            private final Map<Long, AsnSchemaComponentType> keyedComponents = Maps.newHashMap();
+
+            /** the components which have been added without a tag key */
+            private final Map<String, AsnSchemaComponentType> otherComponents =
+                    Maps.newLinkedHashMap();
+
+            /**
+             * Determines whether a component has already been added for the specified tag
+             *
+             * @param tagKey tag key of the tag (see {@link AsnSchemaTag#createTagKey(String)})
+             * @param tagPortion tag portion of the tag. Only used if {@code tagKey} is {@link
+             *     AsnSchemaTag#NO_TAG_KEY}.
+             * @return {@code true} if a component has been added for the tag
+             */
+            private boolean contains(long tagKey, String tagPortion) {
+                return (tagKey == AsnSchemaTag.NO_TAG_KEY)
+                        ? otherComponents.containsKey(tagPortion)
+                        : keyedComponents.containsKey(tagKey);
+            }
+
+            /**
+             * Adds the component to match for the specified tag
+             *
+             * @param tagKey tag key of the tag (see {@link AsnSchemaTag#createTagKey(String)})
+             * @param tagPortion tag portion of the tag. Only used if {@code tagKey} is {@link
+             *     AsnSchemaTag#NO_TAG_KEY}.
+             * @param component component which matches the tag
+             */
+            private void put(long tagKey, String tagPortion, AsnSchemaComponentType component) {
+                if (tagKey != AsnSchemaTag.NO_TAG_KEY) {
+                    keyedComponents.put(tagKey, component);
+                } else if (tagPortion != null) {
+                    // a null tag portion does not match any tag
+                    otherComponents.put(tagPortion, component);
+                }
+            }
+
+            /**
+             * Creates the index of the components which have been added
+             *
+             * @return the index
+             */
+            private ComponentIndex build() {
+                return new ComponentIndex(this);
+            }
         }
     }
 }
@@ -28,6 +28,13 @@ import java.util.Optional;
  * @author brightSPARK Labs
  */
 public class AsnSchemaTypePlaceholder extends AbstractAsnSchemaType {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
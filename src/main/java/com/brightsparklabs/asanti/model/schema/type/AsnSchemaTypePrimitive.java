@@ -19,6 +19,13 @@ import java.util.Optional;
  */
 public class AsnSchemaTypePrimitive extends AbstractAsnSchemaType {
 
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // CONSTANTS
     // -------------------------------------------------------------------------
@@ -21,6 +21,13 @@ import java.util.Optional;
  */
 public class AsnSchemaTypePrimitiveAliased extends AbstractAsnSchemaType {
 
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // CONSTANTS
     // -------------------------------------------------------------------------
@@ -16,8 +16,12 @@ import com.brightsparklabs.asanti.model.schema.typedefinition.AsnSchemaNamedTag;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Longs;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.SortedMap;
 
 /**
  * A type used to model the types for objects within ASN.1 schema that may contain Named Values, for
@@ -27,6 +31,13 @@ import java.util.Optional;
  * @author brightSPARK Labs
  */
 public class AsnSchemaTypeWithNamedTags extends AbstractAsnSchemaType {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -34,6 +45,12 @@ public class AsnSchemaTypeWithNamedTags extends AbstractAsnSchemaType {
     /** mapping from raw tag to named value */
     private final ImmutableMap<String, AsnSchemaNamedTag> tagsToNamedValues;
 
+    /** the numeric values of the named values, in ascending order */
+    private final long[] sortedValues;
+
+    /** the named values, in the same order as {@link #sortedValues} */
+    private final AsnSchemaNamedTag[] sortedNamedValues;
+
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
@@ -59,11 +76,23 @@ public class AsnSchemaTypeWithNamedTags extends AbstractAsnSchemaType {
         final ImmutableMap.Builder<String, AsnSchemaNamedTag> tagsToNamedValuesBuilder =
                 ImmutableMap.builder();
 
+        // also index the named values by number so decoded values can be looked up without
+        // creating a string. Only tags in canonical form are indexed, as only those could match.
+        final SortedMap<Long, AsnSchemaNamedTag> numberedValues = Maps.newTreeMap();
+
         for (final AsnSchemaNamedTag namedValue : namedValues) {
             final String tag = namedValue.getTag();
             tagsToNamedValuesBuilder.put(tag, namedValue);
+
+            final Long value = Longs.tryParse(tag);
+            if (value != null && value.toString().equals(tag)) {
+                numberedValues.put(value, namedValue);
+            }
         }
         tagsToNamedValues = tagsToNamedValuesBuilder.build();
+
+        sortedValues = Longs.toArray(numberedValues.keySet());
+        sortedNamedValues = numberedValues.values().toArray(new AsnSchemaNamedTag[0]);
     }
 
     // ---------------------------------------------------------------------
@@ -79,6 +108,18 @@ public class AsnSchemaTypeWithNamedTags extends AbstractAsnSchemaType {
         return tagsToNamedValues;
     }
 
+    /**
+     * Returns the "named value" with the specified numeric value
+     *
+     * @param value numeric value of the named value (e.g. the decoded value of an ENUMERATED)
+     * @return the named value, or {@link Optional#empty()} if this type has no named value with the
+     *     specified value
+     */
+    public Optional<AsnSchemaNamedTag> getNamedValue(long value) {
+        final int index = Arrays.binarySearch(sortedValues, value);
+        return (index < 0) ? Optional.empty() : Optional.of(sortedNamedValues[index]);
+    }
+
     // -------------------------------------------------------------------------
     // IMPLEMENTATION: BaseAsnSchemaType
     // -------------------------------------------------------------------------
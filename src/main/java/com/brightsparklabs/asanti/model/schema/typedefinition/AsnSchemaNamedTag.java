@@ -9,13 +9,22 @@ package com.brightsparklabs.asanti.model.schema.typedefinition;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.io.Serializable;
+
 /**
  * A named tag in the ENUMERATED or INTEGER type definitions e.g. an ENUMERATED option or an INTEGER
  * distinguished value.
  *
  * @author brightSPARK Labs
  */
-public class AsnSchemaNamedTag {
+public class AsnSchemaNamedTag implements Serializable {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** version of the serialized form */
+    private static final long serialVersionUID = 1L;
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
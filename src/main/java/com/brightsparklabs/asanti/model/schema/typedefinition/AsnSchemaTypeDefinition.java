@@ -54,6 +54,13 @@ public interface AsnSchemaTypeDefinition {
      * to model an actual ASN.1 {@code NULL} Type Definition.
      */
     public static class Null extends AsnSchemaTypeDefinitionImpl {
+        // ---------------------------------------------------------------------
+        // CLASS VARIABLES
+        // ---------------------------------------------------------------------
+
+        /** version of the serialized form */
+        private static final long serialVersionUID = 1L;
+
         // ---------------------------------------------------------------------
         // CONSTRUCTION
         // ---------------------------------------------------------------------
@@ -79,5 +86,18 @@ public interface AsnSchemaTypeDefinition {
         public AsnSchemaType getType() {
             return AsnSchemaType.NULL;
         }
+
+        // ---------------------------------------------------------------------
+        // IMPLEMENTATION: Serializable
+        // ---------------------------------------------------------------------
+
+        /**
+         * Resolves deserialized instances to the singleton instance.
+         *
+         * @return {@link AsnSchemaTypeDefinition#NULL}
+         */
+        private Object readResolve() {
+            return AsnSchemaTypeDefinition.NULL;
+        }
     }
 }
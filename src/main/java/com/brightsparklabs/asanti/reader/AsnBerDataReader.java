@@ -7,20 +7,25 @@
 
 package com.brightsparklabs.asanti.reader;
 
+import com.brightsparklabs.asanti.model.data.CompactRawAsnDataImpl;
 import com.brightsparklabs.asanti.model.data.RawAsnData;
-import com.brightsparklabs.asanti.model.data.RawAsnDataImpl;
-import com.brightsparklabs.asanti.model.schema.tag.AsnSchemaTag;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.Streams;
 import com.google.common.io.ByteSource;
+import java.io.Closeable;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
-import java.util.Enumeration;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
-import java.util.Map;
-import org.bouncycastle.asn1.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Reads data from ASN.1 BER/DER binary files
@@ -32,6 +37,9 @@ public class AsnBerDataReader {
     // CLASS VARIABLES
     // -------------------------------------------------------------------------
 
+    /** maximum number of bytes of a file to memory-map at a time */
+    private static final int MAPPED_WINDOW_SIZE = 1 << 30;
+
     // -------------------------------------------------------------------------
     // PUBLIC METHODS
     // -------------------------------------------------------------------------
@@ -60,274 +68,366 @@ public class AsnBerDataReader {
      */
     public static ImmutableList<RawAsnData> read(ByteSource source, int maxPDUs)
             throws IOException {
-        final InputStream inputStream = source.openStream();
-        final ASN1InputStream asnInputStream = new ASN1InputStream(inputStream);
-
         final List<RawAsnData> result = Lists.newArrayList();
-
-        ASN1Primitive asnObject = asnInputStream.readObject();
-        while (asnObject != null) {
-            final Map<String, byte[]> tagsToData =
-                    Maps.newLinkedHashMap(); // we want to preserve input order
-
-            processDerObject(asnObject, "", tagsToData, 0);
-            final RawAsnData rawAsnData = new RawAsnDataImpl(tagsToData);
-            result.add(rawAsnData);
-            asnObject = asnInputStream.readObject();
-
-            /*
-             * NOTE: do not use '>=' in the below if statement as we use 0 (or
-             * negative numbers) to indicate no limit. We cannot use
-             * Integer#MAX_VALUE as iterables do not need to be limited to this
-             * size
-             */
-            if (result.size() == maxPDUs) {
-                break;
+        try (PduIterator iterator = new PduIterator(new StreamPduSource(source.openStream()))) {
+            while (iterator.hasNextPdu()) {
+                result.add(iterator.next());
+
+                /*
+                 * NOTE: do not use '>=' in the below if statement as we use 0 (or
+                 * negative numbers) to indicate no limit. We cannot use
+                 * Integer#MAX_VALUE as iterables do not need to be limited to this
+                 * size
+                 */
+                if (result.size() == maxPDUs) {
+                    break;
+                }
             }
         }
-
-        asnInputStream.close();
-
         return ImmutableList.copyOf(result);
     }
 
-    // -------------------------------------------------------------------------
-    // PRIVATE METHODS
-    // -------------------------------------------------------------------------
+    /**
+     * Lazily reads the supplied ASN.1 BER/DER binary data one PDU at a time. Only the PDU currently
+     * being read is held in memory, so this is suitable for data which is too large to be read in
+     * its entirety via {@link #read(ByteSource)}.
+     *
+     * <p>The underlying input stream is closed once the last PDU has been read, or when the
+     * returned stream is closed (whichever occurs first). Callers should therefore consume the
+     * stream within a try-with-resources block.
+     *
+     * @param source data to decode
+     * @return stream of the {@link RawAsnData} objects found in the data (in input order)
+     * @throws IOException if any errors occur opening the data
+     * @throws UncheckedIOException if any errors occur reading the data while the stream is being
+     *     consumed
+     */
+    public static Stream<RawAsnData> stream(ByteSource source) throws IOException {
+        final PduIterator iterator = new PduIterator(new StreamPduSource(source.openStream()));
+        return Streams.stream(iterator).onClose(iterator::closeQuietly);
+    }
 
     /**
-     * Processes a DER object and stores the tags/data found in it
+     * Reads the supplied ASN.1 BER/DER binary data one PDU at a time, passing each PDU to the
+     * supplied consumer as soon as it has been read. Only the PDU currently being processed is held
+     * in memory.
      *
-     * @param derObject object to process
-     * @param prefix prefix to prepend to any tags found
-     * @param tagsToData storage for the tags/data found
-     * @param index the index of this item within the parent container
-     * @throws IOException if any errors occur reading from the file
+     * @param source data to decode
+     * @param consumer consumer to pass each {@link RawAsnData} object to (in input order)
+     * @throws IOException if any errors occur reading the data
      */
-    private static void processDerObject(
-            ASN1Primitive derObject, String prefix, Map<String, byte[]> tagsToData, int index)
+    public static void read(ByteSource source, Consumer<? super RawAsnData> consumer)
             throws IOException {
-        if (derObject instanceof ASN1Sequence) {
-            processSequence((ASN1Sequence) derObject, prefix, tagsToData);
-        } else if (derObject instanceof ASN1Set) {
-            processSet((ASN1Set) derObject, prefix, tagsToData);
-        } else if (derObject instanceof ASN1TaggedObject) {
-            processTaggedObject((ASN1TaggedObject) derObject, prefix, tagsToData, index);
-        } else if (derObject instanceof DERApplicationSpecific) {
-            processApplicationSpecific(
-                    (DERApplicationSpecific) derObject, prefix, tagsToData, index);
-        } else {
-            processPrimitiveDerObject(derObject, prefix, tagsToData);
+        try (PduIterator iterator = new PduIterator(new StreamPduSource(source.openStream()))) {
+            while (iterator.hasNextPdu()) {
+                consumer.accept(iterator.next());
+            }
         }
     }
 
     /**
-     * Processes an ASN.1 'Sequence' and stores the tags/data found in it
+     * Reads the ASN.1 BER/DER binary file at the supplied path by memory-mapping it. PDUs are read
+     * directly from the mapping, which allows the operating system's page cache to serve files
+     * which are read repeatedly.
      *
-     * @param asnSequence sequence to process
-     * @param prefix prefix to prepend to any tags found
-     * @param tagsToData storage for the tags/data found
-     * @throws IOException if any errors occur reading from the file
+     * @param path file to decode
+     * @return list of {@link RawAsnData} objects found in the file
+     * @throws IOException if any errors occur reading the file
      */
-    private static void processSequence(
-            ASN1Sequence asnSequence, String prefix, Map<String, byte[]> tagsToData)
-            throws IOException {
-        processElementsFromSequenceOrSet(asnSequence.getObjects(), prefix, tagsToData);
+    public static ImmutableList<RawAsnData> read(Path path) throws IOException {
+        try (Stream<RawAsnData> stream = stream(path)) {
+            return stream.collect(ImmutableList.toImmutableList());
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
     }
 
     /**
-     * Processes an ASN.1 'Set' and stores the tags/data found in it
+     * Lazily reads the ASN.1 BER/DER binary file at the supplied path one PDU at a time by
+     * memory-mapping it. The file is mapped in windows of at most 1 GiB, so files of any size can
+     * be read (provided each PDU fits within a single window).
+     *
+     * <p>The file is closed once the last PDU has been read, or when the returned stream is closed
+     * (whichever occurs first). Callers should therefore consume the stream within a
+     * try-with-resources block.
      *
-     * @param asnSet set to process
-     * @param prefix prefix to prepend to any tags found
-     * @param tagsToData storage for the tags/data found
-     * @throws IOException if any errors occur reading from the file
+     * @param path file to decode
+     * @return stream of the {@link RawAsnData} objects found in the file (in input order)
+     * @throws IOException if any errors occur opening the file
+     * @throws UncheckedIOException if any errors occur reading the file while the stream is being
+     *     consumed
      */
-    private static void processSet(ASN1Set asnSet, String prefix, Map<String, byte[]> tagsToData)
-            throws IOException {
-        processElementsFromSequenceOrSet(asnSet.getObjects(), prefix, tagsToData);
+    public static Stream<RawAsnData> stream(Path path) throws IOException {
+        return stream(path, MAPPED_WINDOW_SIZE);
     }
 
     /**
-     * Processes the elements found in an ASN.1 'Sequence' or ASN.1 'Set' stores the tags/data found
-     * in them
+     * Lazily reads the ASN.1 BER/DER binary file at the supplied path one PDU at a time by
+     * memory-mapping it in windows of the specified size
      *
-     * @param elements elements from the sequence or set
-     * @param prefix prefix to prepend to any tags found
-     * @param tagsToData storage for the tags/data found
-     * @throws IOException if any errors occur reading from the file
+     * @param path file to decode
+     * @param windowSize maximum number of bytes of the file to map at a time
+     * @return stream of the {@link RawAsnData} objects found in the file (in input order)
+     * @throws IOException if any errors occur opening the file
      */
-    @SuppressWarnings("JdkObsolete") // Bouncy Castle lib returns enumeration.
-    private static void processElementsFromSequenceOrSet(
-            Enumeration<?> elements, String prefix, Map<String, byte[]> tagsToData)
-            throws IOException {
-        int index = 0;
-        while (elements.hasMoreElements()) {
-            final Object obj = elements.nextElement();
-            final ASN1Primitive derObject =
-                    (obj instanceof ASN1Primitive)
-                            ? (ASN1Primitive) obj
-                            : ((ASN1Encodable) obj).toASN1Primitive();
-
-            boolean isTagged = (derObject instanceof ASN1TaggedObject);
-            String elementPrefix = prefix;
-
-            if (!isTagged) {
-                // Because this type is not tagged then we need to add a universal tag
-                int tagNumber = getTagNumber(getType(derObject));
-                elementPrefix = prefix + "/" + AsnSchemaTag.createRawTagUniversal(index, tagNumber);
+    static Stream<RawAsnData> stream(Path path, int windowSize) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        final PduIterator iterator;
+        try {
+            iterator = new PduIterator(new MappedPduSource(channel, windowSize));
+        } catch (IOException | RuntimeException ex) {
+            // the stream has not been returned, so nothing else will close the file
+            try {
+                channel.close();
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
             }
-
-            processDerObject(derObject, elementPrefix, tagsToData, index);
-            index++;
-        }
-
-        if (index == 0) {
-            // Then there were no elements found in the Sequence or Set.  (Having an empty
-            // Sequence/Set is valid, for example all the components could be OPTIONAL)
-            // Make an empty data object against this tag so that we know we received the
-            // Constructed type as this is important for decoding and validation.
-            tagsToData.put(prefix, new byte[0]);
+            throw ex;
         }
+        return Streams.stream(iterator).onClose(iterator::closeQuietly);
     }
 
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
     /**
-     * Processes an ASN.1 'Tagged' object and stores the tags/data found in it
+     * Tokenizes the supplied PDU into a {@link RawAsnData}. The returned data is backed by the
+     * supplied buffer rather than holding a copy of each value.
      *
-     * @param asnTaggedObject object to process
-     * @param prefix prefix to prepend to any tags found
-     * @param tagsToData storage for the tags/data found
-     * @throws IOException if any errors occur reading from the file
+     * @param pdu buffer containing exactly the bytes of the PDU
+     * @param rawTags trie to obtain raw tags from
+     * @return the raw tags and values found in the PDU
+     * @throws IOException if the PDU is not a valid BER encoding
      */
-    private static void processTaggedObject(
-            ASN1TaggedObject asnTaggedObject,
-            String prefix,
-            Map<String, byte[]> tagsToData,
-            int index)
+    private static RawAsnData toRawAsnData(ByteBuffer pdu, RawTagTrie rawTags)
             throws IOException {
+        final CompactRawAsnDataImpl.Builder builder = CompactRawAsnDataImpl.builder(pdu);
+        AsnBerTokenizer.tokenize(
+                pdu,
+                rawTags,
+                new AsnBerTokenizer.ValueHandler() {
+                    @Override
+                    public void onValue(String rawTag, int offset, int length) {
+                        builder.put(rawTag, offset, length);
+                    }
+
+                    @Override
+                    public void onSegmentedValue(String rawTag, byte[] value) {
+                        builder.put(rawTag, value);
+                    }
+                });
+        return builder.build();
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: PduIterator
+    // -------------------------------------------------------------------------
 
-        ASN1Primitive obj = asnTaggedObject.getObject();
+    /**
+     * Iterates over the PDUs in a {@link PduSource}, reading each PDU only when it is requested.
+     * The source is closed as soon as the end of the data is reached.
+     */
+    private static class PduIterator extends AbstractIterator<RawAsnData> implements Closeable {
+        /** source the PDUs are being read from */
+        private final PduSource source;
+
+        /** whether the source has been closed */
+        private boolean closed = false;
+
+        /** raw tags shared by all PDUs read from the source */
+        private final RawTagTrie rawTags = new RawTagTrie();
+
+        /**
+         * Default constructor
+         *
+         * @param source source to read PDUs from
+         */
+        private PduIterator(PduSource source) {
+            this.source = source;
+        }
 
-        prefix =
-                prefix
-                        + "/"
-                        + AsnSchemaTag.createRawTag(
-                                index, String.valueOf(asnTaggedObject.getTagNo()));
+        /**
+         * Equivalent to {@link #hasNext()} but propagates any errors encountered reading the data
+         * as checked exceptions
+         *
+         * @return {@code true} if there is another PDU to read
+         * @throws IOException if any errors occur reading from the source
+         */
+        private boolean hasNextPdu() throws IOException {
+            try {
+                return hasNext();
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        }
 
-        int containingType = getType(asnTaggedObject);
-        if (isConstructedType(containingType)) {
-            index = 0;
+        @Override
+        protected RawAsnData computeNext() {
+            if (closed) {
+                return endOfData();
+            }
+
+            try {
+                final ByteBuffer pdu = source.readPdu();
+                if (pdu == null) {
+                    close();
+                    return endOfData();
+                }
+                return toRawAsnData(pdu, rawTags);
+            } catch (IOException ex) {
+                closeQuietly();
+                throw new UncheckedIOException(ex);
+            }
         }
 
-        int type = getType(obj);
-
-        // We are looking for where UNIVERSAL tags are used in the encoding, so that we can insert
-        // appropriate tags.
-        // As part of extracting an object from a tagged object (asnTaggedObject.getObject() above)
-        // if it is not explicit (ie it is not a tag around a universal) then the library seems
-        // to just give it a universal type of either 16 or 4 (Sequence for constructed and
-        // Octet String otherwise)
-        // This means that we need to check for isExplicit as well as whether it is a Universal type
-        if (asnTaggedObject.isExplicit() && isUniversalType(type)) {
-            int number = getTagNumber(type);
-            prefix = prefix + "/" + AsnSchemaTag.createRawTagUniversal(index, number);
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                source.close();
+            }
         }
 
-        processDerObject(asnTaggedObject.getObject(), prefix, tagsToData, index);
+        /** Closes the source, ignoring any errors which occur */
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ex) {
+                // nothing more can be done with the source
+            }
+        }
     }
 
-    /**
-     * Processes an ASN.1 'ApplicationSpecific' object and stores the tags/data found in it
-     *
-     * @param asnApplicationSpecific object to process
-     * @param prefix prefix to prepend to any tags found
-     * @param tagsToData storage for the tags/data found
-     * @throws IOException if any errors occur reading from the file
-     */
-    private static void processApplicationSpecific(
-            DERApplicationSpecific asnApplicationSpecific,
-            String prefix,
-            Map<String, byte[]> tagsToData,
-            int index)
-            throws IOException {
-        prefix = prefix + "/" + asnApplicationSpecific.getApplicationTag();
-        processDerObject(asnApplicationSpecific.getObject(), prefix, tagsToData, index);
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: PduSource
+    // -------------------------------------------------------------------------
+
+    /** A source of PDUs */
+    private interface PduSource extends Closeable {
+        /**
+         * Reads the next PDU from the source
+         *
+         * @return a buffer containing exactly the bytes of the PDU, or {@code null} if there are
+         *     no more PDUs
+         * @throws IOException if any errors occur reading the PDU
+         */
+        ByteBuffer readPdu() throws IOException;
     }
 
-    /**
-     * Processes an ASN.1 'primitive' object and stores the binary data in it against the supplied
-     * tag
-     *
-     * @param derObject object to process
-     * @param tag tag to associate the data with
-     * @param tagsToData storage for the data found
-     * @throws IOException if any errors occur reading from the file
-     */
-    private static void processPrimitiveDerObject(
-            ASN1Primitive derObject, String tag, Map<String, byte[]> tagsToData)
-            throws IOException {
-        // get the bytes representing Tag-Length-Value
-        final byte[] tlvData = derObject.getEncoded();
-
-        // extract the value
-        byte[] value = new byte[0];
-        // must be at least three octets to contain a value
-        if (tlvData.length >= 3) {
-            // determine the number of bytes which define the length
-            int numberOfAdditionalLengthBytes = 0;
-            final int length = tlvData[1] & 0xff;
-            if (length > 127) {
-                // more than one byte used to specify length
-                numberOfAdditionalLengthBytes = length & 0x7f;
-            }
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: StreamPduSource
+    // -------------------------------------------------------------------------
 
-            // extract and store value
-            final int firstDataByteIndex = 2 + numberOfAdditionalLengthBytes;
-            value = Arrays.copyOfRange(tlvData, firstDataByteIndex, tlvData.length);
+    /** Reads PDUs from an input stream, copying each PDU into its own buffer */
+    private static class StreamPduSource implements PduSource {
+        /** stream the PDUs are being read from */
+        private final InputStream inputStream;
+
+        /**
+         * Default constructor
+         *
+         * @param inputStream stream to read PDUs from
+         */
+        private StreamPduSource(InputStream inputStream) {
+            this.inputStream = inputStream;
         }
 
-        tagsToData.put(tag, value);
-    }
+        @Override
+        public ByteBuffer readPdu() throws IOException {
+            return AsnBerTokenizer.readPdu(inputStream);
+        }
 
-    /**
-     * Returns the T from a TLV (Type Length Value) triplet from the ASN1Primitive object
-     *
-     * @param object the ASN1Primitive to extract the T from
-     * @return the T from the TLV
-     */
-    private static int getType(ASN1Primitive object) throws IOException {
-        return object.getEncoded()[0] & 0xff;
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
     }
 
-    /**
-     * Encoding uses TLV (Type Length Value) triplets. This function is checking whether the T is a
-     * Universal tag
-     *
-     * @param type The T from the TLV encoding
-     * @return true if the type is Universal
-     */
-    private static boolean isUniversalType(int type) {
-        return ((type & 0xC0) == 0);
-    }
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: MappedPduSource
+    // -------------------------------------------------------------------------
 
     /**
-     * This masks out the Tag Class and the Constructed/Primitive bits and returns just the number
-     *
-     * @param type the T from the TLV triplet
-     * @return the number part of the tag (the lower 5 bits).
+     * Reads PDUs from a memory-mapped file. Each PDU is returned as a slice of the mapping rather
+     * than a copy. The file is mapped one window at a time, with a new window being mapped whenever
+     * the next PDU extends beyond the current one.
      */
-    private static int getTagNumber(int type) {
-        return type & 0x1F;
-    }
+    private static class MappedPduSource implements PduSource {
+        /** file the PDUs are being read from */
+        private final FileChannel channel;
+
+        /** size of the file */
+        private final long size;
+
+        /** maximum number of bytes of the file to map at a time */
+        private final int windowSize;
+
+        /** the currently mapped window of the file */
+        private ByteBuffer window;
+
+        /** offset within the file of the start of the current window */
+        private long windowStart = 0;
+
+        /** offset within the file of the next PDU */
+        private long position = 0;
+
+        /**
+         * Default constructor
+         *
+         * @param channel file to read PDUs from
+         * @param windowSize maximum number of bytes of the file to map at a time
+         * @throws IOException if any errors occur reading the file
+         */
+        private MappedPduSource(FileChannel channel, int windowSize) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.windowSize = windowSize;
+        }
 
-    /**
-     * Encoding uses TLV (Type Length Value) triplets. This function is checking whether the T is a
-     * Constructed type (bit 5 is 1)
-     *
-     * @param type The T from the TLV encoding
-     * @return true if the type is Constructed
-     */
-    private static boolean isConstructedType(int type) {
-        return (type & 0x20) == 0x20;
+        @Override
+        public ByteBuffer readPdu() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+
+            if (window == null || position >= windowStart + window.limit()) {
+                mapWindow();
+            }
+
+            int offset = (int) (position - windowStart);
+            int length;
+            try {
+                length = AsnBerTokenizer.getPduLength(window, offset);
+            } catch (EOFException ex) {
+                if (offset == 0) {
+                    // window already starts at the PDU, so the PDU is truncated (or too large)
+                    throw ex;
+                }
+                // PDU extends beyond the current window, map a new window starting at the PDU
+                mapWindow();
+                offset = 0;
+                length = AsnBerTokenizer.getPduLength(window, offset);
+            }
+
+            position += length;
+            return window.slice(offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        /**
+         * Maps a new window of the file starting at the current position
+         *
+         * @throws IOException if any errors occur mapping the file
+         */
+        private void mapWindow() throws IOException {
+            windowStart = position;
+            final long mappedSize = Math.min(size - position, windowSize);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, mappedSize);
+        }
     }
 }
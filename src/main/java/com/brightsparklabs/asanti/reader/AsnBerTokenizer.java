@@ -0,0 +1,564 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Tokenizes ASN.1 BER/DER encoded data into the raw tags and values it contains.
+ *
+ * <p>The tokenizer walks the Tag-Length-Value (TLV) triplets of a PDU directly within the buffer
+ * holding the PDU. No intermediate object tree is created and no data is re-encoded. The value of
+ * each primitive TLV is reported as an offset/length pair within the buffer.
+ *
+ * <p>Both definite and indefinite length encodings are supported, as are multi-byte tag numbers.
+ *
+ * @author brightSPARK Labs
+ */
+public class AsnBerTokenizer {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** mask for the class bits of the identifier octet */
+    private static final int MASK_TAG_CLASS = 0xC0;
+
+    /** mask for the constructed bit of the identifier octet */
+    private static final int MASK_CONSTRUCTED = 0x20;
+
+    /** mask for the tag number bits of the identifier octet */
+    private static final int MASK_TAG_NUMBER = 0x1F;
+
+    /** value of the length octet which denotes an indefinite length */
+    private static final int INDEFINITE_LENGTH = 0x80;
+
+    /** universal tag number of the 'SEQUENCE' and 'SEQUENCE OF' types */
+    private static final int UNIVERSAL_SEQUENCE = 16;
+
+    /** universal tag number of the 'SET' and 'SET OF' types */
+    private static final int UNIVERSAL_SET = 17;
+
+    /** initial size of the buffer used to read a PDU from a stream */
+    private static final int INITIAL_PDU_BUFFER_SIZE = 1024;
+
+    /** maximum size of a PDU read from a stream (the maximum size of an array) */
+    private static final int MAX_PDU_SIZE = Integer.MAX_VALUE - 8;
+
+    /** maximum number of bytes to read from a stream in a single read */
+    private static final int READ_CHUNK_SIZE = 1024 * 1024;
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads the next complete PDU (i.e. a top-level TLV) from the supplied stream
+     *
+     * @param inputStream stream to read from
+     * @return a buffer containing exactly the bytes of the PDU, or {@code null} if the end of the
+     *     stream has been reached
+     * @throws IOException if any errors occur reading the stream or if the stream ends part way
+     *     through a PDU
+     */
+    public static ByteBuffer readPdu(InputStream inputStream) throws IOException {
+        final int first = inputStream.read();
+        if (first < 0) {
+            return null;
+        }
+        final PduBuffer pdu = new PduBuffer();
+        copyTlv(first, inputStream, pdu);
+        // trim the buffer as the PDU may be retained for as long as its data is in use
+        final byte[] bytes =
+                (pdu.bytes.length == pdu.size) ? pdu.bytes : Arrays.copyOf(pdu.bytes, pdu.size);
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Tokenizes the PDU within the supplied buffer. The PDU is read from the buffer's position up
+     * to its limit.
+     *
+     * @param pdu buffer containing the PDU
+     * @param handler handler to pass each tag/value found in the PDU to (in input order)
+     * @throws IOException if the PDU is not a valid BER encoding
+     */
+    public static void tokenize(ByteBuffer pdu, ValueHandler handler) throws IOException {
+        tokenize(pdu, new RawTagTrie(), handler);
+    }
+
+    /**
+     * Tokenizes the PDU within the supplied buffer, obtaining the raw tags from the supplied trie.
+     * The PDU is read from the buffer's position up to its limit.
+     *
+     * <p>Tokenizing all PDUs from the same data stream with the same trie means PDUs with a similar
+     * structure share the same raw tag instances.
+     *
+     * @param pdu buffer containing the PDU
+     * @param rawTags trie to obtain raw tags from
+     * @param handler handler to pass each tag/value found in the PDU to (in input order)
+     * @throws IOException if the PDU is not a valid BER encoding
+     */
+    public static void tokenize(ByteBuffer pdu, RawTagTrie rawTags, ValueHandler handler)
+            throws IOException {
+        final Tokenizer tokenizer = new Tokenizer(pdu, handler);
+        final int end = tokenizer.processTlv(pdu.position(), pdu.limit(), rawTags.getRoot(), 0);
+        if (end != pdu.limit()) {
+            throw new IOException(
+                    "Unexpected data found after end of PDU at offset " + end + " of PDU");
+        }
+    }
+
+    /**
+     * Returns the length of the PDU (i.e. the top-level TLV including its identifier and length
+     * octets) starting at the specified position of the supplied buffer
+     *
+     * @param buffer buffer containing the PDU
+     * @param position position of the first octet of the PDU
+     * @return the number of bytes in the PDU
+     * @throws EOFException if the PDU extends beyond the limit of the buffer
+     * @throws IOException if the PDU is not a valid BER encoding
+     */
+    public static int getPduLength(ByteBuffer buffer, int position) throws IOException {
+        final Tokenizer tokenizer = new Tokenizer(buffer, null);
+        return tokenizer.skipTlv(position, buffer.limit()) - position;
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Copies a complete TLV from the supplied stream into the supplied buffer
+     *
+     * @param first the first (identifier) octet of the TLV, which has already been read
+     * @param inputStream stream to read the remainder of the TLV from
+     * @param pdu buffer to copy the TLV into
+     * @throws IOException if any errors occur reading the stream or if the stream ends part way
+     *     through the TLV
+     */
+    private static void copyTlv(int first, InputStream inputStream, PduBuffer pdu)
+            throws IOException {
+        pdu.append(first);
+
+        // copy remaining identifier octets of a multi-byte tag number
+        if ((first & MASK_TAG_NUMBER) == MASK_TAG_NUMBER) {
+            int octet;
+            do {
+                octet = readOctet(inputStream);
+                pdu.append(octet);
+            } while ((octet & 0x80) != 0);
+        }
+
+        // copy length octets
+        final int lengthOctet = readOctet(inputStream);
+        pdu.append(lengthOctet);
+        if (lengthOctet == INDEFINITE_LENGTH) {
+            if ((first & MASK_CONSTRUCTED) == 0) {
+                throw new IOException("Indefinite length found on primitive encoding");
+            }
+            // copy nested TLVs up to and including the end-of-contents octets
+            while (true) {
+                final int nextFirst = readOctet(inputStream);
+                if (nextFirst == 0) {
+                    pdu.append(nextFirst);
+                    if (readOctet(inputStream) != 0) {
+                        throw new IOException("Malformed end-of-contents octets found");
+                    }
+                    pdu.append(0);
+                    return;
+                }
+                copyTlv(nextFirst, inputStream, pdu);
+            }
+        }
+
+        int length = lengthOctet;
+        if ((lengthOctet & 0x80) != 0) {
+            final int numberOfLengthOctets = lengthOctet & 0x7F;
+            length = 0;
+            for (int i = 0; i < numberOfLengthOctets; i++) {
+                final int octet = readOctet(inputStream);
+                pdu.append(octet);
+                length = checkedLength(length, octet);
+            }
+        }
+
+        // copy contents in chunks so that a corrupt length does not trigger a huge allocation
+        int remaining = length;
+        while (remaining > 0) {
+            final int chunk = Math.min(remaining, READ_CHUNK_SIZE);
+            pdu.ensureCapacity(chunk);
+            ByteStreams.readFully(inputStream, pdu.bytes, pdu.size, chunk);
+            pdu.size += chunk;
+            remaining -= chunk;
+        }
+    }
+
+    /**
+     * Reads a single octet from the supplied stream
+     *
+     * @param inputStream stream to read from
+     * @return the octet read
+     * @throws EOFException if the end of the stream has been reached
+     * @throws IOException if any errors occur reading the stream
+     */
+    private static int readOctet(InputStream inputStream) throws IOException {
+        final int octet = inputStream.read();
+        if (octet < 0) {
+            throw new EOFException("End of data reached part way through a PDU");
+        }
+        return octet;
+    }
+
+    /**
+     * Appends a length octet to a partially decoded length
+     *
+     * @param length length decoded so far
+     * @param octet next length octet
+     * @return the updated length
+     * @throws IOException if the length exceeds the maximum supported length
+     */
+    private static int checkedLength(int length, int octet) throws IOException {
+        if (length > (Integer.MAX_VALUE >> 8)) {
+            throw new IOException("Length of TLV exceeds the maximum supported length");
+        }
+        return (length << 8) | octet;
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: ValueHandler
+    // -------------------------------------------------------------------------
+
+    /** Receives the tags and values found by the tokenizer */
+    public interface ValueHandler {
+        /**
+         * Called for each value found in the PDU
+         *
+         * @param rawTag raw tag associated with the value
+         * @param offset offset of the value within the buffer being tokenized
+         * @param length length of the value
+         * @throws IOException if any errors occur handling the value
+         */
+        void onValue(String rawTag, int offset, int length) throws IOException;
+
+        /**
+         * Called for each value found in the PDU which used a constructed (segmented) string
+         * encoding. Such values are not contiguous within the buffer, so are supplied as the
+         * concatenation of the values of their segments.
+         *
+         * @param rawTag raw tag associated with the value
+         * @param value the concatenated value
+         * @throws IOException if any errors occur handling the value
+         */
+        void onSegmentedValue(String rawTag, byte[] value) throws IOException;
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Tokenizer
+    // -------------------------------------------------------------------------
+
+    /** Walks the TLVs within a single PDU */
+    private static class Tokenizer {
+        /** buffer containing the PDU */
+        private final ByteBuffer buffer;
+
+        /** handler to pass values to */
+        private final ValueHandler handler;
+
+        /** tag number read by the last call to {@link #readHeader(int, int)} */
+        private int headerTagNumber;
+
+        /**
+         * length read by the last call to {@link #readHeader(int, int)}, or {@code -1} for an
+         * indefinite length
+         */
+        private int headerLength;
+
+        /**
+         * Default constructor
+         *
+         * @param buffer buffer containing the PDU
+         * @param handler handler to pass values to
+         */
+        private Tokenizer(ByteBuffer buffer, ValueHandler handler) {
+            this.buffer = buffer;
+            this.handler = handler;
+        }
+
+        /**
+         * Processes the TLV starting at the specified position
+         *
+         * @param position position of the first octet of the TLV
+         * @param limit position the TLV must not extend beyond
+         * @param prefix raw tag of the TLV (for universal types), or of the containing TLV (for
+         *     all other types)
+         * @param index the index of this TLV within the containing TLV
+         * @return the position immediately after the end of the TLV
+         * @throws IOException if the TLV is not a valid BER encoding
+         */
+        private int processTlv(int position, int limit, RawTagTrie.Node prefix, int index)
+                throws IOException {
+            final int first = get(position, limit);
+            final boolean isUniversal = (first & MASK_TAG_CLASS) == 0;
+            final boolean isConstructed = (first & MASK_CONSTRUCTED) != 0;
+            position = readHeader(position, limit);
+            final int tagNumber = headerTagNumber;
+            final int length = headerLength;
+            final int contentsEnd = (length < 0) ? -1 : position + length;
+
+            /*
+             * Universal types do not add to the tag. Their tag is added by the containing
+             * SEQUENCE/SET (as it is aware of the index of the universal type within it). All other
+             * tag classes are added as '<index>[<tag number>]'.
+             */
+            final RawTagTrie.Node tag =
+                    isUniversal ? prefix : prefix.getTaggedChild(index, tagNumber);
+
+            if (isConstructed) {
+                if (isUniversal
+                        && tagNumber != UNIVERSAL_SEQUENCE
+                        && tagNumber != UNIVERSAL_SET) {
+                    // constructed (segmented) encoding of a string type
+                    final ByteArrayOutputStream value = new ByteArrayOutputStream();
+                    final int end =
+                            (length < 0)
+                                    ? collectSegments(position, limit, true, value)
+                                    : collectSegments(position, contentsEnd, false, value);
+                    handler.onSegmentedValue(tag.getPath(), value.toByteArray());
+                    return end;
+                }
+                return (length < 0)
+                        ? processElements(position, limit, true, tag)
+                        : processElements(position, contentsEnd, false, tag);
+            }
+
+            handler.onValue(tag.getPath(), position, length);
+            return contentsEnd;
+        }
+
+        /**
+         * Skips over the TLV starting at the specified position
+         *
+         * @param position position of the first octet of the TLV
+         * @param limit position the TLV must not extend beyond
+         * @return the position immediately after the end of the TLV
+         * @throws IOException if the TLV is not a valid BER encoding
+         */
+        private int skipTlv(int position, int limit) throws IOException {
+            position = readHeader(position, limit);
+            if (headerLength >= 0) {
+                return position + headerLength;
+            }
+            while (get(position, limit) != 0 || get(position + 1, limit) != 0) {
+                position = skipTlv(position, limit);
+            }
+            return position + 2;
+        }
+
+        /**
+         * Reads the identifier and length octets of the TLV starting at the specified position.
+         * The tag number and length are stored in {@link #headerTagNumber} and {@link
+         * #headerLength}.
+         *
+         * @param position position of the first octet of the TLV
+         * @param limit position the TLV must not extend beyond
+         * @return the position of the first octet of the contents of the TLV
+         * @throws IOException if the identifier or length octets are not a valid BER encoding, or
+         *     if the contents (of a definite length TLV) extend beyond the limit
+         */
+        private int readHeader(int position, int limit) throws IOException {
+            final int first = get(position++, limit);
+
+            // read tag number
+            int tagNumber = first & MASK_TAG_NUMBER;
+            if (tagNumber == MASK_TAG_NUMBER) {
+                tagNumber = 0;
+                int octet;
+                do {
+                    if (tagNumber > (Integer.MAX_VALUE >> 7)) {
+                        throw new IOException("Tag number exceeds the maximum supported value");
+                    }
+                    octet = get(position++, limit);
+                    tagNumber = (tagNumber << 7) | (octet & 0x7F);
+                } while ((octet & 0x80) != 0);
+            }
+
+            // read length
+            final int lengthOctet = get(position++, limit);
+            int length = -1;
+            if (lengthOctet == INDEFINITE_LENGTH) {
+                if ((first & MASK_CONSTRUCTED) == 0) {
+                    throw new IOException("Indefinite length found on primitive encoding");
+                }
+            } else if ((lengthOctet & 0x80) != 0) {
+                final int numberOfLengthOctets = lengthOctet & 0x7F;
+                length = 0;
+                for (int i = 0; i < numberOfLengthOctets; i++) {
+                    length = checkedLength(length, get(position++, limit));
+                }
+            } else {
+                length = lengthOctet;
+            }
+
+            if ((long) position + length > limit) {
+                throw new EOFException(
+                        "Length of TLV at offset "
+                                + position
+                                + " exceeds the end of its containing data");
+            }
+
+            headerTagNumber = tagNumber;
+            headerLength = length;
+            return position;
+        }
+
+        /**
+         * Processes the TLVs contained within a constructed TLV
+         *
+         * @param position position of the first octet of the contents
+         * @param limit position of the end of the contents (definite length), or the position the
+         *     contents must not extend beyond (indefinite length)
+         * @param isIndefinite whether the contents are terminated by end-of-contents octets
+         * @param prefix raw tag of the constructed TLV
+         * @return the position immediately after the end of the contents (including any
+         *     end-of-contents octets)
+         * @throws IOException if the contents are not a valid BER encoding
+         */
+        private int processElements(
+                int position, int limit, boolean isIndefinite, RawTagTrie.Node prefix)
+                throws IOException {
+            final int start = position;
+            int index = 0;
+            while (true) {
+                if (isIndefinite) {
+                    if (get(position, limit) == 0 && get(position + 1, limit) == 0) {
+                        break;
+                    }
+                } else if (position >= limit) {
+                    break;
+                }
+
+                final int first = get(position, limit);
+                RawTagTrie.Node elementPrefix = prefix;
+                if ((first & MASK_TAG_CLASS) == 0) {
+                    // Because this type is not tagged then we need to add a universal tag
+                    elementPrefix = prefix.getUniversalChild(index, first & MASK_TAG_NUMBER);
+                }
+                position = processTlv(position, limit, elementPrefix, index);
+                index++;
+            }
+
+            if (index == 0) {
+                // Then there were no elements found in the Sequence or Set.  (Having an empty
+                // Sequence/Set is valid, for example all the components could be OPTIONAL)
+                // Make an empty data object against this tag so that we know we received the
+                // Constructed type as this is important for decoding and validation.
+                handler.onValue(prefix.getPath(), start, 0);
+            }
+
+            return isIndefinite ? position + 2 : position;
+        }
+
+        /**
+         * Concatenates the values of the segments within a constructed (segmented) string encoding
+         *
+         * @param position position of the first octet of the contents
+         * @param limit position of the end of the contents (definite length), or the position the
+         *     contents must not extend beyond (indefinite length)
+         * @param isIndefinite whether the contents are terminated by end-of-contents octets
+         * @param value storage for the concatenated value
+         * @return the position immediately after the end of the contents (including any
+         *     end-of-contents octets)
+         * @throws IOException if the contents are not a valid BER encoding
+         */
+        private int collectSegments(
+                int position, int limit, boolean isIndefinite, ByteArrayOutputStream value)
+                throws IOException {
+            while (isIndefinite
+                    ? (get(position, limit) != 0 || get(position + 1, limit) != 0)
+                    : position < limit) {
+                final boolean isConstructed = (get(position, limit) & MASK_CONSTRUCTED) != 0;
+                position = readHeader(position, limit);
+                final int length = headerLength;
+                if (isConstructed) {
+                    // segments may themselves be segmented
+                    position =
+                            (length < 0)
+                                    ? collectSegments(position, limit, true, value)
+                                    : collectSegments(position, position + length, false, value);
+                } else {
+                    for (int i = position; i < position + length; i++) {
+                        value.write(buffer.get(i));
+                    }
+                    position += length;
+                }
+            }
+            return isIndefinite ? position + 2 : position;
+        }
+
+        /**
+         * Returns the octet at the specified position
+         *
+         * @param position position to read
+         * @param limit position which must not be read beyond
+         * @return the octet at the position
+         * @throws IOException if the position is beyond the limit
+         */
+        private int get(int position, int limit) throws IOException {
+            if (position >= limit) {
+                throw new EOFException("End of PDU reached part way through a TLV");
+            }
+            return buffer.get(position) & 0xFF;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: PduBuffer
+    // -------------------------------------------------------------------------
+
+    /** Growable buffer used to accumulate the bytes of a PDU read from a stream */
+    private static class PduBuffer {
+        /** the bytes in the buffer */
+        private byte[] bytes = new byte[INITIAL_PDU_BUFFER_SIZE];
+
+        /** the number of bytes used in the buffer */
+        private int size = 0;
+
+        /**
+         * Appends an octet to the buffer
+         *
+         * @param octet octet to append
+         * @throws IOException if the PDU would exceed the maximum supported size
+         */
+        private void append(int octet) throws IOException {
+            ensureCapacity(1);
+            bytes[size++] = (byte) octet;
+        }
+
+        /**
+         * Ensures the buffer can hold the specified number of additional bytes
+         *
+         * @param additional number of additional bytes
+         * @throws IOException if the PDU would exceed the maximum supported size
+         */
+        private void ensureCapacity(int additional) throws IOException {
+            final long required = (long) size + additional;
+            if (required > bytes.length) {
+                if (required > MAX_PDU_SIZE) {
+                    throw new IOException("PDU exceeds the maximum supported size");
+                }
+                final long doubled = Math.min(2L * bytes.length, MAX_PDU_SIZE);
+                bytes = Arrays.copyOf(bytes, (int) Math.max(required, doubled));
+            }
+        }
+    }
+}
@@ -7,11 +7,30 @@
 
 package com.brightsparklabs.asanti.reader;
 
+import static com.google.common.base.Preconditions.*;
+
 import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.brightsparklabs.asanti.model.schema.AsnSchemaImpl;
 import com.brightsparklabs.asanti.reader.parser.AsnSchemaParser;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSink;
+import com.google.common.io.ByteSource;
 import com.google.common.io.CharSource;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 /**
  * Reads data and models it as an {@link AsnSchema} object
@@ -19,22 +38,184 @@ import java.text.ParseException;
  * @author brightSPARK Labs
  */
 public class AsnSchemaReader {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** maximum number of schemas retained by {@link #readCached(CharSource)} */
+    public static final int SCHEMA_CACHE_SIZE = 16;
+
+    /** schemas which have been read, keyed by the SHA-256 hash of their contents */
+    private static final Cache<HashCode, AsnSchema> schemaCache =
+            CacheBuilder.newBuilder().maximumSize(SCHEMA_CACHE_SIZE).build();
 
     // -------------------------------------------------------------------------
     // PUBLIC METHODS
     // -------------------------------------------------------------------------
 
     /**
-     * Reads the data from the supplied ASN.1 schema source
+     * Reads the data from the supplied ASN.1 schema source. The schema is parsed on the calling
+     * thread.
      *
      * @param source source of characters from an ASN.1 schema
      * @return the data from the supplied ASN.1 schema
      * @throws IOException if any errors occur while parsing the schema file
      */
     public static AsnSchema read(CharSource source) throws IOException {
+        return read(source, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Reads the data from the supplied ASN.1 schema source, processing the modules within the
+     * schema concurrently on the supplied executor (see {@link AsnSchemaParser#parse(String,
+     * Executor)}).
+     *
+     * @param source source of characters from an ASN.1 schema
+     * @param executor executor to process the modules of the schema on
+     * @return the data from the supplied ASN.1 schema
+     * @throws IOException if any errors occur while parsing the schema file
+     */
+    public static AsnSchema read(CharSource source, Executor executor) throws IOException {
+        return parse(source.read(), executor);
+    }
+
+    /**
+     * Reads the data from the supplied ASN.1 schema source, reusing the result of any previous
+     * call with identical contents.
+     *
+     * <p>Schemas are cached by the SHA-256 hash of their contents, and the least recently used are
+     * evicted once more than {@link #SCHEMA_CACHE_SIZE} are cached. The returned schema is shared
+     * between all callers, this is safe as schemas are immutable once read.
+     *
+     * <p>Cached schemas are retained until they are evicted, along with the types they have cached
+     * for tags looked up in them (up to {@link AsnSchemaImpl#TAG_CACHE_SIZE} tags per schema). Use
+     * {@link #read(CharSource)} for schemas which are only used briefly.
+     *
+     * <p>Schemas which are not already cached are parsed on the calling thread.
+     *
+     * @param source source of characters from an ASN.1 schema
+     * @return the data from the supplied ASN.1 schema
+     * @throws IOException if any errors occur while parsing the schema file
+     */
+    public static AsnSchema readCached(CharSource source) throws IOException {
+        return readCached(source, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Reads the data from the supplied ASN.1 schema source, reusing the result of any previous
+     * call with identical contents (see {@link #readCached(CharSource)}). If the schema is not
+     * already cached, the modules within it are processed concurrently on the supplied executor.
+     *
+     * @param source source of characters from an ASN.1 schema
+     * @param executor executor to process the modules of the schema on
+     * @return the data from the supplied ASN.1 schema
+     * @throws IOException if any errors occur while parsing the schema file
+     */
+    public static AsnSchema readCached(CharSource source, Executor executor) throws IOException {
+        checkNotNull(executor);
         final String contents = source.read();
+        return readCached(contents, hash(contents), executor);
+    }
+
+    /**
+     * Reads a schema which was previously written by {@link #writeCompiled(AsnSchema, ByteSink)}.
+     * This is much faster than reading the ASN.1 schema again, as the schema is already parsed,
+     * resolved and tagged.
+     *
+     * <p>Compiled schemas are only guaranteed to be readable by the version of this library which
+     * wrote them. A schema compiled by a version whose schema model differs is rejected before any
+     * of it is read. Compile the schema again after upgrading.
+     *
+     * @param source source of the bytes of a compiled schema
+     * @return the compiled schema
+     * @throws IOException if any errors occur while reading the source, or it does not contain a
+     *     schema compiled by this version of the library
+     */
+    public static AsnSchema readCompiled(ByteSource source) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(source.openStream())) {
+            return CompiledSchemaFormat.read(inputStream);
+        }
+    }
+
+    /**
+     * Writes the supplied schema in a compact binary form which can be read back by {@link
+     * #readCompiled(ByteSource)}.
+     *
+     * @param schema schema to write. Must have been read by this class.
+     * @param sink sink to write the compiled schema to
+     * @throws IOException if any errors occur while writing the schema
+     */
+    public static void writeCompiled(AsnSchema schema, ByteSink sink) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(sink.openStream())) {
+            CompiledSchemaFormat.write(schema, outputStream);
+        }
+    }
+
+    /**
+     * Reads the supplied ASN.1 schema source and writes it in compiled form. Equivalent to calling
+     * {@link #read(CharSource)} followed by {@link #writeCompiled(AsnSchema, ByteSink)}.
+     *
+     * @param source source of characters from an ASN.1 schema
+     * @param sink sink to write the compiled schema to
+     * @return the data from the supplied ASN.1 schema
+     * @throws IOException if any errors occur while parsing the schema or writing the compiled
+     *     schema
+     */
+    public static AsnSchema compile(CharSource source, ByteSink sink) throws IOException {
+        final AsnSchema schema = read(source);
+        writeCompiled(schema, sink);
+        return schema;
+    }
+
+    /**
+     * Returns the hash which {@link #readCached(CharSource)} caches schemas by
+     *
+     * @param contents the contents of an ASN.1 schema
+     * @return the SHA-256 hash of the contents
+     */
+    static HashCode hash(String contents) {
+        return Hashing.sha256().hashString(contents, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the supplied ASN.1 schema contents via the cache used by {@link
+     * #readCached(CharSource)}, for callers which have already hashed the contents. Not public, as
+     * a hash which does not match the contents would return the wrong schema to other callers.
+     *
+     * @param contents the contents of an ASN.1 schema
+     * @param contentsHash hash of the contents, as returned by {@link #hash(String)}
+     * @param executor executor to process the modules of the schema on
+     * @return the data from the supplied ASN.1 schema
+     * @throws IOException if any errors occur while parsing the schema
+     */
+    static AsnSchema readCached(String contents, HashCode contentsHash, Executor executor)
+            throws IOException {
+        try {
+            return schemaCache.get(contentsHash, () -> parse(contents, executor));
+        } catch (final ExecutionException ex) {
+            Throwables.throwIfInstanceOf(ex.getCause(), IOException.class);
+            throw new IOException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw ex;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Parses the supplied ASN.1 schema
+     *
+     * @param contents the contents of an ASN.1 schema
+     * @param executor executor to process the modules of the schema on
+     * @return the parsed schema
+     * @throws IOException if any errors occur while parsing the schema
+     */
+    private static AsnSchema parse(String contents, Executor executor) throws IOException {
         try {
-            return AsnSchemaParser.parse(contents);
+            return AsnSchemaParser.parse(contents, executor);
         } catch (final ParseException ex) {
             throw new IOException(ex);
         }
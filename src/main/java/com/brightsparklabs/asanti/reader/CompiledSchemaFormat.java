@@ -0,0 +1,246 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * The binary form of a compiled schema, as written by {@link AsnSchemaReader#writeCompiled}.
+ *
+ * <p>The form consists of:
+ *
+ * <ol>
+ *   <li>the magic number {@link #MAGIC} and the format version {@link #VERSION}
+ *   <li>the number of schema model classes used by the schema, followed by the name and shape
+ *       fingerprint of each class
+ *   <li>the schema model in Java serialization form
+ * </ol>
+ *
+ * <p>The fingerprint of a class is derived from its serialized shape (its serialVersionUID,
+ * serializable superclass and serialized fields). The fingerprints are checked against the
+ * classes on the classpath before any of the schema is read. A schema compiled by a version of
+ * the library whose model classes differ is therefore rejected immediately, rather than failing
+ * part way through or silently loading fields with default values. The format version only
+ * needs to change if the layout above changes.
+ *
+ * @author brightSPARK Labs
+ */
+final class CompiledSchemaFormat {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** identifies a compiled schema, the ASCII characters 'ASNC' */
+    static final int MAGIC = 0x41534E43;
+
+    /** version of the layout of a compiled schema, incremented on incompatible changes */
+    static final int VERSION = 1;
+
+    /** prefix of the names of the classes whose shapes are fingerprinted */
+    private static final String MODEL_PACKAGE_PREFIX = "com.brightsparklabs.asanti.";
+
+    /**
+     * the only classes which may be deserialized from a compiled schema. Object arrays are used by
+     * the serialized forms of the Guava collections. The limits are well above those of large
+     * schemas (e.g. EIFv122 has a depth of 73, 21k references and no arrays longer than 50) and
+     * guard against malicious or corrupt sources.
+     */
+    private static final ObjectInputFilter filter =
+            ObjectInputFilter.Config.createFilter(
+                    "maxdepth=500;maxrefs=1000000;maxarray=100000;"
+                            + "com.brightsparklabs.asanti.**;com.google.common.collect.*;"
+                            + "java.lang.Number;java.lang.Object;java.math.BigInteger;!*");
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /** Private constructor. Use the static methods instead. */
+    private CompiledSchemaFormat() {}
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the supplied schema in compiled form
+     *
+     * @param schema schema to write
+     * @param outputStream stream to write the compiled schema to
+     * @throws IOException if any errors occur while writing the schema
+     */
+    static void write(AsnSchema schema, OutputStream outputStream) throws IOException {
+        // the model classes are only known once the schema has been serialized
+        final Map<String, Long> fingerprints = Maps.newLinkedHashMap();
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream =
+                new ObjectOutputStream(serialized) {
+                    @Override
+                    protected void annotateClass(Class<?> cl) throws IOException {
+                        if (cl.getName().startsWith(MODEL_PACKAGE_PREFIX)) {
+                            fingerprints.put(cl.getName(), fingerprint(cl));
+                        }
+                    }
+                }) {
+            objectOutputStream.writeObject(schema);
+        }
+
+        final DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(MAGIC);
+        dataOutputStream.writeInt(VERSION);
+        dataOutputStream.writeInt(fingerprints.size());
+        for (Map.Entry<String, Long> entry : fingerprints.entrySet()) {
+            dataOutputStream.writeUTF(entry.getKey());
+            dataOutputStream.writeLong(entry.getValue());
+        }
+        serialized.writeTo(dataOutputStream);
+        dataOutputStream.flush();
+    }
+
+    /**
+     * Reads a schema which was written by {@link #write(AsnSchema, OutputStream)}
+     *
+     * @param inputStream stream to read the compiled schema from
+     * @return the compiled schema
+     * @throws IOException if any errors occur while reading the stream, or it does not contain a
+     *     schema compiled by this version of the library
+     */
+    static AsnSchema read(InputStream inputStream) throws IOException {
+        final DataInputStream dataInputStream = new DataInputStream(inputStream);
+        if (dataInputStream.readInt() != MAGIC) {
+            throw new IOException("Source does not contain a compiled ASN.1 schema");
+        }
+        final int version = dataInputStream.readInt();
+        if (version != VERSION) {
+            throw new IOException(
+                    String.format(
+                            "Compiled ASN.1 schema is version %d, expected version %d",
+                            version, VERSION));
+        }
+        final Map<String, Class<?>> modelClasses = readModelClasses(dataInputStream);
+
+        try (ObjectInputStream objectInputStream =
+                new ObjectInputStream(inputStream) {
+                    @Override
+                    protected Class<?> resolveClass(ObjectStreamClass desc)
+                            throws IOException, ClassNotFoundException {
+                        // model classes must have been checked against their fingerprints
+                        if (desc.getName().startsWith(MODEL_PACKAGE_PREFIX)) {
+                            final Class<?> cl = modelClasses.get(desc.getName());
+                            if (cl == null) {
+                                throw new InvalidClassException(
+                                        desc.getName(), "Class is not listed in compiled schema");
+                            }
+                            return cl;
+                        }
+                        return super.resolveClass(desc);
+                    }
+                }) {
+            objectInputStream.setObjectInputFilter(filter);
+            return (AsnSchema) objectInputStream.readObject();
+        } catch (final ClassNotFoundException | ClassCastException ex) {
+            throw new IOException("Could not read compiled ASN.1 schema", ex);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads the model classes listed in a compiled schema and checks that each matches its
+     * fingerprint
+     *
+     * @param dataInputStream stream positioned at the number of model classes
+     * @return the model classes, keyed by name
+     * @throws IOException if any errors occur while reading the stream, or if any of the classes
+     *     cannot be found or do not match their fingerprint
+     */
+    private static Map<String, Class<?>> readModelClasses(DataInputStream dataInputStream)
+            throws IOException {
+        final int count = dataInputStream.readInt();
+        if (count < 0) {
+            throw new IOException("Compiled ASN.1 schema lists " + count + " classes");
+        }
+
+        final Map<String, Class<?>> modelClasses = Maps.newHashMap();
+        for (int i = 0; i < count; i++) {
+            final String name = dataInputStream.readUTF();
+            final long fingerprint = dataInputStream.readLong();
+            if (!name.startsWith(MODEL_PACKAGE_PREFIX)) {
+                throw new InvalidClassException(name, "Class is not part of the schema model");
+            }
+
+            final Class<?> cl;
+            try {
+                cl = Class.forName(name, false, CompiledSchemaFormat.class.getClassLoader());
+            } catch (final ClassNotFoundException ex) {
+                throw new IOException(
+                        "Compiled ASN.1 schema uses class "
+                                + name
+                                + " which does not exist in this version of the library",
+                        ex);
+            }
+            if (fingerprint(cl) != fingerprint) {
+                throw new InvalidClassException(
+                        name,
+                        "Compiled ASN.1 schema was written by a different version of the class,"
+                                + " compile the schema again");
+            }
+            modelClasses.put(name, cl);
+        }
+        return modelClasses;
+    }
+
+    /**
+     * Returns the fingerprint of the serialized shape of the supplied class
+     *
+     * @param cl class to fingerprint
+     * @return the fingerprint of the class, or {@code 0} if it is not serializable
+     */
+    private static long fingerprint(Class<?> cl) {
+        final ObjectStreamClass streamClass = ObjectStreamClass.lookup(cl);
+        if (streamClass == null) {
+            return 0;
+        }
+
+        final ObjectStreamClass superClass =
+                cl.getSuperclass() == null ? null : ObjectStreamClass.lookup(cl.getSuperclass());
+        final StringBuilder shape =
+                new StringBuilder()
+                        .append(cl.getName())
+                        .append('#')
+                        .append(streamClass.getSerialVersionUID())
+                        .append(':')
+                        .append(superClass == null ? "" : superClass.getName());
+        // fields are in canonical order (primitives first, then by name)
+        for (ObjectStreamField field : streamClass.getFields()) {
+            shape.append(';').append(field.getName()).append(' ').append(field.getTypeCode());
+            if (!field.isPrimitive()) {
+                shape.append(field.getTypeString());
+            }
+        }
+        return Hashing.sha256().hashString(shape, StandardCharsets.UTF_8).asLong();
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import com.brightsparklabs.asanti.model.schema.tag.AsnSchemaTag;
+import java.util.Arrays;
+
+/**
+ * A trie of the raw tag paths found while reading ASN.1 BER/DER data.
+ *
+ * <p>Each node in the trie represents a raw tag path (e.g. {@code "/1[2]/0[UNIVERSAL 16]"}) and
+ * holds the string of that path. Sharing a trie across all the PDUs in a data stream means that
+ * repeated structure in the data reuses the same path strings rather than allocating them again for
+ * every PDU. As a result, equal raw tags from different PDUs are typically the same instance.
+ *
+ * <p>To bound memory usage, the trie stops retaining new nodes once {@link #getMaximumSize()}
+ * nodes have been created. Paths beyond this are still created, but are not shared.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author brightSPARK Labs
+ */
+public class RawTagTrie {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** default maximum number of nodes retained by a trie */
+    private static final int DEFAULT_MAXIMUM_SIZE = 1 << 17;
+
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** the root node of the trie (representing the empty path) */
+    private final Node root = new Node(this, "");
+
+    /** maximum number of nodes retained by this trie */
+    private final int maximumSize;
+
+    /** number of nodes retained by this trie */
+    private int size = 1;
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /** Creates a trie which retains up to a default maximum number of nodes */
+    public RawTagTrie() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a trie which retains up to the specified number of nodes
+     *
+     * @param maximumSize maximum number of nodes to retain
+     */
+    public RawTagTrie(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the root node of the trie (representing the empty path)
+     *
+     * @return the root node
+     */
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the number of nodes retained by this trie
+     *
+     * @return the number of nodes retained
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of nodes this trie will retain
+     *
+     * @return the maximum number of nodes
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Node
+    // -------------------------------------------------------------------------
+
+    /** A raw tag path within a {@link RawTagTrie} */
+    public static class Node {
+        /** the trie the node belongs to ({@code null} if the node is not retained in a trie) */
+        private final RawTagTrie trie;
+
+        /** the raw tag path represented by this node */
+        private final String path;
+
+        /**
+         * keys of the children of this node (open addressing hash table). A key combines the index,
+         * class and number of the child's tag (see {@link #getKey(int, int, boolean)}). Created
+         * when the first child is added.
+         */
+        private long[] childKeys;
+
+        /** children of this node, stored at the same positions as their keys */
+        private Node[] children;
+
+        /** number of children of this node */
+        private int childCount = 0;
+
+        /**
+         * Default constructor
+         *
+         * @param trie the trie the node belongs to, or {@code null} if the node is not retained
+         * @param path the raw tag path represented by this node
+         */
+        private Node(RawTagTrie trie, String path) {
+            this.trie = trie;
+            this.path = path;
+        }
+
+        /**
+         * Returns the raw tag path represented by this node
+         *
+         * @return the raw tag path
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the child of this node for a non-universal tag. The path of the child is of the
+         * form {@code <path>/<index>[<tag number>]}.
+         *
+         * @param index index of the tag within its parent
+         * @param tagNumber number of the tag
+         * @return the child node
+         */
+        public Node getTaggedChild(int index, int tagNumber) {
+            return getChild(index, tagNumber, false);
+        }
+
+        /**
+         * Returns the child of this node for a universal tag. The path of the child is of the form
+         * {@code <path>/<index>[UNIVERSAL <tag number>]}.
+         *
+         * @param index index of the tag within its parent
+         * @param tagNumber number of the universal tag
+         * @return the child node
+         */
+        public Node getUniversalChild(int index, int tagNumber) {
+            return getChild(index, tagNumber, true);
+        }
+
+        @Override
+        public String toString() {
+            return path;
+        }
+
+        /**
+         * Returns the child of this node for the specified tag, creating it if necessary
+         *
+         * @param index index of the tag within its parent
+         * @param tagNumber number of the tag
+         * @param isUniversal whether the tag is a universal tag
+         * @return the child node
+         */
+        private Node getChild(int index, int tagNumber, boolean isUniversal) {
+            final long key = getKey(index, tagNumber, isUniversal);
+            if (childKeys != null) {
+                final int mask = childKeys.length - 1;
+                int slot = hash(key) & mask;
+                while (children[slot] != null) {
+                    if (childKeys[slot] == key) {
+                        return children[slot];
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+
+            final String childPath =
+                    path
+                            + "/"
+                            + (isUniversal
+                                    ? AsnSchemaTag.createRawTagUniversal(index, tagNumber)
+                                    : AsnSchemaTag.createRawTag(
+                                            index, Integer.toString(tagNumber)));
+
+            if (trie == null || trie.size >= trie.maximumSize) {
+                // trie is full, do not retain the node
+                return new Node(null, childPath);
+            }
+
+            final Node child = new Node(trie, childPath);
+            addChild(key, child);
+            trie.size++;
+            return child;
+        }
+
+        /**
+         * Adds a child to this node
+         *
+         * @param key key of the child
+         * @param child the child to add
+         */
+        private void addChild(long key, Node child) {
+            if (childKeys == null) {
+                childKeys = new long[4];
+                children = new Node[4];
+            } else if ((childCount + 1) * 2 > childKeys.length) {
+                // keep the load factor at or below 0.5
+                final long[] oldKeys = childKeys;
+                final Node[] oldChildren = children;
+                childKeys = new long[oldKeys.length * 2];
+                children = new Node[oldKeys.length * 2];
+                childCount = 0;
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldChildren[i] != null) {
+                        addChild(oldKeys[i], oldChildren[i]);
+                    }
+                }
+            }
+
+            final int mask = childKeys.length - 1;
+            int slot = hash(key) & mask;
+            while (children[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            childKeys[slot] = key;
+            children[slot] = child;
+            childCount++;
+        }
+
+        /**
+         * Combines the index, class and number of a tag into a single key
+         *
+         * @param index index of the tag within its parent
+         * @param tagNumber number of the tag (always non-negative)
+         * @param isUniversal whether the tag is a universal tag
+         * @return the key
+         */
+        private static long getKey(int index, int tagNumber, boolean isUniversal) {
+            return ((long) index << 32) | (isUniversal ? 0x80000000L : 0L) | tagNumber;
+        }
+
+        /**
+         * Hashes a key for use in the child hash table
+         *
+         * @param key key to hash
+         * @return the hash of the key
+         */
+        private static int hash(long key) {
+            final int hash = Long.hashCode(key * 0x9E3779B97F4A7C15L);
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import static com.google.common.base.Preconditions.*;
+
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.google.common.hash.HashCode;
+import com.google.common.io.CharSource;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An ASN.1 schema which can be reloaded from its source while it is in use, e.g. by a long-running
+ * service which decodes data as the schema is updated.
+ *
+ * <p>Each reload reads the schema into a new {@link AsnSchema} and then atomically replaces the
+ * current schema. The current schema is never modified. Threads which obtained a schema via
+ * {@link #get()} keep decoding against it without pausing. They only use the new schema once
+ * they next call {@link #get()}. Callers should therefore call {@link #get()} once per unit of
+ * work (e.g. per PDU or file) so that each unit is decoded against a single version of the schema.
+ *
+ * <p>Reloading a source whose contents have not changed keeps the current schema, along with any
+ * tags it has already cached. Schemas are read via {@link AsnSchemaReader#readCached(CharSource)},
+ * so reverting to recently used contents reuses the schema previously read from them.
+ *
+ * @author brightSPARK Labs
+ */
+public class ReloadableAsnSchema {
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** source the schema is read from */
+    private final CharSource source;
+
+    /** executor to process the modules of the schema on */
+    private final Executor executor;
+
+    /** the current schema */
+    private final AtomicReference<AsnSchema> schema;
+
+    /** SHA-256 hash of the contents the current schema was read from (guarded by this) */
+    private HashCode contentsHash;
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Private constructor. Use {@link #read(CharSource)} to construct an instance.
+     *
+     * @param source source the schema is read from
+     * @param executor executor to process the modules of the schema on
+     * @param schema the schema read from the source
+     * @param contentsHash SHA-256 hash of the contents the schema was read from
+     */
+    private ReloadableAsnSchema(
+            CharSource source, Executor executor, AsnSchema schema, HashCode contentsHash) {
+        this.source = source;
+        this.executor = executor;
+        this.schema = new AtomicReference<>(schema);
+        this.contentsHash = contentsHash;
+    }
+
+    /**
+     * Reads the schema from the supplied source. The source is read again on each call to {@link
+     * #reload()}. The schema is parsed on the calling thread.
+     *
+     * @param source source of characters from an ASN.1 schema
+     * @return the reloadable schema
+     * @throws IOException if any errors occur while reading the schema
+     * @throws NullPointerException if the source is {@code null}
+     */
+    public static ReloadableAsnSchema read(CharSource source) throws IOException {
+        return read(source, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Reads the schema from the supplied source. The source is read again on each call to {@link
+     * #reload()}. The modules within the schema are processed concurrently on the supplied
+     * executor, both now and on each reload.
+     *
+     * @param source source of characters from an ASN.1 schema
+     * @param executor executor to process the modules of the schema on
+     * @return the reloadable schema
+     * @throws IOException if any errors occur while reading the schema
+     * @throws NullPointerException if any of the parameters are {@code null}
+     */
+    public static ReloadableAsnSchema read(CharSource source, Executor executor)
+            throws IOException {
+        checkNotNull(source);
+        checkNotNull(executor);
+        final String contents = source.read();
+        final HashCode hash = AsnSchemaReader.hash(contents);
+        final AsnSchema schema = AsnSchemaReader.readCached(contents, hash, executor);
+        return new ReloadableAsnSchema(source, executor, schema, hash);
+    }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the current schema. The returned schema is not affected by any later reloads.
+     *
+     * @return the current schema
+     */
+    public AsnSchema get() {
+        return schema.get();
+    }
+
+    /**
+     * Reads the schema from the source again and replaces the current schema if the contents of
+     * the source have changed. Calls to {@link #get()} are not blocked while the schema is read.
+     *
+     * @return {@code true} if the current schema was replaced, {@code false} if the contents of
+     *     the source have not changed
+     * @throws IOException if any errors occur while reading the schema. The current schema is
+     *     kept.
+     */
+    public synchronized boolean reload() throws IOException {
+        final String contents = source.read();
+        final HashCode hash = AsnSchemaReader.hash(contents);
+        if (hash.equals(contentsHash)) {
+            return false;
+        }
+
+        // the contents are only hashed once, as they are read via the cache keyed by this hash
+        schema.set(AsnSchemaReader.readCached(contents, hash, executor));
+        contentsHash = hash;
+        return true;
+    }
+}
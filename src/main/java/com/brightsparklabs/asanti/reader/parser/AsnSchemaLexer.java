@@ -0,0 +1,287 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader.parser;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Splits the text of an ASN.1 schema into the lines expected by {@link AsnSchemaParser} in a
+ * single pass over the text.
+ *
+ * <p>The lines are the same as those produced by applying the following replacements to the whole
+ * schema in turn:
+ *
+ * <ol>
+ *   <li>carriage returns are removed
+ *   <li>comments started by {@code --} (along with any preceding spaces/tabs) are replaced by a
+ *       new line. These comments run to the end of the line, even if they contain a closing
+ *       {@code --} or are within a block comment.
+ *   <li>block comments ({@code /* ... *}{@code /}) are removed
+ *   <li>a comma followed by a new line is replaced by a comma followed by a space
+ *   <li>consecutive new lines are collapsed, as are consecutive spaces/tabs
+ *   <li>the module keywords (DEFINITIONS, BEGIN, EXPORTS, IMPORTS and END) and semicolons are
+ *       placed on their own line, even if they are part of a longer word
+ *   <li>each line is trimmed, and empty lines are discarded
+ * </ol>
+ *
+ * <p>The only difference is that the Unicode line separators {@code U+0085}, {@code U+2028} and
+ * {@code U+2029} are treated as ordinary characters within a comment, rather than preventing the
+ * comment from being removed.
+ *
+ * @author brightSPARK Labs
+ */
+final class AsnSchemaLexer {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** module keywords which are placed on their own line */
+    private static final ImmutableList<String> KEYWORDS =
+            ImmutableList.of("DEFINITIONS", "BEGIN", "EXPORTS", "IMPORTS", "END");
+
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** the schema text with all carriage returns removed */
+    private final char[] chars;
+
+    /** the lines which have been read */
+    private final ImmutableList.Builder<String> lines = ImmutableList.builder();
+
+    /** the line currently being read */
+    private final StringBuilder line = new StringBuilder();
+
+    /** whether spaces/tabs have been read which have not yet been added to the line */
+    private boolean pendingWhitespace = false;
+
+    /** the last character (other than pending spaces/tabs) read from outside of comments */
+    private char lastChar = '\n';
+
+    /** whether block comments can still be terminated (i.e. a closing '*' '/' is still present) */
+    private boolean blockCommentsTerminated = true;
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Default constructor.
+     *
+     * @param asnSchema the text of an ASN.1 schema
+     */
+    private AsnSchemaLexer(String asnSchema) {
+        final String text =
+                asnSchema.indexOf('\r') < 0 ? asnSchema : asnSchema.replace("\r", "");
+        this.chars = text.toCharArray();
+    }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Strips out comments and redundant whitespace from the supplied ASN.1 schema and returns the
+     * resulting lines. The schema keywords (DEFINITIONS, BEGIN, EXPORTS, IMPORTS and END) will all
+     * be presented on their own line. Semicolons which mark the end of IMPORTS/EXPORTS will also be
+     * on their own line. Lines generally appear in the following order:
+     *
+     * <ul>
+     *   <li>module name and identification
+     *   <li>'DEFINITIONS' keyword
+     *       <ul>
+     *         <li>tagging environment definition
+     *         <li>extensibility environment definition
+     *       </ul>
+     *   <li>'BEGIN' keyword
+     *       <ul>
+     *         <li>'EXPORTS' keyword
+     *             <ul>
+     *               <li>export statements
+     *               <li>semicolon
+     *             </ul>
+     *         <li>'IMPORTS' keyword
+     *             <ul>
+     *               <li>import statements
+     *               <li>semicolon
+     *             </ul>
+     *         <li>value/type definitions
+     *       </ul>
+     *   <li>'END' keyword
+     * </ul>
+     *
+     * @param asnSchema the text of an ASN.1 schema
+     * @return the lines from the schema
+     */
+    static ImmutableList<String> getLines(String asnSchema) {
+        return new AsnSchemaLexer(asnSchema).read();
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Reads all the lines from the schema
+     *
+     * @return the lines from the schema
+     */
+    private ImmutableList<String> read() {
+        int i = 0;
+        while (i < chars.length) {
+            final char c = chars[i];
+            if (c == '-' && isAt(i + 1, '-')) {
+                // comment replaces any preceding whitespace and runs to the end of the line
+                pendingWhitespace = false;
+                i = skipComment(i + 2);
+                readNewLine();
+                continue;
+            }
+
+            if (c == '/' && isAt(i + 1, '*') && blockCommentsTerminated) {
+                final int end = findBlockCommentEnd(i + 2);
+                if (end >= 0) {
+                    // whitespace before the block comment is not adjacent to any later comment
+                    commitWhitespace();
+                    i = end;
+                    continue;
+                }
+                // no later block comment can be terminated either
+                blockCommentsTerminated = false;
+            }
+
+            if (c == '\n') {
+                readNewLine();
+            } else if (c == ' ' || c == '\t') {
+                pendingWhitespace = true;
+            } else {
+                commitWhitespace();
+                readChar(c);
+            }
+            i++;
+        }
+
+        flushLine();
+        return lines.build();
+    }
+
+    /**
+     * Returns whether the specified character is at the specified index
+     *
+     * @param index index to check
+     * @param c character to check for
+     * @return {@code true} if the index is within the text and contains the character
+     */
+    private boolean isAt(int index, char c) {
+        return index < chars.length && chars[index] == c;
+    }
+
+    /**
+     * Skips a comment which runs to the end of the line
+     *
+     * @param from index of the first character in the comment
+     * @return index of the character following the end of the line
+     */
+    private int skipComment(int from) {
+        for (int i = from; i < chars.length; i++) {
+            if (chars[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return chars.length;
+    }
+
+    /**
+     * Finds the end of a block comment. Any comments within the block comment which run to the end
+     * of the line can hide the end of the block comment.
+     *
+     * @param from index of the first character in the block comment
+     * @return index of the character following the end of the block comment, or -1 if the block
+     *     comment is not terminated
+     */
+    private int findBlockCommentEnd(int from) {
+        int i = from;
+        while (i < chars.length - 1) {
+            if (chars[i] == '-' && chars[i + 1] == '-') {
+                i = skipComment(i + 2);
+            } else if (chars[i] == '*' && chars[i + 1] == '/') {
+                return i + 2;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    /** Reads a new line, which joins the line to the next if the line ends in a comma */
+    private void readNewLine() {
+        commitWhitespace();
+        if (lastChar == ',') {
+            appendSpace();
+            lastChar = ' ';
+        } else {
+            flushLine();
+            lastChar = '\n';
+        }
+    }
+
+    /**
+     * Reads a character which is not whitespace or part of a comment
+     *
+     * @param c character to read
+     */
+    private void readChar(char c) {
+        lastChar = c;
+        if (c == ';') {
+            flushLine();
+            lines.add(";");
+            return;
+        }
+
+        line.append(c);
+        // all keywords end in one of these characters
+        if (c == 'S' || c == 'N' || c == 'D') {
+            for (String keyword : KEYWORDS) {
+                final int start = line.length() - keyword.length();
+                if (start >= 0 && line.indexOf(keyword, start) == start) {
+                    line.setLength(start);
+                    flushLine();
+                    lines.add(keyword);
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Adds any pending spaces/tabs to the line */
+    private void commitWhitespace() {
+        if (pendingWhitespace) {
+            pendingWhitespace = false;
+            appendSpace();
+            lastChar = ' ';
+        }
+    }
+
+    /** Adds a space to the line, unless it already ends in one */
+    private void appendSpace() {
+        final int length = line.length();
+        if (length == 0 || line.charAt(length - 1) != ' ') {
+            line.append(' ');
+        }
+    }
+
+    /** Adds the current line to the lines read (if it is not blank) and starts a new line */
+    private void flushLine() {
+        final String trimmed = CharMatcher.whitespace().trimFrom(line);
+        if (!trimmed.isEmpty()) {
+            lines.add(trimmed);
+        }
+        line.setLength(0);
+    }
+}
@@ -7,18 +7,23 @@
 
 package com.brightsparklabs.asanti.reader.parser;
 
+import static com.google.common.base.Preconditions.*;
+
 import com.brightsparklabs.asanti.model.schema.AsnSchema;
 import com.brightsparklabs.asanti.model.schema.AsnSchemaImpl;
 import com.brightsparklabs.asanti.model.schema.AsnSchemaModule;
-import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.text.ParseException;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Logic for parsing an ASN.1 schema
@@ -30,35 +35,6 @@ public class AsnSchemaParser {
     // CONSTANTS
     // -------------------------------------------------------------------------
 
-    /** pattern to match carriage returns */
-    private static final Pattern PATTERN_CARRIAGE_RETURN = Pattern.compile("\\r");
-
-    /** pattern to match comments that are started with -- and end with newline */
-    private static final Pattern PATTERN_ENDLINE_COMMENTS =
-            Pattern.compile("[\\t ]*--.*?(\\n|\\z)");
-
-    /** pattern to match comments that are started and ended with -- */
-    private static final Pattern PATTERN_INLINE_COMMENTS = Pattern.compile("[\\t ]*--.*?--");
-
-    /** pattern to match block comments */
-    private static final Pattern PATTERN_BLOCK_COMMENTS = Pattern.compile("(?s)/\\*.*?\\*/");
-
-    /** pattern to match new lines */
-    private static final Pattern PATTERN_NEW_LINE = Pattern.compile("\\n+");
-
-    /** pattern to match tabs/spaces */
-    private static final Pattern PATTERN_TABS_SPACES = Pattern.compile("[\\t ]+");
-
-    /** pattern to match module header keywords */
-    private static final Pattern PATTERN_SCHEMA_KEYWORDS =
-            Pattern.compile("(DEFINITIONS|BEGIN|EXPORTS|IMPORTS|END)");
-
-    /** pattern to match semicolons */
-    private static final Pattern PATTERN_SEMICOLONS = Pattern.compile(";");
-
-    /** pattern to join lines that end in a comma */
-    private static final Pattern PATTERN_COMMA_TERMINATED = Pattern.compile(",\\n");
-
     /** error message if schema is missing 'END' keyword */
     private static final String ERROR_MISSING_END_KEYWORD = "Schema is missing an 'END' keyword";
 
@@ -70,32 +46,44 @@ public class AsnSchemaParser {
     // -------------------------------------------------------------------------
 
     /**
-     * Parses the supplied ASN.1 schema text
+     * Parses the supplied ASN.1 schema text on the calling thread. Use {@link #parse(String,
+     * Executor)} to process the modules within the schema concurrently.
      *
      * @param asnSchema all text from the ASN.1 schema
      * @return the parsed schema
      * @throws ParseException if any errors occur while parsing the schema
      */
     public static AsnSchema parse(String asnSchema) throws ParseException {
+        return parse(asnSchema, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Parses the supplied ASN.1 schema text. Parsing the text of each module, resolving the types
+     * within each module and checking each module for duplicate tags are performed for each module
+     * concurrently on the supplied executor. Tagging is performed on the calling thread, as
+     * tagging a module also tags any types it imports from other modules.
+     *
+     * <p>The resulting schema does not depend on the executor. If errors occur in more than one
+     * module, the error from the module which appears first in the schema is thrown.
+     *
+     * @param asnSchema all text from the ASN.1 schema
+     * @param executor executor to process modules on
+     * @return the parsed schema
+     * @throws ParseException if any errors occur while parsing the schema
+     */
+    public static AsnSchema parse(String asnSchema, Executor executor) throws ParseException {
         if (Strings.isNullOrEmpty(asnSchema)) {
             throw new ParseException(ERROR_EMPTY_FILE, -1);
         }
+        checkNotNull(executor);
 
-        final Map<String, AsnSchemaModule> modules = Maps.newHashMap();
-        final List<AsnSchemaModule.Builder> moduleBuilders = Lists.newArrayList();
-        final Iterator<String> lineIterator = getLines(asnSchema);
-
-        String primaryModule = null;
-
-        // parse each module in the schema
+        // split the schema into the lines of each module
+        final List<ImmutableList<String>> moduleTexts = Lists.newArrayList();
         final List<String> moduleLines = Lists.newArrayList();
-        while (lineIterator.hasNext()) {
-            final String line = lineIterator.next();
+        for (String line : AsnSchemaLexer.getLines(asnSchema)) {
             moduleLines.add(line);
             if ("END".equals(line)) {
-                // keep track of all the ModuleBuilders so that we can resolve all the
-                // imports and placeholders at the end.
-                moduleBuilders.add(AsnSchemaModuleParser.parse(moduleLines));
+                moduleTexts.add(ImmutableList.copyOf(moduleLines));
                 moduleLines.clear();
             }
         }
@@ -104,21 +92,42 @@ public class AsnSchemaParser {
             throw new ParseException(ERROR_MISSING_END_KEYWORD, -1);
         }
 
-        // resolve all the placeholders and imports.
-        for (AsnSchemaModule.Builder builder : moduleBuilders) {
-            builder.resolveTypes(moduleBuilders);
-        }
-
+        // keep track of all the ModuleBuilders so that we can resolve all the imports and
+        // placeholders at the end.
+        final ImmutableList<AsnSchemaModule.Builder> moduleBuilders =
+                applyToEach(moduleTexts, AsnSchemaModuleParser::parse, executor);
+
+        // resolve all the placeholders and imports. Resolving a module only modifies the types
+        // within that module, so modules can be resolved concurrently
+        applyToEach(
+                moduleBuilders,
+                builder -> {
+                    builder.resolveTypes(moduleBuilders);
+                    return builder;
+                },
+                executor);
+
+        // tagging a module also tags the types it imports, so modules cannot be tagged concurrently
         for (AsnSchemaModule.Builder builder : moduleBuilders) {
             builder.performTagging();
         }
 
         // do the final build, which will also calculate all the tags, which can't be done until
         // all the types are known (even across module boundaries), which is not until the above
-        // loop
-        for (AsnSchemaModule.Builder builder : moduleBuilders) {
-            builder.checkForDuplicates();
-            final AsnSchemaModule module = builder.build();
+        // loop. Checking a module only reads the tags of the types it imports, so modules can be
+        // checked concurrently
+        final ImmutableList<AsnSchemaModule> builtModules =
+                applyToEach(
+                        moduleBuilders,
+                        builder -> {
+                            builder.checkForDuplicates();
+                            return builder.build();
+                        },
+                        executor);
+
+        final Map<String, AsnSchemaModule> modules = Maps.newHashMap();
+        String primaryModule = null;
+        for (AsnSchemaModule module : builtModules) {
             modules.put(module.getName(), module);
 
             if (primaryModule == null) {
@@ -134,53 +143,99 @@ public class AsnSchemaParser {
     // -------------------------------------------------------------------------
 
     /**
-     * Strips out comments and redundant whitespace from the supplied ASN.1 schema and returns the
-     * resulting lines. The schema keywords (DEFINITIONS, BEGIN, EXPORTS, IMPORTS and END) will all
-     * be presented on their own line. Semicolons which mark the end of IMPORTS/EXPORTS will also be
-     * on their own line. Lines generally appear in the following order:
+     * Applies the supplied task to each item concurrently. The first item is processed on the
+     * calling thread, and the remaining items on the supplied executor.
+     *
+     * @param items items to apply the task to (e.g. the modules within the schema)
+     * @param task task to apply to each item
+     * @param executor executor to process all but the first item on
+     * @param <T> type of the items
+     * @param <R> type of the results
+     * @return the result of the task for each item (in the same order as the items)
+     * @throws ParseException the error from the first item (in order) for which the task failed
+     */
+    private static <T, R> ImmutableList<R> applyToEach(
+            List<T> items, ModuleTask<T, R> task, Executor executor) throws ParseException {
+        if (items.isEmpty()) {
+            return ImmutableList.of();
+        }
+
+        final List<CompletableFuture<R>> futures = Lists.newArrayList();
+        for (T item : items.subList(1, items.size())) {
+            futures.add(CompletableFuture.supplyAsync(() -> applyUnchecked(task, item), executor));
+        }
+
+        final ImmutableList.Builder<R> results = ImmutableList.builder();
+        try {
+            results.add(task.apply(items.get(0)));
+            for (CompletableFuture<R> future : futures) {
+                results.add(join(future));
+            }
+        } finally {
+            // no further results are needed if any item failed
+            futures.forEach(future -> future.cancel(false));
+        }
+        return results.build();
+    }
+
+    /**
+     * Applies the supplied task to an item, wrapping any {@link ParseException} so that it can be
+     * thrown from a {@link CompletableFuture}
      *
-     * <ul>
-     *   <li>module name and identification
-     *   <li>'DEFINITIONS' keyword
-     *       <ul>
-     *         <li>tagging environment definition
-     *         <li>extensibility environment definition
-     *       </ul>
-     *   <li>'BEGIN' keyword
-     *       <ul>
-     *         <li>'EXPORTS' keyword
-     *             <ul>
-     *               <li>export statements
-     *               <li>semicolon
-     *             </ul>
-     *         <li>'IMPORTS' keyword
-     *             <ul>
-     *               <li>import statements
-     *               <li>semicolon
-     *             </ul>
-     *         <li>value/type definitions
-     *       </ul>
-     *   <li>'END' keyword
-     * </ul>
+     * @param task task to apply
+     * @param item item to apply the task to
+     * @param <T> type of the item
+     * @param <R> type of the result
+     * @return the result of the task
+     * @throws CompletionException if the task throws a {@link ParseException}
+     */
+    private static <T, R> R applyUnchecked(ModuleTask<T, R> task, T item) {
+        try {
+            return task.apply(item);
+        } catch (ParseException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Waits for the supplied future to complete and returns its result
+     *
+     * @param future future to wait for
+     * @param <R> type of the result
+     * @return the result of the future
+     * @throws ParseException if the task which completes the future failed to parse its item
+     */
+    private static <R> R join(CompletableFuture<R> future) throws ParseException {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            // rethrow the failure as though the task had been run on this thread
+            final Throwable cause = ex.getCause();
+            Throwables.throwIfInstanceOf(cause, ParseException.class);
+            Throwables.throwIfUnchecked(cause);
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: ModuleTask
+    // -------------------------------------------------------------------------
+
+    /**
+     * A stage of parsing which is applied to each module within a schema
      *
-     * @param asnSchema schema to parse
-     * @return the lines from the schema
+     * @param <T> type of the input for each module
+     * @param <R> type of the result for each module
      */
-    private static Iterator<String> getLines(String asnSchema) {
-        // cull comments and collapse whitespace
-        asnSchema = PATTERN_CARRIAGE_RETURN.matcher(asnSchema).replaceAll("");
-        asnSchema = PATTERN_ENDLINE_COMMENTS.matcher(asnSchema).replaceAll("\n");
-        asnSchema = PATTERN_INLINE_COMMENTS.matcher(asnSchema).replaceAll("");
-        asnSchema = PATTERN_BLOCK_COMMENTS.matcher(asnSchema).replaceAll("");
-        asnSchema = PATTERN_COMMA_TERMINATED.matcher(asnSchema).replaceAll(", ");
-        asnSchema = PATTERN_NEW_LINE.matcher(asnSchema).replaceAll("\n");
-        asnSchema = PATTERN_TABS_SPACES.matcher(asnSchema).replaceAll(" ");
-        // ensure module header keywords appear on separate lines
-        asnSchema = PATTERN_SCHEMA_KEYWORDS.matcher(asnSchema).replaceAll("\n$1\n");
-        asnSchema = PATTERN_SEMICOLONS.matcher(asnSchema).replaceAll("\n;\n");
-
-        final Iterable<String> lines =
-                Splitter.on("\n").trimResults().omitEmptyStrings().split(asnSchema);
-        return lines.iterator();
+    @FunctionalInterface
+    private interface ModuleTask<T, R> {
+        /**
+         * Applies this stage of parsing to a module
+         *
+         * @param input input for the module
+         * @return the result for the module
+         * @throws ParseException if any errors occur while parsing the module
+         */
+        R apply(T input) throws ParseException;
     }
 }
@@ -10,21 +10,24 @@ package com.brightsparklabs.asanti.validator;
 import com.brightsparklabs.asanti.data.AsnData;
 import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
-import com.brightsparklabs.asanti.model.schema.primitive.AsnPrimitiveTypes;
 import com.brightsparklabs.asanti.model.schema.tag.DecodedTagsHelpers;
+import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
-import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.brightsparklabs.asanti.selector.Selector;
 import com.brightsparklabs.asanti.selector.SelectorByTagMatch;
 import com.brightsparklabs.asanti.validator.builtin.BuiltinTypeValidator;
 import com.brightsparklabs.asanti.validator.failure.DecodedTagValidationFailure;
 import com.brightsparklabs.asanti.validator.result.ValidationResultImpl;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Sets;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +44,12 @@ public class ValidatorImpl implements Validator {
     /** class logger */
     private static final Logger logger = LoggerFactory.getLogger(ValidatorImpl.class);
 
+    /**
+     * maximum number of tags whose matching cachable rules are retained for each schema type. Tags
+     * include the indices of SEQUENCE OF/SET OF items, so the number of distinct tags is unbounded.
+     */
+    private static final int TAG_RULES_CACHE_SIZE = 1024;
+
     // -------------------------------------------------------------------------
     // INSTANCE VARIABLES
     // -------------------------------------------------------------------------
@@ -48,12 +57,25 @@ public class ValidatorImpl implements Validator {
     /** custom validation rules */
     private final ImmutableMap<ValidationRule, Selector> customRules;
 
+    /** custom validation rules whose selectors only depend on the tag and type */
+    private final ImmutableList<Map.Entry<ValidationRule, Selector>> cachableRules;
+
+    /** custom validation rules whose selectors must be evaluated against the data */
+    private final ImmutableList<Map.Entry<ValidationRule, Selector>> nonCachableRules;
+
     /**
      * visitor to determine which {@link com.brightsparklabs.asanti.validator.ValidationRule} to
      * apply to a tag
      */
     private final ValidationVisitor validationVisitor = new ValidationVisitor();
 
+    /**
+     * the validation plan for each schema type, created when the type is first validated. The
+     * types are weakly referenced so that plans are discarded along with their schema.
+     */
+    private final ConcurrentMap<AsnSchemaType, ValidationPlan> plans =
+            new MapMaker().weakKeys().makeMap();
+
     // -------------------------------------------------------------------------
     // CONSTRUCTION
     // -------------------------------------------------------------------------
@@ -65,6 +87,14 @@ public class ValidatorImpl implements Validator {
      */
     public ValidatorImpl(Map<ValidationRule, Selector> customRules) {
         this.customRules = ImmutableMap.copyOf(customRules);
+        this.cachableRules =
+                this.customRules.entrySet().stream()
+                        .filter(e -> e.getValue().cachable())
+                        .collect(ImmutableList.toImmutableList());
+        this.nonCachableRules =
+                this.customRules.entrySet().stream()
+                        .filter(e -> !e.getValue().cachable())
+                        .collect(ImmutableList.toImmutableList());
     }
 
     /**
@@ -92,15 +122,17 @@ public class ValidatorImpl implements Validator {
         }
 
         // validate each mapped tag
+        final AsantiAsnData asantiAsnData = (AsantiAsnData) asnData;
         final ImmutableSet<String> tags = DecodedTagsHelpers.buildTags(asnData);
         for (final String tag : tags) {
+            final AsnSchemaType type = asantiAsnData.getType(tag).orElse(AsnSchemaType.NULL);
+            final ValidationPlan plan = plans.computeIfAbsent(type, ValidationPlan::new);
+
             // default validation
-            Set<ValidationFailure> failures = validateDefault(tag, (AsantiAsnData) asnData);
-            builder.addAll(failures);
+            builder.addAll(plan.validateDefault(tag, asantiAsnData));
 
             // custom validation
-            failures = validateCustom(tag, asnData);
-            builder.addAll(failures);
+            builder.addAll(plan.validateCustom(tag, asnData));
         }
 
         // add a failure for each unmapped tag
@@ -115,63 +147,152 @@ public class ValidatorImpl implements Validator {
     }
 
     // -------------------------------------------------------------------------
-    // PRIVATE METHODS
+    // INTERNAL CLASS: ValidationPlan
     // -------------------------------------------------------------------------
 
     /**
-     * Validates the supplied data using the default ASN.1 schema rules
-     *
-     * @param asnData data to validate
-     * @return the results from validating the data
+     * The validation to apply to tags of a particular schema type. The builtin validator is
+     * resolved once per type, and the custom rules with cachable selectors which match recently
+     * validated tags are cached.
      */
-    private Set<ValidationFailure> validateDefault(String tag, AsantiAsnData asnData) {
-        final Set<ValidationFailure> failures = Sets.newHashSet();
-        final AsnPrimitiveType type =
-                asnData.getPrimitiveType(tag).orElse(AsnPrimitiveTypes.INVALID);
-        final BuiltinTypeValidator tagValidator =
-                (BuiltinTypeValidator) type.accept(validationVisitor);
-        if (tagValidator != null) {
-            failures.addAll(tagValidator.validate(tag, asnData));
+    private final class ValidationPlan {
+        // ---------------------------------------------------------------------
+        // INSTANCE VARIABLES
+        // ---------------------------------------------------------------------
+
+        /** the builtin type of the schema type */
+        private final AsnBuiltinType builtinType;
+
+        /** validator for the builtin type, or {@code null} if there is none */
+        private final BuiltinTypeValidator builtinTypeValidator;
+
+        /**
+         * the custom rules with cachable selectors which match recently validated tags, or {@code
+         * null} if there are no cachable rules
+         */
+        private final ConcurrentMap<String, ImmutableList<ValidationRule>> tagsToCachableRules;
+
+        // ---------------------------------------------------------------------
+        // CONSTRUCTION
+        // ---------------------------------------------------------------------
+
+        /**
+         * Default constructor.
+         *
+         * @param type the schema type to validate
+         */
+        private ValidationPlan(AsnSchemaType type) {
+            this.builtinType = type.getPrimitiveType().getBuiltinType();
+            this.builtinTypeValidator =
+                    (BuiltinTypeValidator) type.getPrimitiveType().accept(validationVisitor);
+            this.tagsToCachableRules =
+                    cachableRules.isEmpty()
+                            ? null
+                            : CacheBuilder.newBuilder()
+                                    .maximumSize(TAG_RULES_CACHE_SIZE)
+                                    .<String, ImmutableList<ValidationRule>>build()
+                                    .asMap();
         }
-        return failures;
-    }
 
-    /**
-     * Validates the supplied tag using any custom rules in this decoder
-     *
-     * @param asnData data to validate
-     * @return the results from validating the data
-     */
-    private Set<ValidationFailure> validateCustom(String tag, AsnData asnData) {
-        final Set<ValidationFailure> failures = Sets.newHashSet();
-        final AsnPrimitiveType primitiveType =
-                asnData.getPrimitiveType(tag).orElse(AsnPrimitiveTypes.INVALID);
-        final AsnBuiltinType type = primitiveType.getBuiltinType();
-
-        final ImmutableSet<ValidationRule> rules =
-                customRules.entrySet().stream()
-                        .filter(e -> e.getValue().matches(tag, type, asnData))
-                        .map(Map.Entry::getKey)
-                        .collect(ImmutableSet.toImmutableSet());
-
-        rules.forEach(
-                rule -> {
-                    try {
-                        failures.addAll(rule.validate(tag, asnData));
-                    } catch (DecodeException ex) {
-                        final ValidationFailure failure =
-                                new DecodedTagValidationFailure(
-                                        tag,
-                                        FailureType.CustomValidationFailed,
-                                        "Data was not in the expected format: " + ex.getMessage());
-                        failures.add(failure);
-                    }
-                });
-        return failures;
+        // ---------------------------------------------------------------------
+        // PUBLIC METHODS
+        // ---------------------------------------------------------------------
+
+        /**
+         * Validates the supplied tag using the default ASN.1 schema rules
+         *
+         * @param tag tag to validate
+         * @param asnData data to validate
+         * @return the results from validating the data
+         */
+        private Set<? extends ValidationFailure> validateDefault(
+                String tag, AsantiAsnData asnData) {
+            return (builtinTypeValidator == null)
+                    ? ImmutableSet.of()
+                    : builtinTypeValidator.validate(tag, asnData);
+        }
+
+        /**
+         * Validates the supplied tag using any custom rules in the validator
+         *
+         * @param tag tag to validate
+         * @param asnData data to validate
+         * @return the results from validating the data
+         */
+        private Set<ValidationFailure> validateCustom(String tag, AsnData asnData) {
+            if (customRules.isEmpty()) {
+                // nothing to apply, avoid allocating for the common case
+                return ImmutableSet.of();
+            }
+
+            final Set<ValidationFailure> failures = Sets.newHashSet();
+            if (tagsToCachableRules != null) {
+                final ImmutableList<ValidationRule> rules =
+                        tagsToCachableRules.computeIfAbsent(
+                                tag, t -> getMatchingRules(cachableRules, t, asnData));
+                for (ValidationRule rule : rules) {
+                    applyRule(rule, tag, asnData, failures);
+                }
+            }
+            for (ValidationRule rule : getMatchingRules(nonCachableRules, tag, asnData)) {
+                applyRule(rule, tag, asnData, failures);
+            }
+            return failures;
+        }
+
+        // ---------------------------------------------------------------------
+        // PRIVATE METHODS
+        // ---------------------------------------------------------------------
+
+        /**
+         * Returns the rules whose selectors match the supplied tag
+         *
+         * @param rules rules to check
+         * @param tag tag to match
+         * @param asnData data containing the tag
+         * @return the matching rules
+         */
+        private ImmutableList<ValidationRule> getMatchingRules(
+                ImmutableList<Map.Entry<ValidationRule, Selector>> rules,
+                String tag,
+                AsnData asnData) {
+            if (rules.isEmpty()) {
+                return ImmutableList.of();
+            }
+            return rules.stream()
+                    .filter(e -> e.getValue().matches(tag, builtinType, asnData))
+                    .map(Map.Entry::getKey)
+                    .collect(ImmutableList.toImmutableList());
+        }
+
+        /**
+         * Applies the supplied custom rule to a tag
+         *
+         * @param rule rule to apply
+         * @param tag tag to validate
+         * @param asnData data to validate
+         * @param failures collection to add any failures to
+         */
+        private void applyRule(
+                ValidationRule rule,
+                String tag,
+                AsnData asnData,
+                Set<ValidationFailure> failures) {
+            try {
+                failures.addAll(rule.validate(tag, asnData));
+            } catch (DecodeException ex) {
+                final ValidationFailure failure =
+                        new DecodedTagValidationFailure(
+                                tag,
+                                FailureType.CustomValidationFailed,
+                                "Data was not in the expected format: " + ex.getMessage());
+                failures.add(failure);
+            }
+        }
     }
 
     // -------------------------------------------------------------------------
-    // INTERNAL CLASSES
+    // INTERNAL CLASS: Builder
     // -------------------------------------------------------------------------
 
     /** Builder for creating instances of this class */
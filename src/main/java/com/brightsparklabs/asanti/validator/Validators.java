@@ -21,7 +21,7 @@ public class Validators {
     // -------------------------------------------------------------------------
 
     /** the default validator */
-    private static Validator instance;
+    private static final Validator instance = ValidatorImpl.builder().build();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -39,18 +39,11 @@ public class Validators {
 
     /**
      * Returns the default validator which validates {@link AsnData} against its corresponding
-     * schema.
+     * schema. The validator is thread-safe and can be shared between threads.
      *
      * @return the default validator
      */
     public static Validator getDefault() {
-        /*
-         * NOTE: Not thread safe, but unlikely this method will actually be called. Generally a
-         * custom validator will be used.
-         */
-        if (instance == null) {
-            instance = ValidatorImpl.builder().build();
-        }
         return instance;
     }
 
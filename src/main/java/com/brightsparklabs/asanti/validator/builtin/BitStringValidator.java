@@ -11,8 +11,6 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#BitString}
@@ -25,7 +23,7 @@ public class BitStringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static BitStringValidator instance;
+    private static final BitStringValidator instance = new BitStringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +42,6 @@ public class BitStringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static BitStringValidator getInstance() {
-        if (instance == null) {
-            instance = new BitStringValidator();
-        }
         return instance;
     }
 
@@ -56,8 +51,6 @@ public class BitStringValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
-
         if (bytes.length > 0) {
             int firstByte = bytes[0] & 0xFF;
             if (firstByte > 0x07) {
@@ -65,15 +58,15 @@ public class BitStringValidator extends PrimitiveBuiltinTypeValidator {
                         BIT_STRING_VALIDATION_ERROR + String.format("0x%02X ", firstByte);
                 final ByteValidationFailure failure =
                         new ByteValidationFailure(0, FailureType.DataIncorrectlyFormatted, error);
-                failures.add(failure);
+                return ImmutableSet.of(failure);
             }
         } else {
             final String error = String.format(EMPTY_BYTE_ARRAY_VALIDATION_ERROR, "BIT STRING");
             final ByteValidationFailure failure =
                     new ByteValidationFailure(0, FailureType.DataIncorrectlyFormatted, error);
-            failures.add(failure);
+            return ImmutableSet.of(failure);
         }
 
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
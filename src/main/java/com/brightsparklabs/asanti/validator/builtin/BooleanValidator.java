@@ -11,8 +11,6 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#Boolean}
@@ -25,7 +23,7 @@ public class BooleanValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static BooleanValidator instance;
+    private static final BooleanValidator instance = new BooleanValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +42,6 @@ public class BooleanValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static BooleanValidator getInstance() {
-        if (instance == null) {
-            instance = new BooleanValidator();
-        }
         return instance;
     }
 
@@ -56,7 +51,6 @@ public class BooleanValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
         if (bytes.length != 1) {
             final String error =
                     String.format(
@@ -65,8 +59,8 @@ public class BooleanValidator extends PrimitiveBuiltinTypeValidator {
             final ByteValidationFailure failure =
                     new ByteValidationFailure(
                             bytes.length, FailureType.DataIncorrectlyFormatted, error);
-            failures.add(failure);
+            return ImmutableSet.of(failure);
         }
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
@@ -16,6 +16,9 @@ import com.google.common.collect.ImmutableSet;
 /**
  * Used to validate tags based on the kind of ASN.1 Built-in Type they came from.
  *
+ * <p>The built-in implementations are stateless singletons which are created eagerly, so a single
+ * instance can safely be shared between threads.
+ *
  * @author brightSPARK Labs
  */
 public interface BuiltinTypeValidator {
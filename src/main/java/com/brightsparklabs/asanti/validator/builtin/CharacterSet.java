@@ -0,0 +1,147 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.validator.builtin;
+
+import com.brightsparklabs.asanti.validator.FailureType;
+import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * The byte values permitted in one of the restricted character string types.
+ *
+ * <p>Membership is looked up in a 256 entry table, so validating a string costs a single load and
+ * branch per byte, and no allocations if all the bytes are valid. Consecutive invalid bytes are
+ * reported as a single failure.
+ *
+ * @author brightSPARK Labs
+ */
+final class CharacterSet {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** characters permitted in a NumericString: '0' - '9' and space */
+    static final CharacterSet NUMERIC = new CharacterSet(" ", '0', '9');
+
+    /** characters permitted in a PrintableString: A-Z, a-z, 0-9 and ' ( ) + , - . / : = ? space */
+    static final CharacterSet PRINTABLE =
+            new CharacterSet(" '()+,-./:=?", 'A', 'Z', 'a', 'z', '0', '9');
+
+    /** characters permitted in an IA5String: 0x00 - 0x7F */
+    static final CharacterSet IA5 = new CharacterSet("", 0x00, 0x7F);
+
+    /** characters permitted in a VisibleString: 0x20 - 0x7E */
+    static final CharacterSet VISIBLE = new CharacterSet("", 0x20, 0x7E);
+
+    // -------------------------------------------------------------------------
+    // INSTANCE VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** whether each byte value (indexed as an unsigned value) is permitted */
+    private final boolean[] permitted = new boolean[256];
+
+    // -------------------------------------------------------------------------
+    // CONSTRUCTION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Default constructor.
+     *
+     * @param characters the individual characters which are permitted
+     * @param ranges pairs of the first and last (inclusive) byte values of ranges which are
+     *     permitted
+     */
+    private CharacterSet(String characters, int... ranges) {
+        for (int i = 0; i < characters.length(); i++) {
+            permitted[characters.charAt(i)] = true;
+        }
+        for (int i = 0; i < ranges.length; i += 2) {
+            for (int b = ranges[i]; b <= ranges[i + 1]; b++) {
+                permitted[b] = true;
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns whether the supplied byte is permitted
+     *
+     * @param b byte to check
+     * @return {@code true} if the byte is permitted
+     */
+    boolean contains(byte b) {
+        return permitted[b & 0xFF];
+    }
+
+    /**
+     * Returns whether all the supplied bytes are permitted
+     *
+     * @param bytes bytes to check
+     * @return {@code true} if all the bytes are permitted
+     */
+    boolean containsAll(byte[] bytes) {
+        return indexOfInvalid(bytes, 0) < 0;
+    }
+
+    /**
+     * Validates that all the supplied bytes are permitted. A failure is returned for each run of
+     * consecutive invalid bytes, at the index of the first byte in the run. The failure reason is
+     * the supplied prefix followed by the hex value of the first byte (and the number of invalid
+     * bytes which follow it, if any).
+     *
+     * @param bytes bytes to validate
+     * @param errorPrefix prefix of the failure reasons
+     * @return any failures which occurred while validating the bytes, ordered by index
+     */
+    ImmutableSet<ByteValidationFailure> validate(byte[] bytes, String errorPrefix) {
+        int start = indexOfInvalid(bytes, 0);
+        if (start < 0) {
+            return ImmutableSet.of();
+        }
+
+        final ImmutableSet.Builder<ByteValidationFailure> failures = ImmutableSet.builder();
+        while (start >= 0) {
+            int end = start + 1;
+            while (end < bytes.length && !permitted[bytes[end] & 0xFF]) {
+                end++;
+            }
+
+            String error = errorPrefix + String.format("0x%02X", bytes[start]);
+            if (end - start > 1) {
+                error += String.format(" (followed by %d more invalid bytes)", end - start - 1);
+            }
+            failures.add(
+                    new ByteValidationFailure(start, FailureType.DataIncorrectlyFormatted, error));
+            start = indexOfInvalid(bytes, end);
+        }
+        return failures.build();
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the index of the first byte which is not permitted
+     *
+     * @param bytes bytes to check
+     * @param from index to start checking from
+     * @return the index of the first invalid byte, or -1 if all bytes are permitted
+     */
+    private int indexOfInvalid(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (!permitted[bytes[i] & 0xFF]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -38,7 +38,8 @@ public class ConstructedBuiltinTypeValidator implements BuiltinTypeValidator {
             LoggerFactory.getLogger(ConstructedBuiltinTypeValidator.class);
 
     /** singleton instance */
-    private static ConstructedBuiltinTypeValidator instance;
+    private static final ConstructedBuiltinTypeValidator instance =
+            new ConstructedBuiltinTypeValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -57,9 +58,6 @@ public class ConstructedBuiltinTypeValidator implements BuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static ConstructedBuiltinTypeValidator getInstance() {
-        if (instance == null) {
-            instance = new ConstructedBuiltinTypeValidator();
-        }
         return instance;
     }
 
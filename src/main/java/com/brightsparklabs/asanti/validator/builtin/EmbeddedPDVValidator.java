@@ -10,8 +10,6 @@ package com.brightsparklabs.asanti.validator.builtin;
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#EmbeddedPDV}
@@ -24,7 +22,7 @@ public class EmbeddedPDVValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static EmbeddedPDVValidator instance;
+    private static final EmbeddedPDVValidator instance = new EmbeddedPDVValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -43,9 +41,6 @@ public class EmbeddedPDVValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static EmbeddedPDVValidator getInstance() {
-        if (instance == null) {
-            instance = new EmbeddedPDVValidator();
-        }
         return instance;
     }
 
@@ -55,8 +50,7 @@ public class EmbeddedPDVValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
         // TODO: ASN-105 implement validation logic
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
@@ -19,7 +19,6 @@ import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.brightsparklabs.asanti.validator.failure.DecodedTagValidationFailure;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
-import java.math.BigInteger;
 import java.text.ParseException;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -35,7 +34,7 @@ public class EnumeratedValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static EnumeratedValidator instance;
+    private static final EnumeratedValidator instance = new EnumeratedValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -54,9 +53,6 @@ public class EnumeratedValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static EnumeratedValidator getInstance() {
-        if (instance == null) {
-            instance = new EnumeratedValidator();
-        }
         return instance;
     }
 
@@ -79,15 +75,14 @@ public class EnumeratedValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
         if (bytes.length == 0) {
             final String error = String.format(EMPTY_BYTE_ARRAY_VALIDATION_ERROR, "ENUMERATED");
             final ByteValidationFailure failure =
                     new ByteValidationFailure(
                             bytes.length, FailureType.DataIncorrectlyFormatted, error);
-            failures.add(failure);
+            return ImmutableSet.of(failure);
         }
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 
     // -------------------------------------------------------------------------
@@ -113,9 +108,9 @@ public class EnumeratedValidator extends PrimitiveBuiltinTypeValidator {
         try {
             // AND that the decoded integer aligns with a named tag for the
             // Enumerated type as defined by its schema.
-            final BigInteger value = AsnByteDecoder.decodeAsInteger(asnData.getBytes(tag).get());
+            final long value = AsnByteDecoder.decodeAsLong(asnData.getBytes(tag).get());
             final AsnSchemaType type = asnData.getType(tag).get();
-            final String tagName = (String) type.accept(getNamedTagVisitor(value.toString()));
+            final String tagName = (String) type.accept(getNamedTagVisitor(value));
 
             if (tagName.isEmpty()) {
                 final String error =
@@ -152,7 +147,7 @@ public class EnumeratedValidator extends PrimitiveBuiltinTypeValidator {
      * @return new instance of the visitor - call {@link AsnSchemaType#accept} on the AsnSchemaType
      *     with this return value
      */
-    private static AsnSchemaTypeVisitor getNamedTagVisitor(final String value) {
+    private static AsnSchemaTypeVisitor getNamedTagVisitor(final long value) {
         return new AsnSchemaTypeVisitor<String>() {
             @Override
             public String visit(final AsnSchemaTypeConstructed visitable) throws ParseException {
@@ -177,8 +172,7 @@ public class EnumeratedValidator extends PrimitiveBuiltinTypeValidator {
 
             @Override
             public String visit(final AsnSchemaTypeWithNamedTags visitable) throws ParseException {
-                final AsnSchemaNamedTag result = visitable.getTagsToNamedValues().get(value);
-                return (result == null) ? "" : result.getTagName();
+                return visitable.getNamedValue(value).map(AsnSchemaNamedTag::getTagName).orElse("");
             }
 
             @Override
@@ -25,7 +25,7 @@ public class GeneralizedTimeValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static GeneralizedTimeValidator instance;
+    private static final GeneralizedTimeValidator instance = new GeneralizedTimeValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class GeneralizedTimeValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static GeneralizedTimeValidator getInstance() {
-        if (instance == null) {
-            instance = new GeneralizedTimeValidator();
-        }
         return instance;
     }
 
@@ -8,11 +8,8 @@
 package com.brightsparklabs.asanti.validator.builtin;
 
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
-import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#Ia5String}
@@ -25,7 +22,7 @@ public class Ia5StringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static Ia5StringValidator instance;
+    private static final Ia5StringValidator instance = new Ia5StringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +41,6 @@ public class Ia5StringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static Ia5StringValidator getInstance() {
-        if (instance == null) {
-            instance = new Ia5StringValidator();
-        }
         return instance;
     }
 
@@ -56,16 +50,6 @@ public class Ia5StringValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
-        for (int i = 0; i < bytes.length; i++) {
-            byte b = bytes[i];
-            if (b < 0 || b > 127) {
-                final String error = IA5STRING_VALIDATION_ERROR + String.format("0x%02X ", b);
-                final ByteValidationFailure failure =
-                        new ByteValidationFailure(i, FailureType.DataIncorrectlyFormatted, error);
-                failures.add(failure);
-            }
-        }
-        return ImmutableSet.copyOf(failures);
+        return CharacterSet.IA5.validate(bytes, IA5STRING_VALIDATION_ERROR);
     }
 }
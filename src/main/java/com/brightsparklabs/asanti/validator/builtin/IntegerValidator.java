@@ -11,8 +11,6 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#Integer}
@@ -25,7 +23,7 @@ public class IntegerValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static IntegerValidator instance;
+    private static final IntegerValidator instance = new IntegerValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +42,6 @@ public class IntegerValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static IntegerValidator getInstance() {
-        if (instance == null) {
-            instance = new IntegerValidator();
-        }
         return instance;
     }
 
@@ -56,14 +51,13 @@ public class IntegerValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
         if (bytes.length == 0) {
             final String error = String.format(EMPTY_BYTE_ARRAY_VALIDATION_ERROR, "INTEGER");
             final ByteValidationFailure failure =
                     new ByteValidationFailure(
                             bytes.length, FailureType.DataIncorrectlyFormatted, error);
-            failures.add(failure);
+            return ImmutableSet.of(failure);
         }
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
@@ -11,8 +11,6 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#Null}
@@ -25,7 +23,7 @@ public class NullValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static NullValidator instance;
+    private static final NullValidator instance = new NullValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +42,6 @@ public class NullValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static NullValidator getInstance() {
-        if (instance == null) {
-            instance = new NullValidator();
-        }
         return instance;
     }
 
@@ -56,15 +51,13 @@ public class NullValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
-
         if (bytes.length != 0) {
             final ByteValidationFailure failure =
                     new ByteValidationFailure(
                             0, FailureType.DataIncorrectlyFormatted, NULL_VALIDATION_ERROR);
-            failures.add(failure);
+            return ImmutableSet.of(failure);
         }
 
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
@@ -8,11 +8,8 @@
 package com.brightsparklabs.asanti.validator.builtin;
 
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
-import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#NumericString}
@@ -25,7 +22,7 @@ public class NumericStringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static NumericStringValidator instance;
+    private static final NumericStringValidator instance = new NumericStringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +41,6 @@ public class NumericStringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static NumericStringValidator getInstance() {
-        if (instance == null) {
-            instance = new NumericStringValidator();
-        }
         return instance;
     }
 
@@ -56,16 +50,6 @@ public class NumericStringValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
-        for (int i = 0; i < bytes.length; i++) {
-            byte b = bytes[i];
-            if ((b != ' ') && (b < '0' || b > '9')) {
-                final String error = NUMERICSTRING_VALIDATION_ERROR + String.format("0x%02X ", b);
-                final ByteValidationFailure failure =
-                        new ByteValidationFailure(i, FailureType.DataIncorrectlyFormatted, error);
-                failures.add(failure);
-            }
-        }
-        return ImmutableSet.copyOf(failures);
+        return CharacterSet.NUMERIC.validate(bytes, NUMERICSTRING_VALIDATION_ERROR);
     }
 }
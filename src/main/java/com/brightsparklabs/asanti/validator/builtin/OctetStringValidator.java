@@ -22,7 +22,7 @@ public class OctetStringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static OctetStringValidator instance;
+    private static final OctetStringValidator instance = new OctetStringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -41,9 +41,6 @@ public class OctetStringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static OctetStringValidator getInstance() {
-        if (instance == null) {
-            instance = new OctetStringValidator();
-        }
         return instance;
     }
 
@@ -25,7 +25,7 @@ public class OidValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static OidValidator instance;
+    private static final OidValidator instance = new OidValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class OidValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static OidValidator getInstance() {
-        if (instance == null) {
-            instance = new OidValidator();
-        }
         return instance;
     }
 
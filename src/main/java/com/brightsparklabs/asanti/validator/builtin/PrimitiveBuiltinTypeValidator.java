@@ -32,11 +32,18 @@ public abstract class PrimitiveBuiltinTypeValidator implements BuiltinTypeValida
 
     @Override
     public ImmutableSet<DecodedTagValidationFailure> validate(String tag, AsantiAsnData asnData) {
-        final Set<DecodedTagValidationFailure> tagFailures = Sets.newHashSet();
-
         // validate data
         final byte[] bytes = asnData.getBytes(tag).orElse(null);
-        final Iterable<ByteValidationFailure> byteFailures = validate(bytes);
+        final ImmutableSet<ByteValidationFailure> byteFailures = validate(bytes);
+
+        final AsnSchemaType type = asnData.getType(tag).orElse(AsnSchemaType.NULL);
+        final ImmutableSet<AsnSchemaConstraint> constraints = type.getConstraints();
+        if (byteFailures.isEmpty() && constraints.isEmpty()) {
+            // common case, nothing else can fail so there is nothing to collect
+            return ImmutableSet.of();
+        }
+
+        final Set<DecodedTagValidationFailure> tagFailures = Sets.newHashSet();
         for (ByteValidationFailure byteFailure : byteFailures) {
             final DecodedTagValidationFailure tagFailure =
                     new DecodedTagValidationFailure(
@@ -45,8 +52,6 @@ public abstract class PrimitiveBuiltinTypeValidator implements BuiltinTypeValida
         }
 
         // validate against the tag's constraint
-        final AsnSchemaType type = asnData.getType(tag).orElse(AsnSchemaType.NULL);
-        final ImmutableSet<AsnSchemaConstraint> constraints = type.getConstraints();
         final Set<SchemaConstraintValidationFailure> constraintFailures = Sets.newHashSet();
         for (AsnSchemaConstraint constraint : constraints) {
             constraintFailures.addAll(constraint.apply(bytes, type.getPrimitiveType()));
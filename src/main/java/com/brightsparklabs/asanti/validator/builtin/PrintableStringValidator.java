@@ -8,11 +8,8 @@
 package com.brightsparklabs.asanti.validator.builtin;
 
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
-import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#PrintableString}
@@ -25,7 +22,7 @@ public class PrintableStringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static PrintableStringValidator instance;
+    private static final PrintableStringValidator instance = new PrintableStringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +41,6 @@ public class PrintableStringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static PrintableStringValidator getInstance() {
-        if (instance == null) {
-            instance = new PrintableStringValidator();
-        }
         return instance;
     }
 
@@ -56,52 +50,6 @@ public class PrintableStringValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
-        for (int i = 0; i < bytes.length; i++) {
-            byte b = bytes[i];
-
-            if (!isPrintableByte(b)) {
-                final String error = PRINTABLESTRING_VALIDATION_ERROR + String.format("0x%02X ", b);
-                final ByteValidationFailure failure =
-                        new ByteValidationFailure(i, FailureType.DataIncorrectlyFormatted, error);
-                failures.add(failure);
-            }
-        }
-
-        return ImmutableSet.copyOf(failures);
-    }
-
-    /**
-     * Returns true if byte is within the range conforming to PrintableString format. The range
-     * comprises of: A, B, ..., Z a, b, ..., z 0, 1, ..., 9 (space) ' ( ) + , - . / : = ?
-     *
-     * @return true if byte is within the range conforming to PrintableString format
-     */
-    private boolean isPrintableByte(final byte b) {
-        if ((b >= 'A') && (b <= 'Z')) {
-            return true;
-        }
-        if ((b >= 'a') && (b <= 'z')) {
-            return true;
-        }
-        if ((b >= '0') && (b <= '9')) {
-            return true;
-        }
-        switch (b) {
-            case ' ':
-            case '\'':
-            case '(':
-            case ')':
-            case '+':
-            case ',':
-            case '-':
-            case '.':
-            case '/':
-            case ':':
-            case '=':
-            case '?':
-                return true;
-        }
-        return false;
+        return CharacterSet.PRINTABLE.validate(bytes, PRINTABLESTRING_VALIDATION_ERROR);
     }
 }
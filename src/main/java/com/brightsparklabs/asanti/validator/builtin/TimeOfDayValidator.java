@@ -10,8 +10,6 @@ package com.brightsparklabs.asanti.validator.builtin;
 import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#TimeOfDay}
@@ -24,7 +22,7 @@ public class TimeOfDayValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static TimeOfDayValidator instance;
+    private static final TimeOfDayValidator instance = new TimeOfDayValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -43,9 +41,6 @@ public class TimeOfDayValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static TimeOfDayValidator getInstance() {
-        if (instance == null) {
-            instance = new TimeOfDayValidator();
-        }
         return instance;
     }
 
@@ -55,8 +50,7 @@ public class TimeOfDayValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
         // TODO: ASN-105 implement validation logic
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
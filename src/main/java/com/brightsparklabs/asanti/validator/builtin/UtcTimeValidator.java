@@ -25,7 +25,7 @@ public class UtcTimeValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static UtcTimeValidator instance;
+    private static final UtcTimeValidator instance = new UtcTimeValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -44,9 +44,6 @@ public class UtcTimeValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static UtcTimeValidator getInstance() {
-        if (instance == null) {
-            instance = new UtcTimeValidator();
-        }
         return instance;
     }
 
@@ -27,7 +27,7 @@ public class Utf8StringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static Utf8StringValidator instance;
+    private static final Utf8StringValidator instance = new Utf8StringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -46,9 +46,6 @@ public class Utf8StringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static Utf8StringValidator getInstance() {
-        if (instance == null) {
-            instance = new Utf8StringValidator();
-        }
         return instance;
     }
 
@@ -12,8 +12,6 @@ import com.brightsparklabs.asanti.schema.AsnBuiltinType;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Sets;
-import java.util.Set;
 
 /**
  * Validator for data of type {@link AsnBuiltinType#VisibleString}
@@ -26,7 +24,7 @@ public class VisibleStringValidator extends PrimitiveBuiltinTypeValidator {
     // -------------------------------------------------------------------------
 
     /** singleton instance */
-    private static VisibleStringValidator instance;
+    private static final VisibleStringValidator instance = new VisibleStringValidator();
 
     // -------------------------------------------------------------------------
     // CONSTRUCTION
@@ -45,9 +43,6 @@ public class VisibleStringValidator extends PrimitiveBuiltinTypeValidator {
      * @return a singleton instance of this class
      */
     public static VisibleStringValidator getInstance() {
-        if (instance == null) {
-            instance = new VisibleStringValidator();
-        }
         return instance;
     }
 
@@ -57,18 +52,16 @@ public class VisibleStringValidator extends PrimitiveBuiltinTypeValidator {
 
     @Override
     protected ImmutableSet<ByteValidationFailure> validateNonNullBytes(final byte[] bytes) {
-        final Set<ByteValidationFailure> failures = Sets.newHashSet();
-
-        if (ByteArrays.containsNonPrintableChars(bytes)) {
+        if (!CharacterSet.VISIBLE.containsAll(bytes)) {
             final String error =
                     BuiltinTypeValidator.VISIBLESTRING_VALIDATION_ERROR
                             + ByteArrays.toHexString(bytes);
             final ByteValidationFailure failure =
                     new ByteValidationFailure(
                             bytes.length, FailureType.DataIncorrectlyFormatted, error);
-            failures.add(failure);
+            return ImmutableSet.of(failure);
         }
 
-        return ImmutableSet.copyOf(failures);
+        return ImmutableSet.of();
     }
 }
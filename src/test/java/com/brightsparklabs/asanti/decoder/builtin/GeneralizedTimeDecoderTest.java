@@ -359,4 +359,24 @@ public class GeneralizedTimeDecoderTest {
         } catch (DecodeException e) {
         }
     }
+
+    @Test
+    public void testDecodeUnchecked() throws Exception {
+        final AsantiAsnData data = mock(AsantiAsnData.class);
+        for (String time :
+                new String[] {
+                    "1900010100",
+                    "1970010100Z",
+                    "19850416141516.123+1030",
+                    "19181111110000.123456789"
+                }) {
+            final byte[] bytes = time.getBytes(Charsets.UTF_8);
+            assertEquals(instance.decode(bytes), instance.decodeUnchecked(bytes));
+            assertEquals(time, instance.decodeAsStringUnchecked(bytes));
+
+            when(data.getBytes(eq(time))).thenReturn(Optional.of(bytes));
+            assertEquals(instance.decode(time, data), instance.decodeUnchecked(time, data));
+            assertEquals(time, instance.decodeAsStringUnchecked(time, data));
+        }
+    }
 }
@@ -15,6 +15,7 @@ import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
 import java.math.BigInteger;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.Test;
 
 /**
@@ -723,4 +724,110 @@ public class IntegerDecoderTest {
         } catch (DecodeException ex) {
         }
     }
+
+    @Test
+    public void testDecodeUnchecked() throws Exception {
+        AsantiAsnData data = mock(AsantiAsnData.class);
+
+        // matches the checked decode for valid bytes
+        byte[] bytes = new byte[1];
+        for (int b = Byte.MAX_VALUE; b >= Byte.MIN_VALUE; b--) {
+            bytes[0] = (byte) b;
+            assertEquals(instance.decode(bytes), instance.decodeUnchecked(bytes));
+            assertEquals(instance.decodeAsString(bytes), instance.decodeAsStringUnchecked(bytes));
+
+            final String tag = "tag" + b;
+            when(data.getBytes(eq(tag))).thenReturn(Optional.of(bytes));
+            assertEquals(instance.decode(tag, data), instance.decodeUnchecked(tag, data));
+            assertEquals(
+                    instance.decodeAsString(tag, data),
+                    instance.decodeAsStringUnchecked(tag, data));
+        }
+
+        // missing data is still reported
+        when(data.getBytes(eq("missing"))).thenReturn(Optional.empty());
+        try {
+            instance.decodeUnchecked("missing", data);
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+        try {
+            instance.decodeAsStringUnchecked("missing", data);
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+    }
+
+    @Test
+    public void testDecodeAsLong() throws Exception {
+        // matches BigInteger across all byte lengths
+        final Random random = new Random(0);
+        for (int length = 1; length <= 8; length++) {
+            final byte[] bytes = new byte[length];
+            for (int i = 0; i < 1000; i++) {
+                random.nextBytes(bytes);
+                final BigInteger expected = new BigInteger(bytes);
+                assertEquals(expected.longValue(), instance.decodeAsLong(bytes));
+                if (expected.bitLength() < Integer.SIZE) {
+                    assertEquals(expected.intValue(), instance.decodeAsInt(bytes));
+                }
+            }
+        }
+
+        // limits
+        assertEquals(
+                Long.MAX_VALUE,
+                instance.decodeAsLong(BigInteger.valueOf(Long.MAX_VALUE).toByteArray()));
+        assertEquals(
+                Long.MIN_VALUE,
+                instance.decodeAsLong(BigInteger.valueOf(Long.MIN_VALUE).toByteArray()));
+        assertEquals(
+                Integer.MAX_VALUE,
+                instance.decodeAsInt(BigInteger.valueOf(Integer.MAX_VALUE).toByteArray()));
+        assertEquals(
+                Integer.MIN_VALUE,
+                instance.decodeAsInt(BigInteger.valueOf(Integer.MIN_VALUE).toByteArray()));
+
+        // redundant leading sign bytes are allowed
+        assertEquals(255L, instance.decodeAsLong(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xff}));
+        assertEquals(-1, instance.decodeAsInt(new byte[] {-1, -1, -1, -1, -1, -1}));
+
+        // overflow
+        for (BigInteger value :
+                new BigInteger[] {
+                    BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+                    BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE)
+                }) {
+            try {
+                instance.decodeAsLong(value.toByteArray());
+                fail("DecodeException not thrown");
+            } catch (DecodeException ex) {
+                assertEquals(
+                        "INTEGER value " + value + " does not fit in a Java long",
+                        ex.getMessage());
+            }
+        }
+        try {
+            instance.decodeAsInt(BigInteger.valueOf(Integer.MAX_VALUE + 1L).toByteArray());
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+        try {
+            instance.decodeAsInt(BigInteger.valueOf(Integer.MIN_VALUE - 1L).toByteArray());
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+
+        // invalid
+        try {
+            instance.decodeAsLong(new byte[0]);
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+        try {
+            instance.decodeAsInt(null);
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+    }
 }
@@ -112,4 +112,14 @@ public class OctetStringDecoderTest {
         } catch (DecodeException e) {
         }
     }
+
+    @Test
+    public void testDecodeUnchecked() throws Exception {
+        byte[] bytes = new byte[] {0x54, 0x45, 0x53, 0x54};
+        assertSame(bytes, instance.decodeUnchecked(bytes));
+        assertEquals("TEST", instance.decodeAsStringUnchecked(bytes));
+        bytes = new byte[] {0x00, 0x54, 0x45, 0x53, 0x54, 0x00};
+        assertEquals("0x005445535400", instance.decodeAsStringUnchecked(bytes));
+        assertEquals("", instance.decodeAsStringUnchecked(new byte[0]));
+    }
 }
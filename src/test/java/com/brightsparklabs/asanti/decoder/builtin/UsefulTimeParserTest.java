@@ -0,0 +1,555 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.decoder.builtin;
+
+import static org.junit.Assert.*;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeFormatterBuilder;
+import org.joda.time.format.DateTimeParser;
+import org.junit.Test;
+
+/**
+ * Units tests for {@link UsefulTimeParser}. The results are compared against the Joda-Time based
+ * parsers which were previously used by {@link GeneralizedTimeDecoder} and {@link UtcTimeDecoder}.
+ *
+ * @author brightSPARK Labs
+ */
+public class UsefulTimeParserTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** time zones to compare the parsers in (local times are resolved in the default zone) */
+    private static final ImmutableList<String> TIME_ZONES =
+            ImmutableList.of("UTC", "Australia/Sydney", "America/New_York", "Asia/Kolkata");
+
+    /** number of random times to compare in each time zone */
+    private static final int CORPUS_SIZE = 20000;
+
+    /** offsets to append to the random times */
+    private static final ImmutableList<String> OFFSETS =
+            ImmutableList.of(
+                    "",
+                    "",
+                    "",
+                    "Z",
+                    "z",
+                    "+10",
+                    "-05",
+                    "+0530",
+                    "-1159",
+                    "+10:30",
+                    "+1",
+                    "+24",
+                    "-2360",
+                    "+105",
+                    "+10:3",
+                    "+10:",
+                    "+103015",
+                    "+10301",
+                    "+103015123",
+                    "+10:30:15",
+                    "+10:30:15.1",
+                    "+10:30:15,12345",
+                    "+10:30:",
+                    "+10:30:1",
+                    "+10:30:15.",
+                    "+",
+                    "Zx",
+                    "x",
+                    " ");
+
+    /** characters used to mutate the random times */
+    private static final String MUTATIONS = "0123456789+-.,:Zz T";
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testParseGeneralizedTime() throws Exception {
+        final List<String> warnings = Lists.newArrayList();
+        assertEquals(
+                OffsetDateTime.of(1985, 4, 16, 14, 15, 16, 123_456_789, ZoneOffset.ofHours(10))
+                        .toInstant(),
+                UsefulTimeParser.parseGeneralizedTime(
+                                "19850416141516.123456789+1000".getBytes(Charsets.UTF_8),
+                                warnings::add)
+                        .toInstant());
+        assertEquals(ImmutableList.of(), warnings);
+
+        assertEquals(
+                Instant.parse("2015-01-02T03:04:05.123456789Z"),
+                UsefulTimeParser.parseGeneralizedTime(
+                                "20150102030405,1234567891234Z".getBytes(Charsets.UTF_8),
+                                warnings::add)
+                        .toInstant());
+        assertEquals(
+                ImmutableList.of(
+                        "Loss of precision - discarding decimal places. For the GeneralizedTime "
+                                + "20150102030405,1234567891234Z, the sub-millisecond component "
+                                + "4567891234 is now 456789"),
+                warnings);
+
+        try {
+            UsefulTimeParser.parseGeneralizedTime(
+                    "2015022901Z".getBytes(Charsets.UTF_8), warnings::add);
+            fail("IllegalArgumentException not thrown");
+        } catch (IllegalArgumentException ex) {
+            assertEquals(
+                    "Cannot parse \"2015022901Z\": Value 29 for dayOfMonth must be in the range"
+                            + " [1,28]",
+                    ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testParseUtcTime() throws Exception {
+        assertEquals(
+                Instant.parse("2049-12-31T23:59:00Z"),
+                UsefulTimeParser.parseUtcTime("4912312359Z".getBytes(Charsets.UTF_8)).toInstant());
+        assertEquals(
+                Instant.parse("1950-01-01T00:00:00Z"),
+                UsefulTimeParser.parseUtcTime("500101000000+0000".getBytes(Charsets.UTF_8))
+                        .toInstant());
+
+        try {
+            UsefulTimeParser.parseUtcTime("4912312359.1Z".getBytes(Charsets.UTF_8));
+            fail("IllegalArgumentException not thrown");
+        } catch (IllegalArgumentException ex) {
+            assertEquals(
+                    "Invalid format: \"4912312359.1Z\" is malformed at \".1Z\"", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testParseGeneralizedTime_MatchesLegacyParser() throws Exception {
+        final Random random = new Random(0);
+        for (String zone : TIME_ZONES) {
+            withDefaultTimeZone(
+                    zone,
+                    () -> {
+                        for (int i = 0; i < CORPUS_SIZE; i++) {
+                            assertMatchesLegacy(
+                                    createGeneralizedTime(random),
+                                    UsefulTimeParser::parseGeneralizedTime,
+                                    LegacyParser::parseGeneralizedTime);
+                        }
+                    });
+        }
+    }
+
+    @Test
+    public void testParseUtcTime_MatchesLegacyParser() throws Exception {
+        final Random random = new Random(0);
+        for (String zone : TIME_ZONES) {
+            withDefaultTimeZone(
+                    zone,
+                    () -> {
+                        for (int i = 0; i < CORPUS_SIZE; i++) {
+                            assertMatchesLegacy(
+                                    createUtcTime(random),
+                                    (bytes, warnings) -> UsefulTimeParser.parseUtcTime(bytes),
+                                    (time, warnings) -> LegacyParser.parseUtcTime(time));
+                        }
+                    });
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that a time is parsed to the same value, with the same warnings, or fails with the
+     * same error as the legacy parser
+     *
+     * @param time time to parse
+     * @param parser parser under test
+     * @param legacyParser legacy parser to compare against
+     */
+    private static void assertMatchesLegacy(
+            String time, Parser<byte[]> parser, Parser<String> legacyParser) {
+        final List<String> expectedWarnings = Lists.newArrayList();
+        final List<String> actualWarnings = Lists.newArrayList();
+        final String expected =
+                parseToString(t -> legacyParser.parse(t, expectedWarnings::add), time);
+        final String actual =
+                parseToString(
+                        t -> parser.parse(t.getBytes(Charsets.UTF_8), actualWarnings::add), time);
+        assertEquals(time, expected, actual);
+        assertEquals(time, expectedWarnings, actualWarnings);
+    }
+
+    /**
+     * Parses the supplied time, returning either the parsed value or the error message
+     *
+     * @param parser parser to use
+     * @param time time to parse
+     * @return the result of parsing
+     */
+    private static String parseToString(Function<String, OffsetDateTime> parser, String time) {
+        try {
+            return parser.apply(time).toString();
+        } catch (IllegalArgumentException ex) {
+            return "error: " + ex.getMessage();
+        }
+    }
+
+    /**
+     * Runs the supplied test with both the JDK and Joda-Time default time zones set
+     *
+     * @param zone time zone to use
+     * @param test test to run
+     */
+    private static void withDefaultTimeZone(String zone, Runnable test) {
+        final TimeZone timeZone = TimeZone.getDefault();
+        final DateTimeZone dateTimeZone = DateTimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone(zone));
+            DateTimeZone.setDefault(DateTimeZone.forID(zone));
+            assertEquals(zone, ZoneId.systemDefault().getId());
+            test.run();
+        } finally {
+            TimeZone.setDefault(timeZone);
+            DateTimeZone.setDefault(dateTimeZone);
+        }
+    }
+
+    /**
+     * Creates a random, and possibly invalid, GeneralizedTime
+     *
+     * @param random source of randomness
+     * @return a GeneralizedTime
+     */
+    private static String createGeneralizedTime(Random random) {
+        final StringBuilder builder = new StringBuilder();
+        final int year = random.nextBoolean() ? 1900 + random.nextInt(200) : random.nextInt(10000);
+        switch (random.nextInt(10)) {
+            case 0:
+                builder.append(random.nextBoolean() ? '+' : '-');
+                builder.append(String.format("%04d", year));
+                break;
+            case 1:
+                builder.append(String.format("%03d", year % 1000));
+                break;
+            default:
+                builder.append(String.format("%04d", year));
+                break;
+        }
+        appendFields(random, builder);
+        final int digits = builder.length();
+        switch (random.nextInt(4)) {
+            case 0:
+                // hours
+                builder.setLength(Math.max(0, digits - 4));
+                break;
+            case 1:
+                // minutes
+                builder.setLength(Math.max(0, digits - 2));
+                break;
+            default:
+                break;
+        }
+
+        if (random.nextInt(3) > 0) {
+            builder.append(random.nextInt(10) == 0 ? "," : ".");
+            final int decimalPlaces =
+                    random.nextBoolean() ? random.nextInt(4) : random.nextInt(25);
+            for (int i = 0; i < decimalPlaces; i++) {
+                builder.append(random.nextInt(10));
+            }
+        }
+        builder.append(OFFSETS.get(random.nextInt(OFFSETS.size())));
+        return mutate(random, builder);
+    }
+
+    /**
+     * Creates a random, and possibly invalid, UTCTime
+     *
+     * @param random source of randomness
+     * @return a UTCTime
+     */
+    private static String createUtcTime(Random random) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%02d", random.nextInt(100)));
+        appendFields(random, builder);
+        if (random.nextInt(3) == 0) {
+            // minutes
+            builder.setLength(Math.max(0, builder.length() - 2));
+        }
+        if (random.nextInt(10) == 0) {
+            builder.append(".").append(random.nextInt(1000));
+        }
+        builder.append(OFFSETS.get(random.nextInt(OFFSETS.size())));
+        return mutate(random, builder);
+    }
+
+    /**
+     * Appends random (and possibly out of range) month, day, hour, minute and second fields
+     *
+     * @param random source of randomness
+     * @param builder builder to append to
+     */
+    private static void appendFields(Random random, StringBuilder builder) {
+        final boolean isValid = random.nextBoolean();
+        final int[] maxima = {isValid ? 12 : 14, isValid ? 28 : 33, 24, 60, 62};
+        for (int maximum : maxima) {
+            final int value = random.nextInt(maximum) + ((maximum < 24) ? 1 : 0);
+            // a field of a single digit is occasionally supplied
+            builder.append(
+                    random.nextInt(50) == 0 ? String.valueOf(value) : String.format("%02d", value));
+        }
+    }
+
+    /**
+     * Randomly inserts, removes or replaces a character of the supplied time
+     *
+     * @param random source of randomness
+     * @param builder the time to mutate
+     * @return the mutated time
+     */
+    private static String mutate(Random random, StringBuilder builder) {
+        if (builder.length() == 0 || random.nextInt(5) > 0) {
+            return builder.toString();
+        }
+        final int index = random.nextInt(builder.length());
+        final char c = MUTATIONS.charAt(random.nextInt(MUTATIONS.length()));
+        switch (random.nextInt(3)) {
+            case 0:
+                builder.insert(index, c);
+                break;
+            case 1:
+                builder.deleteCharAt(index);
+                break;
+            default:
+                builder.setCharAt(index, c);
+                break;
+        }
+        return builder.toString();
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Parser
+    // -------------------------------------------------------------------------
+
+    /**
+     * A time parser
+     *
+     * @param <T> type of the time to parse
+     */
+    private interface Parser<T> {
+        /**
+         * Parses the supplied time
+         *
+         * @param time time to parse
+         * @param warnings receives a message each time precision is lost
+         * @return the parsed time
+         * @throws IllegalArgumentException if the time could not be parsed
+         */
+        OffsetDateTime parse(T time, Consumer<String> warnings);
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: LegacyParser
+    // -------------------------------------------------------------------------
+
+    /** The Joda-Time based parsers previously used by the decoders */
+    private static final class LegacyParser {
+        /** parser for the "core" of what an ASN.1 GeneralizedTime MUST consist of */
+        private static final DateTimeFormatter core =
+                new DateTimeFormatterBuilder()
+                        .appendYear(4, 4)
+                        .appendMonthOfYear(2)
+                        .appendDayOfMonth(2)
+                        .appendHourOfDay(2)
+                        .toFormatter();
+
+        /** the collection all of decimal place separators to parse for */
+        private static final DateTimeParser[] decimal = {
+            new DateTimeFormatterBuilder().appendLiteral(".").toParser(),
+            new DateTimeFormatterBuilder().appendLiteral(",").toParser()
+        };
+
+        /** a time zone offset parser, specifying "Z" as no timezone, ie UTC */
+        private static final DateTimeParser offset =
+                new DateTimeFormatterBuilder()
+                        .appendTimeZoneOffset("", "Z", false, 1, 2)
+                        .toParser();
+
+        /** the GeneralizedTime parser, an OR of the seconds, minutes and hours precisions */
+        private static final DateTimeFormatter generalizedTimeParser =
+                new DateTimeFormatterBuilder()
+                        .append(
+                                null,
+                                new DateTimeParser[] {
+                                    new DateTimeFormatterBuilder()
+                                            .append(core)
+                                            .appendMinuteOfHour(2)
+                                            .appendSecondOfMinute(2)
+                                            .appendOptional(
+                                                    new DateTimeFormatterBuilder()
+                                                            .append(null, decimal)
+                                                            .appendFractionOfSecond(1, 18)
+                                                            .toParser())
+                                            .appendOptional(offset)
+                                            .toParser(),
+                                    new DateTimeFormatterBuilder()
+                                            .append(core)
+                                            .appendMinuteOfHour(2)
+                                            .appendOptional(
+                                                    new DateTimeFormatterBuilder()
+                                                            .append(null, decimal)
+                                                            .appendFractionOfMinute(1, 18)
+                                                            .toParser())
+                                            .appendOptional(offset)
+                                            .toParser(),
+                                    new DateTimeFormatterBuilder()
+                                            .append(core)
+                                            .appendOptional(
+                                                    new DateTimeFormatterBuilder()
+                                                            .append(null, decimal)
+                                                            .appendFractionOfHour(1, 18)
+                                                            .toParser())
+                                            .appendOptional(offset)
+                                            .toParser()
+                                })
+                        .toFormatter();
+
+        /** parser for the "core" of what an ASN.1 UTCTime MUST consist of */
+        private static final DateTimeFormatter utcCore =
+                new DateTimeFormatterBuilder()
+                        .appendTwoDigitYear(2000)
+                        .appendMonthOfYear(2)
+                        .appendDayOfMonth(2)
+                        .appendHourOfDay(2)
+                        .appendMinuteOfHour(2)
+                        .toFormatter();
+
+        /** the UTCTime parser, an OR of the seconds and minutes precisions */
+        private static final DateTimeFormatter utcTimeParser =
+                new DateTimeFormatterBuilder()
+                        .append(
+                                null,
+                                new DateTimeParser[] {
+                                    new DateTimeFormatterBuilder()
+                                            .append(utcCore)
+                                            .appendSecondOfMinute(2)
+                                            .appendOptional(offset)
+                                            .toParser(),
+                                    new DateTimeFormatterBuilder()
+                                            .append(utcCore)
+                                            .appendOptional(offset)
+                                            .toParser()
+                                })
+                        .toFormatter();
+
+        /** matches times specifying seconds, to extract the nanoseconds */
+        private static final Pattern PATTERN_SUB_MILLI_SECONDS =
+                Pattern.compile(
+                        "^([0-9]{14})(([,\\.])(([0-9]{1,3})([0-9]*)))(Z|((\\+|\\-)[0-9]+))?");
+
+        /** matches times with more than 18 decimal places */
+        private static final Pattern PATTERN_18_DECIMAL_PLACES =
+                Pattern.compile(
+                        "^([0-9]{10,12})(([,\\.])(([0-9]{1,18})([0-9]*)))(Z|((\\+|\\-)[0-9]+))?");
+
+        /**
+         * Parses a GeneralizedTime as the previous GeneralizedTimeDecoder did
+         *
+         * @param rawDateTime time to parse
+         * @param warnings receives a message each time precision is lost
+         * @return the parsed time
+         */
+        private static OffsetDateTime parseGeneralizedTime(
+                String rawDateTime, Consumer<String> warnings) {
+            String replacement = rawDateTime;
+            int nanosOfSecond = 0;
+            boolean setNanos = false;
+            final Matcher matcher = PATTERN_SUB_MILLI_SECONDS.matcher(rawDateTime);
+            if (matcher.matches()) {
+                final String subMilliSeconds = Strings.nullToEmpty(matcher.group(6));
+                final String milliSeconds = Strings.nullToEmpty(matcher.group(5));
+                if (!subMilliSeconds.isEmpty()) {
+                    final int length = subMilliSeconds.length();
+                    final String trimmedSubMilliSeconds =
+                            subMilliSeconds.substring(0, Math.min(length, 6));
+                    final BigDecimal bd =
+                            new BigDecimal("0." + milliSeconds + trimmedSubMilliSeconds)
+                                    .multiply(BigDecimal.valueOf(1000000000L));
+                    nanosOfSecond = bd.intValue();
+                    setNanos = true;
+                    replacement = matcher.replaceAll("$1$3$5$7");
+                    if (length > 6) {
+                        warnings.accept(
+                                "Loss of precision - discarding decimal places. For the"
+                                        + " GeneralizedTime "
+                                        + rawDateTime
+                                        + ", the sub-millisecond component "
+                                        + subMilliSeconds
+                                        + " is now "
+                                        + trimmedSubMilliSeconds);
+                    }
+                }
+            } else {
+                final Matcher matcherLong = PATTERN_18_DECIMAL_PLACES.matcher(rawDateTime);
+                if (matcherLong.matches()) {
+                    final String more18 = Strings.nullToEmpty(matcherLong.group(6));
+                    if (!more18.isEmpty()) {
+                        replacement = matcherLong.replaceAll("$1$3$5$7");
+                        warnings.accept(
+                                "Discarding decimal places.  "
+                                        + rawDateTime
+                                        + " is now "
+                                        + replacement);
+                    }
+                }
+            }
+
+            final DateTime dateTime =
+                    generalizedTimeParser.withOffsetParsed().parseDateTime(replacement);
+            final Instant instant =
+                    setNanos
+                            ? Instant.ofEpochSecond(
+                                    Math.floorDiv(dateTime.getMillis(), 1000), nanosOfSecond)
+                            : Instant.ofEpochMilli(dateTime.getMillis());
+            return OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
+        }
+
+        /**
+         * Parses a UTCTime as the previous UtcTimeDecoder did
+         *
+         * @param rawDateTime time to parse
+         * @return the parsed time
+         */
+        private static OffsetDateTime parseUtcTime(String rawDateTime) {
+            final DateTime dateTime = utcTimeParser.withOffsetParsed().parseDateTime(rawDateTime);
+            return OffsetDateTime.ofInstant(
+                    Instant.ofEpochMilli(dateTime.getMillis()), ZoneId.systemDefault());
+        }
+    }
+}
@@ -11,8 +11,11 @@ import static org.junit.Assert.*;
 
 import com.brightsparklabs.asanti.Asanti;
 import com.brightsparklabs.asanti.decoder.AsnByteDecoder;
+import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
 import com.brightsparklabs.asanti.model.data.RawAsnData;
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.brightsparklabs.asanti.reader.AsnSchemaReader;
 import com.brightsparklabs.asanti.validator.FailureType;
 import com.brightsparklabs.asanti.validator.ValidationFailure;
 import com.brightsparklabs.asanti.validator.ValidationResult;
@@ -25,7 +28,13 @@ import com.google.common.collect.Ordering;
 import com.google.common.io.*;
 import java.io.File;
 import java.math.BigInteger;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,6 +127,138 @@ public class AsantiTest {
 
         String name = pdu.getDecodedObject(tag, String.class).get();
         assertEquals("Adam", name);
+
+        // integers can be decoded without a BigInteger
+        tag = "/Human/age";
+        final BigInteger age = pdu.getDecodedObject(tag, BigInteger.class).get();
+        assertEquals(age.longValue(), pdu.getDecodedLong(tag).getAsLong());
+        assertEquals(age.intValue(), pdu.getDecodedInt(tag).getAsInt());
+        assertFalse(pdu.getDecodedLong("/Human/garbage").isPresent());
+        try {
+            pdu.getDecodedLong("/Human/name");
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+    }
+
+    @Test
+    public void testStreamAsnData() throws Exception {
+        final CharSource schemaSource =
+                Resources.asCharSource(
+                        getClass().getResource("/TestMostSimple.asn"), Charsets.UTF_8);
+        final ByteSource berSource =
+                Resources.asByteSource(getClass().getResource("/TestMostSimple.ber"));
+        final AsnSchema asnSchema = AsnSchemaReader.read(schemaSource);
+
+        try (Stream<AsantiAsnData> stream =
+                Asanti.streamAsnData(berSource, asnSchema, "Human")) {
+            final ImmutableList<AsantiAsnData> allDecodedData =
+                    stream.collect(ImmutableList.toImmutableList());
+            assertEquals(1, allDecodedData.size());
+            assertEquals(
+                    "Adam",
+                    allDecodedData.get(0).getDecodedObject("/Human/name", String.class).get());
+        }
+
+        // memory-mapped file
+        final Path berPath = Paths.get(getClass().getResource("/TestMostSimple.ber").toURI());
+        final ImmutableList<AsantiAsnData> allDecodedData =
+                Asanti.decodeAsnData(berPath, asnSchema, "Human");
+        assertEquals(1, allDecodedData.size());
+        assertEquals(
+                "Adam", allDecodedData.get(0).getDecodedObject("/Human/name", String.class).get());
+    }
+
+    @Test
+    public void testDecodeAsnDataParallel() throws Exception {
+        final CharSource schemaSource =
+                Resources.asCharSource(getClass().getResource("/barTypeDef.asn"), Charsets.UTF_8);
+        final ByteSource berSource =
+                ByteSource.concat(
+                        Collections.nCopies(
+                                50, Resources.asByteSource(getClass().getResource("/bar.ber"))));
+        final AsnSchema asnSchema = AsnSchemaReader.read(schemaSource);
+
+        final ImmutableList<AsantiAsnData> expected =
+                Asanti.decodeAsnData(berSource, asnSchema, "Bar");
+        assertTrue(expected.size() >= 50);
+
+        // thread pool created per call
+        assertSameAsnData(expected, Asanti.decodeAsnData(berSource, asnSchema, "Bar", 4));
+        assertSameAsnData(expected, Asanti.decodeAsnData(berSource, asnSchema, "Bar", 1));
+
+        // caller supplied executor
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertSameAsnData(
+                    expected, Asanti.decodeAsnData(berSource, asnSchema, "Bar", executor, 3));
+            assertSameAsnData(
+                    expected, Asanti.decodeAsnData(berSource, asnSchema, "Bar", executor, 16));
+
+            // consuming part of the stream
+            try (Stream<AsantiAsnData> stream =
+                    Asanti.streamAsnData(berSource, asnSchema, "Bar", executor, 2)) {
+                assertSameAsnData(
+                        expected.subList(0, 5),
+                        stream.limit(5).collect(ImmutableList.toImmutableList()));
+            }
+
+            // failures are thrown to the caller
+            try {
+                Asanti.decodeAsnData(berSource, asnSchema, " ", executor, 3);
+                fail("IllegalArgumentException not thrown");
+            } catch (IllegalArgumentException ex) {
+                assertEquals("Top level type name must be specified", ex.getMessage());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // executor which runs tasks on the calling thread
+        assertSameAsnData(
+                expected, Asanti.decodeAsnData(berSource, asnSchema, "Bar", Runnable::run, 1));
+
+        // memory-mapped file
+        final Path berPath = Paths.get(getClass().getResource("/TestMostSimple.ber").toURI());
+        final AsnSchema humanSchema =
+                AsnSchemaReader.read(
+                        Resources.asCharSource(
+                                getClass().getResource("/TestMostSimple.asn"), Charsets.UTF_8));
+        assertSameAsnData(
+                Asanti.decodeAsnData(berPath, humanSchema, "Human"),
+                Asanti.decodeAsnData(berPath, humanSchema, "Human", 2));
+
+        try {
+            Asanti.decodeAsnData(berSource, asnSchema, "Bar", 0);
+            fail("IllegalArgumentException not thrown");
+        } catch (IllegalArgumentException ex) {
+        }
+    }
+
+    @Test
+    public void testStreamAsnDataLazily() throws Exception {
+        final AsnSchema asnSchema =
+                AsnSchemaReader.read(
+                        Resources.asCharSource(
+                                getClass().getResource("/EIFv122.asn"), Charsets.UTF_8));
+        final ByteSource berSource =
+                ByteSource.concat(
+                        Resources.asByteSource(getClass().getResource("/test.ber")),
+                        Resources.asByteSource(getClass().getResource("/test5.ber")));
+
+        final ImmutableList<AsantiAsnData> expected =
+                Asanti.decodeAsnData(berSource, asnSchema, "PS-PDU");
+        try (Stream<AsantiAsnData> stream =
+                Asanti.streamAsnDataLazily(berSource, asnSchema, "PS-PDU")) {
+            final ImmutableList<AsantiAsnData> actual =
+                    stream.collect(ImmutableList.toImmutableList());
+
+            // reading a single tag before all others
+            final String tag = expected.get(0).getTags().asList().get(5);
+            assertEquals(
+                    expected.get(0).getPrintableString(tag), actual.get(0).getPrintableString(tag));
+            assertSameAsnData(expected, actual);
+        }
     }
 
     @Test
@@ -214,4 +355,28 @@ public class AsantiTest {
         assertEquals(FailureType.MandatoryFieldMissing, failureType);
         assertEquals("/Human/b", failure.getFailureTag());
     }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that the supplied lists contain the same decoded data in the same order
+     *
+     * @param expected expected data
+     * @param actual actual data
+     */
+    private static void assertSameAsnData(
+            ImmutableList<AsantiAsnData> expected, ImmutableList<AsantiAsnData> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final AsantiAsnData expectedPdu = expected.get(i);
+            final AsantiAsnData actualPdu = actual.get(i);
+            assertEquals(expectedPdu.getTags().asList(), actualPdu.getTags().asList());
+            assertEquals(expectedPdu.getUnmappedTags(), actualPdu.getUnmappedTags());
+            for (String tag : expectedPdu.getTags()) {
+                assertEquals(expectedPdu.getHexString(tag), actualPdu.getHexString(tag));
+            }
+        }
+    }
 }
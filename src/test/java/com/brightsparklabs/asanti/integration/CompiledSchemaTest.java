@@ -0,0 +1,140 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.integration;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.Asanti;
+import com.brightsparklabs.asanti.exception.DecodeException;
+import com.brightsparklabs.asanti.model.data.AsantiAsnData;
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.brightsparklabs.asanti.reader.AsnSchemaReader;
+import com.brightsparklabs.asanti.validator.ValidationFailure;
+import com.brightsparklabs.asanti.validator.Validators;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteSink;
+import com.google.common.io.ByteSource;
+import com.google.common.io.CharSource;
+import com.google.common.io.Resources;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests that schemas which are compiled and read back decode data identically to the schemas they
+ * were compiled from
+ *
+ * @author brightSPARK Labs
+ */
+public class CompiledSchemaTest {
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testCompiledSchema_EtsiV122() throws Exception {
+        assertCompiledSchemaDecodesIdentically(
+                "/EIFv122.asn",
+                "PS-PDU",
+                ByteSource.concat(readData("/test.ber"), readData("/test5.ber")));
+    }
+
+    @Test
+    public void testCompiledSchema_UnusualTypes() throws Exception {
+        assertCompiledSchemaDecodesIdentically(
+                "/UnusualTypes.asn", "Types", readData("/UnusualTypes.ber"));
+    }
+
+    @Test
+    public void testCompiledSchema_Human() throws Exception {
+        assertCompiledSchemaDecodesIdentically(
+                "/TestMostSimple.asn", "Human", readData("/TestMostSimple.ber"));
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that decoding and validating the supplied data against the compiled form of a schema
+     * produces the same results as against the schema itself
+     *
+     * @param resource name of the resource containing the schema
+     * @param topLevelType top level type in the schema to decode the data as
+     * @param data data to decode
+     * @throws Exception if any errors occur compiling the schema or decoding the data
+     */
+    private static void assertCompiledSchemaDecodesIdentically(
+            String resource, String topLevelType, ByteSource data) throws Exception {
+        final CharSource schemaData =
+                Resources.asCharSource(
+                        CompiledSchemaTest.class.getResource(resource), Charsets.UTF_8);
+        final ByteArrayOutputStream compiled = new ByteArrayOutputStream();
+        final ByteSink sink =
+                new ByteSink() {
+                    @Override
+                    public OutputStream openStream() {
+                        return compiled;
+                    }
+                };
+        final AsnSchema schema = AsnSchemaReader.compile(schemaData, sink);
+
+        final AsnSchema compiledSchema =
+                AsnSchemaReader.readCompiled(ByteSource.wrap(compiled.toByteArray()));
+        assertNotSame(schema, compiledSchema);
+
+        final ImmutableList<String> expected = describe(schema, topLevelType, data);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, describe(compiledSchema, topLevelType, data));
+    }
+
+    /**
+     * Decodes and validates the supplied data and describes the results
+     *
+     * @param schema schema to decode the data against
+     * @param topLevelType top level type in the schema to decode the data as
+     * @param data data to decode
+     * @return a description of each tag in the decoded data and any validation failures
+     * @throws Exception if any errors occur decoding the data
+     */
+    private static ImmutableList<String> describe(
+            AsnSchema schema, String topLevelType, ByteSource data) throws Exception {
+        final ImmutableList.Builder<String> result = ImmutableList.builder();
+        final List<AsantiAsnData> pdus = Asanti.decodeAsnData(data, schema, topLevelType);
+        for (AsantiAsnData pdu : pdus) {
+            for (String tag : pdu.getTags()) {
+                String value;
+                try {
+                    value = pdu.getPrintableString(tag).orElse("<empty>");
+                } catch (DecodeException ex) {
+                    value = "<error> " + ex.getMessage();
+                }
+                result.add(tag + " = " + value + " as " + pdu.getType(tag).get().getBuiltinType());
+            }
+            for (String tag : pdu.getUnmappedTags()) {
+                result.add(tag + " (unmapped) = " + pdu.getHexString(tag).orElse("<empty>"));
+            }
+            for (ValidationFailure failure : Validators.getDefault().validate(pdu).getFailures()) {
+                result.add(failure.getFailureTag() + " failed: " + failure.getFailureReason());
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Returns the data in the specified resource
+     *
+     * @param resource name of the resource containing the data
+     * @return the data
+     */
+    private static ByteSource readData(String resource) {
+        return Resources.asByteSource(CompiledSchemaTest.class.getResource(resource));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.integration;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.Asanti;
+import com.brightsparklabs.asanti.exception.DecodeException;
+import com.brightsparklabs.asanti.model.data.AsantiAsnData;
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.brightsparklabs.asanti.reader.AsnSchemaReader;
+import com.brightsparklabs.asanti.validator.ValidationFailure;
+import com.brightsparklabs.asanti.validator.Validators;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteSource;
+import com.google.common.io.CharSource;
+import com.google.common.io.Resources;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+/**
+ * Stress tests which decode and validate data from many threads at once against a single shared
+ * {@link AsnSchema}
+ *
+ * @author brightSPARK Labs
+ */
+public class ConcurrentDecodeTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** number of threads to decode on */
+    private static final int THREAD_COUNT = 8;
+
+    /** number of times each thread decodes the data */
+    private static final int ITERATIONS = 10;
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testConcurrentDecode_EtsiV122() throws Exception {
+        final AsnSchema schema = readSchema("/EIFv122.asn");
+        assertConcurrentDecodeConsistent(
+                schema,
+                "PS-PDU",
+                ByteSource.concat(readData("/test.ber"), readData("/test5.ber")));
+    }
+
+    @Test
+    public void testConcurrentDecode_UnusualTypes() throws Exception {
+        final AsnSchema schema = readSchema("/UnusualTypes.asn");
+        assertConcurrentDecodeConsistent(schema, "Types", readData("/UnusualTypes.ber"));
+    }
+
+    @Test
+    public void testConcurrentDecode_Human() throws Exception {
+        final AsnSchema schema = readSchema("/TestMostSimple.asn");
+        assertConcurrentDecodeConsistent(schema, "Human", readData("/TestMostSimple.ber"));
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that decoding and validating the supplied data from many threads at once produces
+     * the same results as doing so from a single thread
+     *
+     * @param schema schema to decode the data against (shared by all threads)
+     * @param topLevelType top level type in the schema to decode the data as
+     * @param data data to decode
+     * @throws Exception if any errors occur decoding the data
+     */
+    private static void assertConcurrentDecodeConsistent(
+            AsnSchema schema, String topLevelType, ByteSource data) throws Exception {
+        final ImmutableList<String> expected = describe(schema, topLevelType, data);
+        assertFalse(expected.isEmpty());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            // release all threads at once to maximise contention
+            final CountDownLatch start = new CountDownLatch(1);
+            final Callable<Void> task =
+                    () -> {
+                        start.await();
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            assertEquals(expected, describe(schema, topLevelType, data));
+                        }
+                        return null;
+                    };
+
+            final ImmutableList.Builder<Future<Void>> futures = ImmutableList.builder();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> future : futures.build()) {
+                // rethrows any assertion failures from the worker threads
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Decodes and validates the supplied data and describes the results
+     *
+     * @param schema schema to decode the data against
+     * @param topLevelType top level type in the schema to decode the data as
+     * @param data data to decode
+     * @return a description of each tag in the decoded data and any validation failures
+     * @throws Exception if any errors occur decoding the data
+     */
+    private static ImmutableList<String> describe(
+            AsnSchema schema, String topLevelType, ByteSource data) throws Exception {
+        final ImmutableList.Builder<String> result = ImmutableList.builder();
+        final List<AsantiAsnData> pdus = Asanti.decodeAsnData(data, schema, topLevelType);
+        for (AsantiAsnData pdu : pdus) {
+            for (String tag : pdu.getTags()) {
+                String value;
+                try {
+                    value = pdu.getPrintableString(tag).orElse("<empty>");
+                } catch (DecodeException ex) {
+                    value = "<error> " + ex.getMessage();
+                }
+                result.add(tag + " = " + value);
+            }
+            for (String tag : pdu.getUnmappedTags()) {
+                result.add(tag + " (unmapped) = " + pdu.getHexString(tag).orElse("<empty>"));
+            }
+            for (ValidationFailure failure : Validators.getDefault().validate(pdu).getFailures()) {
+                result.add(failure.getFailureTag() + " failed: " + failure.getFailureReason());
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Reads the schema from the specified resource
+     *
+     * @param resource name of the resource containing the schema
+     * @return the schema
+     * @throws Exception if any errors occur reading the schema
+     */
+    private static AsnSchema readSchema(String resource) throws Exception {
+        final CharSource schemaData =
+                Resources.asCharSource(
+                        ConcurrentDecodeTest.class.getResource(resource), Charsets.UTF_8);
+        return AsnSchemaReader.read(schemaData);
+    }
+
+    /**
+     * Returns the data in the specified resource
+     *
+     * @param resource name of the resource containing the data
+     * @return the data
+     */
+    private static ByteSource readData(String resource) {
+        return Resources.asByteSource(ConcurrentDecodeTest.class.getResource(resource));
+    }
+}
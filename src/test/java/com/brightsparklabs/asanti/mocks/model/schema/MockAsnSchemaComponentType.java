@@ -10,6 +10,7 @@ package com.brightsparklabs.asanti.mocks.model.schema;
 import static org.mockito.Mockito.*;
 
 import com.brightsparklabs.asanti.model.schema.primitive.AsnPrimitiveTypes;
+import com.brightsparklabs.asanti.model.schema.tag.AsnSchemaTag;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaComponentType;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
@@ -35,7 +36,8 @@ public class MockAsnSchemaComponentType {
      * Creates a mock {@link AsnSchemaComponentType} instance
      *
      * @param tagName value to return for {@link AsnSchemaComponentType#getName()}
-     * @param tag value to return for {@link AsnSchemaComponentType#getTag()}
+     * @param tag value to return for {@link AsnSchemaComponentType#getTag()} (and the key of which
+     *     to return for {@link AsnSchemaComponentType#getTagKey()})
      * @param isOptional value to return for {@link AsnSchemaComponentType#isOptional()}
      * @param type an AsnSchemaType is mocked around this primitive type
      * @return mock instance which returns the supplied values
@@ -45,6 +47,7 @@ public class MockAsnSchemaComponentType {
         final AsnSchemaComponentType mockedInstance = mock(AsnSchemaComponentType.class);
         when(mockedInstance.getName()).thenReturn(tagName);
         when(mockedInstance.getTag()).thenReturn(tag);
+        when(mockedInstance.getTagKey()).thenReturn(AsnSchemaTag.createTagKey(tag));
         when(mockedInstance.isOptional()).thenReturn(isOptional);
         when(mockedInstance.getType()).thenReturn(type);
         return mockedInstance;
@@ -55,6 +58,7 @@ public class MockAsnSchemaComponentType {
         final AsnSchemaComponentType mockedInstance = mock(AsnSchemaComponentType.class);
         when(mockedInstance.getName()).thenReturn(tagName);
         when(mockedInstance.getTag()).thenReturn(tag);
+        when(mockedInstance.getTagKey()).thenReturn(AsnSchemaTag.createTagKey(tag));
         when(mockedInstance.isOptional()).thenReturn(isOptional);
 
         AsnSchemaType schemaType = mock(AsnSchemaType.class);
@@ -10,6 +10,7 @@ package com.brightsparklabs.asanti.model.data;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import com.brightsparklabs.asanti.exception.DecodeException;
 import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
 import com.brightsparklabs.asanti.model.schema.AsnSchema;
 import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
@@ -25,6 +26,7 @@ import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Optional;
 import java.util.regex.Pattern;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -45,6 +47,9 @@ public class AsantiAsnDataImplTest {
     /** empty instance to test */
     private static AsantiAsnData emptyInstance;
 
+    /** raw data the default instance was created from */
+    private static RawAsnData rawAsnData;
+
     private static final String PUBLISHED_DATE_STRING = "20150101000000.00Z";
     private static final String ALIASED_PUBLISHED_DATE_STRING = "202101010000Z";
     private static final String MODIFIED_DATE_STRING = "20150102000000.00Z";
@@ -95,7 +100,7 @@ public class AsantiAsnDataImplTest {
                         .build();
 
         // create instance
-        final RawAsnData rawAsnData = new RawAsnDataImpl(tagsToData);
+        rawAsnData = new RawAsnDataImpl(tagsToData);
         final AsnSchema asnSchema = TestAsnSchema.getInstance();
         instance = new AsantiAsnDataImpl(rawAsnData, asnSchema, "Document");
 
@@ -534,6 +539,206 @@ public class AsantiAsnDataImplTest {
         assertTrue(emptyInstance.getType("/Document/header/published/date").isPresent());
     }
 
+    @Test
+    public void testGetRootNode() throws Exception {
+        final AsnDataNode root = instance.getRootNode();
+        assertEquals("/Document", root.getTag());
+        assertEquals("Document", root.getName());
+        assertFalse(root.getParent().isPresent());
+        assertEquals(5, root.getChildren().size());
+
+        // empty data still has a root
+        assertEquals("/Document", emptyInstance.getRootNode().getTag());
+        assertTrue(emptyInstance.getRootNode().isLeaf());
+
+        // the tree is retained
+        assertSame(root, instance.getRootNode());
+    }
+
+    @Test
+    public void testGetNode() throws Exception {
+        assertEquals(
+                "/Document/body/content/text",
+                instance.getNode("/Document/body/content/text").get().getTag());
+        assertEquals(
+                "/Document/footer/authors[0]",
+                instance.getNode("/Document/footer/authors[0]").get().getTag());
+        assertSame(instance.getRootNode(), instance.getNode("/Document").get());
+
+        // unmapped tags
+        assertTrue(instance.getNode("/Document/0[99]/0[1]/0[1]").isPresent());
+
+        // unknown tags
+        assertFalse(instance.getNode("/Document/body/garbage").isPresent());
+        assertFalse(instance.getNode("/Document/body/").isPresent());
+        assertFalse(instance.getNode("").isPresent());
+        assertFalse(instance.getNode(null).isPresent());
+        assertFalse(emptyInstance.getNode("/Document/body").isPresent());
+    }
+
+    @Test
+    public void testCreateLazyInstance() throws Exception {
+        final AsnSchema asnSchema = TestAsnSchema.getInstance();
+        AsantiAsnData lazyInstance =
+                AsantiAsnDataImpl.createLazyInstance(rawAsnData, asnSchema, "Document");
+
+        // tags are mapped on first access
+        assertEquals(
+                CONTENT_TEXT, lazyInstance.getPrintableString("/Document/body/content/text").get());
+        assertArrayEquals(
+                ALIASED_PUBLISHED_DATE_STRING.getBytes(Charsets.UTF_8),
+                lazyInstance.getBytes("/Document/aliasHeader/published/date").get());
+        assertEquals(
+                Optional.of(publishDate),
+                lazyInstance.getDecodedObject(
+                        "/Document/header/published/date", OffsetDateTime.class));
+        assertArrayEquals(
+                "/99/1/1".getBytes(Charsets.UTF_8),
+                lazyInstance.getBytes("/Document/0[99]/0[1]/0[1]").get());
+        assertArrayEquals(
+                "/2/0/99".getBytes(Charsets.UTF_8), lazyInstance.getBytes("1[2]/0[0]/0[99]").get());
+        assertTrue(lazyInstance.contains("/Document/footer/authors[0]/firstName"));
+        assertFalse(lazyInstance.contains("/Document/body/garbage"));
+        assertFalse(lazyInstance.contains((String) null));
+        assertFalse(lazyInstance.getBytes("/Document/0/0/0").isPresent());
+
+        // mapping all tags produces the same results (and order) as mapping them immediately
+        assertEquals(instance.getTags().asList(), lazyInstance.getTags().asList());
+        assertEquals(instance.getUnmappedTags().asList(), lazyInstance.getUnmappedTags().asList());
+        final Pattern all = Pattern.compile(".*");
+        assertEquals(instance.getHexStringsMatching(all), lazyInstance.getHexStringsMatching(all));
+        assertEquals(
+                instance.getPrintableStringsMatching(all),
+                lazyInstance.getPrintableStringsMatching(all));
+
+        lazyInstance = AsantiAsnDataImpl.createLazyInstance(rawAsnData, asnSchema, "Document");
+        assertEquals(instance.getTags().asList(), lazyInstance.getTags().asList());
+        assertEquals(instance.getHexStringsMatching(all), lazyInstance.getHexStringsMatching(all));
+    }
+
+    @Test
+    public void testCreateLazyInstance_MapsSelectedComponents() throws Exception {
+        // mapping the aliased header reads its bytes, nothing else reads bytes from the raw data
+        final RawAsnData spiedRawAsnData = spy(rawAsnData);
+        final AsantiAsnData lazyInstance =
+                AsantiAsnDataImpl.createLazyInstance(
+                        spiedRawAsnData, TestAsnSchema.getInstance(), "Document");
+
+        final Pattern bodyTags = Pattern.compile("/Document/body/.*");
+        assertEquals(instance.getTagsMatching(bodyTags), lazyInstance.getTagsMatching(bodyTags));
+        assertTrue(lazyInstance.contains(bodyTags));
+        final AsnDataNode body = lazyInstance.getNode("/Document/body").get();
+        assertEquals(
+                instance.getNode("/Document/body").get().getChildren().toString(),
+                body.getChildren().toString());
+        assertEquals(
+                ImmutableSet.of("/Document/body/prefix/text", "/Document/body/content/text"),
+                TagQuery.compile("/Document/body/*/text").getTags(lazyInstance));
+        assertFalse(lazyInstance.getNode("/Document/body/garbage").isPresent());
+        verify(spiedRawAsnData, never()).getBytes(anyString());
+
+        // navigating above the component maps the rest of the data
+        assertEquals(
+                instance.getRootNode().getChildren().toString(),
+                body.getParent().get().getChildren().toString());
+        verify(spiedRawAsnData, atLeastOnce()).getBytes(anyString());
+
+        // patterns which do not begin with the path of a component match against all tags
+        for (String regex :
+                ImmutableSet.of(".*", "/Document/.*", "/Document/bod(y)?/.*", "/Document/b.*")) {
+            final Pattern pattern = Pattern.compile(regex);
+            assertEquals(
+                    regex,
+                    instance.getTagsMatching(pattern),
+                    AsantiAsnDataImpl.createLazyInstance(
+                                    rawAsnData, TestAsnSchema.getInstance(), "Document")
+                            .getTagsMatching(pattern));
+        }
+        final Pattern caseInsensitive =
+                Pattern.compile("/DOCUMENT/BODY/.*", Pattern.CASE_INSENSITIVE);
+        assertEquals(
+                instance.getTagsMatching(caseInsensitive),
+                AsantiAsnDataImpl.createLazyInstance(
+                                rawAsnData, TestAsnSchema.getInstance(), "Document")
+                        .getTagsMatching(caseInsensitive));
+    }
+
+    @Test
+    public void testBuilder_CachingDecodedValues() throws Exception {
+        final AsantiAsnData cachingInstance =
+                AsantiAsnDataImpl.builder(rawAsnData, TestAsnSchema.getInstance(), "Document")
+                        .setCachingDecodedValues(true)
+                        .setLazy(true)
+                        .build();
+
+        // decoded values are retained
+        final String tag = "/Document/header/published/date";
+        final OffsetDateTime date =
+                cachingInstance.getDecodedObject(tag, OffsetDateTime.class).get();
+        assertEquals(publishDate, date);
+        assertSame(date, cachingInstance.getDecodedObject(tag, OffsetDateTime.class).get());
+        assertSame(date, cachingInstance.getDecodedObject(tag, Object.class).get());
+        final String printable = cachingInstance.getPrintableString(tag).get();
+        assertEquals(instance.getPrintableString(tag).get(), printable);
+        assertSame(printable, cachingInstance.getPrintableString(tag).get());
+
+        // the expected class is still checked against retained values
+        try {
+            cachingInstance.getDecodedObject(tag, String.class);
+            fail("ClassCastException not thrown");
+        } catch (ClassCastException ex) {
+        }
+
+        // unmapped and unknown tags are unaffected
+        assertFalse(cachingInstance.getDecodedObject("/Document/99/1/1", Object.class).isPresent());
+        assertFalse(cachingInstance.getPrintableString("/Document/0/0/0").isPresent());
+        assertFalse(cachingInstance.getPrintableString(null).isPresent());
+
+        // values are not retained by default
+        assertNotSame(
+                instance.getDecodedObject(tag, OffsetDateTime.class).get(),
+                instance.getDecodedObject(tag, OffsetDateTime.class).get());
+
+        assertEquals(
+                instance.getDecodedObjectsMatching(Pattern.compile(".*")).keySet(),
+                cachingInstance.getDecodedObjectsMatching(Pattern.compile(".*")).keySet());
+    }
+
+    @Test
+    public void testBuilder_Trusted() throws Exception {
+        final AsantiAsnData trustedInstance =
+                AsantiAsnDataImpl.builder(rawAsnData, TestAsnSchema.getInstance(), "Document")
+                        .setTrusted(true)
+                        .build();
+
+        // valid values decode the same as when checked
+        int decodedCount = 0;
+        for (String tag : instance.getTags()) {
+            final Object expected;
+            try {
+                expected = instance.getDecodedObject(tag, Object.class).get();
+            } catch (DecodeException ex) {
+                continue;
+            }
+            decodedCount++;
+            final Object actual = trustedInstance.getDecodedObject(tag, Object.class).get();
+            if (expected instanceof byte[]) {
+                assertArrayEquals(tag, (byte[]) expected, (byte[]) actual);
+            } else {
+                assertEquals(tag, expected, actual);
+            }
+            assertEquals(
+                    tag,
+                    instance.getPrintableString(tag).get(),
+                    trustedInstance.getPrintableString(tag).get());
+        }
+        assertTrue(decodedCount > 0);
+
+        // unmapped and unknown tags are unaffected
+        assertFalse(trustedInstance.getDecodedObject("/Document/99/1/1", Object.class).isPresent());
+        assertFalse(trustedInstance.getPrintableString("/Document/0/0/0").isPresent());
+    }
+
     @Test
     public void testGetDecodedObjectWithType() throws Exception {
         assertEquals(
@@ -0,0 +1,172 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.exception.DecodeException;
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for the default methods of {@link AsantiAsnData}
+ *
+ * @author brightSPARK Labs
+ */
+public class AsantiAsnDataTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** data which implements the default methods itself */
+    private static AsantiAsnData asnData;
+
+    /** data which only uses the default methods */
+    private static AsantiAsnData instance;
+
+    // -------------------------------------------------------------------------
+    // SETUP/TEAR-DOWN
+    // -------------------------------------------------------------------------
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        final ImmutableMap<String, byte[]> tagsToData =
+                ImmutableMap.<String, byte[]>builder()
+                        .put("1[2]/2[2]/0[1]", "content text".getBytes(Charsets.UTF_8))
+                        .put("2[3]/0[0]/0[UNIVERSAL 16]/0[1]", "Adam".getBytes(Charsets.UTF_8))
+                        .put("2[3]/0[0]/0[UNIVERSAL 16]/2[3]", new byte[] {0x02})
+                        .put("4[5]/0[0]", new byte[] {0x01, 0x00})
+                        .put("4[5]/1[1]", new byte[] {0x01, 0x00, 0x00, 0x00, 0x00})
+                        .put("4[5]/2[99]", new byte[] {0x01})
+                        .build();
+        asnData =
+                new AsantiAsnDataImpl(
+                        new RawAsnDataImpl(tagsToData), TestAsnSchema.getInstance(), "Document");
+        instance =
+                Mockito.mock(
+                        AsantiAsnData.class,
+                        invocation ->
+                                invocation.getMethod().isDefault()
+                                        ? invocation.callRealMethod()
+                                        : AdditionalAnswers.delegatesTo(asnData)
+                                                .answer(invocation));
+    }
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testGetDecodedLong() throws Exception {
+        assertEquals(256L, instance.getDecodedLong("/Document/version/majorVersion").getAsLong());
+        assertEquals(
+                4294967296L, instance.getDecodedLong("/Document/version/minorVersion").getAsLong());
+
+        // enumerated tags return their number
+        assertEquals(
+                2L, instance.getDecodedLong("/Document/footer/authors[0]/title").getAsLong());
+
+        assertFalse(instance.getDecodedLong("/Document/version/garbage").isPresent());
+        assertFalse(instance.getDecodedLong("/Document/version/2[99]").isPresent());
+        assertDecodeFails(() -> instance.getDecodedLong("/Document/body/content/text"));
+    }
+
+    @Test
+    public void testGetDecodedInt() throws Exception {
+        assertEquals(256, instance.getDecodedInt("/Document/version/majorVersion").getAsInt());
+        assertEquals(2, instance.getDecodedInt("/Document/footer/authors[0]/title").getAsInt());
+        assertFalse(instance.getDecodedInt("/Document/version/garbage").isPresent());
+
+        // values must fit in an int
+        assertDecodeFails(() -> instance.getDecodedInt("/Document/version/minorVersion"));
+        assertDecodeFails(() -> instance.getDecodedInt("/Document/body/content/text"));
+    }
+
+    @Test
+    public void testGetRootNode() throws Exception {
+        final AsnDataNode root = instance.getRootNode();
+        assertEquals("/Document", root.getTag());
+        assertEquals(getNames(asnData.getRootNode()), getNames(root));
+
+        final AsnDataNode version = root.getChild("version").get();
+        assertEquals(ImmutableList.of("majorVersion", "minorVersion", "2[99]"), getNames(version));
+        assertSame(root, version.getParent().get());
+    }
+
+    @Test
+    public void testGetNode() throws Exception {
+        for (String tag :
+                ImmutableList.of(
+                        "/Document",
+                        "/Document/footer/authors[0]",
+                        "/Document/footer/authors[0]/firstName",
+                        "/Document/version/2[99]")) {
+            final AsnDataNode node = instance.getNode(tag).get();
+            assertEquals(tag, node.getTag());
+            assertEquals(getNames(asnData.getNode(tag).get()), getNames(node));
+            assertEquals(asnData.getNode(tag).get().hasValue(), node.hasValue());
+        }
+        assertEquals(
+                "Adam",
+                instance.getNode("/Document/footer/authors[0]/firstName")
+                        .get()
+                        .getDecodedObject(String.class)
+                        .get());
+        assertFalse(instance.getNode("/Document/garbage").isPresent());
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the names of the children of the supplied node
+     *
+     * @param node node to get the children of
+     * @return the names of the children (in data order)
+     */
+    private static ImmutableList<String> getNames(AsnDataNode node) {
+        return node.getChildren().stream()
+                .map(AsnDataNode::getName)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Asserts that the supplied decode throws a {@link DecodeException}
+     *
+     * @param decode decode to run
+     */
+    private static void assertDecodeFails(Decode decode) {
+        try {
+            decode.run();
+            fail("DecodeException not thrown");
+        } catch (DecodeException ex) {
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Decode
+    // -------------------------------------------------------------------------
+
+    /** A decode which may throw a {@link DecodeException} */
+    @FunctionalInterface
+    private interface Decode {
+        /**
+         * Runs the decode
+         *
+         * @throws DecodeException if any errors occur decoding
+         */
+        void run() throws DecodeException;
+    }
+}
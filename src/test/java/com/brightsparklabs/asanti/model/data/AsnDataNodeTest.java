@@ -0,0 +1,189 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.brightsparklabs.asanti.schema.AsnBuiltinType;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.stream.Collectors;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsnDataNode}
+ *
+ * @author brightSPARK Labs
+ */
+public class AsnDataNodeTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** data to navigate */
+    private static AsantiAsnData instance;
+
+    // -------------------------------------------------------------------------
+    // SETUP/TEAR-DOWN
+    // -------------------------------------------------------------------------
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        final ImmutableMap<String, byte[]> tagsToData =
+                ImmutableMap.<String, byte[]>builder()
+                        .put("0[1]/0[0]/1[1]", "20150101000000.00Z".getBytes(Charsets.UTF_8))
+                        .put("1[2]/0[0]/0[0]", "20150102000000.00Z".getBytes(Charsets.UTF_8))
+                        .put("1[2]/0[0]/0[99]", "/2/0/99".getBytes(Charsets.UTF_8))
+                        .put("1[2]/1[1]/0[1]", "prefix text".getBytes(Charsets.UTF_8))
+                        .put("1[2]/2[2]/0[1]", "content text".getBytes(Charsets.UTF_8))
+                        .put("2[3]/0[0]/0[UNIVERSAL 16]/0[1]", "Adam".getBytes(Charsets.UTF_8))
+                        .put("2[3]/0[0]/1[UNIVERSAL 16]/0[1]", "Eve".getBytes(Charsets.UTF_8))
+                        .build();
+        final AsnSchema asnSchema = TestAsnSchema.getInstance();
+        instance = new AsantiAsnDataImpl(new RawAsnDataImpl(tagsToData), asnSchema, "Document");
+    }
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testGetChildren() throws Exception {
+        final AsnDataNode root = instance.getRootNode();
+        assertEquals(ImmutableList.of("header", "body", "footer"), getNames(root));
+
+        final AsnDataNode body = root.getChild("body").get();
+        assertEquals("/Document/body", body.getTag());
+        assertEquals(ImmutableList.of("lastModified", "prefix", "content"), getNames(body));
+        assertFalse(body.isLeaf());
+
+        // unmapped tags are included
+        final AsnDataNode lastModified = body.getChild("lastModified").get();
+        assertEquals(ImmutableList.of("date", "0[99]"), getNames(lastModified));
+
+        // collection members are named by their index
+        final AsnDataNode authors = root.getChild("footer").get();
+        assertEquals(ImmutableList.of("authors[0]", "authors[1]"), getNames(authors));
+
+        final AsnDataNode text = body.getChild("content").get().getChild("text").get();
+        assertTrue(text.isLeaf());
+        assertTrue(text.getChildren().isEmpty());
+        assertFalse(text.getChild("text").isPresent());
+        assertFalse(root.getChild("garbage").isPresent());
+    }
+
+    @Test
+    public void testGetParent() throws Exception {
+        final AsnDataNode firstName =
+                instance.getNode("/Document/footer/authors[1]/firstName").get();
+        final AsnDataNode author = firstName.getParent().get();
+        assertEquals("authors[1]", author.getName());
+        assertEquals("/Document/footer/authors[1]", author.getTag());
+        assertSame(instance.getRootNode(), author.getParent().get().getParent().get());
+        assertFalse(instance.getRootNode().getParent().isPresent());
+
+        // each child of a node has that node as its parent
+        for (AsnDataNode child : instance.getRootNode().getChildren()) {
+            assertSame(instance.getRootNode(), child.getParent().get());
+        }
+    }
+
+    @Test
+    public void testGetType() throws Exception {
+        assertEquals(
+                AsnBuiltinType.Sequence, instance.getRootNode().getType().get().getBuiltinType());
+        assertEquals(
+                AsnBuiltinType.GeneralizedTime,
+                instance.getNode("/Document/body/lastModified/date")
+                        .get()
+                        .getType()
+                        .get()
+                        .getBuiltinType());
+        assertFalse(
+                instance.getNode("/Document/body/lastModified/0[99]").get().getType().isPresent());
+    }
+
+    @Test
+    public void testGetValue() throws Exception {
+        final AsnDataNode text = instance.getNode("/Document/body/content/text").get();
+        assertTrue(text.hasValue());
+        assertArrayEquals("content text".getBytes(Charsets.UTF_8), text.getBytes().get());
+        assertEquals("636F6E74656E742074657874", text.getHexString().get());
+        assertEquals("content text", text.getPrintableString().get());
+        assertEquals("content text", text.getDecodedObject(String.class).get());
+
+        final AsnDataNode firstName =
+                instance.getNode("/Document/footer/authors[0]/firstName").get();
+        assertEquals("Adam", firstName.getDecodedObject(String.class).get());
+
+        // unmapped tags only have bytes
+        final AsnDataNode unmapped = instance.getNode("/Document/body/lastModified/0[99]").get();
+        assertTrue(unmapped.hasValue());
+        assertEquals("/2/0/99", new String(unmapped.getBytes().get(), Charsets.UTF_8));
+        assertFalse(unmapped.getPrintableString().isPresent());
+        assertFalse(unmapped.getDecodedObject(Object.class).isPresent());
+
+        // constructed types have no value
+        final AsnDataNode body = instance.getNode("/Document/body").get();
+        assertFalse(body.hasValue());
+        assertFalse(body.getBytes().isPresent());
+        assertFalse(body.getHexString().isPresent());
+        assertFalse(body.getPrintableString().isPresent());
+        assertFalse(body.getDecodedObject(Object.class).isPresent());
+    }
+
+    @Test
+    public void testWalk() throws Exception {
+        // walking the tree visits every tag in the data
+        final ImmutableList.Builder<String> tags = ImmutableList.builder();
+        walk(instance.getRootNode(), tags);
+        final ImmutableList<String> expected =
+                ImmutableList.<String>builder()
+                        .addAll(instance.getTags())
+                        .addAll(instance.getUnmappedTags())
+                        .build();
+        assertEquals(
+                expected.stream().sorted().collect(Collectors.toList()),
+                tags.build().stream().sorted().collect(Collectors.toList()));
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the names of the children of the supplied node
+     *
+     * @param node node to get the children of
+     * @return the names of the children (in data order)
+     */
+    private static ImmutableList<String> getNames(AsnDataNode node) {
+        return node.getChildren().stream()
+                .map(AsnDataNode::getName)
+                .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Collects the tags of all nodes with values in the tree below the supplied node
+     *
+     * @param node node to walk from
+     * @param tags [OUTPUT] the tags of nodes with values are added to this
+     */
+    private static void walk(AsnDataNode node, ImmutableList.Builder<String> tags) {
+        if (node.hasValue()) {
+            tags.add(node.getTag());
+        }
+        for (AsnDataNode child : node.getChildren()) {
+            walk(child, tags);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import static org.junit.Assert.*;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.ByteBuffer;
+import java.util.regex.Pattern;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactRawAsnDataImpl}
+ *
+ * @author brightSPARK Labs
+ */
+public class CompactRawAsnDataImplTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** buffer containing the values of the default data (each value is its tag) */
+    private static final ByteBuffer buffer =
+            ByteBuffer.wrap("/0/0/0/0/1/0/1/0/1/2/2/0".getBytes(Charsets.UTF_8));
+
+    /** default instance */
+    private final RawAsnData instance =
+            CompactRawAsnDataImpl.builder(buffer)
+                    .put("/0/0/0", 0, 6)
+                    .put("/0/1/0", 6, 6)
+                    .put("/1/0/1", 12, 6)
+                    .put("/2/2/0", 18, 6)
+                    .put("/99/0", "/99/0".getBytes(Charsets.UTF_8))
+                    .build();
+
+    /** empty instance */
+    private final RawAsnData emptyInstance = CompactRawAsnDataImpl.builder(buffer).build();
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testBuilder() throws Exception {
+        try {
+            CompactRawAsnDataImpl.builder(null);
+            fail("NullPointerException not thrown");
+        } catch (final NullPointerException ex) {
+        }
+
+        final CompactRawAsnDataImpl.Builder builder = CompactRawAsnDataImpl.builder(buffer);
+        try {
+            builder.put(null, 0, 1);
+            fail("NullPointerException not thrown");
+        } catch (final NullPointerException ex) {
+        }
+        try {
+            builder.put("/0", null);
+            fail("NullPointerException not thrown");
+        } catch (final NullPointerException ex) {
+        }
+        try {
+            builder.put("/0", 20, 5);
+            fail("IndexOutOfBoundsException not thrown");
+        } catch (final IndexOutOfBoundsException ex) {
+        }
+
+        // duplicate tags retain their original position but take the latest value
+        final RawAsnData data = builder.put("/0", 0, 1).put("/1", 2, 1).put("/0", 1, 1).build();
+        assertEquals(ImmutableList.of("/0", "/1"), data.getRawTags().asList());
+        assertArrayEquals("0".getBytes(Charsets.UTF_8), data.getBytes("/0").get());
+    }
+
+    @Test
+    public void testGetRawTags() throws Exception {
+        ImmutableSet<String> tags = instance.getRawTags();
+        assertEquals(
+                ImmutableList.of("/0/0/0", "/0/1/0", "/1/0/1", "/2/2/0", "/99/0"), tags.asList());
+        assertEquals(0, emptyInstance.getRawTags().size());
+
+        // many tags
+        final CompactRawAsnDataImpl.Builder builder = CompactRawAsnDataImpl.builder(buffer);
+        for (int i = 0; i < 10000; i++) {
+            builder.put("/" + i + "[1]", i % 20, 1);
+        }
+        final RawAsnData data = builder.build();
+        assertEquals(10000, data.getRawTags().size());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(data.contains("/" + i + "[1]"));
+        }
+        assertFalse(data.contains("/10000[1]"));
+    }
+
+    @Test
+    public void testContains() throws Exception {
+        assertTrue(instance.contains("/0/0/0"));
+        assertTrue(instance.contains("/99/0"));
+        assertFalse(instance.contains("/0/0"));
+        assertFalse(instance.contains((String) null));
+        assertFalse(emptyInstance.contains("/0/0/0"));
+
+        assertTrue(instance.contains(Pattern.compile("/2/.*")));
+        assertFalse(instance.contains(Pattern.compile("/3/.*")));
+        assertFalse(instance.contains((Pattern) null));
+    }
+
+    @Test
+    public void testGetBytesString() throws Exception {
+        assertArrayEquals(instance.getBytes("/0/0/0").get(), "/0/0/0".getBytes(Charsets.UTF_8));
+        assertArrayEquals(instance.getBytes("/0/1/0").get(), "/0/1/0".getBytes(Charsets.UTF_8));
+        assertArrayEquals(instance.getBytes("/1/0/1").get(), "/1/0/1".getBytes(Charsets.UTF_8));
+        assertArrayEquals(instance.getBytes("/2/2/0").get(), "/2/2/0".getBytes(Charsets.UTF_8));
+        assertArrayEquals(instance.getBytes("/99/0").get(), "/99/0".getBytes(Charsets.UTF_8));
+        assertFalse(instance.getBytes("/fake/0").isPresent());
+        assertFalse(emptyInstance.getBytes("/0/0/0").isPresent());
+
+        // returned bytes are copies
+        instance.getBytes("/0/0/0").get()[0] = 0;
+        assertArrayEquals(instance.getBytes("/0/0/0").get(), "/0/0/0".getBytes(Charsets.UTF_8));
+        instance.getBytes("/99/0").get()[0] = 0;
+        assertArrayEquals(instance.getBytes("/99/0").get(), "/99/0".getBytes(Charsets.UTF_8));
+    }
+
+    @Test
+    public void testGetBytes() throws Exception {
+        ImmutableMap<String, byte[]> data = instance.getBytes();
+        assertEquals(data.size(), 5);
+        assertArrayEquals(data.get("/0/0/0"), "/0/0/0".getBytes(Charsets.UTF_8));
+        assertArrayEquals(data.get("/0/1/0"), "/0/1/0".getBytes(Charsets.UTF_8));
+        assertArrayEquals(data.get("/1/0/1"), "/1/0/1".getBytes(Charsets.UTF_8));
+        assertArrayEquals(data.get("/2/2/0"), "/2/2/0".getBytes(Charsets.UTF_8));
+        assertArrayEquals(data.get("/99/0"), "/99/0".getBytes(Charsets.UTF_8));
+
+        data = emptyInstance.getBytes();
+        assertTrue(data.size() == 0);
+    }
+
+    @Test
+    public void testGetBytesMatching() throws Exception {
+        ImmutableMap<String, byte[]> data = instance.getBytesMatching(Pattern.compile("/.*/0"));
+        assertEquals(ImmutableSet.of("/0/0/0", "/0/1/0", "/2/2/0", "/99/0"), data.keySet());
+        assertArrayEquals(data.get("/2/2/0"), "/2/2/0".getBytes(Charsets.UTF_8));
+
+        assertEquals(0, instance.getBytesMatching(Pattern.compile("/3/.*")).size());
+        assertEquals(0, instance.getBytesMatching(null).size());
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.data;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.regex.Pattern;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TagQuery}
+ *
+ * @author brightSPARK Labs
+ */
+public class TagQueryTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** raw data to query */
+    private static RawAsnData rawAsnData;
+
+    /** data to query */
+    private static AsantiAsnData instance;
+
+    // -------------------------------------------------------------------------
+    // SETUP/TEAR-DOWN
+    // -------------------------------------------------------------------------
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        final ImmutableMap<String, byte[]> tagsToData =
+                ImmutableMap.<String, byte[]>builder()
+                        .put("0[1]/0[0]/1[1]", "20150101000000.00Z".getBytes(Charsets.UTF_8))
+                        .put("1[2]/0[0]/0[0]", "20150102000000.00Z".getBytes(Charsets.UTF_8))
+                        .put("1[2]/0[0]/0[99]", "/2/0/99".getBytes(Charsets.UTF_8))
+                        .put("1[2]/1[1]/0[1]", "prefix text".getBytes(Charsets.UTF_8))
+                        .put("1[2]/2[2]/0[1]", "content text".getBytes(Charsets.UTF_8))
+                        .put("2[3]/0[0]/0[UNIVERSAL 16]/0[1]", "Adam".getBytes(Charsets.UTF_8))
+                        .put("2[3]/0[0]/1[UNIVERSAL 16]/0[1]", "Eve".getBytes(Charsets.UTF_8))
+                        .build();
+        final AsnSchema asnSchema = TestAsnSchema.getInstance();
+        rawAsnData = new RawAsnDataImpl(tagsToData);
+        instance = new AsantiAsnDataImpl(rawAsnData, asnSchema, "Document");
+    }
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testCompile() throws Exception {
+        assertEquals("/Document/**", TagQuery.compile("/Document/**").toString());
+
+        try {
+            TagQuery.compile(null);
+            fail("NullPointerException not thrown");
+        } catch (NullPointerException ex) {
+        }
+
+        for (String query :
+                ImmutableSet.of(
+                        "",
+                        "/",
+                        "Document",
+                        "/Document/",
+                        "/Document//body",
+                        "/Document/bo*",
+                        "/Document/***",
+                        "/Document/authors[",
+                        "/Document/authors[]",
+                        "/Document/authors[x]",
+                        "/Document/authors[0",
+                        "/Document/authors[0]x",
+                        "/Document/authors]",
+                        "/Document/[0]")) {
+            try {
+                TagQuery.compile(query);
+                fail("IllegalArgumentException not thrown for: " + query);
+            } catch (IllegalArgumentException ex) {
+            }
+        }
+    }
+
+    @Test
+    public void testGetTags() throws Exception {
+        // exact path
+        assertEquals(
+                ImmutableSet.of("/Document/body/content/text"),
+                TagQuery.compile("/Document/body/content/text").getTags(instance));
+        assertEquals(
+                ImmutableSet.of("/Document/footer/authors[1]/firstName"),
+                TagQuery.compile("/Document/footer/authors[1]/firstName").getTags(instance));
+        assertEquals(ImmutableSet.of(), TagQuery.compile("/Document/garbage").getTags(instance));
+        assertEquals(ImmutableSet.of(), TagQuery.compile("/Garbage/body").getTags(instance));
+
+        // index wildcard
+        assertEquals(
+                ImmutableSet.of(
+                        "/Document/footer/authors[0]/firstName",
+                        "/Document/footer/authors[1]/firstName"),
+                TagQuery.compile("/Document/footer/authors[*]/firstName").getTags(instance));
+        // an index must be present to match an index
+        assertEquals(
+                ImmutableSet.of(),
+                TagQuery.compile("/Document/footer/authors/firstName").getTags(instance));
+        assertEquals(
+                ImmutableSet.of(),
+                TagQuery.compile("/Document/body[*]/prefix/text").getTags(instance));
+
+        // name wildcard
+        assertEquals(
+                ImmutableSet.of("/Document/body/prefix/text", "/Document/body/content/text"),
+                TagQuery.compile("/Document/body/*/text").getTags(instance));
+        assertEquals(
+                ImmutableSet.of(
+                        "/Document/footer/authors[0]/firstName",
+                        "/Document/footer/authors[1]/firstName"),
+                TagQuery.compile("/*/footer/*[*]/*").getTags(instance));
+
+        // any depth
+        assertEquals(
+                ImmutableSet.of("/Document/body/prefix/text", "/Document/body/content/text"),
+                TagQuery.compile("/**/text").getTags(instance));
+        assertEquals(
+                ImmutableSet.of("/Document/body/lastModified/date"),
+                TagQuery.compile("/Document/**/lastModified/date").getTags(instance));
+        assertEquals(
+                ImmutableSet.of("/Document/footer/authors[0]/firstName"),
+                TagQuery.compile("/**/footer/**/authors[0]/**").getTags(instance));
+
+        // unmapped tags are included
+        assertEquals(
+                ImmutableSet.of("/Document/body/lastModified/0[99]"),
+                TagQuery.compile("/Document/body/lastModified/0[*]").getTags(instance));
+    }
+
+    @Test
+    public void testGetTags_MatchesRegex() throws Exception {
+        // queries select the same tags as the equivalent regular expressions
+        final ImmutableMap<String, String> queryToRegex =
+                ImmutableMap.<String, String>builder()
+                        .put("/**", ".*")
+                        .put("/Document/*/*", "/Document/[^/]+/[^/]+")
+                        .put("/Document/body/**", "/Document/body/.*")
+                        .put(
+                                "/Document/footer/authors[*]/*",
+                                "/Document/footer/authors\\[\\d+\\]/.*")
+                        .put("/**/text", ".*/text")
+                        .put("/**/*[*]/**", ".*\\[\\d+\\].*")
+                        .build();
+        for (String query : queryToRegex.keySet()) {
+            final Pattern regex = Pattern.compile(queryToRegex.get(query));
+            assertEquals(
+                    query,
+                    instance.getTagsMatching(regex),
+                    TagQuery.compile(query).getTags(instance));
+        }
+    }
+
+    @Test
+    public void testGetNodes() throws Exception {
+        // nodes without values are also returned
+        final ImmutableSet<AsnDataNode> nodes =
+                TagQuery.compile("/Document/footer/authors[*]").getNodes(instance);
+        assertEquals(2, nodes.size());
+        assertEquals(
+                ImmutableSet.of(
+                        instance.getNode("/Document/footer/authors[0]").get(),
+                        instance.getNode("/Document/footer/authors[1]").get()),
+                nodes);
+        assertEquals(
+                ImmutableSet.of(),
+                TagQuery.compile("/Document/footer/authors[*]").getTags(instance));
+
+        assertEquals(
+                ImmutableSet.of(instance.getRootNode()),
+                TagQuery.compile("/Document").getNodes(instance));
+        assertEquals(
+                ImmutableSet.of(instance.getRootNode()), TagQuery.compile("/*").getNodes(instance));
+    }
+
+    @Test
+    public void testGetNodes_LazyData() throws Exception {
+        final AsantiAsnDataImpl lazyInstance =
+                spy(
+                        AsantiAsnDataImpl.createLazyInstance(
+                                rawAsnData, TestAsnSchema.getInstance(), "Document"));
+
+        // leading components without wildcards are resolved without the root of the tree
+        for (String query :
+                ImmutableSet.of(
+                        "/Document/footer/authors[*]/firstName",
+                        "/Document/body/**",
+                        "/Document/body",
+                        "/Document/garbage/**",
+                        "/Other/body")) {
+            assertEquals(
+                    query,
+                    TagQuery.compile(query).getTags(instance),
+                    TagQuery.compile(query).getTags(lazyInstance));
+        }
+        verify(lazyInstance, never()).getRootNode();
+
+        assertEquals(
+                TagQuery.compile("/**").getTags(instance),
+                TagQuery.compile("/**").getTags(lazyInstance));
+        verify(lazyInstance).getRootNode();
+    }
+
+    @Test
+    public void testGetValues() throws Exception {
+        final TagQuery query = TagQuery.compile("/Document/footer/authors[*]/firstName");
+
+        final ImmutableMap<String, byte[]> bytes = query.getBytes(instance);
+        assertEquals(2, bytes.size());
+        assertArrayEquals(
+                "Adam".getBytes(Charsets.UTF_8),
+                bytes.get("/Document/footer/authors[0]/firstName"));
+
+        assertEquals(
+                ImmutableMap.of(
+                        "/Document/footer/authors[0]/firstName", "4164616D",
+                        "/Document/footer/authors[1]/firstName", "457665"),
+                query.getHexStrings(instance));
+        assertEquals(
+                ImmutableMap.of(
+                        "/Document/footer/authors[0]/firstName", "Adam",
+                        "/Document/footer/authors[1]/firstName", "Eve"),
+                query.getPrintableStrings(instance));
+        assertEquals(
+                ImmutableMap.of(
+                        "/Document/footer/authors[0]/firstName", "Adam",
+                        "/Document/footer/authors[1]/firstName", "Eve"),
+                query.getDecodedObjects(instance));
+
+        // unmapped tags only have bytes
+        final TagQuery unmapped = TagQuery.compile("/Document/body/lastModified/0[99]");
+        assertEquals(
+                ImmutableMap.of("/Document/body/lastModified/0[99]", "2F322F302F3939"),
+                unmapped.getHexStrings(instance));
+        assertEquals(ImmutableMap.of(), unmapped.getPrintableStrings(instance));
+        assertEquals(ImmutableMap.of(), unmapped.getDecodedObjects(instance));
+    }
+}
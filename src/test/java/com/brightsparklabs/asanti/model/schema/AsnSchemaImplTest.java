@@ -8,8 +8,14 @@
 package com.brightsparklabs.asanti.model.schema;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import com.brightsparklabs.asanti.mocks.model.schema.MockAsnSchemaModule;
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
+import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
+import com.brightsparklabs.asanti.reader.parser.AsnSchemaModuleParser;
+import com.brightsparklabs.asanti.schema.AsnBuiltinType;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.text.ParseException;
 import org.junit.BeforeClass;
@@ -74,4 +80,60 @@ public class AsnSchemaImplTest {
         } catch (final IllegalArgumentException ex) {
         }
     }
+
+    @Test
+    public void testGetType_ManyTags() throws Exception {
+        final AsnSchema instance = TestAsnSchema.getInstance();
+
+        // more distinct tags than are cached, all must still resolve
+        for (int i = 0; i < AsnSchemaImpl.TAG_CACHE_SIZE * 2; i++) {
+            final String tag = "/Document/footer/authors[" + i + "]/firstName";
+            assertEquals(
+                    AsnBuiltinType.VisibleString, instance.getType(tag).get().getBuiltinType());
+            assertFalse(instance.getType(tag + "/garbage").isPresent());
+        }
+        assertEquals(
+                AsnBuiltinType.VisibleString,
+                instance.getType("/Document/footer/authors[0]/firstName")
+                        .get()
+                        .getBuiltinType());
+    }
+
+    @Test
+    public void testGetType_IndexedTags() throws Exception {
+        final AsnSchemaModule.Builder builder =
+                AsnSchemaModuleParser.parse(
+                        ImmutableList.of(
+                                "Test-Protocol",
+                                "DEFINITIONS",
+                                "AUTOMATIC TAGS ::=",
+                                "BEGIN",
+                                "Document ::= SEQUENCE { footer [0] Footer }",
+                                "Footer ::= SEQUENCE { author [0] SEQUENCE OF Person }",
+                                "Person ::= SEQUENCE { firstName [0] UTF8String }",
+                                "END"));
+        builder.resolveTypes(ImmutableList.of(builder));
+        builder.performTagging();
+        final AsnSchemaModule module = spy(builder.build());
+        final AsnSchemaImpl instance =
+                new AsnSchemaImpl("Test-Protocol", ImmutableMap.of("Test-Protocol", module));
+
+        final AsnSchemaType type = instance.getType("/Document/footer/author/firstName").get();
+        assertEquals(AsnBuiltinType.Utf8String, type.getBuiltinType());
+        for (int i = 0; i < AsnSchemaImpl.TAG_CACHE_SIZE * 2; i++) {
+            final String tag = "/Document/footer/author[" + i + "]/firstName";
+            assertSame(type, instance.getType(tag).get());
+        }
+        // the path is only resolved once for all of the indices
+        verify(module, times(1)).getType("Document");
+
+        assertSame(type, instance.getType("/Document/footer[0]/author[1][2]/firstName[3]").get());
+        assertSame(type, instance.getType("Document//footer/author[1]/firstName/").get());
+
+        // tags are only stripped of indices
+        assertFalse(instance.getType("/Document/footer/author[]/firstName").isPresent());
+        assertFalse(instance.getType("/Document/footer/author[x]/firstName").isPresent());
+        assertFalse(instance.getType("/Document/footer/author[1]x/firstName").isPresent());
+        assertFalse(instance.getType("/Document/footer/[1]/firstName").isPresent());
+    }
 }
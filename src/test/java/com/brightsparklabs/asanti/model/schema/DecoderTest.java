@@ -0,0 +1,182 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.model.schema;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.common.OperationResult;
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
+import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
+import com.brightsparklabs.asanti.schema.AsnBuiltinType;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Decoder}
+ *
+ * @author brightSPARK Labs
+ */
+public class DecoderTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** raw tags of a document (in the order they would be read) */
+    private static final ImmutableList<String> rawTags =
+            ImmutableList.of(
+                    "/1[1]/0[0]/0[1]",
+                    "/2[2]/0[0]/0[0]",
+                    "/2[2]/0[0]/1[1]/0[1]",
+                    "/2[2]/0[0]/1[1]/1[2]",
+                    "/2[2]/1[2]/1[2]/0[UNIVERSAL 16]/0[1]",
+                    "/2[2]/1[2]/1[2]/0[UNIVERSAL 16]/1[3]/0[UNIVERSAL 4]",
+                    "/2[2]/1[2]/1[2]/0[UNIVERSAL 16]/1[3]/1[UNIVERSAL 4]",
+                    "/2[2]/1[2]/1[2]/1[UNIVERSAL 16]/0[1]",
+                    "/2[2]/1[2]/1[2]/1[UNIVERSAL 16]/1[99]/0[1]",
+                    "/2[2]/1[2]/1[2]/1[UNIVERSAL 16]/2[3]/0[UNIVERSAL 4]",
+                    "/2[2]/2[3]/0[1]",
+                    "/2[2]",
+                    "/3[3]/0[0]/0[UNIVERSAL 16]/0[1]",
+                    "/4[4]",
+                    "/99[99]/0[1]");
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testGetDecodedTags() throws Exception {
+        final ImmutableList<OperationResult<DecodedTag, String>> results =
+                Decoder.getDecodedTags(rawTags, "Document", TestAsnSchema.getInstance())
+                        .asList();
+        assertEquals(rawTags.size(), results.size());
+
+        assertDecoded(results.get(0), "/1[1]/0[0]/0[1]", "header/published/date", true);
+        assertEquals(AsnBuiltinType.GeneralizedTime, getBuiltinType(results.get(0)));
+        assertDecoded(results.get(1), "/2[2]/0[0]/0[0]", "body/lastModified/date", true);
+        assertDecoded(
+                results.get(2),
+                "/2[2]/0[0]/1[1]/0[1]",
+                "body/lastModified/modifiedBy/firstName",
+                true);
+        assertDecoded(
+                results.get(3),
+                "/2[2]/0[0]/1[1]/1[2]",
+                "body/lastModified/modifiedBy/lastName",
+                true);
+        // optional prefix is skipped
+        assertDecoded(
+                results.get(4),
+                "/2[2]/1[2]/1[2]/0[UNIVERSAL 16]/0[1]",
+                "body/content/paragraphs[0]/title",
+                true);
+        assertDecoded(
+                results.get(5),
+                "/2[2]/1[2]/1[2]/0[UNIVERSAL 16]/1[3]/0[UNIVERSAL 4]",
+                "body/content/paragraphs[0]/points[0]",
+                true);
+        assertDecoded(
+                results.get(6),
+                "/2[2]/1[2]/1[2]/0[UNIVERSAL 16]/1[3]/1[UNIVERSAL 4]",
+                "body/content/paragraphs[0]/points[1]",
+                true);
+        assertEquals(AsnBuiltinType.OctetString, getBuiltinType(results.get(6)));
+        assertDecoded(
+                results.get(7),
+                "/2[2]/1[2]/1[2]/1[UNIVERSAL 16]/0[1]",
+                "body/content/paragraphs[1]/title",
+                true);
+        // unknown tags are copied into the result
+        assertDecoded(
+                results.get(8),
+                "/2[2]/1[2]/1[2]/1[UNIVERSAL 16]/1[99]/0[1]",
+                "body/content/paragraphs[1]/1[99]/0[1]",
+                false);
+        assertEquals(AsnBuiltinType.Sequence, getBuiltinType(results.get(8)));
+        // the failed match means subsequent components in the same context also fail
+        assertDecoded(
+                results.get(9),
+                "/2[2]/1[2]/1[2]/1[UNIVERSAL 16]/2[3]/0[UNIVERSAL 4]",
+                "body/content/paragraphs[1]/2[3]/0[UNIVERSAL 4]",
+                false);
+        assertDecoded(results.get(10), "/2[2]/2[3]/0[1]", "body/suffix/text", true);
+        // a prefix of the previous raw tag
+        assertDecoded(results.get(11), "/2[2]", "body", true);
+        assertDecoded(
+                results.get(12),
+                "/3[3]/0[0]/0[UNIVERSAL 16]/0[1]",
+                "footer/authors[0]/firstName",
+                true);
+        assertDecoded(results.get(13), "/4[4]", "dueDate", true);
+        assertDecoded(results.get(14), "/99[99]/0[1]", "99[99]/0[1]", false);
+    }
+
+    @Test
+    public void testGetDecodedTags_MatchesGetDecodedTag() throws Exception {
+        final AsnSchemaType type = TestAsnSchema.getInstance().getType("Document").get();
+        final ImmutableList<OperationResult<DecodedTag, String>> results =
+                Decoder.getDecodedTags(rawTags, type).asList();
+
+        // decoding each raw tag in full gives the same results
+        final DecodingSession session = new DecodingSessionImpl();
+        for (int i = 0; i < rawTags.size(); i++) {
+            final OperationResult<DecodedTag, String> expected =
+                    Decoder.getDecodedTag(rawTags.get(i), type, session);
+            final OperationResult<DecodedTag, String> actual = results.get(i);
+            assertEquals(expected.wasSuccessful(), actual.wasSuccessful());
+            assertEquals(expected.getOutput().getTag(), actual.getOutput().getTag());
+            assertSame(expected.getOutput().getType(), actual.getOutput().getType());
+        }
+    }
+
+    @Test
+    public void testGetDecodedTags_Empty() throws Exception {
+        final AsnSchemaType type = TestAsnSchema.getInstance().getType("Document").get();
+        final ImmutableSet<OperationResult<DecodedTag, String>> results =
+                Decoder.getDecodedTags(ImmutableList.of("/", ""), type);
+        for (OperationResult<DecodedTag, String> result : results) {
+            assertTrue(result.wasSuccessful());
+            assertEquals("", result.getOutput().getTag());
+            assertSame(type, result.getOutput().getType());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that a decode result is as expected
+     *
+     * @param result result to check
+     * @param rawTag expected raw tag
+     * @param decodedTag expected decoded tag
+     * @param isSuccessful whether the decode is expected to be successful
+     */
+    private static void assertDecoded(
+            OperationResult<DecodedTag, String> result,
+            String rawTag,
+            String decodedTag,
+            boolean isSuccessful) {
+        assertEquals(isSuccessful, result.wasSuccessful());
+        assertEquals(rawTag, result.getOutput().getRawTag());
+        assertEquals(decodedTag, result.getOutput().getTag());
+        assertEquals(isSuccessful, result.getOutput().isFullyDecoded());
+    }
+
+    /**
+     * Returns the built-in type of a decode result
+     *
+     * @param result result to get the type of
+     * @return the built-in type of the decoded tag
+     */
+    private static AsnBuiltinType getBuiltinType(OperationResult<DecodedTag, String> result) {
+        return result.getOutput().getType().getBuiltinType();
+    }
+}
@@ -159,6 +159,83 @@ public class AsnSchemaTagTest {
         assertEquals("", tag.getTagIndex());
     }
 
+    @Test
+    public void testCreate_Flyweight() throws Exception {
+        // common tags are shared
+        assertSame(AsnSchemaTag.create("0[1]"), AsnSchemaTag.create("0[1]"));
+        assertSame(AsnSchemaTag.create("3[UNIVERSAL 16]"), AsnSchemaTag.create("3[UNIVERSAL 16]"));
+        assertSame(AsnSchemaTag.create("0[1]"), AsnSchemaTag.create(0, "1"));
+        assertNotSame(AsnSchemaTag.create("0[1]"), AsnSchemaTag.create("0[UNIVERSAL 1]"));
+
+        // less common tags are not shared, but are still equivalent
+        AsnSchemaTag tag = AsnSchemaTag.create("1000[2000]");
+        assertEquals("1000[2000]", tag.getRawTag());
+        assertEquals("1000", tag.getTagIndex());
+        assertEquals("2000", tag.getTagContextSpecific());
+
+        tag = AsnSchemaTag.create("2[UNIVERSAL 200]");
+        assertEquals("2[UNIVERSAL 200]", tag.getRawTag());
+        assertEquals("UNIVERSAL 200", tag.getTagUniversal());
+    }
+
+    @Test
+    public void testCreate_NonCanonical() throws Exception {
+        // leading zeros are retained
+        AsnSchemaTag tag = AsnSchemaTag.create("01[002]");
+        assertEquals("01[002]", tag.getRawTag());
+        assertEquals("01", tag.getTagIndex());
+        assertEquals("002", tag.getTagPortion());
+
+        tag = AsnSchemaTag.create("0[UNIVERSAL abc]");
+        assertEquals("0[UNIVERSAL abc]", tag.getRawTag());
+        assertEquals("UNIVERSAL abc", tag.getTagUniversal());
+
+        // numbers too large to be tag numbers
+        tag = AsnSchemaTag.create("99999999999[99999999999]");
+        assertEquals("99999999999[99999999999]", tag.getRawTag());
+
+        // invalid tags
+        for (String rawTag :
+                new String[] {
+                    "", "[]", "0[]", "0[1", "0[1]]", "0[[1]", "a[1]", "0[a]", "0[UNIVERSAL ]",
+                    "0[UNIVERSAL 1 ]", "0[ 1]", "0[1]\n", "0[-1]", "\u0661[1]"
+                }) {
+            assertEquals("", AsnSchemaTag.create(rawTag).getRawTag());
+        }
+    }
+
+    @Test
+    public void testCreateTagKey() throws Exception {
+        assertEquals(AsnSchemaTag.createTagKey("1"), AsnSchemaTag.create("0[1]").getTagKey());
+        assertEquals(AsnSchemaTag.createTagKey("1"), AsnSchemaTag.create("9[1]").getTagKey());
+        assertEquals(
+                AsnSchemaTag.createTagKey("UNIVERSAL 16"),
+                AsnSchemaTag.create("0[UNIVERSAL 16]").getTagKey());
+        assertNotEquals(AsnSchemaTag.createTagKey("16"), AsnSchemaTag.createTagKey("UNIVERSAL 16"));
+        assertNotEquals(AsnSchemaTag.createTagKey("1"), AsnSchemaTag.createTagKey("2"));
+
+        // non-canonical tag portions have no key
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, AsnSchemaTag.createTagKey(null));
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, AsnSchemaTag.createTagKey(""));
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, AsnSchemaTag.createTagKey("01"));
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, AsnSchemaTag.createTagKey("UNIVERSAL abc"));
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, AsnSchemaTag.createTagKey("9999999999"));
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, AsnSchemaTag.create("0").getTagKey());
+    }
+
+    @Test
+    public void testMatchesTagPortion() throws Exception {
+        final String[] tagPortions = {"", "1", "01", "2", "UNIVERSAL 1", "UNIVERSAL abc", "abc"};
+        for (String rawTag : new String[] {"0[1]", "0[01]", "0[UNIVERSAL 1]", "0[UNIVERSAL abc]"}) {
+            final AsnSchemaTag tag = AsnSchemaTag.create(rawTag);
+            for (String tagPortion : tagPortions) {
+                assertEquals(
+                        tag.getTagPortion().equals(tagPortion),
+                        tag.matchesTagPortion(tagPortion, AsnSchemaTag.createTagKey(tagPortion)));
+            }
+        }
+    }
+
     @Test
     public void testGetBuiltInTypeForUniversalTag() {
         assertEquals(AsnBuiltinType.Integer, AsnSchemaTag.getBuiltInTypeForUniversalTag(2).get());
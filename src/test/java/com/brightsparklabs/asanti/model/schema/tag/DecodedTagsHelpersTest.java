@@ -10,13 +10,21 @@ package com.brightsparklabs.asanti.model.schema.tag;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import com.brightsparklabs.asanti.data.AsnData;
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
 import com.brightsparklabs.asanti.model.data.AsantiAsnData;
+import com.brightsparklabs.asanti.model.data.AsantiAsnDataImpl;
+import com.brightsparklabs.asanti.model.data.RawAsnDataImpl;
+import com.brightsparklabs.asanti.model.data.RetainedTagTree;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
 import java.util.Collections;
 import java.util.List;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.AdditionalAnswers;
 
 /** Tests for DecodedTagsHelpers */
 public class DecodedTagsHelpersTest {
@@ -255,6 +263,100 @@ public class DecodedTagsHelpersTest {
         assertEquals(e, f);
     }
 
+    @Test
+    public void testBuildImmediateChildren() {
+        try {
+            DecodedTagsHelpers.buildImmediateChildren(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+        }
+
+        final ImmutableSetMultimap<String, String> index =
+                DecodedTagsHelpers.buildImmediateChildren(instance);
+        assertEquals(ImmutableSet.of("Document"), index.get(""));
+        assertEquals(ImmutableSet.of("header", "body", "footer"), index.get("/Document"));
+        assertEquals(ImmutableSet.of("published"), index.get("/Document/header"));
+        assertEquals(
+                ImmutableSet.of("lastModified", "prefix", "content"), index.get("/Document/body"));
+        assertEquals(ImmutableSet.of("text"), index.get("/Document/body/content"));
+        // note the stripped index
+        assertEquals(ImmutableSet.of("firstName"), index.get("/Document/footer/author"));
+        // unmapped portions of tags are excluded
+        assertEquals(ImmutableSet.of(), index.get("/Document/99"));
+        assertEquals(ImmutableSet.of(), index.get("/Document/header/published/date"));
+
+        // every tag has the same children as when looked up individually
+        for (String tag : DecodedTagsHelpers.buildTags(instance)) {
+            assertEquals(
+                    DecodedTagsHelpers.getImmediateChildren(instance, tag), index.get(tag));
+        }
+
+        assertTrue(DecodedTagsHelpers.buildImmediateChildren(emptyInstance).isEmpty());
+    }
+
+    @Test
+    public void testGetImmediateChildren_OtherData() {
+        final AsnData asnData = mock(AsnData.class);
+        when(asnData.getTags()).thenReturn(decodedTags);
+        when(asnData.getUnmappedTags()).thenReturn(unmappedTags);
+
+        for (String tag : DecodedTagsHelpers.buildTags(instance)) {
+            assertEquals(
+                    DecodedTagsHelpers.getImmediateChildren(instance, tag),
+                    DecodedTagsHelpers.getImmediateChildren(asnData, tag));
+        }
+        assertEquals(
+                ImmutableSet.of("Document"), DecodedTagsHelpers.getImmediateChildren(asnData, ""));
+
+        // the tags are only read once
+        verify(asnData, times(1)).getTags();
+        verify(asnData, times(1)).getUnmappedTags();
+    }
+
+    @Test
+    public void testGetImmediateChildren_DataWithoutRetainedTree() throws Exception {
+        // a PDU with many SEQUENCEs
+        final ImmutableMap.Builder<String, byte[]> tagsToData = ImmutableMap.builder();
+        for (int i = 0; i < 500; i++) {
+            tagsToData.put("2[3]/0[0]/" + i + "[UNIVERSAL 16]/0[1]", new byte[] {0x41});
+            tagsToData.put("2[3]/0[0]/" + i + "[UNIVERSAL 16]/1[2]", new byte[] {0x42});
+        }
+        final AsantiAsnData asnData =
+                new AsantiAsnDataImpl(
+                        new RawAsnDataImpl(tagsToData.build()),
+                        TestAsnSchema.getInstance(),
+                        "Document");
+
+        // data which only delegates the abstract methods, e.g. a decorator
+        final AsantiAsnData decorator =
+                mock(
+                        AsantiAsnData.class,
+                        invocation ->
+                                invocation.getMethod().isDefault()
+                                        ? invocation.callRealMethod()
+                                        : AdditionalAnswers.delegatesTo(asnData)
+                                                .answer(invocation));
+        assertFalse(decorator instanceof RetainedTagTree);
+
+        final ImmutableSet<String> tags = DecodedTagsHelpers.buildTags(asnData);
+        assertTrue(tags.size() > 1000);
+        clearInvocations(decorator);
+        for (String tag : tags) {
+            assertEquals(
+                    DecodedTagsHelpers.getImmediateChildren(asnData, tag),
+                    DecodedTagsHelpers.getImmediateChildren(decorator, tag));
+        }
+        assertEquals(
+                ImmutableSet.of("firstName", "lastName"),
+                DecodedTagsHelpers.getImmediateChildren(
+                        decorator, "/Document/footer/authors[499]"));
+
+        // the tags are only read once, rather than once per tag
+        verify(decorator, times(1)).getTags();
+        verify(decorator, times(1)).getUnmappedTags();
+        verify(decorator, never()).getNode(anyString());
+    }
+
     @Test
     public void testStripIndexBadInput() throws Exception {
         try {
@@ -10,6 +10,7 @@ package com.brightsparklabs.asanti.model.schema.type;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import com.brightsparklabs.asanti.model.schema.tag.AsnSchemaTag;
 import org.junit.Test;
 
 /**
@@ -110,4 +111,20 @@ public class AsnSchemaComponentTypeTest {
         instance.setTag("");
         assertEquals("", instance.getTag());
     }
+
+    @Test
+    public void testGetTagKey() throws Exception {
+        AsnSchemaComponentType instance =
+                new AsnSchemaComponentType("TAG_NAME", "TAG", true, AsnSchemaType.NULL);
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, instance.getTagKey());
+
+        instance = new AsnSchemaComponentType("TAG_NAME", "1", true, AsnSchemaType.NULL);
+        assertEquals(AsnSchemaTag.createTagKey("1"), instance.getTagKey());
+
+        // key follows the tag
+        instance.setTag("UNIVERSAL 16");
+        assertEquals(AsnSchemaTag.createTagKey("UNIVERSAL 16"), instance.getTagKey());
+        instance.setTag(null);
+        assertEquals(AsnSchemaTag.NO_TAG_KEY, instance.getTagKey());
+    }
 }
@@ -13,12 +13,15 @@ import static org.mockito.Mockito.*;
 import com.brightsparklabs.asanti.mocks.model.schema.MockAsnSchemaComponentType;
 import com.brightsparklabs.asanti.mocks.model.schema.MockAsnSchemaType;
 import com.brightsparklabs.asanti.model.schema.AsnModuleTaggingMode;
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
 import com.brightsparklabs.asanti.model.schema.DecodingSession;
 import com.brightsparklabs.asanti.model.schema.constraint.AsnSchemaConstraint;
 import com.brightsparklabs.asanti.model.schema.primitive.AsnPrimitiveTypes;
 import com.brightsparklabs.asanti.model.schema.tag.AsnSchemaTag;
+import com.brightsparklabs.asanti.reader.AsnSchemaReader;
 import com.brightsparklabs.asanti.schema.AsnPrimitiveType;
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharSource;
 import java.text.ParseException;
 import java.util.Optional;
 import org.junit.After;
@@ -428,6 +431,74 @@ public class AsnSchemaTypeConstructedTest {
         assertFalse(resultEmpty.isPresent());
     }
 
+    @Test
+    public void testGetComponentTypesSetIndexed() throws Exception {
+        final String schemaText =
+                "Test-Protocol DEFINITIONS AUTOMATIC TAGS ::= BEGIN\n"
+                        + "    Outer ::= SET { a [0] INTEGER, inner Inner, b [5] INTEGER }\n"
+                        + "    Inner ::= CHOICE { c [1] INTEGER, deeper Deeper, d [2] INTEGER }\n"
+                        + "    Deeper ::= CHOICE { e [3] INTEGER, f [4] INTEGER }\n"
+                        + "END\n";
+        final AsnSchema schema = AsnSchemaReader.read(CharSource.wrap(schemaText));
+        final AsnSchemaTypeConstructed instance =
+                (AsnSchemaTypeConstructed) schema.getType("Outer").get();
+        final DecodingSession decodingSession = mock(DecodingSession.class);
+
+        final ImmutableList<String> rawTags =
+                ImmutableList.of(
+                        "0[0]", "1[1]", "2[2]", "3[3]", "4[4]", "5[5]", "6[6]", "7", "", "1[01]",
+                        "1[UNIVERSAL 1]");
+        final ImmutableList.Builder<Optional<AsnSchemaComponentType>> builder =
+                ImmutableList.builder();
+        for (String rawTag : rawTags) {
+            final Optional<AsnSchemaComponentType> result =
+                    instance.getMatchingChild(rawTag, decodingSession);
+            // indexed results are shared
+            assertEquals(result, instance.getMatchingChild(rawTag, decodingSession));
+            builder.add(result);
+        }
+        final ImmutableList<Optional<AsnSchemaComponentType>> indexed = builder.build();
+
+        assertEquals("a", indexed.get(0).get().getName());
+        // alternatives of tagless choices are flattened in
+        assertEquals("inner/c", indexed.get(1).get().getName());
+        assertEquals("inner/d", indexed.get(2).get().getName());
+        assertEquals("inner/deeper/e", indexed.get(3).get().getName());
+        assertEquals("inner/deeper/f", indexed.get(4).get().getName());
+        assertEquals("b", indexed.get(5).get().getName());
+        assertFalse(indexed.get(6).isPresent());
+        // tags are matched by tag number, not by their text
+        assertFalse(indexed.get(9).isPresent());
+        assertFalse(indexed.get(10).isPresent());
+
+        // the index relies on the tags not changing
+        try {
+            instance.performTagging();
+            fail("IllegalStateException not thrown");
+        } catch (final IllegalStateException ex) {
+        }
+
+        // matching without the index gives the same results
+        final AsnSchemaTypeConstructed unindexed =
+                new AsnSchemaTypeConstructed(
+                        AsnPrimitiveTypes.SET,
+                        AsnSchemaConstraint.NULL,
+                        instance.getAllComponents(),
+                        AsnModuleTaggingMode.AUTOMATIC);
+        for (int i = 0; i < rawTags.size(); i++) {
+            final Optional<AsnSchemaComponentType> expected = indexed.get(i);
+            final Optional<AsnSchemaComponentType> actual =
+                    unindexed.getMatchingChild(rawTags.get(i), decodingSession);
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getName(), actual.get().getName());
+                assertEquals(expected.get().getTag(), actual.get().getTag());
+                assertSame(expected.get().getType(), actual.get().getType());
+            }
+        }
+        verifyNoInteractions(decodingSession);
+    }
+
     @Test
     public void testGetComponentTypesSequenceChoice() throws Exception {
 
@@ -84,4 +84,36 @@ public class AsnSchemaTypeWithNamedTagsTest {
         Object o = instance.accept(v);
         assertEquals("Got AsnSchemaTypeWithNamedTags", o);
     }
+
+    @Test
+    public void testGetNamedValue() {
+        final AsnSchemaNamedTag small = new AsnSchemaNamedTag("small", "-5");
+        final AsnSchemaNamedTag zero = new AsnSchemaNamedTag("zero", "0");
+        final AsnSchemaNamedTag large = new AsnSchemaNamedTag("large", "9223372036854775807");
+        final AsnSchemaNamedTag padded = new AsnSchemaNamedTag("padded", "07");
+        final AsnSchemaTypeWithNamedTags instance =
+                new AsnSchemaTypeWithNamedTags(
+                        AsnPrimitiveTypes.ENUMERATED,
+                        AsnSchemaConstraint.NULL,
+                        ImmutableList.of(large, zero, padded, small));
+
+        assertSame(small, instance.getNamedValue(-5).get());
+        assertSame(zero, instance.getNamedValue(0).get());
+        assertSame(large, instance.getNamedValue(Long.MAX_VALUE).get());
+        assertFalse(instance.getNamedValue(1).isPresent());
+        assertFalse(instance.getNamedValue(Long.MIN_VALUE).isPresent());
+
+        // only tags a decoded value could match are found
+        assertFalse(instance.getNamedValue(7).isPresent());
+        assertSame(padded, instance.getTagsToNamedValues().get("07"));
+
+        // no named values
+        assertFalse(
+                new AsnSchemaTypeWithNamedTags(
+                                AsnPrimitiveTypes.INTEGER,
+                                AsnSchemaConstraint.NULL,
+                                ImmutableList.of())
+                        .getNamedValue(0)
+                        .isPresent());
+    }
 }
@@ -13,8 +13,22 @@ import com.brightsparklabs.asanti.mocks.MockAsnBerFile;
 import com.brightsparklabs.asanti.model.data.RawAsnData;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteSource;
+import com.google.common.io.MoreFiles;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.Test;
 
 /**
@@ -145,6 +159,118 @@ public class AsnBerDataReaderTest {
         }
     }
 
+    @Test
+    public void testStream() throws Exception {
+        final ByteSource berData = MockAsnBerFile.createAsnBerDataContainingDocumentPdus(5);
+        final ImmutableList<RawAsnData> expected = AsnBerDataReader.read(berData);
+
+        try (Stream<RawAsnData> stream = AsnBerDataReader.stream(berData)) {
+            final List<RawAsnData> result = stream.collect(Collectors.toList());
+            assertEquals(5, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                assertEquals(expected.get(i).getRawTags(), result.get(i).getRawTags());
+                assertArrayEquals(
+                        expected.get(i).getBytes("/1[2]/0[0]/1[1]/0[1]").get(),
+                        result.get(i).getBytes("/1[2]/0[0]/1[1]/0[1]").get());
+            }
+        }
+
+        // raw tags are shared between PDUs
+        try (Stream<RawAsnData> stream = AsnBerDataReader.stream(berData)) {
+            final List<RawAsnData> result = stream.collect(Collectors.toList());
+            final List<String> first = result.get(0).getRawTags().asList();
+            final List<String> last = result.get(4).getRawTags().asList();
+            for (int i = 0; i < first.size(); i++) {
+                assertSame(first.get(i), last.get(i));
+            }
+        }
+
+        // partially consumed stream
+        try (Stream<RawAsnData> stream = AsnBerDataReader.stream(berData)) {
+            assertEquals(2, stream.limit(2).count());
+        }
+
+        // empty data
+        try (Stream<RawAsnData> stream = AsnBerDataReader.stream(ByteSource.empty())) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    @Test
+    public void testStream_ClosesInputStream() throws Exception {
+        final ByteSource berData = MockAsnBerFile.createAsnBerDataContainingPeoplePdus(3);
+        final AtomicInteger closeCount = new AtomicInteger();
+        final ByteSource trackedSource =
+                new ByteSource() {
+                    @Override
+                    public InputStream openStream() throws IOException {
+                        return new FilterInputStream(berData.openStream()) {
+                            @Override
+                            public void close() throws IOException {
+                                closeCount.incrementAndGet();
+                                super.close();
+                            }
+                        };
+                    }
+                };
+
+        // closed when exhausted
+        final Iterator<RawAsnData> iterator = AsnBerDataReader.stream(trackedSource).iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(3, count);
+        assertEquals(1, closeCount.get());
+
+        // closed when stream is closed before being exhausted
+        closeCount.set(0);
+        final Stream<RawAsnData> stream = AsnBerDataReader.stream(trackedSource);
+        assertTrue(stream.findFirst().isPresent());
+        assertEquals(0, closeCount.get());
+        stream.close();
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    public void testReadFileConsumer() throws Exception {
+        final ByteSource berData = MockAsnBerFile.createAsnBerDataContainingPeoplePdus(5);
+        final List<RawAsnData> result = Lists.newArrayList();
+        AsnBerDataReader.read(berData, result::add);
+        assertEquals(5, result.size());
+        assertEquals(AsnBerDataReader.read(berData).get(4).getRawTags(), result.get(4).getRawTags());
+    }
+
+    @Test
+    public void testReadPath() throws Exception {
+        final ByteSource berData = MockAsnBerFile.createAsnBerDataContainingDocumentPdus(5);
+        final ImmutableList<RawAsnData> expected = AsnBerDataReader.read(berData);
+        final Path path = Files.createTempFile("asanti", ".ber");
+        try {
+            berData.copyTo(MoreFiles.asByteSink(path));
+
+            assertRawAsnDataEquals(expected, AsnBerDataReader.read(path));
+
+            // windows smaller than the file (PDUs must be re-mapped when they cross a window)
+            final int pduLength = (int) (berData.size() / 5);
+            for (int windowSize : new int[] {pduLength, pduLength + 1, 2 * pduLength - 1}) {
+                try (Stream<RawAsnData> stream = AsnBerDataReader.stream(path, windowSize)) {
+                    assertRawAsnDataEquals(expected, stream.collect(Collectors.toList()));
+                }
+            }
+
+            // window smaller than a PDU
+            try (Stream<RawAsnData> stream = AsnBerDataReader.stream(path, pduLength - 1)) {
+                stream.count();
+                fail("UncheckedIOException not thrown");
+            } catch (UncheckedIOException ex) {
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
     @Test
     public void testReadFile_LargeOctetString() throws Exception {
         final ByteSource berData =
@@ -161,4 +287,29 @@ public class AsnBerDataReaderTest {
                 "First name is 1000 octets long".getBytes(Charsets.UTF_8),
                 pdu.getBytes("/0[UNIVERSAL 16]/1[2]").get());
     }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that the supplied lists contain the same raw tags and values
+     *
+     * @param expected expected data
+     * @param actual actual data
+     */
+    private static void assertRawAsnDataEquals(
+            List<RawAsnData> expected, List<RawAsnData> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final Map<String, byte[]> expectedBytes = expected.get(i).getBytes();
+            final Map<String, byte[]> actualBytes = actual.get(i).getBytes();
+            assertEquals(
+                    ImmutableList.copyOf(expectedBytes.keySet()),
+                    ImmutableList.copyOf(actualBytes.keySet()));
+            for (String rawTag : expectedBytes.keySet()) {
+                assertArrayEquals(expectedBytes.get(rawTag), actualBytes.get(rawTag));
+            }
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import static org.junit.Assert.*;
+
+import com.google.common.collect.Maps;
+import com.google.common.io.BaseEncoding;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsnBerTokenizer}
+ *
+ * @author brightSPARK Labs
+ */
+public class AsnBerTokenizerTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** encoding for converting to/from hex */
+    private static final BaseEncoding hexEncoding = BaseEncoding.base16().lowerCase();
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testTokenize_DefiniteLength() throws Exception {
+        // SET { SEQUENCE { [1] "ab", [2] INTEGER 5 }, [3] EXPLICIT INTEGER 7 }
+        final Map<String, String> result = tokenize("310e300781026162820105a303020107");
+        assertEquals(3, result.size());
+        assertEquals("6162", result.get("/0[UNIVERSAL 16]/0[1]"));
+        assertEquals("05", result.get("/0[UNIVERSAL 16]/1[2]"));
+        assertEquals("07", result.get("/1[3]/0[UNIVERSAL 2]"));
+    }
+
+    @Test
+    public void testTokenize_IndefiniteLength() throws Exception {
+        // SEQUENCE { [1] { [0] INTEGER 5 }, [1] "a", [2] {}, SEQUENCE {} } using indefinite lengths
+        final Map<String, String> result = tokenize("3080a18080010500008101618200308000000000");
+        assertEquals(4, result.size());
+        assertEquals("05", result.get("/0[1]/0[0]"));
+        assertEquals("61", result.get("/1[1]"));
+        assertEquals("", result.get("/2[2]"));
+        assertEquals("", result.get("/3[UNIVERSAL 16]"));
+    }
+
+    @Test
+    public void testTokenize_MultiByteTagNumbers() throws Exception {
+        // [APPLICATION 257] { [PRIVATE 128] "abc", [31] "d" }
+        final Map<String, String> result = tokenize("7f82010ddf810003616263bf1f03040164");
+        assertEquals(2, result.size());
+        assertEquals("616263", result.get("/0[257]/0[128]"));
+        assertEquals("64", result.get("/0[257]/1[31]/0[UNIVERSAL 4]"));
+    }
+
+    @Test
+    public void testTokenize_LongFormLength() throws Exception {
+        final String value = "2d".repeat(300);
+        final Map<String, String> result = tokenize("308201308182012c" + value);
+        assertEquals(value, result.get("/0[1]"));
+    }
+
+    @Test
+    public void testTokenize_SegmentedString() throws Exception {
+        // SEQUENCE { OCTET STRING (segmented, indefinite) "ab", OCTET STRING (segmented) "cd" }
+        final Map<String, String> result = tokenize("3012248004016104016200002406040163040164");
+        assertEquals("6162", result.get("/0[UNIVERSAL 4]"));
+        assertEquals("6364", result.get("/1[UNIVERSAL 4]"));
+    }
+
+    @Test
+    public void testTokenize_Invalid() throws Exception {
+        // contents extend beyond the end of the containing TLV
+        assertTokenizeFails("a2050201050101");
+        // truncated
+        assertTokenizeFails("300581");
+        // missing end-of-contents
+        assertTokenizeFails("3080810161");
+        // indefinite length on primitive
+        assertTokenizeFails("8080");
+        // trailing data
+        assertTokenizeFails("8101610000");
+    }
+
+    @Test
+    public void testReadPdu() throws Exception {
+        final byte[] bytes = hexEncoding.decode("810161" + "3080a18081016200000000" + "0500");
+        final InputStream inputStream = new ByteArrayInputStream(bytes);
+        assertEquals("810161", hexEncoding.encode(toBytes(AsnBerTokenizer.readPdu(inputStream))));
+        assertEquals(
+                "3080a18081016200000000",
+                hexEncoding.encode(toBytes(AsnBerTokenizer.readPdu(inputStream))));
+        assertEquals("0500", hexEncoding.encode(toBytes(AsnBerTokenizer.readPdu(inputStream))));
+        assertNull(AsnBerTokenizer.readPdu(inputStream));
+
+        // truncated PDUs
+        try {
+            AsnBerTokenizer.readPdu(new ByteArrayInputStream(hexEncoding.decode("810561")));
+            fail("EOFException not thrown");
+        } catch (EOFException ex) {
+        }
+        try {
+            AsnBerTokenizer.readPdu(new ByteArrayInputStream(hexEncoding.decode("3080810161")));
+            fail("EOFException not thrown");
+        } catch (EOFException ex) {
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Tokenizes the supplied PDU
+     *
+     * @param hex PDU to tokenize as a hex string
+     * @return the raw tags found mapped to the hex string of their values
+     * @throws IOException if any errors occur tokenizing the PDU
+     */
+    private static Map<String, String> tokenize(String hex) throws IOException {
+        final Map<String, String> result = Maps.newLinkedHashMap();
+        final ByteBuffer buffer = ByteBuffer.wrap(hexEncoding.decode(hex));
+        AsnBerTokenizer.tokenize(
+                buffer,
+                new AsnBerTokenizer.ValueHandler() {
+                    @Override
+                    public void onValue(String rawTag, int offset, int length) {
+                        final byte[] value = new byte[length];
+                        buffer.get(offset, value);
+                        result.put(rawTag, hexEncoding.encode(value));
+                    }
+
+                    @Override
+                    public void onSegmentedValue(String rawTag, byte[] value) {
+                        result.put(rawTag, hexEncoding.encode(value));
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Asserts that tokenizing the supplied PDU fails
+     *
+     * @param hex PDU to tokenize as a hex string
+     */
+    private static void assertTokenizeFails(String hex) {
+        try {
+            tokenize(hex);
+            fail("IOException not thrown for: " + hex);
+        } catch (IOException ex) {
+        }
+    }
+
+    /**
+     * Returns the remaining bytes in the supplied buffer
+     *
+     * @param buffer buffer to read
+     * @return the remaining bytes
+     */
+    private static byte[] toBytes(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
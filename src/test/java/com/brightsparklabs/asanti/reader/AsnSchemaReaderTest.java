@@ -0,0 +1,237 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.brightsparklabs.asanti.model.schema.primitive.AsnPrimitiveTypes;
+import com.brightsparklabs.asanti.model.schema.type.AsnSchemaType;
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSink;
+import com.google.common.io.ByteSource;
+import com.google.common.io.CharSource;
+import com.google.common.primitives.Shorts;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsnSchemaReader}
+ *
+ * @author brightSPARK Labs
+ */
+public class AsnSchemaReaderTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** a simple schema */
+    private static final String SCHEMA_TEXT =
+            "Reader-Test DEFINITIONS AUTOMATIC TAGS ::= BEGIN\n"
+                    + "    Outer ::= SEQUENCE { a INTEGER, b UTF8String OPTIONAL }\n"
+                    + "END\n";
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testRead() throws Exception {
+        final AsnSchema schema = AsnSchemaReader.read(CharSource.wrap(SCHEMA_TEXT));
+        assertTrue(schema.getType("Outer").isPresent());
+
+        // every call parses the schema
+        assertNotSame(schema, AsnSchemaReader.read(CharSource.wrap(SCHEMA_TEXT)));
+
+        try {
+            AsnSchemaReader.read(CharSource.wrap("garbage"));
+            fail("IOException not thrown");
+        } catch (IOException ex) {
+        }
+    }
+
+    @Test
+    public void testReadCached() throws Exception {
+        final AsnSchema schema = AsnSchemaReader.readCached(CharSource.wrap(SCHEMA_TEXT));
+        assertTrue(schema.getType("Outer").isPresent());
+
+        // identical contents share the schema, even from a different source
+        assertSame(schema, AsnSchemaReader.readCached(CharSource.wrap(SCHEMA_TEXT)));
+        assertSame(
+                schema,
+                AsnSchemaReader.readCached(CharSource.wrap(new StringBuilder(SCHEMA_TEXT))));
+
+        // different contents do not
+        final AsnSchema other = AsnSchemaReader.readCached(CharSource.wrap(SCHEMA_TEXT + "\n"));
+        assertNotSame(schema, other);
+        assertTrue(other.getType("Outer").isPresent());
+
+        // contents which have already been hashed share the same cache
+        final HashCode hash = AsnSchemaReader.hash(SCHEMA_TEXT);
+        assertEquals(Hashing.sha256().hashString(SCHEMA_TEXT, Charsets.UTF_8), hash);
+        assertSame(
+                schema,
+                AsnSchemaReader.readCached(SCHEMA_TEXT, hash, MoreExecutors.directExecutor()));
+
+        // errors are not cached
+        for (int i = 0; i < 2; i++) {
+            try {
+                AsnSchemaReader.readCached(CharSource.wrap("garbage"));
+                fail("IOException not thrown");
+            } catch (IOException ex) {
+            }
+        }
+    }
+
+    @Test
+    public void testReadCached_Concurrent() throws Exception {
+        final String schemaText = SCHEMA_TEXT + "-- concurrent\n";
+        final Callable<AsnSchema> task =
+                () -> AsnSchemaReader.readCached(CharSource.wrap(schemaText));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Future<AsnSchema> first = executor.submit(task);
+            for (Future<AsnSchema> future : executor.invokeAll(Collections.nCopies(16, task))) {
+                assertSame(first.get(), future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReadCompiled() throws Exception {
+        final ByteArrayOutputStream compiled = new ByteArrayOutputStream();
+        final AsnSchema schema =
+                AsnSchemaReader.compile(CharSource.wrap(SCHEMA_TEXT), createSink(compiled));
+        final byte[] bytes = compiled.toByteArray();
+
+        final AsnSchema instance = AsnSchemaReader.readCompiled(ByteSource.wrap(bytes));
+        final AsnSchemaType type = instance.getType("Outer/b").get();
+        assertEquals(schema.getType("Outer/b").get().getBuiltinType(), type.getBuiltinType());
+        assertFalse(instance.getType("Outer/c").isPresent());
+
+        // not a compiled schema
+        assertReadCompiledFails(SCHEMA_TEXT.getBytes(Charsets.UTF_8));
+        assertReadCompiledFails(new byte[0]);
+
+        // different format version
+        final byte[] otherVersion = bytes.clone();
+        otherVersion[7]++;
+        assertReadCompiledFails(otherVersion);
+
+        // truncated
+        assertReadCompiledFails(Arrays.copyOf(bytes, bytes.length / 2));
+
+        // an object which is not a schema
+        assertReadCompiledFails(createCompiled("not a schema"));
+
+        // schema model classes whose shape differs from when the schema was compiled
+        final byte[] otherShape = bytes.clone();
+        final int nameLength = Shorts.fromByteArray(Arrays.copyOfRange(bytes, 12, 14));
+        otherShape[14 + nameLength + 7]++;
+        IOException ex = assertReadCompiledFails(otherShape);
+        assertTrue(ex instanceof InvalidClassException);
+        assertTrue(ex.getMessage().contains("compile the schema again"));
+
+        // schema model classes which no longer exist, or were not listed
+        assertReadCompiledFails(
+                createCompiled("not a schema", "com.brightsparklabs.asanti.model.schema.Missing"));
+        ex = assertReadCompiledFails(createCompiled(AsnPrimitiveTypes.INTEGER));
+        assertTrue(ex instanceof InvalidClassException);
+
+        // classes outside of the schema model are rejected
+        ex = assertReadCompiledFails(createCompiled(new java.io.File("schema.asn")));
+        assertTrue(ex instanceof InvalidClassException);
+        ex = assertReadCompiledFails(createCompiled("not a schema", "java.io.File"));
+        assertTrue(ex instanceof InvalidClassException);
+        ex = assertReadCompiledFails(createCompiled(Lists.newArrayList("schema.asn")));
+        assertTrue(ex instanceof InvalidClassException);
+
+        // objects nested beyond the maximum depth are rejected
+        Object[] nested = new Object[0];
+        for (int i = 0; i < 600; i++) {
+            nested = new Object[] {nested};
+        }
+        ex = assertReadCompiledFails(createCompiled(nested));
+        assertTrue(ex instanceof InvalidClassException);
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates the bytes of a compiled schema containing the supplied object
+     *
+     * @param object object to write in place of the schema
+     * @param classNames names of the schema model classes to list, with a fingerprint of zero
+     * @return the bytes of the compiled schema
+     * @throws IOException if any errors occur while writing the object
+     */
+    private static byte[] createCompiled(Object object, String... classNames) throws IOException {
+        final ByteArrayOutputStream compiled = new ByteArrayOutputStream();
+        final DataOutputStream dataOutputStream = new DataOutputStream(compiled);
+        dataOutputStream.writeInt(CompiledSchemaFormat.MAGIC);
+        dataOutputStream.writeInt(CompiledSchemaFormat.VERSION);
+        dataOutputStream.writeInt(classNames.length);
+        for (String className : classNames) {
+            dataOutputStream.writeUTF(className);
+            dataOutputStream.writeLong(0);
+        }
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(compiled)) {
+            objectOutputStream.writeObject(object);
+        }
+        return compiled.toByteArray();
+    }
+
+    /**
+     * Creates a sink which writes to the supplied stream
+     *
+     * @param outputStream stream to write to
+     * @return the sink
+     */
+    private static ByteSink createSink(OutputStream outputStream) {
+        return new ByteSink() {
+            @Override
+            public OutputStream openStream() {
+                return outputStream;
+            }
+        };
+    }
+
+    /**
+     * Asserts that reading the supplied bytes as a compiled schema throws an {@link IOException}
+     *
+     * @param bytes bytes to read
+     * @return the exception which was thrown
+     */
+    private static IOException assertReadCompiledFails(byte[] bytes) {
+        try {
+            AsnSchemaReader.readCompiled(ByteSource.wrap(bytes));
+        } catch (IOException ex) {
+            return ex;
+        }
+        throw new AssertionError("IOException not thrown");
+    }
+}
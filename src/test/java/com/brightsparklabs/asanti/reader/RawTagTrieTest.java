@@ -0,0 +1,82 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RawTagTrie}
+ *
+ * @author brightSPARK Labs
+ */
+public class RawTagTrieTest {
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testGetChild() throws Exception {
+        final RawTagTrie instance = new RawTagTrie();
+        final RawTagTrie.Node root = instance.getRoot();
+        assertEquals("", root.getPath());
+        assertEquals(1, instance.getSize());
+
+        final RawTagTrie.Node tagged = root.getTaggedChild(1, 2);
+        assertEquals("/1[2]", tagged.getPath());
+        assertSame(tagged, root.getTaggedChild(1, 2));
+
+        final RawTagTrie.Node universal = tagged.getUniversalChild(0, 16);
+        assertEquals("/1[2]/0[UNIVERSAL 16]", universal.getPath());
+        assertSame(universal, tagged.getUniversalChild(0, 16));
+        assertEquals("/1[2]/0[UNIVERSAL 16]/3[300]", universal.getTaggedChild(3, 300).getPath());
+
+        // same index and number but different class
+        assertEquals("/1[2]/0[16]", tagged.getTaggedChild(0, 16).getPath());
+        assertNotSame(universal, tagged.getTaggedChild(0, 16));
+
+        // unknown universal tag numbers have no raw tag
+        assertEquals("/1[2]/", tagged.getUniversalChild(1, 31).getPath());
+
+        assertEquals(6, instance.getSize());
+    }
+
+    @Test
+    public void testGetChild_ManyChildren() throws Exception {
+        final RawTagTrie instance = new RawTagTrie();
+        final RawTagTrie.Node root = instance.getRoot();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("/" + i + "[1]", root.getTaggedChild(i, 1).getPath());
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertSame(root.getTaggedChild(i, 1), root.getTaggedChild(i, 1));
+            assertEquals("/" + i + "[UNIVERSAL 2]", root.getUniversalChild(i, 2).getPath());
+        }
+        assertEquals(2001, instance.getSize());
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        final RawTagTrie instance = new RawTagTrie(3);
+        final RawTagTrie.Node root = instance.getRoot();
+        final RawTagTrie.Node first = root.getTaggedChild(0, 1);
+        final RawTagTrie.Node second = first.getTaggedChild(0, 2);
+        assertEquals(3, instance.getSize());
+
+        // nodes beyond the maximum are not retained
+        final RawTagTrie.Node third = second.getTaggedChild(0, 3);
+        assertEquals("/0[1]/0[2]/0[3]", third.getPath());
+        assertNotSame(third, second.getTaggedChild(0, 3));
+        assertEquals("/0[1]/0[2]/0[3]/0[4]", third.getTaggedChild(0, 4).getPath());
+        assertEquals(3, instance.getSize());
+
+        // existing nodes are still shared
+        assertSame(second, root.getTaggedChild(0, 1).getTaggedChild(0, 2));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.model.schema.AsnSchema;
+import com.google.common.io.CharSource;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReloadableAsnSchema}
+ *
+ * @author brightSPARK Labs
+ */
+public class ReloadableAsnSchemaTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** a simple schema */
+    private static final String SCHEMA_TEXT =
+            "Reload-Test DEFINITIONS AUTOMATIC TAGS ::= BEGIN\n"
+                    + "    Outer ::= SEQUENCE { a INTEGER }\n"
+                    + "END\n";
+
+    /** the simple schema with a component added */
+    private static final String SCHEMA_TEXT_UPDATED =
+            "Reload-Test DEFINITIONS AUTOMATIC TAGS ::= BEGIN\n"
+                    + "    Outer ::= SEQUENCE { a INTEGER, b UTF8String }\n"
+                    + "END\n";
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testReload() throws Exception {
+        final AtomicReference<String> contents = new AtomicReference<>(SCHEMA_TEXT);
+        final ReloadableAsnSchema instance = ReloadableAsnSchema.read(createSource(contents));
+        final AsnSchema original = instance.get();
+        assertTrue(original.getType("Outer/a").isPresent());
+        assertFalse(original.getType("Outer/b").isPresent());
+
+        // unchanged contents keep the current schema
+        assertFalse(instance.reload());
+        assertSame(original, instance.get());
+
+        // changed contents replace the current schema, without affecting the previous schema
+        contents.set(SCHEMA_TEXT_UPDATED);
+        assertTrue(instance.reload());
+        final AsnSchema updated = instance.get();
+        assertNotSame(original, updated);
+        assertTrue(updated.getType("Outer/b").isPresent());
+        assertFalse(original.getType("Outer/b").isPresent());
+        assertFalse(instance.reload());
+
+        // invalid contents keep the current schema
+        contents.set("garbage");
+        try {
+            instance.reload();
+            fail("IOException not thrown");
+        } catch (IOException ex) {
+        }
+        assertSame(updated, instance.get());
+
+        // reverting reuses the schema previously read from the same contents
+        contents.set(SCHEMA_TEXT);
+        assertTrue(instance.reload());
+        assertSame(original, instance.get());
+    }
+
+    @Test
+    public void testReload_Executor() throws Exception {
+        // modules after the first are processed on the executor
+        final String secondModule =
+                "Reload-Test-Other DEFINITIONS AUTOMATIC TAGS ::= BEGIN\n"
+                        + "    Other ::= SEQUENCE { c INTEGER }\n"
+                        + "END\n";
+        final AtomicReference<String> contents =
+                new AtomicReference<>(SCHEMA_TEXT + "\n-- executor\n" + secondModule);
+        final AtomicInteger tasks = new AtomicInteger();
+        final Executor executor =
+                command -> {
+                    tasks.incrementAndGet();
+                    command.run();
+                };
+
+        final ReloadableAsnSchema instance =
+                ReloadableAsnSchema.read(createSource(contents), executor);
+        assertTrue(instance.get().getType("Outer/a").isPresent());
+        assertTrue(tasks.get() > 0);
+
+        // the executor is used for reloads
+        tasks.set(0);
+        contents.set(SCHEMA_TEXT_UPDATED + "\n-- executor\n" + secondModule);
+        assertTrue(instance.reload());
+        assertTrue(instance.get().getType("Outer/b").isPresent());
+        assertTrue(tasks.get() > 0);
+
+        tasks.set(0);
+        assertFalse(instance.reload());
+        assertEquals(0, tasks.get());
+    }
+
+    @Test
+    public void testRead() throws Exception {
+        try {
+            ReloadableAsnSchema.read(CharSource.wrap("garbage"));
+            fail("IOException not thrown");
+        } catch (IOException ex) {
+        }
+
+        try {
+            ReloadableAsnSchema.read(null);
+            fail("NullPointerException not thrown");
+        } catch (NullPointerException ex) {
+        }
+
+        try {
+            ReloadableAsnSchema.read(CharSource.wrap(SCHEMA_TEXT), null);
+            fail("NullPointerException not thrown");
+        } catch (NullPointerException ex) {
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a source which returns the current value of the supplied contents each time it is
+     * read
+     *
+     * @param contents contents of the source
+     * @return the source
+     */
+    private static CharSource createSource(AtomicReference<String> contents) {
+        return new CharSource() {
+            @Override
+            public Reader openStream() {
+                return new StringReader(contents.get());
+            }
+        };
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader.parser;
+
+import static org.junit.Assert.*;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Resources;
+import java.io.File;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsnSchemaLexer}
+ *
+ * @author brightSPARK Labs
+ */
+public class AsnSchemaLexerTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** number of random schemas to compare against the legacy implementation */
+    private static final int CORPUS_SIZE = 20000;
+
+    /** fragments which random schemas are built from */
+    private static final ImmutableList<String> FRAGMENTS =
+            ImmutableList.of(
+                    "--", "-", "/*", "*/", "/", "*", ",", ";", "\n", "\r", "\t", " ", "END",
+                    "BEGIN", "DEFINITIONS", "EN", "D", "S", "x", "\u000B", "\u00A0");
+
+    /** pattern to match carriage returns */
+    private static final Pattern PATTERN_CARRIAGE_RETURN = Pattern.compile("\\r");
+
+    /** pattern to match comments that are started with -- and end with newline */
+    private static final Pattern PATTERN_ENDLINE_COMMENTS =
+            Pattern.compile("[\\t ]*--.*?(\\n|\\z)");
+
+    /** pattern to match comments that are started and ended with -- */
+    private static final Pattern PATTERN_INLINE_COMMENTS = Pattern.compile("[\\t ]*--.*?--");
+
+    /** pattern to match block comments */
+    private static final Pattern PATTERN_BLOCK_COMMENTS = Pattern.compile("(?s)/\\*.*?\\*/");
+
+    /** pattern to match new lines */
+    private static final Pattern PATTERN_NEW_LINE = Pattern.compile("\\n+");
+
+    /** pattern to match tabs/spaces */
+    private static final Pattern PATTERN_TABS_SPACES = Pattern.compile("[\\t ]+");
+
+    /** pattern to match module header keywords */
+    private static final Pattern PATTERN_SCHEMA_KEYWORDS =
+            Pattern.compile("(DEFINITIONS|BEGIN|EXPORTS|IMPORTS|END)");
+
+    /** pattern to match semicolons */
+    private static final Pattern PATTERN_SEMICOLONS = Pattern.compile(";");
+
+    /** pattern to join lines that end in a comma */
+    private static final Pattern PATTERN_COMMA_TERMINATED = Pattern.compile(",\\n");
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testGetLines() throws Exception {
+        assertEquals(
+                ImmutableList.of(
+                        "Test-Module",
+                        "DEFINITIONS",
+                        "AUTOMATIC TAGS ::=",
+                        "BEGIN",
+                        "Outer ::= SEQUENCE {",
+                        "a INTEGER, b UTF8String,",
+                        "}",
+                        "END"),
+                AsnSchemaLexer.getLines(
+                        "Test-Module DEFINITIONS\r\n"
+                                + "\tAUTOMATIC   TAGS ::= BEGIN -- comment -- still comment\n"
+                                + "    Outer ::= SEQUENCE /* block\n"
+                                + " comment */ {\n"
+                                + "        a INTEGER, -- comment\n"
+                                + "        b UTF8String, \n"
+                                + "    }\n"
+                                + "END"));
+
+        // keywords and semicolons are split out even within words
+        assertEquals(
+                ImmutableList.of("Type", "END", "S", ";", "x", "BEGIN", "NING"),
+                AsnSchemaLexer.getLines("TypeENDS;x BEGINNING"));
+
+        // unterminated block comments are left as is
+        assertEquals(ImmutableList.of("a /* b"), AsnSchemaLexer.getLines("a /* b"));
+
+        // a comment within a block comment can hide the end of the block comment
+        assertEquals(
+                ImmutableList.of("a c"), AsnSchemaLexer.getLines("a /* -- */ b\n */ c\n"));
+
+        // lines ending in a comma are joined, unless whitespace precedes the new line. Whitespace
+        // preceding a comment is removed, but not if a block comment is between them
+        assertEquals(ImmutableList.of("a, b"), AsnSchemaLexer.getLines("a,/**/ -- c\nb"));
+        assertEquals(ImmutableList.of("a,", "b"), AsnSchemaLexer.getLines("a, /**/ -- c\nb"));
+
+        // Unicode line separators do not end comments
+        assertEquals(ImmutableList.of("a", "c"), AsnSchemaLexer.getLines("a -- \u2028 b\nc"));
+
+        assertEquals(ImmutableList.of(), AsnSchemaLexer.getLines(""));
+        assertEquals(ImmutableList.of(), AsnSchemaLexer.getLines("-- only a comment"));
+    }
+
+    @Test
+    public void testGetLines_MatchesLegacy_Resources() throws Exception {
+        final File directory = new File(Resources.getResource("EIFv122.asn").toURI());
+        int count = 0;
+        for (File file : directory.getParentFile().listFiles()) {
+            if (file.getName().endsWith(".asn")) {
+                final String schema = Resources.toString(file.toURI().toURL(), Charsets.UTF_8);
+                assertMatchesLegacy(schema);
+                count++;
+            }
+        }
+        assertTrue(count > 0);
+    }
+
+    @Test
+    public void testGetLines_MatchesLegacy_Random() throws Exception {
+        final Random random = new Random(0);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            final StringBuilder builder = new StringBuilder();
+            final int length = random.nextInt(40);
+            for (int j = 0; j < length; j++) {
+                builder.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+            assertMatchesLegacy(builder.toString());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that the lexer produces the same lines as the legacy implementation
+     *
+     * @param schema schema text to split into lines
+     */
+    private static void assertMatchesLegacy(String schema) {
+        assertEquals(schema, getLinesLegacy(schema), AsnSchemaLexer.getLines(schema));
+    }
+
+    /**
+     * The implementation of {@code AsnSchemaParser.getLines} prior to {@link AsnSchemaLexer}, which
+     * applies a series of regular expression replacements to the whole schema
+     *
+     * @param asnSchema schema to split into lines
+     * @return the lines from the schema
+     */
+    private static ImmutableList<String> getLinesLegacy(String asnSchema) {
+        asnSchema = PATTERN_CARRIAGE_RETURN.matcher(asnSchema).replaceAll("");
+        asnSchema = PATTERN_ENDLINE_COMMENTS.matcher(asnSchema).replaceAll("\n");
+        asnSchema = PATTERN_INLINE_COMMENTS.matcher(asnSchema).replaceAll("");
+        asnSchema = PATTERN_BLOCK_COMMENTS.matcher(asnSchema).replaceAll("");
+        asnSchema = PATTERN_COMMA_TERMINATED.matcher(asnSchema).replaceAll(", ");
+        asnSchema = PATTERN_NEW_LINE.matcher(asnSchema).replaceAll("\n");
+        asnSchema = PATTERN_TABS_SPACES.matcher(asnSchema).replaceAll(" ");
+        asnSchema = PATTERN_SCHEMA_KEYWORDS.matcher(asnSchema).replaceAll("\n$1\n");
+        asnSchema = PATTERN_SEMICOLONS.matcher(asnSchema).replaceAll("\n;\n");
+        return ImmutableList.copyOf(
+                Splitter.on("\n").trimResults().omitEmptyStrings().split(asnSchema));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.reader.parser;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.io.Resources;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the time taken to parse ASN.1 schemas. This is not a unit test, run it via {@code
+ * ./gradlew benchmarkSchemaParser}, optionally passing {@code -PbenchmarkArgs="iterations
+ * componentCount..."} (default {@code 20 2000 4000 8000}).
+ *
+ * <p>Each schema is parsed in three stages, each timed separately:
+ *
+ * <ul>
+ *   <li>{@code lex}: splitting the text into lines via {@link AsnSchemaLexer}
+ *   <li>{@code modules}: {@code lex} plus parsing the lines of each module via {@link
+ *       AsnSchemaModuleParser} (i.e. all the regular expression based text parsing)
+ *   <li>{@code full}: {@link AsnSchemaParser#parse(String)}, which adds resolving, tagging and
+ *       duplicate checking
+ * </ul>
+ *
+ * <p>The schemas are the EIF schemas from the test resources and synthetic modules containing a
+ * single SEQUENCE with the requested number of components. If the text parsing is linear, the
+ * time per component of the synthetic modules stays constant as the component count doubles.
+ *
+ * <p>Finally, module content which fails to match every type definition and value assignment
+ * pattern is parsed. Those patterns contain nested quantifiers (e.g. {@code
+ * ([A-Za-z0-9\-]+(...)?)+}) which a naive engine backtracks through in time exponential in the
+ * length of the name. Java's engine remembers the positions it has already failed from, so the time
+ * taken only grows quadratically (i.e. four times as long each time the length doubles).
+ *
+ * <p>Times are the minimum and median over the iterations, after the same number of warm up
+ * iterations.
+ *
+ * @author brightSPARK Labs
+ */
+public class AsnSchemaParserBenchmark {
+    // -------------------------------------------------------------------------
+    // CLASS VARIABLES
+    // -------------------------------------------------------------------------
+
+    /** schemas from the test resources to parse */
+    private static final ImmutableList<String> RESOURCE_SCHEMAS =
+            ImmutableList.of("EIFv122.asn", "EIFv202e.asn", "EIFv202eT.asn");
+
+    /** default number of times to parse each schema */
+    private static final int DEFAULT_ITERATIONS = 20;
+
+    /** default number of components in the synthetic modules */
+    private static final ImmutableList<Integer> DEFAULT_COMPONENT_COUNTS =
+            ImmutableList.of(2000, 4000, 8000);
+
+    /** lengths of the names in the content which fails to match the module level patterns */
+    private static final ImmutableList<Integer> UNMATCHED_NAME_LENGTHS =
+            ImmutableList.of(16, 32, 64, 1024, 2048, 4096);
+
+    /** format of each line of results */
+    private static final String RESULT_FORMAT = "%-28s %-8s %10.2f %10.2f %14s%n";
+
+    // -------------------------------------------------------------------------
+    // PUBLIC METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args optional number of iterations, followed by the component counts of the
+     *     synthetic modules
+     * @throws Exception if any errors occur while parsing the schemas
+     */
+    public static void main(String[] args) throws Exception {
+        final int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        final List<Integer> componentCounts = Lists.newArrayList(DEFAULT_COMPONENT_COUNTS);
+        if (args.length > 1) {
+            componentCounts.clear();
+            for (int i = 1; i < args.length; i++) {
+                componentCounts.add(Integer.parseInt(args[i]));
+            }
+        }
+
+        System.out.printf(
+                "%-28s %-8s %10s %10s %14s%n",
+                "schema",
+                "stage",
+                "min ms",
+                "median ms",
+                "ns/component");
+        for (String resource : RESOURCE_SCHEMAS) {
+            final String schema =
+                    Resources.toString(Resources.getResource(resource), Charsets.UTF_8);
+            run(resource, schema, 0, iterations);
+        }
+        for (int componentCount : componentCounts) {
+            run(
+                    "synthetic(" + componentCount + ")",
+                    createSyntheticModule(componentCount),
+                    componentCount,
+                    iterations);
+        }
+
+        System.out.printf("%n%-28s %10s %10s%n", "unmatched content", "min ms", "median ms");
+        for (int length : UNMATCHED_NAME_LENGTHS) {
+            final ImmutableList<String> lines = createUnmatchedModule(length);
+            final double[] times =
+                    time(
+                            () -> {
+                                try {
+                                    AsnSchemaModuleParser.parse(lines);
+                                    throw new IllegalStateException("Content was matched");
+                                } catch (ParseException ex) {
+                                    // expected, no pattern matches the content
+                                }
+                            },
+                            iterations);
+            System.out.printf(
+                    "%-28s %10.2f %10.2f%n", "name length " + length, times[0], times[1]);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Parses the supplied schema in each stage and prints the times taken
+     *
+     * @param name name of the schema to print
+     * @param schema text of the schema
+     * @param componentCount number of components in the schema, or {@code 0} if not known
+     * @param iterations number of times to parse the schema
+     * @throws Exception if any errors occur while parsing the schema
+     */
+    private static void run(String name, String schema, int componentCount, int iterations)
+            throws Exception {
+        final double[] lex = time(() -> AsnSchemaLexer.getLines(schema), iterations);
+        print(name, "lex", lex, componentCount);
+
+        final double[] modules =
+                time(
+                        () -> {
+                            final List<String> moduleLines = Lists.newArrayList();
+                            for (String line : AsnSchemaLexer.getLines(schema)) {
+                                moduleLines.add(line);
+                                if ("END".equals(line)) {
+                                    AsnSchemaModuleParser.parse(moduleLines);
+                                    moduleLines.clear();
+                                }
+                            }
+                        },
+                        iterations);
+        print(name, "modules", modules, componentCount);
+
+        final double[] full = time(() -> AsnSchemaParser.parse(schema), iterations);
+        print(name, "full", full, componentCount);
+    }
+
+    /**
+     * Prints the times taken by a stage
+     *
+     * @param name name of the schema
+     * @param stage name of the stage
+     * @param times the minimum and median times taken (in milliseconds)
+     * @param componentCount number of components in the schema, or {@code 0} if not known
+     */
+    private static void print(String name, String stage, double[] times, int componentCount) {
+        final String perComponent =
+                (componentCount == 0)
+                        ? "-"
+                        : String.format("%.0f", times[0] * 1_000_000 / componentCount);
+        System.out.printf(RESULT_FORMAT, name, stage, times[0], times[1], perComponent);
+    }
+
+    /**
+     * Times the supplied task
+     *
+     * @param task task to time
+     * @param iterations number of times to run the task (after the same number of warm up runs)
+     * @return the minimum and median times taken (in milliseconds)
+     * @throws Exception if the task throws an exception
+     */
+    private static double[] time(Task task, int iterations) throws Exception {
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+
+        final long[] times = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            task.run();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return new double[] {times[0] / 1e6, times[iterations / 2] / 1e6};
+    }
+
+    /**
+     * Creates a module containing a single SEQUENCE with the specified number of components. The
+     * components cycle through a primitive, a constrained primitive, a collection and a
+     * constructed type, one component per line as in a hand written schema.
+     *
+     * @param componentCount number of components in the SEQUENCE
+     * @return the text of the module
+     */
+    private static String createSyntheticModule(int componentCount) {
+        final StringBuilder builder =
+                new StringBuilder()
+                        .append("Synthetic-Protocol DEFINITIONS AUTOMATIC TAGS ::=\n")
+                        .append("BEGIN\n\n")
+                        .append("Document ::= SEQUENCE\n{\n");
+        final String[] types = {
+            "UTF8String", "INTEGER (0..65535)", "SEQUENCE OF Item", "Item OPTIONAL"
+        };
+        for (int i = 0; i < componentCount; i++) {
+            builder.append("    field")
+                    .append(i)
+                    .append(' ')
+                    .append(types[i % types.length])
+                    .append((i == componentCount - 1) ? "\n" : ",\n");
+        }
+        return builder.append("}\n\n")
+                .append("Item ::= SEQUENCE\n{\n")
+                .append("    name UTF8String, -- the name of the item\n")
+                .append("    value INTEGER OPTIONAL\n")
+                .append("}\n\n")
+                .append("END\n")
+                .toString();
+    }
+
+    /**
+     * Creates the lines of a module containing content which does not match any of the type
+     * definition or value assignment patterns, as the assignment has no value
+     *
+     * @param length length of the name being assigned
+     * @return the lines of the module
+     */
+    private static ImmutableList<String> createUnmatchedModule(int length) {
+        return ImmutableList.of(
+                "Unmatched-Protocol",
+                "DEFINITIONS",
+                "AUTOMATIC TAGS ::=",
+                "BEGIN",
+                "A".repeat(length) + " ::=",
+                "END");
+    }
+
+    // -------------------------------------------------------------------------
+    // INTERNAL CLASS: Task
+    // -------------------------------------------------------------------------
+
+    /** A task to time */
+    @FunctionalInterface
+    private interface Task {
+        /**
+         * Runs the task
+         *
+         * @throws Exception if any errors occur
+         */
+        void run() throws Exception;
+    }
+}
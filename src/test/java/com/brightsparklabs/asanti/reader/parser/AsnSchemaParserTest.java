@@ -7,14 +7,26 @@
 
 package com.brightsparklabs.asanti.reader.parser;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
 import com.brightsparklabs.asanti.model.schema.AsnSchema;
 import com.brightsparklabs.asanti.model.schema.AsnSchemaModule;
+import com.brightsparklabs.asanti.reader.AsnSchemaReader;
+import com.google.common.base.Charsets;
 import com.google.common.base.Splitter;
+import com.google.common.io.ByteSink;
+import com.google.common.io.Resources;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.text.ParseException;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -161,6 +173,20 @@ public class AsnSchemaParserTest {
                     male(0), female(1)
                     }
                     END""";
+    /** a schema where the second and third modules cannot be resolved */
+    private static final String SCHEMA_UNRESOLVED_MODULES =
+            """
+                    First-Module DEFINITIONS AUTOMATIC TAGS ::= BEGIN
+                        First ::= SEQUENCE { a INTEGER }
+                    END
+                    Second-Module DEFINITIONS AUTOMATIC TAGS ::= BEGIN
+                        Second ::= SEQUENCE { a MissingFromSecond }
+                    END
+                    Third-Module DEFINITIONS AUTOMATIC TAGS ::= BEGIN
+                        Third ::= SEQUENCE { a MissingFromThird }
+                    END
+                    """;
+
     // -------------------------------------------------------------------------
     // TESTS
     // -------------------------------------------------------------------------
@@ -195,6 +221,40 @@ public class AsnSchemaParserTest {
         }
     }
 
+    @Test
+    public void testParse_Executor() throws Exception {
+        final String schemaText =
+                Resources.toString(Resources.getResource("EIFv122.asn"), Charsets.UTF_8);
+        final byte[] expected =
+                compile(AsnSchemaParser.parse(schemaText, MoreExecutors.directExecutor()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // processing modules concurrently produces the same schema
+            for (int i = 0; i < 5; i++) {
+                assertArrayEquals(expected, compile(AsnSchemaParser.parse(schemaText, executor)));
+            }
+            assertArrayEquals(expected, compile(AsnSchemaParser.parse(schemaText)));
+
+            // the error from the first module to fail is thrown
+            for (Executor instance : List.of(MoreExecutors.directExecutor(), executor)) {
+                for (int i = 0; i < 10; i++) {
+                    try {
+                        AsnSchemaParser.parse(SCHEMA_UNRESOLVED_MODULES, instance);
+                        fail("ParseException not thrown");
+                    } catch (final ParseException ex) {
+                        assertEquals(
+                                "Unable to resolve import of MissingFromSecond, it is not"
+                                        + " specified as an import",
+                                ex.getMessage());
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     //    @Test
     //    public void testParse() throws Exception {
     //        // prepare expected output to AsnSchemaModuleParser.parse()
@@ -323,4 +383,29 @@ public class AsnSchemaParserTest {
             assertNotNull(actualSchema);
         }
     }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Returns the compiled form of the supplied schema, which can be compared to determine whether
+     * schemas are identical
+     *
+     * @param schema schema to compile
+     * @return the compiled schema
+     * @throws Exception if any errors occur compiling the schema
+     */
+    private static byte[] compile(AsnSchema schema) throws Exception {
+        final ByteArrayOutputStream compiled = new ByteArrayOutputStream();
+        AsnSchemaReader.writeCompiled(
+                schema,
+                new ByteSink() {
+                    @Override
+                    public OutputStream openStream() {
+                        return compiled;
+                    }
+                });
+        return compiled.toByteArray();
+    }
 }
@@ -9,6 +9,19 @@ package com.brightsparklabs.asanti.validator;
 
 import static org.junit.Assert.*;
 
+import com.brightsparklabs.asanti.data.AsnData;
+import com.brightsparklabs.asanti.mocks.model.schema.TestAsnSchema;
+import com.brightsparklabs.asanti.model.data.AsantiAsnData;
+import com.brightsparklabs.asanti.model.data.AsantiAsnDataImpl;
+import com.brightsparklabs.asanti.model.data.RawAsnDataImpl;
+import com.brightsparklabs.asanti.schema.AsnBuiltinType;
+import com.brightsparklabs.asanti.selector.CachableSelector;
+import com.brightsparklabs.asanti.selector.NonCachableSelector;
+import com.brightsparklabs.asanti.validator.failure.DecodedTagValidationFailure;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 
 /**
@@ -29,4 +42,142 @@ public class ValidatorImplTest {
         // assertEquals(1, results.getFailures().size());
         assertTrue(true);
     }
+
+    @Test
+    public void testValidate_CustomRules() throws Exception {
+        final ImmutableMap<String, byte[]> tagsToData =
+                ImmutableMap.of(
+                        "1[2]/1[1]/0[1]", "prefix text".getBytes(Charsets.UTF_8),
+                        "1[2]/2[2]/0[1]", "content text".getBytes(Charsets.UTF_8),
+                        "2[3]/0[0]/0[UNIVERSAL 16]/0[1]", "Adam".getBytes(Charsets.UTF_8));
+        final AsantiAsnData asnData =
+                new AsantiAsnDataImpl(
+                        new RawAsnDataImpl(tagsToData), TestAsnSchema.getInstance(), "Document");
+
+        final AtomicInteger cachableCount = new AtomicInteger();
+        final CachableSelector cachableSelector =
+                new CachableSelector() {
+                    @Override
+                    public boolean matches(String tag, AsnBuiltinType type) {
+                        cachableCount.incrementAndGet();
+                        return tag.endsWith("/text");
+                    }
+                };
+        final AtomicInteger nonCachableCount = new AtomicInteger();
+        final NonCachableSelector nonCachableSelector =
+                new NonCachableSelector() {
+                    @Override
+                    public boolean matches(String tag, AsnBuiltinType type, AsnData data) {
+                        nonCachableCount.incrementAndGet();
+                        return tag.endsWith("/firstName");
+                    }
+                };
+        final Validator instance =
+                ValidatorImpl.builder()
+                        .withValidationRule(createRule("text"), cachableSelector)
+                        .withValidationRule(createRule("firstName"), nonCachableSelector)
+                        .build();
+
+        int validatedTagCount = 0;
+        for (int i = 1; i <= 3; i++) {
+            final ValidationResult result = instance.validate(asnData);
+            assertEquals(
+                    ImmutableSet.of("text"),
+                    getCustomFailureReasons(result, "/Document/body/prefix/text"));
+            assertEquals(
+                    ImmutableSet.of("text"),
+                    getCustomFailureReasons(result, "/Document/body/content/text"));
+            assertEquals(
+                    ImmutableSet.of("firstName"),
+                    getCustomFailureReasons(result, "/Document/footer/authors[0]/firstName"));
+
+            // cachable selectors are only evaluated the first time each tag is validated
+            if (i == 1) {
+                validatedTagCount = nonCachableCount.get();
+                assertTrue(validatedTagCount >= tagsToData.size());
+            }
+            assertEquals(validatedTagCount, cachableCount.get());
+            assertEquals(validatedTagCount * i, nonCachableCount.get());
+        }
+    }
+
+    @Test
+    public void testValidate_ManySequenceOfItems() throws Exception {
+        // each item has a distinct tag, more than the number of cached tags per type
+        final int itemCount = 5000;
+        final ImmutableMap.Builder<String, byte[]> tagsToData = ImmutableMap.builder();
+        for (int i = 0; i < itemCount; i++) {
+            tagsToData.put(
+                    "2[3]/0[0]/" + i + "[UNIVERSAL 16]/0[1]", "Adam".getBytes(Charsets.UTF_8));
+        }
+        final AsantiAsnData asnData =
+                new AsantiAsnDataImpl(
+                        new RawAsnDataImpl(tagsToData.build()),
+                        TestAsnSchema.getInstance(),
+                        "Document");
+
+        final AtomicInteger cachableCount = new AtomicInteger();
+        final CachableSelector cachableSelector =
+                new CachableSelector() {
+                    @Override
+                    public boolean matches(String tag, AsnBuiltinType type) {
+                        cachableCount.incrementAndGet();
+                        return tag.endsWith("[4999]/firstName");
+                    }
+                };
+        final Validator instance =
+                ValidatorImpl.builder()
+                        .withValidationRule(createRule("last"), cachableSelector)
+                        .build();
+
+        int firstCount = 0;
+        for (int i = 1; i <= 2; i++) {
+            final ValidationResult result = instance.validate(asnData);
+            assertEquals(
+                    ImmutableSet.of("last"),
+                    getCustomFailureReasons(result, "/Document/footer/authors[4999]/firstName"));
+            assertEquals(
+                    ImmutableSet.of(),
+                    getCustomFailureReasons(result, "/Document/footer/authors[0]/firstName"));
+            if (i == 1) {
+                firstCount = cachableCount.get();
+                assertTrue(firstCount >= itemCount);
+            }
+        }
+
+        // the cached tags are bounded, so the selector is evaluated again for evicted tags
+        assertTrue(cachableCount.get() > firstCount);
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates a rule which always fails
+     *
+     * @param reason the failure reason
+     * @return the rule
+     */
+    private static ValidationRule createRule(String reason) {
+        return (tag, asnData) ->
+                ImmutableSet.of(
+                        new DecodedTagValidationFailure(
+                                tag, FailureType.CustomValidationFailed, reason));
+    }
+
+    /**
+     * Returns the reasons of the custom validation failures for a tag
+     *
+     * @param result results to get the failures from
+     * @param tag tag to get the failures for
+     * @return the failure reasons
+     */
+    private static ImmutableSet<String> getCustomFailureReasons(
+            ValidationResult result, String tag) {
+        return result.getFailures(tag).stream()
+                .filter(f -> f.getFailureType() == FailureType.CustomValidationFailed)
+                .map(ValidationFailure::getFailureReason)
+                .collect(ImmutableSet.toImmutableSet());
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Maintained by brightSPARK Labs.
+ * www.brightsparklabs.com
+ *
+ * Refer to LICENSE at repository root for license details.
+ */
+
+package com.brightsparklabs.asanti.validator.builtin;
+
+import static org.junit.Assert.*;
+
+import com.brightsparklabs.asanti.validator.FailureType;
+import com.brightsparklabs.asanti.validator.failure.ByteValidationFailure;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+/**
+ * Units tests for {@link CharacterSet}
+ *
+ * @author brightSPARK Labs
+ */
+public class CharacterSetTest {
+    // -------------------------------------------------------------------------
+    // FIXTURES
+    // -------------------------------------------------------------------------
+
+    /** prefix for the failure reasons */
+    private static final String ERROR_PREFIX = "Invalid byte: ";
+
+    // -------------------------------------------------------------------------
+    // TESTS
+    // -------------------------------------------------------------------------
+
+    @Test
+    public void testContains() throws Exception {
+        for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
+            final byte b = (byte) i;
+            assertEquals(b == ' ' || (b >= '0' && b <= '9'), CharacterSet.NUMERIC.contains(b));
+            assertEquals(b >= 0, CharacterSet.IA5.contains(b));
+            assertEquals(b >= 0x20 && b <= 0x7E, CharacterSet.VISIBLE.contains(b));
+            assertEquals(
+                    Character.isLetterOrDigit(b) || " '()+,-./:=?".indexOf(b) >= 0,
+                    CharacterSet.PRINTABLE.contains(b));
+        }
+    }
+
+    @Test
+    public void testContainsAll() throws Exception {
+        assertTrue(CharacterSet.NUMERIC.containsAll(new byte[0]));
+        assertTrue(CharacterSet.NUMERIC.containsAll("0123 456789".getBytes(Charsets.UTF_8)));
+        assertFalse(CharacterSet.NUMERIC.containsAll("0123x".getBytes(Charsets.UTF_8)));
+        assertFalse(CharacterSet.VISIBLE.containsAll(new byte[] {'a', 0x7F}));
+    }
+
+    @Test
+    public void testValidate() throws Exception {
+        assertEquals(ImmutableSet.of(), CharacterSet.NUMERIC.validate(new byte[0], ERROR_PREFIX));
+        assertEquals(
+                ImmutableSet.of(),
+                CharacterSet.PRINTABLE.validate(
+                        "Hello (World) = 'test'?".getBytes(Charsets.UTF_8), ERROR_PREFIX));
+
+        // consecutive invalid bytes are reported as a single failure
+        final byte[] bytes = {'1', 'x', '2', 'a', 'b', 'c', '3', (byte) 0xFF, (byte) 0x80};
+        final ImmutableList<ByteValidationFailure> failures =
+                CharacterSet.NUMERIC.validate(bytes, ERROR_PREFIX).asList();
+        assertEquals(3, failures.size());
+        assertFailure(1, ERROR_PREFIX + "0x78", failures.get(0));
+        assertFailure(
+                3, ERROR_PREFIX + "0x61 (followed by 2 more invalid bytes)", failures.get(1));
+        assertFailure(
+                7, ERROR_PREFIX + "0xFF (followed by 1 more invalid bytes)", failures.get(2));
+
+        // a long run of invalid bytes only creates one failure
+        final byte[] invalid = new byte[100_000];
+        assertEquals(1, CharacterSet.VISIBLE.validate(invalid, ERROR_PREFIX).size());
+    }
+
+    // -------------------------------------------------------------------------
+    // PRIVATE METHODS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Asserts that the supplied failure has the expected index and reason
+     *
+     * @param expectedIndex expected failure index
+     * @param expectedReason expected failure reason
+     * @param failure failure to check
+     */
+    private static void assertFailure(
+            int expectedIndex, String expectedReason, ByteValidationFailure failure) {
+        assertEquals(expectedIndex, failure.getFailureIndex());
+        assertEquals(FailureType.DataIncorrectlyFormatted, failure.getFailureType());
+        assertEquals(expectedReason, failure.getFailureReason());
+    }
+}
@@ -84,6 +84,7 @@ public class EnumeratedValidatorTest {
         ImmutableMap<String, AsnSchemaNamedTag> namedTags =
                 ImmutableMap.of("1", new AsnSchemaNamedTag("enumValue", "1"));
         when(type.getTagsToNamedValues()).thenReturn(namedTags);
+        when(type.getNamedValue(1)).thenReturn(Optional.of(namedTags.get("1")));
 
         String tag = "/Foo";
         AsantiAsnData data = mock(AsantiAsnData.class);